@@ -52,6 +52,12 @@ public class CRC16 {
             0x5C64, 0x4C45, 0x3CA2, 0x2C83, 0x1CE0, 0x0CC1, 0xEF1F, 0xFF3E, 0xCF5D, 0xDF7C, 0xAF9B, 0xBFBA, 0x8FD9, 0x9FF8,
             0x6E17, 0x7E36, 0x4E55, 0x5E74, 0x2E93, 0x3EB2, 0x0ED1, 0x1EF0 };
 
+    /**
+     * Lookup tables for slicing-by-8. {@code SLICING_TABLE[n * 256 + b]} is the checksum of byte {@code b} followed by
+     * {@code n} zero bytes. The first table equals {@link #LOOKUP_TABLE}.
+     */
+    private static final int[] SLICING_TABLE = createSlicingTable(8);
+
     /**
      * Utility constructor.
      */
@@ -77,10 +83,21 @@ public class CRC16 {
      */
     public static int crc16(byte[] bytes, int off, int len) {
 
+        int[] table = SLICING_TABLE;
         int crc = 0x0000;
+        int i = off;
         int end = off + len;
 
-        for (int i = off; i < end; i++) {
+        for (; end - i >= 8; i += 8) {
+
+            int head = crc ^ (((bytes[i] & 0xFF) << 8) | (bytes[i + 1] & 0xFF));
+
+            crc = table[7 * 256 + (head >>> 8)] ^ table[6 * 256 + (head & 0xFF)] ^ table[5 * 256 + (bytes[i + 2] & 0xFF)]
+                    ^ table[4 * 256 + (bytes[i + 3] & 0xFF)] ^ table[3 * 256 + (bytes[i + 4] & 0xFF)]
+                    ^ table[2 * 256 + (bytes[i + 5] & 0xFF)] ^ table[256 + (bytes[i + 6] & 0xFF)] ^ table[bytes[i + 7] & 0xFF];
+        }
+
+        for (; i < end; i++) {
             crc = doCrc(bytes[i], crc);
         }
 
@@ -88,7 +105,8 @@ public class CRC16 {
     }
 
     /**
-     * Create a CRC16 checksum from the bytes.
+     * Create a CRC16 checksum from the bytes. The checksum is calculated from the {@link ByteBuffer#remaining() remaining} bytes
+     * and the buffer position is advanced to its limit.
      *
      * @param bytes input bytes
      * @return CRC16 as integer value
@@ -96,16 +114,136 @@ public class CRC16 {
      */
     public static int crc16(ByteBuffer bytes) {
 
+        int result = crc16(bytes, bytes.position(), bytes.remaining());
+        bytes.position(bytes.limit());
+
+        return result;
+    }
+
+    /**
+     * Create a CRC16 checksum from the bytes using absolute indexes. Does not change position and limit of the buffer.
+     *
+     * @param bytes input bytes
+     * @param off index of the first byte
+     * @param len number of bytes
+     * @return CRC16 as integer value
+     * @since 4.5
+     */
+    public static int crc16(ByteBuffer bytes, int off, int len) {
+
+        if (bytes.hasArray()) {
+            return crc16(bytes.array(), bytes.arrayOffset() + off, len);
+        }
+
+        int[] table = SLICING_TABLE;
+        int crc = 0x0000;
+        int i = off;
+        int end = off + len;
+
+        for (; end - i >= 8; i += 8) {
+
+            int head = crc ^ (((bytes.get(i) & 0xFF) << 8) | (bytes.get(i + 1) & 0xFF));
+
+            crc = table[7 * 256 + (head >>> 8)] ^ table[6 * 256 + (head & 0xFF)] ^ table[5 * 256 + (bytes.get(i + 2) & 0xFF)]
+                    ^ table[4 * 256 + (bytes.get(i + 3) & 0xFF)] ^ table[3 * 256 + (bytes.get(i + 4) & 0xFF)]
+                    ^ table[2 * 256 + (bytes.get(i + 5) & 0xFF)] ^ table[256 + (bytes.get(i + 6) & 0xFF)]
+                    ^ table[bytes.get(i + 7) & 0xFF];
+        }
+
+        for (; i < end; i++) {
+            crc = doCrc(bytes.get(i), crc);
+        }
+
+        return crc & 0xFFFF;
+    }
+
+    /**
+     * Create a CRC16 checksum from the UTF-8 representation of the characters without encoding the characters into an
+     * intermediate buffer. Malformed surrogates are treated as {@code '?'}, consistent with {@link String#getBytes}.
+     *
+     * @param chars input characters
+     * @param start index of the first character
+     * @param end index after the last character
+     * @return CRC16 as integer value
+     * @since 4.5
+     */
+    public static int crc16(CharSequence chars, int start, int end) {
+
+        int[] table = SLICING_TABLE;
         int crc = 0x0000;
+        int i = start;
+
+        while (i < end) {
+
+            if (end - i >= 8 && isAscii(chars, i)) {
+
+                int head = crc ^ ((chars.charAt(i) << 8) | chars.charAt(i + 1));
+
+                crc = table[7 * 256 + (head >>> 8)] ^ table[6 * 256 + (head & 0xFF)] ^ table[5 * 256 + chars.charAt(i + 2)]
+                        ^ table[4 * 256 + chars.charAt(i + 3)] ^ table[3 * 256 + chars.charAt(i + 4)]
+                        ^ table[2 * 256 + chars.charAt(i + 5)] ^ table[256 + chars.charAt(i + 6)] ^ table[chars.charAt(i + 7)];
+                i += 8;
+                continue;
+            }
+
+            char c = chars.charAt(i++);
+
+            if (c < 0x80) {
+                crc = doCrc((byte) c, crc);
+            } else if (c < 0x800) {
+                crc = doCrc((byte) (0xC0 | (c >> 6)), crc);
+                crc = doCrc((byte) (0x80 | (c & 0x3F)), crc);
+            } else if (Character.isSurrogate(c)) {
 
-        while (bytes.hasRemaining()) {
-            crc = doCrc(bytes.get(), crc);
+                if (Character.isHighSurrogate(c) && i < end && Character.isLowSurrogate(chars.charAt(i))) {
+
+                    int codePoint = Character.toCodePoint(c, chars.charAt(i++));
+                    crc = doCrc((byte) (0xF0 | (codePoint >> 18)), crc);
+                    crc = doCrc((byte) (0x80 | ((codePoint >> 12) & 0x3F)), crc);
+                    crc = doCrc((byte) (0x80 | ((codePoint >> 6) & 0x3F)), crc);
+                    crc = doCrc((byte) (0x80 | (codePoint & 0x3F)), crc);
+                } else {
+                    crc = doCrc((byte) '?', crc);
+                }
+            } else {
+                crc = doCrc((byte) (0xE0 | (c >> 12)), crc);
+                crc = doCrc((byte) (0x80 | ((c >> 6) & 0x3F)), crc);
+                crc = doCrc((byte) (0x80 | (c & 0x3F)), crc);
+            }
         }
 
         return crc & 0xFFFF;
     }
 
+    private static boolean isAscii(CharSequence chars, int index) {
+
+        for (int i = index; i < index + 8; i++) {
+            if (chars.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private static int doCrc(byte b, int crc) {
-        return ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF]);
+        return ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF]) & 0xFFFF;
+    }
+
+    private static int[] createSlicingTable(int slices) {
+
+        int[] table = new int[slices * 256];
+
+        System.arraycopy(LOOKUP_TABLE, 0, table, 0, 256);
+
+        for (int slice = 1; slice < slices; slice++) {
+            for (int b = 0; b < 256; b++) {
+
+                int previous = table[(slice - 1) * 256 + b];
+                table[slice * 256 + b] = ((previous << 8) ^ LOOKUP_TABLE[previous >>> 8]) & 0xFFFF;
+            }
+        }
+
+        return table;
     }
 }
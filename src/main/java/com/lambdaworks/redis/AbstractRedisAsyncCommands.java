@@ -650,6 +650,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashesAsy
         return dispatch(commandBuilder.get(key));
     }
 
+    @Override
+    public RedisFuture<Long> get(BulkChunkConsumer consumer, K key) {
+        return dispatch(commandBuilder.get(consumer, key));
+    }
+
     public StatefulConnection<K, V> getConnection() {
         return connection;
     }
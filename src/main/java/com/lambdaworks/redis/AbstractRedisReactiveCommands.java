@@ -644,6 +644,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createObservable(() -> commandBuilder.get(key));
     }
 
+    @Override
+    public Observable<Long> get(BulkChunkConsumer consumer, K key) {
+        return createObservable(() -> commandBuilder.get(consumer, key));
+    }
+
     public StatefulConnection<K, V> getConnection() {
         return connection;
     }
@@ -0,0 +1,1970 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import static com.lambdaworks.redis.protocol.CommandType.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.BaseRedisCommands;
+import com.lambdaworks.redis.api.sync.RedisGeoCommands;
+import com.lambdaworks.redis.api.sync.RedisHLLCommands;
+import com.lambdaworks.redis.api.sync.RedisHashCommands;
+import com.lambdaworks.redis.api.sync.RedisKeyCommands;
+import com.lambdaworks.redis.api.sync.RedisListCommands;
+import com.lambdaworks.redis.api.sync.RedisScriptingCommands;
+import com.lambdaworks.redis.api.sync.RedisServerCommands;
+import com.lambdaworks.redis.api.sync.RedisSetCommands;
+import com.lambdaworks.redis.api.sync.RedisSortedSetCommands;
+import com.lambdaworks.redis.api.sync.RedisStringCommands;
+import com.lambdaworks.redis.api.sync.RedisTransactionalCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.output.BulkChunkConsumer;
+import com.lambdaworks.redis.output.CommandOutput;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+import com.lambdaworks.redis.output.KeyValueStreamingChannel;
+import com.lambdaworks.redis.output.ScoredValueStreamingChannel;
+import com.lambdaworks.redis.output.ValueStreamingChannel;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.ProtocolKeyword;
+import com.lambdaworks.redis.protocol.RedisCommand;
+import com.lambdaworks.redis.protocol.SyncCommand;
+
+/**
+ * Synchronous executed commands. Commands are created through {@link RedisCommandBuilder} and awaited using a
+ * {@link SyncCommand}. Commands that require additional handling are delegated to the asynchronous API.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ * @generated by com.lambdaworks.apigenerator.CreateSyncApiImplementation
+ */
+public abstract class AbstractRedisSyncCommands<K, V> implements RedisHashCommands<K, V>, RedisHLLCommands<K, V>,
+        RedisKeyCommands<K, V>, RedisListCommands<K, V>, RedisScriptingCommands<K, V>, RedisServerCommands<K, V>,
+        RedisSetCommands<K, V>, RedisSortedSetCommands<K, V>, RedisStringCommands<K, V>,
+        RedisTransactionalCommands<K, V>, BaseRedisCommands<K, V>, RedisGeoCommands<K, V>, RedisClusterCommands<K, V> {
+
+    protected final StatefulConnection<K, V> connection;
+    protected final RedisCodec<K, V> codec;
+    protected final RedisCommandBuilder<K, V> commandBuilder;
+    protected final AbstractRedisAsyncCommands<K, V> async;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on.
+     * @param codec the codec for command encoding.
+     * @param async the asynchronous API to delegate commands to that are not created through the command builder.
+     */
+    public AbstractRedisSyncCommands(StatefulConnection<K, V> connection, RedisCodec<K, V> codec,
+            AbstractRedisAsyncCommands<K, V> async) {
+        this.connection = connection;
+        this.codec = codec;
+        this.commandBuilder = new RedisCommandBuilder<>(codec);
+        this.async = async;
+    }
+
+    /**
+     * Dispatch a command and await its completion. Returns {@literal null} for commands that are queued within a
+     * transaction.
+     *
+     * @param command the command.
+     * @return the command result.
+     */
+    protected <T> T dispatch(RedisCommand<K, V, T> command) {
+
+        SyncCommand<K, V, T> sync = new SyncCommand<>(command);
+        connection.dispatch(sync);
+
+        if (isTransactionActive() && command.getType() != CommandType.MULTI && command.getType() != CommandType.EXEC) {
+            return null;
+        }
+
+        return sync.await(connection.getTimeout(), connection.getTimeoutUnit());
+    }
+
+    /**
+     * Await completion of a future returned by the asynchronous API. Returns {@literal null} for commands that are
+     * queued within a transaction.
+     *
+     * @param future the future.
+     * @return the command result.
+     */
+    protected <T> T await(RedisFuture<T> future) {
+
+        if (isTransactionActive()) {
+            return null;
+        }
+
+        return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isTransactionActive() {
+        return connection instanceof StatefulRedisConnection && ((StatefulRedisConnection<K, V>) connection).isMulti();
+    }
+
+    @Override
+    public Long hdel(K key, K... fields) {
+        return dispatch(commandBuilder.hdel(key, fields));
+    }
+
+    @Override
+    public Boolean hexists(K key, K field) {
+        return dispatch(commandBuilder.hexists(key, field));
+    }
+
+    @Override
+    public V hget(K key, K field) {
+        return dispatch(commandBuilder.hget(key, field));
+    }
+
+    @Override
+    public Long hincrby(K key, K field, long amount) {
+        return dispatch(commandBuilder.hincrby(key, field, amount));
+    }
+
+    @Override
+    public Double hincrbyfloat(K key, K field, double amount) {
+        return dispatch(commandBuilder.hincrbyfloat(key, field, amount));
+    }
+
+    @Override
+    public Map<K, V> hgetall(K key) {
+        return dispatch(commandBuilder.hgetall(key));
+    }
+
+    @Override
+    public Long hgetall(KeyValueStreamingChannel<K, V> channel, K key) {
+        return dispatch(commandBuilder.hgetall(channel, key));
+    }
+
+    @Override
+    public List<K> hkeys(K key) {
+        return dispatch(commandBuilder.hkeys(key));
+    }
+
+    @Override
+    public Long hkeys(KeyStreamingChannel<K> channel, K key) {
+        return dispatch(commandBuilder.hkeys(channel, key));
+    }
+
+    @Override
+    public Long hlen(K key) {
+        return dispatch(commandBuilder.hlen(key));
+    }
+
+    @Override
+    public List<V> hmget(K key, K... fields) {
+        return dispatch(commandBuilder.hmget(key, fields));
+    }
+
+    @Override
+    public Long hmget(ValueStreamingChannel<V> channel, K key, K... fields) {
+        return dispatch(commandBuilder.hmget(channel, key, fields));
+    }
+
+    @Override
+    public String hmset(K key, Map<K, V> map) {
+        return dispatch(commandBuilder.hmset(key, map));
+    }
+
+    @Override
+    public MapScanCursor<K, V> hscan(K key) {
+        return dispatch(commandBuilder.hscan(key));
+    }
+
+    @Override
+    public MapScanCursor<K, V> hscan(K key, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.hscan(key, scanArgs));
+    }
+
+    @Override
+    public MapScanCursor<K, V> hscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.hscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public MapScanCursor<K, V> hscan(K key, ScanCursor scanCursor) {
+        return dispatch(commandBuilder.hscan(key, scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor hscan(KeyValueStreamingChannel<K, V> channel, K key) {
+        return dispatch(commandBuilder.hscanStreaming(channel, key));
+    }
+
+    @Override
+    public StreamScanCursor hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.hscanStreaming(channel, key, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return dispatch(commandBuilder.hscanStreaming(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor hscan(KeyValueStreamingChannel<K, V> channel, K key, ScanCursor scanCursor) {
+        return dispatch(commandBuilder.hscanStreaming(channel, key, scanCursor));
+    }
+
+    @Override
+    public Boolean hset(K key, K field, V value) {
+        return dispatch(commandBuilder.hset(key, field, value));
+    }
+
+    @Override
+    public Boolean hsetnx(K key, K field, V value) {
+        return dispatch(commandBuilder.hsetnx(key, field, value));
+    }
+
+    @Override
+    public Long hstrlen(K key, K field) {
+        return dispatch(commandBuilder.hstrlen(key, field));
+    }
+
+    @Override
+    public List<V> hvals(K key) {
+        return dispatch(commandBuilder.hvals(key));
+    }
+
+    @Override
+    public Long hvals(ValueStreamingChannel<V> channel, K key) {
+        return dispatch(commandBuilder.hvals(channel, key));
+    }
+
+    @Override
+    public Long pfadd(K key, V... values) {
+        return dispatch(commandBuilder.pfadd(key, values));
+    }
+
+    @Override
+    public String pfmerge(K destkey, K... sourcekeys) {
+        return dispatch(commandBuilder.pfmerge(destkey, sourcekeys));
+    }
+
+    @Override
+    public Long pfcount(K... keys) {
+        return dispatch(commandBuilder.pfcount(keys));
+    }
+
+    @Override
+    public Long del(K... keys) {
+        return dispatch(commandBuilder.del(keys));
+    }
+
+    @Override
+    public Long unlink(K... keys) {
+        return dispatch(commandBuilder.unlink(keys));
+    }
+
+    @Override
+    public byte[] dump(K key) {
+        return dispatch(commandBuilder.dump(key));
+    }
+
+    @Override
+    public Long exists(K... keys) {
+        return dispatch(commandBuilder.exists(keys));
+    }
+
+    @Override
+    public Boolean expire(K key, long seconds) {
+        return dispatch(commandBuilder.expire(key, seconds));
+    }
+
+    @Override
+    public Boolean expireat(K key, Date timestamp) {
+        return await(async.expireat(key, timestamp));
+    }
+
+    @Override
+    public Boolean expireat(K key, long timestamp) {
+        return dispatch(commandBuilder.expireat(key, timestamp));
+    }
+
+    @Override
+    public List<K> keys(K pattern) {
+        return dispatch(commandBuilder.keys(pattern));
+    }
+
+    @Override
+    public Long keys(KeyStreamingChannel<K> channel, K pattern) {
+        return dispatch(commandBuilder.keys(channel, pattern));
+    }
+
+    @Override
+    public String migrate(String host, int port, K key, int db, long timeout) {
+        return dispatch(commandBuilder.migrate(host, port, key, db, timeout));
+    }
+
+    @Override
+    public String migrate(String host, int port, int db, long timeout, MigrateArgs<K> migrateArgs) {
+        return dispatch(commandBuilder.migrate(host, port, db, timeout, migrateArgs));
+    }
+
+    @Override
+    public Boolean move(K key, int db) {
+        return dispatch(commandBuilder.move(key, db));
+    }
+
+    @Override
+    public String objectEncoding(K key) {
+        return dispatch(commandBuilder.objectEncoding(key));
+    }
+
+    @Override
+    public Long objectIdletime(K key) {
+        return dispatch(commandBuilder.objectIdletime(key));
+    }
+
+    @Override
+    public Long objectRefcount(K key) {
+        return dispatch(commandBuilder.objectRefcount(key));
+    }
+
+    @Override
+    public Boolean persist(K key) {
+        return dispatch(commandBuilder.persist(key));
+    }
+
+    @Override
+    public Boolean pexpire(K key, long milliseconds) {
+        return dispatch(commandBuilder.pexpire(key, milliseconds));
+    }
+
+    @Override
+    public Boolean pexpireat(K key, Date timestamp) {
+        return await(async.pexpireat(key, timestamp));
+    }
+
+    @Override
+    public Boolean pexpireat(K key, long timestamp) {
+        return dispatch(commandBuilder.pexpireat(key, timestamp));
+    }
+
+    @Override
+    public Long pttl(K key) {
+        return dispatch(commandBuilder.pttl(key));
+    }
+
+    @Override
+    public V randomkey() {
+        return dispatch(commandBuilder.randomkey());
+    }
+
+    @Override
+    public String rename(K key, K newKey) {
+        return dispatch(commandBuilder.rename(key, newKey));
+    }
+
+    @Override
+    public Boolean renamenx(K key, K newKey) {
+        return dispatch(commandBuilder.renamenx(key, newKey));
+    }
+
+    @Override
+    public String restore(K key, long ttl, byte[] value) {
+        return dispatch(commandBuilder.restore(key, ttl, value));
+    }
+
+    @Override
+    public List<V> sort(K key) {
+        return dispatch(commandBuilder.sort(key));
+    }
+
+    @Override
+    public Long sort(ValueStreamingChannel<V> channel, K key) {
+        return dispatch(commandBuilder.sort(channel, key));
+    }
+
+    @Override
+    public List<V> sort(K key, SortArgs sortArgs) {
+        return dispatch(commandBuilder.sort(key, sortArgs));
+    }
+
+    @Override
+    public Long sort(ValueStreamingChannel<V> channel, K key, SortArgs sortArgs) {
+        return dispatch(commandBuilder.sort(channel, key, sortArgs));
+    }
+
+    @Override
+    public Long sortStore(K key, SortArgs sortArgs, K destination) {
+        return dispatch(commandBuilder.sortStore(key, sortArgs, destination));
+    }
+
+    @Override
+    public Long touch(K... keys) {
+        return dispatch(commandBuilder.touch(keys));
+    }
+
+    @Override
+    public Long ttl(K key) {
+        return dispatch(commandBuilder.ttl(key));
+    }
+
+    @Override
+    public String type(K key) {
+        return dispatch(commandBuilder.type(key));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan() {
+        return dispatch(commandBuilder.scan());
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanArgs scanArgs) {
+        return dispatch(commandBuilder.scan(scanArgs));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanCursor scanCursor, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.scan(scanCursor, scanArgs));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanCursor scanCursor) {
+        return dispatch(commandBuilder.scan(scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel) {
+        return dispatch(commandBuilder.scanStreaming(channel));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.scanStreaming(channel, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.scanStreaming(channel, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor) {
+        return dispatch(commandBuilder.scanStreaming(channel, scanCursor));
+    }
+
+    @Override
+    public KeyValue<K, V> blpop(long timeout, K... keys) {
+        return dispatch(commandBuilder.blpop(timeout, keys));
+    }
+
+    @Override
+    public KeyValue<K, V> brpop(long timeout, K... keys) {
+        return dispatch(commandBuilder.brpop(timeout, keys));
+    }
+
+    @Override
+    public V brpoplpush(long timeout, K source, K destination) {
+        return dispatch(commandBuilder.brpoplpush(timeout, source, destination));
+    }
+
+    @Override
+    public V lindex(K key, long index) {
+        return dispatch(commandBuilder.lindex(key, index));
+    }
+
+    @Override
+    public Long linsert(K key, boolean before, V pivot, V value) {
+        return dispatch(commandBuilder.linsert(key, before, pivot, value));
+    }
+
+    @Override
+    public Long llen(K key) {
+        return dispatch(commandBuilder.llen(key));
+    }
+
+    @Override
+    public V lpop(K key) {
+        return dispatch(commandBuilder.lpop(key));
+    }
+
+    @Override
+    public Long lpush(K key, V... values) {
+        return dispatch(commandBuilder.lpush(key, values));
+    }
+
+    @Override
+    public Long lpushx(K key, V value) {
+        return dispatch(commandBuilder.lpushx(key, value));
+    }
+
+    @Override
+    public Long lpushx(K key, V... values) {
+        return dispatch(commandBuilder.lpushx(key, values));
+    }
+
+    @Override
+    public List<V> lrange(K key, long start, long stop) {
+        return dispatch(commandBuilder.lrange(key, start, stop));
+    }
+
+    @Override
+    public Long lrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return dispatch(commandBuilder.lrange(channel, key, start, stop));
+    }
+
+    @Override
+    public Long lrem(K key, long count, V value) {
+        return dispatch(commandBuilder.lrem(key, count, value));
+    }
+
+    @Override
+    public String lset(K key, long index, V value) {
+        return dispatch(commandBuilder.lset(key, index, value));
+    }
+
+    @Override
+    public String ltrim(K key, long start, long stop) {
+        return dispatch(commandBuilder.ltrim(key, start, stop));
+    }
+
+    @Override
+    public V rpop(K key) {
+        return dispatch(commandBuilder.rpop(key));
+    }
+
+    @Override
+    public V rpoplpush(K source, K destination) {
+        return dispatch(commandBuilder.rpoplpush(source, destination));
+    }
+
+    @Override
+    public Long rpush(K key, V... values) {
+        return dispatch(commandBuilder.rpush(key, values));
+    }
+
+    @Override
+    public Long rpushx(K key, V value) {
+        return dispatch(commandBuilder.rpushx(key, value));
+    }
+
+    @Override
+    public Long rpushx(K key, V... values) {
+        return dispatch(commandBuilder.rpushx(key, values));
+    }
+
+    @Override
+    public <T> T eval(String script, ScriptOutputType type, K... keys) {
+        return dispatch(commandBuilder.eval(script, type, keys));
+    }
+
+    @Override
+    public <T> T eval(String script, ScriptOutputType type, K[] keys, V... values) {
+        return dispatch(commandBuilder.eval(script, type, keys, values));
+    }
+
+    @Override
+    public <T> T evalsha(String digest, ScriptOutputType type, K... keys) {
+        return dispatch(commandBuilder.evalsha(digest, type, keys));
+    }
+
+    @Override
+    public <T> T evalsha(String digest, ScriptOutputType type, K[] keys, V... values) {
+        return dispatch(commandBuilder.evalsha(digest, type, keys, values));
+    }
+
+    @Override
+    public List<Boolean> scriptExists(String... digests) {
+        return dispatch(commandBuilder.scriptExists(digests));
+    }
+
+    @Override
+    public String scriptFlush() {
+        return dispatch(commandBuilder.scriptFlush());
+    }
+
+    @Override
+    public String scriptKill() {
+        return dispatch(commandBuilder.scriptKill());
+    }
+
+    @Override
+    public String scriptLoad(V script) {
+        return dispatch(commandBuilder.scriptLoad(script));
+    }
+
+    @Override
+    public String digest(V script) {
+        return async.digest(script);
+    }
+
+    @Override
+    public String bgrewriteaof() {
+        return dispatch(commandBuilder.bgrewriteaof());
+    }
+
+    @Override
+    public String bgsave() {
+        return dispatch(commandBuilder.bgsave());
+    }
+
+    @Override
+    public K clientGetname() {
+        return dispatch(commandBuilder.clientGetname());
+    }
+
+    @Override
+    public String clientSetname(K name) {
+        return dispatch(commandBuilder.clientSetname(name));
+    }
+
+    @Override
+    public String clientKill(String addr) {
+        return dispatch(commandBuilder.clientKill(addr));
+    }
+
+    @Override
+    public Long clientKill(KillArgs killArgs) {
+        return dispatch(commandBuilder.clientKill(killArgs));
+    }
+
+    @Override
+    public String clientPause(long timeout) {
+        return dispatch(commandBuilder.clientPause(timeout));
+    }
+
+    @Override
+    public String clientList() {
+        return dispatch(commandBuilder.clientList());
+    }
+
+    @Override
+    public List<Object> command() {
+        return dispatch(commandBuilder.command());
+    }
+
+    @Override
+    public List<Object> commandInfo(String... commands) {
+        return dispatch(commandBuilder.commandInfo(commands));
+    }
+
+    @Override
+    public List<Object> commandInfo(CommandType... commands) {
+        return await(async.commandInfo(commands));
+    }
+
+    @Override
+    public Long commandCount() {
+        return dispatch(commandBuilder.commandCount());
+    }
+
+    @Override
+    public List<String> configGet(String parameter) {
+        return dispatch(commandBuilder.configGet(parameter));
+    }
+
+    @Override
+    public String configResetstat() {
+        return dispatch(commandBuilder.configResetstat());
+    }
+
+    @Override
+    public String configRewrite() {
+        return dispatch(commandBuilder.configRewrite());
+    }
+
+    @Override
+    public String configSet(String parameter, String value) {
+        return dispatch(commandBuilder.configSet(parameter, value));
+    }
+
+    @Override
+    public Long dbsize() {
+        return dispatch(commandBuilder.dbsize());
+    }
+
+    @Override
+    public String debugCrashAndRecover(Long delay) {
+        return dispatch(commandBuilder.debugCrashAndRecover(delay));
+    }
+
+    @Override
+    public String debugHtstats(int db) {
+        return dispatch(commandBuilder.debugHtstats(db));
+    }
+
+    @Override
+    public String debugObject(K key) {
+        return dispatch(commandBuilder.debugObject(key));
+    }
+
+    @Override
+    public void debugOom() {
+        async.debugOom();
+    }
+
+    @Override
+    public void debugSegfault() {
+        async.debugSegfault();
+    }
+
+    @Override
+    public String debugReload() {
+        return dispatch(commandBuilder.debugReload());
+    }
+
+    @Override
+    public String debugRestart(Long delay) {
+        return dispatch(commandBuilder.debugRestart(delay));
+    }
+
+    @Override
+    public String debugSdslen(K key) {
+        return dispatch(commandBuilder.debugSdslen(key));
+    }
+
+    @Override
+    public String flushall() {
+        return dispatch(commandBuilder.flushall());
+    }
+
+    @Override
+    public String flushallAsync() {
+        return dispatch(commandBuilder.flushallAsync());
+    }
+
+    @Override
+    public String flushdb() {
+        return dispatch(commandBuilder.flushdb());
+    }
+
+    @Override
+    public String flushdbAsync() {
+        return dispatch(commandBuilder.flushdbAsync());
+    }
+
+    @Override
+    public String info() {
+        return dispatch(commandBuilder.info());
+    }
+
+    @Override
+    public String info(String section) {
+        return dispatch(commandBuilder.info(section));
+    }
+
+    @Override
+    public Date lastsave() {
+        return dispatch(commandBuilder.lastsave());
+    }
+
+    @Override
+    public String save() {
+        return dispatch(commandBuilder.save());
+    }
+
+    @Override
+    public void shutdown(boolean save) {
+        async.shutdown(save);
+    }
+
+    @Override
+    public String slaveof(String host, int port) {
+        return dispatch(commandBuilder.slaveof(host, port));
+    }
+
+    @Override
+    public String slaveofNoOne() {
+        return dispatch(commandBuilder.slaveofNoOne());
+    }
+
+    @Override
+    public List<Object> slowlogGet() {
+        return dispatch(commandBuilder.slowlogGet());
+    }
+
+    @Override
+    public List<Object> slowlogGet(int count) {
+        return dispatch(commandBuilder.slowlogGet(count));
+    }
+
+    @Override
+    public Long slowlogLen() {
+        return dispatch(commandBuilder.slowlogLen());
+    }
+
+    @Override
+    public String slowlogReset() {
+        return dispatch(commandBuilder.slowlogReset());
+    }
+
+    @Override
+    public String sync() {
+        return dispatch(commandBuilder.sync());
+    }
+
+    @Override
+    public List<V> time() {
+        return dispatch(commandBuilder.time());
+    }
+
+    @Override
+    public Long sadd(K key, V... members) {
+        return dispatch(commandBuilder.sadd(key, members));
+    }
+
+    @Override
+    public Long scard(K key) {
+        return dispatch(commandBuilder.scard(key));
+    }
+
+    @Override
+    public Set<V> sdiff(K... keys) {
+        return dispatch(commandBuilder.sdiff(keys));
+    }
+
+    @Override
+    public Long sdiff(ValueStreamingChannel<V> channel, K... keys) {
+        return dispatch(commandBuilder.sdiff(channel, keys));
+    }
+
+    @Override
+    public Long sdiffstore(K destination, K... keys) {
+        return dispatch(commandBuilder.sdiffstore(destination, keys));
+    }
+
+    @Override
+    public Set<V> sinter(K... keys) {
+        return dispatch(commandBuilder.sinter(keys));
+    }
+
+    @Override
+    public Long sinter(ValueStreamingChannel<V> channel, K... keys) {
+        return dispatch(commandBuilder.sinter(channel, keys));
+    }
+
+    @Override
+    public Long sinterstore(K destination, K... keys) {
+        return dispatch(commandBuilder.sinterstore(destination, keys));
+    }
+
+    @Override
+    public Boolean sismember(K key, V member) {
+        return dispatch(commandBuilder.sismember(key, member));
+    }
+
+    @Override
+    public Boolean smove(K source, K destination, V member) {
+        return dispatch(commandBuilder.smove(source, destination, member));
+    }
+
+    @Override
+    public Set<V> smembers(K key) {
+        return dispatch(commandBuilder.smembers(key));
+    }
+
+    @Override
+    public Long smembers(ValueStreamingChannel<V> channel, K key) {
+        return dispatch(commandBuilder.smembers(channel, key));
+    }
+
+    @Override
+    public V spop(K key) {
+        return dispatch(commandBuilder.spop(key));
+    }
+
+    @Override
+    public Set<V> spop(K key, long count) {
+        return dispatch(commandBuilder.spop(key, count));
+    }
+
+    @Override
+    public V srandmember(K key) {
+        return dispatch(commandBuilder.srandmember(key));
+    }
+
+    @Override
+    public List<V> srandmember(K key, long count) {
+        return dispatch(commandBuilder.srandmember(key, count));
+    }
+
+    @Override
+    public Long srandmember(ValueStreamingChannel<V> channel, K key, long count) {
+        return dispatch(commandBuilder.srandmember(channel, key, count));
+    }
+
+    @Override
+    public Long srem(K key, V... members) {
+        return dispatch(commandBuilder.srem(key, members));
+    }
+
+    @Override
+    public Set<V> sunion(K... keys) {
+        return dispatch(commandBuilder.sunion(keys));
+    }
+
+    @Override
+    public Long sunion(ValueStreamingChannel<V> channel, K... keys) {
+        return dispatch(commandBuilder.sunion(channel, keys));
+    }
+
+    @Override
+    public Long sunionstore(K destination, K... keys) {
+        return dispatch(commandBuilder.sunionstore(destination, keys));
+    }
+
+    @Override
+    public ValueScanCursor<V> sscan(K key) {
+        return dispatch(commandBuilder.sscan(key));
+    }
+
+    @Override
+    public ValueScanCursor<V> sscan(K key, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.sscan(key, scanArgs));
+    }
+
+    @Override
+    public ValueScanCursor<V> sscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.sscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public ValueScanCursor<V> sscan(K key, ScanCursor scanCursor) {
+        return dispatch(commandBuilder.sscan(key, scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor sscan(ValueStreamingChannel<V> channel, K key) {
+        return dispatch(commandBuilder.sscanStreaming(channel, key));
+    }
+
+    @Override
+    public StreamScanCursor sscan(ValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.sscanStreaming(channel, key, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.sscanStreaming(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor sscan(ValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return dispatch(commandBuilder.sscanStreaming(channel, key, scanCursor));
+    }
+
+    @Override
+    public Long zadd(K key, double score, V member) {
+        return dispatch(commandBuilder.zadd(key, null, score, member));
+    }
+
+    @Override
+    public Long zadd(K key, Object... scoresAndValues) {
+        return dispatch(commandBuilder.zadd(key, null, scoresAndValues));
+    }
+
+    @Override
+    public Long zadd(K key, ScoredValue<V>... scoredValues) {
+        return dispatch(commandBuilder.zadd(key, null, scoredValues));
+    }
+
+    @Override
+    public Long zadd(K key, ZAddArgs zAddArgs, double score, V member) {
+        return dispatch(commandBuilder.zadd(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public Long zadd(K key, ZAddArgs zAddArgs, Object... scoresAndValues) {
+        return dispatch(commandBuilder.zadd(key, zAddArgs, scoresAndValues));
+    }
+
+    @Override
+    public Long zadd(K key, ZAddArgs zAddArgs, ScoredValue<V>... scoredValues) {
+        return dispatch(commandBuilder.zadd(key, zAddArgs, scoredValues));
+    }
+
+    @Override
+    public Double zaddincr(K key, double score, V member) {
+        return dispatch(commandBuilder.zaddincr(key, null, score, member));
+    }
+
+    @Override
+    public Double zaddincr(K key, ZAddArgs zAddArgs, double score, V member) {
+        return dispatch(commandBuilder.zaddincr(key, zAddArgs, score, member));
+    }
+
+    @Override
+    public Long zcard(K key) {
+        return dispatch(commandBuilder.zcard(key));
+    }
+
+    @Override
+    public Long zcount(K key, double min, double max) {
+        return dispatch(commandBuilder.zcount(key, min, max));
+    }
+
+    @Override
+    public Long zcount(K key, String min, String max) {
+        return dispatch(commandBuilder.zcount(key, min, max));
+    }
+
+    @Override
+    public Long zcount(K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zcount(key, range));
+    }
+
+    @Override
+    public Double zincrby(K key, double amount, K member) {
+        return dispatch(commandBuilder.zincrby(key, amount, member));
+    }
+
+    @Override
+    public Long zinterstore(K destination, K... keys) {
+        return dispatch(commandBuilder.zinterstore(destination, keys));
+    }
+
+    @Override
+    public Long zinterstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return dispatch(commandBuilder.zinterstore(destination, storeArgs, keys));
+    }
+
+    @Override
+    public Long zlexcount(K key, String min, String max) {
+        return dispatch(commandBuilder.zlexcount(key, min, max));
+    }
+
+    @Override
+    public Long zlexcount(K key, Range<? extends V> range) {
+        return dispatch(commandBuilder.zlexcount(key, range));
+    }
+
+    @Override
+    public List<V> zrange(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrange(key, start, stop));
+    }
+
+    @Override
+    public Long zrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return dispatch(commandBuilder.zrange(channel, key, start, stop));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangeWithScores(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrangeWithScores(key, start, stop));
+    }
+
+    @Override
+    public Long zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return dispatch(commandBuilder.zrangeWithScores(channel, key, start, stop));
+    }
+
+    @Override
+    public List<V> zrangebylex(K key, String min, String max) {
+        return dispatch(commandBuilder.zrangebylex(key, min, max));
+    }
+
+    @Override
+    public List<V> zrangebylex(K key, Range<? extends V> range) {
+        return dispatch(commandBuilder.zrangebylex(key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public List<V> zrangebylex(K key, String min, String max, long offset, long count) {
+        return dispatch(commandBuilder.zrangebylex(key, min, max, offset, count));
+    }
+
+    @Override
+    public List<V> zrangebylex(K key, Range<? extends V> range, Limit limit) {
+        return dispatch(commandBuilder.zrangebylex(key, range, limit));
+    }
+
+    @Override
+    public List<V> zrangebyscore(K key, double min, double max) {
+        return dispatch(commandBuilder.zrangebyscore(key, min, max));
+    }
+
+    @Override
+    public List<V> zrangebyscore(K key, String min, String max) {
+        return dispatch(commandBuilder.zrangebyscore(key, min, max));
+    }
+
+    @Override
+    public List<V> zrangebyscore(K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zrangebyscore(key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public List<V> zrangebyscore(K key, double min, double max, long offset, long count) {
+        return dispatch(commandBuilder.zrangebyscore(key, min, max, offset, count));
+    }
+
+    @Override
+    public List<V> zrangebyscore(K key, String min, String max, long offset, long count) {
+        return dispatch(commandBuilder.zrangebyscore(key, min, max, offset, count));
+    }
+
+    @Override
+    public List<V> zrangebyscore(K key, Range<? extends Number> range, Limit limit) {
+        return dispatch(commandBuilder.zrangebyscore(key, range, limit));
+    }
+
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max) {
+        return dispatch(commandBuilder.zrangebyscore(channel, key, min, max));
+    }
+
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max) {
+        return dispatch(commandBuilder.zrangebyscore(channel, key, min, max));
+    }
+
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zrangebyscore(channel, key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, double min, double max, long offset,
+            long count) {
+        return dispatch(commandBuilder.zrangebyscore(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, String min, String max, long offset,
+            long count) {
+        return dispatch(commandBuilder.zrangebyscore(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public Long zrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range, Limit limit) {
+        return dispatch(commandBuilder.zrangebyscore(channel, key, range, limit));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, double min, double max) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(key, min, max));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, String min, String max) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(key, min, max));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, double min, double max, long offset, long count) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, String min, String max, long offset, long count) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(key, min, max, offset, count));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(key, range, limit));
+    }
+
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(channel, key, min, max));
+    }
+
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(channel, key, min, max));
+    }
+
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(channel, key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double min, double max,
+            long offset, long count) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String min, String max,
+            long offset, long count) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(channel, key, min, max, offset, count));
+    }
+
+    @Override
+    public Long zrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, Range<? extends Number> range,
+            Limit limit) {
+        return dispatch(commandBuilder.zrangebyscoreWithScores(channel, key, range, limit));
+    }
+
+    @Override
+    public Long zrank(K key, V member) {
+        return dispatch(commandBuilder.zrank(key, member));
+    }
+
+    @Override
+    public Long zrem(K key, V... members) {
+        return dispatch(commandBuilder.zrem(key, members));
+    }
+
+    @Override
+    public Long zremrangebylex(K key, String min, String max) {
+        return dispatch(commandBuilder.zremrangebylex(key, min, max));
+    }
+
+    @Override
+    public Long zremrangebylex(K key, Range<? extends V> range) {
+        return dispatch(commandBuilder.zremrangebylex(key, range));
+    }
+
+    @Override
+    public Long zremrangebyrank(K key, long start, long stop) {
+        return dispatch(commandBuilder.zremrangebyrank(key, start, stop));
+    }
+
+    @Override
+    public Long zremrangebyscore(K key, double min, double max) {
+        return dispatch(commandBuilder.zremrangebyscore(key, min, max));
+    }
+
+    @Override
+    public Long zremrangebyscore(K key, String min, String max) {
+        return dispatch(commandBuilder.zremrangebyscore(key, min, max));
+    }
+
+    @Override
+    public Long zremrangebyscore(K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zremrangebyscore(key, range));
+    }
+
+    @Override
+    public List<V> zrevrange(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrevrange(key, start, stop));
+    }
+
+    @Override
+    public Long zrevrange(ValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return dispatch(commandBuilder.zrevrange(channel, key, start, stop));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangeWithScores(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrevrangeWithScores(key, start, stop));
+    }
+
+    @Override
+    public Long zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
+        return dispatch(commandBuilder.zrevrangeWithScores(channel, key, start, stop));
+    }
+
+    @Override
+    public List<V> zrevrangebylex(K key, Range<? extends V> range) {
+        return dispatch(commandBuilder.zrevrangebylex(key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public List<V> zrevrangebylex(K key, Range<? extends V> range, Limit limit) {
+        return dispatch(commandBuilder.zrevrangebylex(key, range, limit));
+    }
+
+    @Override
+    public List<V> zrevrangebyscore(K key, double max, double min) {
+        return dispatch(commandBuilder.zrevrangebyscore(key, max, min));
+    }
+
+    @Override
+    public List<V> zrevrangebyscore(K key, String max, String min) {
+        return dispatch(commandBuilder.zrevrangebyscore(key, max, min));
+    }
+
+    @Override
+    public List<V> zrevrangebyscore(K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zrevrangebyscore(key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public List<V> zrevrangebyscore(K key, double max, double min, long offset, long count) {
+        return dispatch(commandBuilder.zrevrangebyscore(key, max, min, offset, count));
+    }
+
+    @Override
+    public List<V> zrevrangebyscore(K key, String max, String min, long offset, long count) {
+        return dispatch(commandBuilder.zrevrangebyscore(key, max, min, offset, count));
+    }
+
+    @Override
+    public List<V> zrevrangebyscore(K key, Range<? extends Number> range, Limit limit) {
+        return dispatch(commandBuilder.zrevrangebyscore(key, range, limit));
+    }
+
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min) {
+        return dispatch(commandBuilder.zrevrangebyscore(channel, key, max, min));
+    }
+
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min) {
+        return dispatch(commandBuilder.zrevrangebyscore(channel, key, max, min));
+    }
+
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zrevrangebyscore(channel, key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, double max, double min, long offset,
+            long count) {
+        return dispatch(commandBuilder.zrevrangebyscore(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, String max, String min, long offset,
+            long count) {
+        return dispatch(commandBuilder.zrevrangebyscore(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public Long zrevrangebyscore(ValueStreamingChannel<V> channel, K key, Range<? extends Number> range, Limit limit) {
+        return dispatch(commandBuilder.zrevrangebyscore(channel, key, range, limit));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, double max, double min) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(key, max, min));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, String max, String min) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(key, max, min));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, double max, double min, long offset, long count) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, String max, String min, long offset, long count) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(key, max, min, offset, count));
+    }
+
+    @Override
+    public List<ScoredValue<V>> zrevrangebyscoreWithScores(K key, Range<? extends Number> range, Limit limit) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(key, range, limit));
+    }
+
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(channel, key, max, min));
+    }
+
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max, String min) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(channel, key, max, min));
+    }
+
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key,
+            Range<? extends Number> range) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(channel, key, range, Limit.unlimited()));
+    }
+
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, double max, double min,
+            long offset, long count) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, String max, String min,
+            long offset, long count) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(channel, key, max, min, offset, count));
+    }
+
+    @Override
+    public Long zrevrangebyscoreWithScores(ScoredValueStreamingChannel<V> channel, K key, Range<? extends Number> range,
+            Limit limit) {
+        return dispatch(commandBuilder.zrevrangebyscoreWithScores(channel, key, range, limit));
+    }
+
+    @Override
+    public Long zrevrank(K key, V member) {
+        return dispatch(commandBuilder.zrevrank(key, member));
+    }
+
+    @Override
+    public ScoredValueScanCursor<V> zscan(K key) {
+        return dispatch(commandBuilder.zscan(key));
+    }
+
+    @Override
+    public ScoredValueScanCursor<V> zscan(K key, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.zscan(key, scanArgs));
+    }
+
+    @Override
+    public ScoredValueScanCursor<V> zscan(K key, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.zscan(key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public ScoredValueScanCursor<V> zscan(K key, ScanCursor scanCursor) {
+        return dispatch(commandBuilder.zscan(key, scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor zscan(ScoredValueStreamingChannel<V> channel, K key) {
+        return dispatch(commandBuilder.zscanStreaming(channel, key));
+    }
+
+    @Override
+    public StreamScanCursor zscan(ScoredValueStreamingChannel<V> channel, K key, ScanArgs scanArgs) {
+        return dispatch(commandBuilder.zscanStreaming(channel, key, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor,
+            ScanArgs scanArgs) {
+        return dispatch(commandBuilder.zscanStreaming(channel, key, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor zscan(ScoredValueStreamingChannel<V> channel, K key, ScanCursor scanCursor) {
+        return dispatch(commandBuilder.zscanStreaming(channel, key, scanCursor));
+    }
+
+    @Override
+    public Double zscore(K key, V member) {
+        return dispatch(commandBuilder.zscore(key, member));
+    }
+
+    @Override
+    public Long zunionstore(K destination, K... keys) {
+        return dispatch(commandBuilder.zunionstore(destination, keys));
+    }
+
+    @Override
+    public Long zunionstore(K destination, ZStoreArgs storeArgs, K... keys) {
+        return dispatch(commandBuilder.zunionstore(destination, storeArgs, keys));
+    }
+
+    @Override
+    public Long append(K key, V value) {
+        return dispatch(commandBuilder.append(key, value));
+    }
+
+    @Override
+    public Long bitcount(K key) {
+        return dispatch(commandBuilder.bitcount(key));
+    }
+
+    @Override
+    public Long bitcount(K key, long start, long end) {
+        return dispatch(commandBuilder.bitcount(key, start, end));
+    }
+
+    @Override
+    public List<Long> bitfield(K key, BitFieldArgs bitFieldArgs) {
+        return dispatch(commandBuilder.bitfield(key, bitFieldArgs));
+    }
+
+    @Override
+    public Long bitpos(K key, boolean state) {
+        return dispatch(commandBuilder.bitpos(key, state));
+    }
+
+    @Override
+    public Long bitpos(K key, boolean state, long start) {
+        return dispatch(commandBuilder.bitpos(key, state, start));
+    }
+
+    @Override
+    public Long bitpos(K key, boolean state, long start, long end) {
+        return dispatch(commandBuilder.bitpos(key, state, start, end));
+    }
+
+    @Override
+    public Long bitopAnd(K destination, K... keys) {
+        return dispatch(commandBuilder.bitopAnd(destination, keys));
+    }
+
+    @Override
+    public Long bitopNot(K destination, K source) {
+        return dispatch(commandBuilder.bitopNot(destination, source));
+    }
+
+    @Override
+    public Long bitopOr(K destination, K... keys) {
+        return dispatch(commandBuilder.bitopOr(destination, keys));
+    }
+
+    @Override
+    public Long bitopXor(K destination, K... keys) {
+        return dispatch(commandBuilder.bitopXor(destination, keys));
+    }
+
+    @Override
+    public Long decr(K key) {
+        return dispatch(commandBuilder.decr(key));
+    }
+
+    @Override
+    public Long decrby(K key, long amount) {
+        return dispatch(commandBuilder.decrby(key, amount));
+    }
+
+    @Override
+    public V get(K key) {
+        return dispatch(commandBuilder.get(key));
+    }
+
+    @Override
+    public Long get(BulkChunkConsumer consumer, K key) {
+        return dispatch(commandBuilder.get(consumer, key));
+    }
+
+    @Override
+    public Long getbit(K key, long offset) {
+        return dispatch(commandBuilder.getbit(key, offset));
+    }
+
+    @Override
+    public V getrange(K key, long start, long end) {
+        return dispatch(commandBuilder.getrange(key, start, end));
+    }
+
+    @Override
+    public V getset(K key, V value) {
+        return dispatch(commandBuilder.getset(key, value));
+    }
+
+    @Override
+    public Long incr(K key) {
+        return dispatch(commandBuilder.incr(key));
+    }
+
+    @Override
+    public Long incrby(K key, long amount) {
+        return dispatch(commandBuilder.incrby(key, amount));
+    }
+
+    @Override
+    public Double incrbyfloat(K key, double amount) {
+        return dispatch(commandBuilder.incrbyfloat(key, amount));
+    }
+
+    @Override
+    public List<V> mget(K... keys) {
+        return dispatch(commandBuilder.mget(keys));
+    }
+
+    @Override
+    public Long mget(ValueStreamingChannel<V> channel, K... keys) {
+        return dispatch(commandBuilder.mget(channel, keys));
+    }
+
+    @Override
+    public String mset(Map<K, V> map) {
+        return dispatch(commandBuilder.mset(map));
+    }
+
+    @Override
+    public Boolean msetnx(Map<K, V> map) {
+        return dispatch(commandBuilder.msetnx(map));
+    }
+
+    @Override
+    public String set(K key, V value) {
+        return dispatch(commandBuilder.set(key, value));
+    }
+
+    @Override
+    public String set(K key, V value, SetArgs setArgs) {
+        return dispatch(commandBuilder.set(key, value, setArgs));
+    }
+
+    @Override
+    public Long setbit(K key, long offset, int value) {
+        return dispatch(commandBuilder.setbit(key, offset, value));
+    }
+
+    @Override
+    public String setex(K key, long seconds, V value) {
+        return dispatch(commandBuilder.setex(key, seconds, value));
+    }
+
+    @Override
+    public String psetex(K key, long milliseconds, V value) {
+        return dispatch(commandBuilder.psetex(key, milliseconds, value));
+    }
+
+    @Override
+    public Boolean setnx(K key, V value) {
+        return dispatch(commandBuilder.setnx(key, value));
+    }
+
+    @Override
+    public Long setrange(K key, long offset, V value) {
+        return dispatch(commandBuilder.setrange(key, offset, value));
+    }
+
+    @Override
+    public Long strlen(K key) {
+        return dispatch(commandBuilder.strlen(key));
+    }
+
+    @Override
+    public String discard() {
+        return dispatch(commandBuilder.discard());
+    }
+
+    @Override
+    public List<Object> exec() {
+        return await(async.exec());
+    }
+
+    @Override
+    public String multi() {
+        return dispatch(commandBuilder.multi());
+    }
+
+    @Override
+    public String watch(K... keys) {
+        return dispatch(commandBuilder.watch(keys));
+    }
+
+    @Override
+    public String unwatch() {
+        return dispatch(commandBuilder.unwatch());
+    }
+
+    @Override
+    public Long publish(K channel, V message) {
+        return dispatch(commandBuilder.publish(channel, message));
+    }
+
+    @Override
+    public List<K> pubsubChannels() {
+        return dispatch(commandBuilder.pubsubChannels());
+    }
+
+    @Override
+    public List<K> pubsubChannels(K channel) {
+        return dispatch(commandBuilder.pubsubChannels(channel));
+    }
+
+    @Override
+    public Map<K, Long> pubsubNumsub(K... channels) {
+        return dispatch(commandBuilder.pubsubNumsub(channels));
+    }
+
+    @Override
+    public Long pubsubNumpat() {
+        return dispatch(commandBuilder.pubsubNumpat());
+    }
+
+    @Override
+    public V echo(V msg) {
+        return dispatch(commandBuilder.echo(msg));
+    }
+
+    @Override
+    public List<Object> role() {
+        return dispatch(commandBuilder.role());
+    }
+
+    @Override
+    public String ping() {
+        return dispatch(commandBuilder.ping());
+    }
+
+    @Override
+    public String readOnly() {
+        return await(async.readOnly());
+    }
+
+    @Override
+    public String readWrite() {
+        return await(async.readWrite());
+    }
+
+    @Override
+    public String quit() {
+        return dispatch(commandBuilder.quit());
+    }
+
+    @Override
+    public Long waitForReplication(int replicas, long timeout) {
+        return dispatch(commandBuilder.wait(replicas, timeout));
+    }
+
+    @Override
+    public <T> T dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output) {
+        return await(async.dispatch(type, output));
+    }
+
+    @Override
+    public <T> T dispatch(ProtocolKeyword type, CommandOutput<K, V, T> output, CommandArgs<K, V> args) {
+        return await(async.dispatch(type, output, args));
+    }
+
+    @Override
+    public void close() {
+        async.close();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return async.isOpen();
+    }
+
+    @Override
+    public void reset() {
+        async.reset();
+    }
+
+    @Override
+    public Long geoadd(K key, double longitude, double latitude, V member) {
+        return dispatch(commandBuilder.geoadd(key, longitude, latitude, member));
+    }
+
+    @Override
+    public Long geoadd(K key, Object... lngLatMember) {
+        return dispatch(commandBuilder.geoadd(key, lngLatMember));
+    }
+
+    @Override
+    public List<String> geohash(K key, V... members) {
+        return dispatch(commandBuilder.geohash(key, members));
+    }
+
+    @Override
+    public Set<V> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
+        return dispatch(commandBuilder.georadius(GEORADIUS, key, longitude, latitude, distance, unit.name()));
+    }
+
+    @Override
+    public List<GeoWithin<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
+            GeoArgs geoArgs) {
+        return dispatch(commandBuilder.georadius(GEORADIUS, key, longitude, latitude, distance, unit.name(), geoArgs));
+    }
+
+    @Override
+    public Long georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return dispatch(commandBuilder.georadius(key, longitude, latitude, distance, unit.name(), geoRadiusStoreArgs));
+    }
+
+    @Override
+    public Set<V> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
+        return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, key, member, distance, unit.name()));
+    }
+
+    @Override
+    public List<GeoWithin<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit, GeoArgs geoArgs) {
+        return dispatch(commandBuilder.georadiusbymember(GEORADIUSBYMEMBER, key, member, distance, unit.name(),
+                geoArgs));
+    }
+
+    @Override
+    public Long georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
+            GeoRadiusStoreArgs<K> geoRadiusStoreArgs) {
+        return dispatch(commandBuilder.georadiusbymember(key, member, distance, unit.name(), geoRadiusStoreArgs));
+    }
+
+    @Override
+    public List<GeoCoordinates> geopos(K key, V... members) {
+        return dispatch(commandBuilder.geopos(key, members));
+    }
+
+    @Override
+    public Double geodist(K key, V from, V to, GeoArgs.Unit unit) {
+        return dispatch(commandBuilder.geodist(key, from, to, unit));
+    }
+
+    @Override
+    public void setTimeout(long timeout, TimeUnit unit) {
+        async.setTimeout(timeout, unit);
+    }
+
+    @Override
+    public String auth(String password) {
+        return async.auth(password);
+    }
+
+    @Override
+    public String clusterBumpepoch() {
+        return dispatch(commandBuilder.clusterBumpepoch());
+    }
+
+    @Override
+    public String clusterMeet(String ip, int port) {
+        return dispatch(commandBuilder.clusterMeet(ip, port));
+    }
+
+    @Override
+    public String clusterForget(String nodeId) {
+        return dispatch(commandBuilder.clusterForget(nodeId));
+    }
+
+    @Override
+    public String clusterAddSlots(int... slots) {
+        return dispatch(commandBuilder.clusterAddslots(slots));
+    }
+
+    @Override
+    public String clusterDelSlots(int... slots) {
+        return dispatch(commandBuilder.clusterDelslots(slots));
+    }
+
+    @Override
+    public String clusterSetSlotNode(int slot, String nodeId) {
+        return dispatch(commandBuilder.clusterSetSlotNode(slot, nodeId));
+    }
+
+    @Override
+    public String clusterSetSlotStable(int slot) {
+        return dispatch(commandBuilder.clusterSetSlotStable(slot));
+    }
+
+    @Override
+    public String clusterSetSlotMigrating(int slot, String nodeId) {
+        return dispatch(commandBuilder.clusterSetSlotMigrating(slot, nodeId));
+    }
+
+    @Override
+    public String clusterSetSlotImporting(int slot, String nodeId) {
+        return dispatch(commandBuilder.clusterSetSlotImporting(slot, nodeId));
+    }
+
+    @Override
+    public String clusterInfo() {
+        return dispatch(commandBuilder.clusterInfo());
+    }
+
+    @Override
+    public String clusterMyId() {
+        return dispatch(commandBuilder.clusterMyId());
+    }
+
+    @Override
+    public String clusterNodes() {
+        return dispatch(commandBuilder.clusterNodes());
+    }
+
+    @Override
+    public List<String> clusterSlaves(String nodeId) {
+        return dispatch(commandBuilder.clusterSlaves(nodeId));
+    }
+
+    @Override
+    public List<K> clusterGetKeysInSlot(int slot, int count) {
+        return dispatch(commandBuilder.clusterGetKeysInSlot(slot, count));
+    }
+
+    @Override
+    public Long clusterCountKeysInSlot(int slot) {
+        return dispatch(commandBuilder.clusterCountKeysInSlot(slot));
+    }
+
+    @Override
+    public Long clusterCountFailureReports(String nodeId) {
+        return dispatch(commandBuilder.clusterCountFailureReports(nodeId));
+    }
+
+    @Override
+    public Long clusterKeyslot(K key) {
+        return dispatch(commandBuilder.clusterKeyslot(key));
+    }
+
+    @Override
+    public String clusterSaveconfig() {
+        return dispatch(commandBuilder.clusterSaveconfig());
+    }
+
+    @Override
+    public String clusterSetConfigEpoch(long configEpoch) {
+        return dispatch(commandBuilder.clusterSetConfigEpoch(configEpoch));
+    }
+
+    @Override
+    public List<Object> clusterSlots() {
+        return dispatch(commandBuilder.clusterSlots());
+    }
+
+    @Override
+    public String asking() {
+        return dispatch(commandBuilder.asking());
+    }
+
+    @Override
+    public String clusterReplicate(String nodeId) {
+        return dispatch(commandBuilder.clusterReplicate(nodeId));
+    }
+
+    @Override
+    public String clusterFailover(boolean force) {
+        return dispatch(commandBuilder.clusterFailover(force));
+    }
+
+    @Override
+    public String clusterReset(boolean hard) {
+        return dispatch(commandBuilder.clusterReset(hard));
+    }
+
+    @Override
+    public String clusterFlushslots() {
+        return dispatch(commandBuilder.clusterFlushslots());
+    }
+
+    @Override
+    public Boolean exists(K key) {
+        return dispatch(commandBuilder.exists(key));
+    }
+
+    @Override
+    public Long pfadd(K key, V value, V... moreValues) {
+        return dispatch(commandBuilder.pfadd(key, value, moreValues));
+    }
+
+    @Override
+    public String pfmerge(K destkey, K sourcekey, K... moreSourceKeys) {
+        return dispatch(commandBuilder.pfmerge(destkey, sourcekey, moreSourceKeys));
+    }
+
+    @Override
+    public Long pfcount(K key, K... moreKeys) {
+        return dispatch(commandBuilder.pfcount(key, moreKeys));
+    }
+}
@@ -32,18 +32,26 @@ public class ClientOptions implements Serializable {
     public static final boolean DEFAULT_CANCEL_CMD_RECONNECT_FAIL = false;
     public static final boolean DEFAULT_SUSPEND_RECONNECT_PROTO_FAIL = false;
     public static final int DEFAULT_REQUEST_QUEUE_SIZE = Integer.MAX_VALUE;
+    public static final int DEFAULT_SUBMISSION_QUEUE_SIZE = 0;
     public static final DisconnectedBehavior DEFAULT_DISCONNECTED_BEHAVIOR = DisconnectedBehavior.DEFAULT;
     public static final SocketOptions DEFAULT_SOCKET_OPTIONS = SocketOptions.create();
     public static final SslOptions DEFAULT_SSL_OPTIONS = SslOptions.create();
+    public static final FlushOptions DEFAULT_FLUSH_OPTIONS = FlushOptions.create();
+    public static final HedgedReadOptions DEFAULT_HEDGED_READ_OPTIONS = HedgedReadOptions.create();
+    public static final WarmUpOptions DEFAULT_WARM_UP_OPTIONS = WarmUpOptions.create();
 
     private final boolean pingBeforeActivateConnection;
     private final boolean autoReconnect;
     private final boolean cancelCommandsOnReconnectFailure;
     private final boolean suspendReconnectOnProtocolFailure;
     private final int requestQueueSize;
+    private final int submissionQueueSize;
     private final DisconnectedBehavior disconnectedBehavior;
     private final SocketOptions socketOptions;
     private final SslOptions sslOptions;
+    private final FlushOptions flushOptions;
+    private final HedgedReadOptions hedgedReadOptions;
+    private final WarmUpOptions warmUpOptions;
 
     protected ClientOptions(Builder builder) {
         pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
@@ -51,9 +59,13 @@ public class ClientOptions implements Serializable {
         autoReconnect = builder.autoReconnect;
         suspendReconnectOnProtocolFailure = builder.suspendReconnectOnProtocolFailure;
         requestQueueSize = builder.requestQueueSize;
+        submissionQueueSize = builder.submissionQueueSize;
         disconnectedBehavior = builder.disconnectedBehavior;
         socketOptions = builder.socketOptions;
         sslOptions = builder.sslOptions;
+        flushOptions = builder.flushOptions;
+        hedgedReadOptions = builder.hedgedReadOptions;
+        warmUpOptions = builder.warmUpOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -62,9 +74,13 @@ public class ClientOptions implements Serializable {
         this.cancelCommandsOnReconnectFailure = original.isCancelCommandsOnReconnectFailure();
         this.suspendReconnectOnProtocolFailure = original.isSuspendReconnectOnProtocolFailure();
         this.requestQueueSize = original.getRequestQueueSize();
+        this.submissionQueueSize = original.getSubmissionQueueSize();
         this.disconnectedBehavior = original.getDisconnectedBehavior();
         this.socketOptions = original.getSocketOptions();
         this.sslOptions = original.getSslOptions();
+        this.flushOptions = original.getFlushOptions();
+        this.hedgedReadOptions = original.getHedgedReadOptions();
+        this.warmUpOptions = original.getWarmUpOptions();
     }
 
     /**
@@ -105,9 +121,13 @@ public class ClientOptions implements Serializable {
         private boolean cancelCommandsOnReconnectFailure = DEFAULT_CANCEL_CMD_RECONNECT_FAIL;
         private boolean suspendReconnectOnProtocolFailure = DEFAULT_SUSPEND_RECONNECT_PROTO_FAIL;
         private int requestQueueSize = DEFAULT_REQUEST_QUEUE_SIZE;
+        private int submissionQueueSize = DEFAULT_SUBMISSION_QUEUE_SIZE;
         private DisconnectedBehavior disconnectedBehavior = DEFAULT_DISCONNECTED_BEHAVIOR;
         private SocketOptions socketOptions = DEFAULT_SOCKET_OPTIONS;
         private SslOptions sslOptions = DEFAULT_SSL_OPTIONS;
+        private FlushOptions flushOptions = DEFAULT_FLUSH_OPTIONS;
+        private HedgedReadOptions hedgedReadOptions = DEFAULT_HEDGED_READ_OPTIONS;
+        private WarmUpOptions warmUpOptions = DEFAULT_WARM_UP_OPTIONS;
 
         /**
          * @deprecated Use {@link ClientOptions#builder()}
@@ -179,6 +199,24 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Set the per-connection submission queue size. A submission queue size greater {@literal 0} enables a lock-free,
+         * bounded submission queue. Commands invoked from multiple threads are enqueued without locking and the event loop
+         * writes enqueued commands in batches. Commands are written directly if the submission queue is full. Defaults to
+         * {@literal 0} (disabled). See {@link #DEFAULT_SUBMISSION_QUEUE_SIZE}. Connections using
+         * {@link FlushOptions#isCoalesceWrites() write coalescing} create a submission queue if the size is {@literal 0}.
+         *
+         * @param submissionQueueSize the submission queue size, {@literal 0} to disable the submission queue.
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder submissionQueueSize(int submissionQueueSize) {
+
+            LettuceAssert.isTrue(submissionQueueSize >= 0, "Submission queue size must be greater or equal 0");
+            this.submissionQueueSize = submissionQueueSize;
+            return this;
+        }
+
         /**
          * Sets the behavior for command invocation when connections are in a disconnected state. Defaults to {@literal true}.
          * See {@link #DEFAULT_DISCONNECTED_BEHAVIOR}.
@@ -220,6 +258,51 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Sets the {@link FlushOptions} to control how commands are flushed when auto-flush is enabled. See
+         * {@link #DEFAULT_FLUSH_OPTIONS}.
+         *
+         * @param flushOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder flushOptions(FlushOptions flushOptions) {
+
+            LettuceAssert.notNull(flushOptions, "FlushOptions must not be null");
+            this.flushOptions = flushOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link HedgedReadOptions} to control hedged reads of Master/Slave and Redis Cluster connections. See
+         * {@link #DEFAULT_HEDGED_READ_OPTIONS}.
+         *
+         * @param hedgedReadOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder hedgedReadOptions(HedgedReadOptions hedgedReadOptions) {
+
+            LettuceAssert.notNull(hedgedReadOptions, "HedgedReadOptions must not be null");
+            this.hedgedReadOptions = hedgedReadOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link WarmUpOptions} to control eager connection warm-up of Master/Slave and Redis Cluster connections.
+         * See {@link #DEFAULT_WARM_UP_OPTIONS}.
+         *
+         * @param warmUpOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder warmUpOptions(WarmUpOptions warmUpOptions) {
+
+            LettuceAssert.notNull(warmUpOptions, "WarmUpOptions must not be null");
+            this.warmUpOptions = warmUpOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          *
@@ -285,6 +368,17 @@ public class ClientOptions implements Serializable {
         return requestQueueSize;
     }
 
+    /**
+     * Submission queue size for a connection. A value greater {@literal 0} enables the lock-free submission queue. Defaults to
+     * {@literal 0}.
+     *
+     * @return the submission queue size.
+     * @since 4.5
+     */
+    public int getSubmissionQueueSize() {
+        return submissionQueueSize;
+    }
+
     /**
      * Behavior for command invocation when connections are in a disconnected state. Defaults to
      * {@link DisconnectedBehavior#DEFAULT true}. See {@link #DEFAULT_DISCONNECTED_BEHAVIOR}.
@@ -313,6 +407,36 @@ public class ClientOptions implements Serializable {
         return sslOptions;
     }
 
+    /**
+     * Returns the {@link FlushOptions}.
+     *
+     * @return the {@link FlushOptions}.
+     * @since 4.5
+     */
+    public FlushOptions getFlushOptions() {
+        return flushOptions;
+    }
+
+    /**
+     * Returns the {@link HedgedReadOptions}.
+     *
+     * @return the {@link HedgedReadOptions}.
+     * @since 4.5
+     */
+    public HedgedReadOptions getHedgedReadOptions() {
+        return hedgedReadOptions;
+    }
+
+    /**
+     * Returns the {@link WarmUpOptions}.
+     *
+     * @return the {@link WarmUpOptions}.
+     * @since 4.5
+     */
+    public WarmUpOptions getWarmUpOptions() {
+        return warmUpOptions;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
@@ -103,7 +103,7 @@ public class ConnectionBuilder {
         LettuceAssert.assertState(socketAddressSupplier != null, "SocketAddressSupplier must be set for autoReconnect=true");
 
         ConnectionWatchdog watchdog = new ConnectionWatchdog(clientResources.reconnectDelay(), clientOptions, bootstrap, timer,
-                workerPool, socketAddressSupplier, reconnectionListener);
+                workerPool, socketAddressSupplier, reconnectionListener, clientResources.reconnectCoordinator());
 
         watchdog.setListenOnChannelInactive(true);
         return watchdog;
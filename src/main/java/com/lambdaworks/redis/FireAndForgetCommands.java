@@ -0,0 +1,158 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.ProtocolKeyword;
+import com.lambdaworks.redis.protocol.RecyclableCommand;
+
+/**
+ * Fire-and-forget command dispatch for high-volume pipelines that do not consume command results. Commands are sent without
+ * a future and discard their replies. Command and argument objects are pooled and recycled once the reply was received so
+ * dispatching a command allocates (almost) no garbage.
+ * <p>
+ * Redis replies to each command. Replies are read in order with replies to other commands on the same connection and then
+ * discarded. Errors reported by Redis are not surfaced to the caller. Cluster connections follow {@code MOVED} and
+ * {@code ASK} redirections of fire-and-forget commands like for any other command. Fire-and-forget commands cannot be used
+ * within a transaction ({@code MULTI}/{@code EXEC}) because their results cannot be collected.
+ * </p>
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <pre class="code">
+ * FireAndForgetCommands&lt;String, String&gt; commands = new FireAndForgetCommands&lt;&gt;(connection, StringCodec.UTF8);
+ * commands.set("key", "value");
+ *
+ * RecyclableCommand&lt;String, String&gt; command = commands.newCommand(CommandType.LPUSH);
+ * command.getArgs().addKey("list").addValue("value");
+ * commands.dispatch(command);
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class FireAndForgetCommands<K, V> {
+
+    private final StatefulConnection<K, V> connection;
+    private final RecyclableCommand.Pool<K, V> pool;
+
+    /**
+     * Create a new {@link FireAndForgetCommands} instance.
+     *
+     * @param connection the connection, must not be {@literal null}.
+     * @param codec the codec used by the connection, must not be {@literal null}.
+     */
+    public FireAndForgetCommands(StatefulConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        this.connection = connection;
+        this.pool = new RecyclableCommand.Pool<>(codec);
+    }
+
+    /**
+     * Set the string value of a key.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void set(K key, V value) {
+
+        RecyclableCommand<K, V> command = newCommand(CommandType.SET);
+        command.getArgs().addKey(key).addValue(value);
+        dispatch(command);
+    }
+
+    /**
+     * Set the string value of a hash field.
+     *
+     * @param key the key.
+     * @param field the field type: key.
+     * @param value the value.
+     */
+    public void hset(K key, K field, V value) {
+
+        RecyclableCommand<K, V> command = newCommand(CommandType.HSET);
+        command.getArgs().addKey(key).addKey(field).addValue(value);
+        dispatch(command);
+    }
+
+    /**
+     * Delete a key.
+     *
+     * @param key the key.
+     */
+    public void del(K key) {
+
+        RecyclableCommand<K, V> command = newCommand(CommandType.DEL);
+        command.getArgs().addKey(key);
+        dispatch(command);
+    }
+
+    /**
+     * Increment the integer value of a key by one.
+     *
+     * @param key the key.
+     */
+    public void incr(K key) {
+
+        RecyclableCommand<K, V> command = newCommand(CommandType.INCR);
+        command.getArgs().addKey(key);
+        dispatch(command);
+    }
+
+    /**
+     * Post a message to a channel.
+     *
+     * @param channel the channel type: key.
+     * @param message the message type: value.
+     */
+    public void publish(K channel, V message) {
+
+        RecyclableCommand<K, V> command = newCommand(CommandType.PUBLISH);
+        command.getArgs().addKey(channel).addValue(message);
+        dispatch(command);
+    }
+
+    /**
+     * Obtain a pooled command to dispatch a custom command using {@link #dispatch(RecyclableCommand)}. The command must not be
+     * used after dispatching it.
+     *
+     * @param type the command type, must not be {@literal null}.
+     * @return the pooled command with empty arguments.
+     */
+    public RecyclableCommand<K, V> newCommand(ProtocolKeyword type) {
+        return pool.get(type);
+    }
+
+    /**
+     * Dispatch a command obtained from {@link #newCommand(ProtocolKeyword)}.
+     *
+     * @param command the command, must not be {@literal null}.
+     */
+    public void dispatch(RecyclableCommand<K, V> command) {
+
+        LettuceAssert.notNull(command, "Command must not be null");
+        connection.dispatch(command);
+    }
+}
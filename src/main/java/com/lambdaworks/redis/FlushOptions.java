@@ -0,0 +1,228 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Options to control how commands are flushed to the transport when auto-flush is enabled. Connections flush each command by
+ * default. With write coalescing enabled, commands are written without flushing and the connection is flushed once
+ * {@link #getMaxCommands() a number of commands} or {@link #getMaxBytes() bytes} is pending, or after
+ * {@link #getMaxDelay() a delay}, whichever comes first.
+ * <p>
+ * Coalesced writes are enqueued to the connection's submission queue so that commands issued outside the event loop are
+ * written in batches by a single event loop task. A submission queue is created if
+ * {@link ClientOptions.Builder#submissionQueueSize(int)} does not configure one.
+ * </p>
+ * <p>
+ * The delay is scheduled on the channel's event loop. Its effective resolution depends on the transport.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class FlushOptions {
+
+    public static final boolean DEFAULT_COALESCE_WRITES = false;
+    public static final int DEFAULT_MAX_COMMANDS = 64;
+    public static final int DEFAULT_MAX_BYTES = 64 * 1024;
+    public static final long DEFAULT_MAX_DELAY = 50;
+    public static final TimeUnit DEFAULT_MAX_DELAY_UNIT = TimeUnit.MICROSECONDS;
+
+    private final boolean coalesceWrites;
+    private final int maxCommands;
+    private final int maxBytes;
+    private final long maxDelay;
+    private final TimeUnit maxDelayUnit;
+
+    protected FlushOptions(Builder builder) {
+
+        this.coalesceWrites = builder.coalesceWrites;
+        this.maxCommands = builder.maxCommands;
+        this.maxBytes = builder.maxBytes;
+        this.maxDelay = builder.maxDelay;
+        this.maxDelayUnit = builder.maxDelayUnit;
+    }
+
+    protected FlushOptions(FlushOptions original) {
+
+        this.coalesceWrites = original.isCoalesceWrites();
+        this.maxCommands = original.getMaxCommands();
+        this.maxBytes = original.getMaxBytes();
+        this.maxDelay = original.getMaxDelay();
+        this.maxDelayUnit = original.getMaxDelayUnit();
+    }
+
+    /**
+     * Create a copy of {@literal options}
+     *
+     * @param options the original
+     * @return A new instance of {@link FlushOptions} containing the values of {@literal options}
+     */
+    public static FlushOptions copyOf(FlushOptions options) {
+        return new FlushOptions(options);
+    }
+
+    /**
+     * Returns a new {@link FlushOptions.Builder} to construct {@link FlushOptions}.
+     *
+     * @return a new {@link FlushOptions.Builder} to construct {@link FlushOptions}.
+     */
+    public static FlushOptions.Builder builder() {
+        return new FlushOptions.Builder();
+    }
+
+    /**
+     * Create a new {@link FlushOptions} using default settings.
+     *
+     * @return a new instance of default flush options.
+     */
+    public static FlushOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link FlushOptions}.
+     */
+    public static class Builder {
+
+        private boolean coalesceWrites = DEFAULT_COALESCE_WRITES;
+        private int maxCommands = DEFAULT_MAX_COMMANDS;
+        private int maxBytes = DEFAULT_MAX_BYTES;
+        private long maxDelay = DEFAULT_MAX_DELAY;
+        private TimeUnit maxDelayUnit = DEFAULT_MAX_DELAY_UNIT;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables or disables write coalescing. Defaults to {@literal false} (flush each command). See
+         * {@link #DEFAULT_COALESCE_WRITES}.
+         *
+         * @param coalesceWrites {@literal true} to coalesce writes.
+         * @return {@code this}
+         */
+        public Builder coalesceWrites(boolean coalesceWrites) {
+
+            this.coalesceWrites = coalesceWrites;
+            return this;
+        }
+
+        /**
+         * Set the number of pending commands that triggers a flush. Defaults to {@literal 64}. See
+         * {@link #DEFAULT_MAX_COMMANDS}.
+         *
+         * @param maxCommands number of commands, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxCommands(int maxCommands) {
+
+            LettuceAssert.isTrue(maxCommands > 0, "Max commands must be greater 0");
+
+            this.maxCommands = maxCommands;
+            return this;
+        }
+
+        /**
+         * Set the number of pending bytes that triggers a flush. Defaults to {@literal 64 KiB}. See
+         * {@link #DEFAULT_MAX_BYTES}.
+         *
+         * @param maxBytes number of bytes, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxBytes(int maxBytes) {
+
+            LettuceAssert.isTrue(maxBytes > 0, "Max bytes must be greater 0");
+
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Set the maximal delay after which pending commands are flushed. Defaults to {@literal 50 MICROSECONDS}. See
+         * {@link #DEFAULT_MAX_DELAY} and {@link #DEFAULT_MAX_DELAY_UNIT}.
+         *
+         * @param maxDelay the delay, must be greater {@literal 0}.
+         * @param maxDelayUnit unit for {@code maxDelay}, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder maxDelay(long maxDelay, TimeUnit maxDelayUnit) {
+
+            LettuceAssert.isTrue(maxDelay > 0, "Max delay must be greater 0");
+            LettuceAssert.notNull(maxDelayUnit, "TimeUnit must not be null");
+
+            this.maxDelay = maxDelay;
+            this.maxDelayUnit = maxDelayUnit;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link FlushOptions}
+         *
+         * @return new instance of {@link FlushOptions}
+         */
+        public FlushOptions build() {
+            return new FlushOptions(this);
+        }
+    }
+
+    /**
+     * Returns whether writes are coalesced.
+     *
+     * @return {@literal true} if writes are coalesced, {@literal false} to flush each command.
+     */
+    public boolean isCoalesceWrites() {
+        return coalesceWrites;
+    }
+
+    /**
+     * Returns the number of pending commands that triggers a flush.
+     *
+     * @return the number of pending commands that triggers a flush.
+     */
+    public int getMaxCommands() {
+        return maxCommands;
+    }
+
+    /**
+     * Returns the number of pending bytes that triggers a flush.
+     *
+     * @return the number of pending bytes that triggers a flush.
+     */
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns the maximal delay after which pending commands are flushed.
+     *
+     * @return the maximal delay.
+     */
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Returns the maximal delay unit.
+     *
+     * @return the maximal delay unit.
+     */
+    public TimeUnit getMaxDelayUnit() {
+        return maxDelayUnit;
+    }
+}
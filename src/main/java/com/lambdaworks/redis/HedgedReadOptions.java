@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Options to control hedged (speculative) reads for Master/Slave and Redis Cluster connections. With hedged reads enabled,
+ * read-only commands are sent to a second read candidate selected by {@link ReadFrom} if the first candidate did not reply
+ * within a delay. The first reply completes the command, the reply of the other candidate is discarded.
+ * <p>
+ * The delay follows the {@link #getPercentile() percentile} of recently observed read response times and is bounded by
+ * {@link #getMinDelay() a minimal delay}. Reads are not hedged until enough response times were observed.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class HedgedReadOptions {
+
+    public static final boolean DEFAULT_ENABLED = false;
+    public static final double DEFAULT_PERCENTILE = 95.0;
+    public static final long DEFAULT_MIN_DELAY = 1;
+    public static final TimeUnit DEFAULT_MIN_DELAY_UNIT = TimeUnit.MILLISECONDS;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelay;
+    private final TimeUnit minDelayUnit;
+
+    protected HedgedReadOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.percentile = builder.percentile;
+        this.minDelay = builder.minDelay;
+        this.minDelayUnit = builder.minDelayUnit;
+    }
+
+    protected HedgedReadOptions(HedgedReadOptions original) {
+
+        this.enabled = original.isEnabled();
+        this.percentile = original.getPercentile();
+        this.minDelay = original.getMinDelay();
+        this.minDelayUnit = original.getMinDelayUnit();
+    }
+
+    /**
+     * Create a copy of {@literal options}
+     *
+     * @param options the original
+     * @return A new instance of {@link HedgedReadOptions} containing the values of {@literal options}
+     */
+    public static HedgedReadOptions copyOf(HedgedReadOptions options) {
+        return new HedgedReadOptions(options);
+    }
+
+    /**
+     * Returns a new {@link HedgedReadOptions.Builder} to construct {@link HedgedReadOptions}.
+     *
+     * @return a new {@link HedgedReadOptions.Builder} to construct {@link HedgedReadOptions}.
+     */
+    public static HedgedReadOptions.Builder builder() {
+        return new HedgedReadOptions.Builder();
+    }
+
+    /**
+     * Create a new {@link HedgedReadOptions} using default settings.
+     *
+     * @return a new instance of default hedged read options.
+     */
+    public static HedgedReadOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link HedgedReadOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private double percentile = DEFAULT_PERCENTILE;
+        private long minDelay = DEFAULT_MIN_DELAY;
+        private TimeUnit minDelayUnit = DEFAULT_MIN_DELAY_UNIT;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables or disables hedged reads. Defaults to {@literal false}. See {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@literal true} to hedge reads.
+         * @return {@code this}
+         */
+        public Builder enabled(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Set the percentile of observed read response times after which a read is hedged. Defaults to {@literal 95}. See
+         * {@link #DEFAULT_PERCENTILE}.
+         *
+         * @param percentile the percentile, must be greater {@literal 0} and less than {@literal 100}.
+         * @return {@code this}
+         */
+        public Builder percentile(double percentile) {
+
+            LettuceAssert.isTrue(percentile > 0 && percentile < 100, "Percentile must be greater 0 and less than 100");
+
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Set the minimal delay after which a read is hedged. Defaults to {@literal 1 MILLISECONDS}. See
+         * {@link #DEFAULT_MIN_DELAY} and {@link #DEFAULT_MIN_DELAY_UNIT}.
+         *
+         * @param minDelay the delay, must be greater or equal to {@literal 0}.
+         * @param minDelayUnit unit for {@code minDelay}, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder minDelay(long minDelay, TimeUnit minDelayUnit) {
+
+            LettuceAssert.isTrue(minDelay >= 0, "Min delay must be greater or equal to 0");
+            LettuceAssert.notNull(minDelayUnit, "TimeUnit must not be null");
+
+            this.minDelay = minDelay;
+            this.minDelayUnit = minDelayUnit;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link HedgedReadOptions}
+         *
+         * @return new instance of {@link HedgedReadOptions}
+         */
+        public HedgedReadOptions build() {
+            return new HedgedReadOptions(this);
+        }
+    }
+
+    /**
+     * Returns whether reads are hedged.
+     *
+     * @return {@literal true} if reads are hedged.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the percentile of observed read response times after which a read is hedged.
+     *
+     * @return the percentile.
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Returns the minimal delay after which a read is hedged.
+     *
+     * @return the minimal delay.
+     */
+    public long getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * Returns the minimal delay unit.
+     *
+     * @return the minimal delay unit.
+     */
+    public TimeUnit getMinDelayUnit() {
+        return minDelayUnit;
+    }
+}
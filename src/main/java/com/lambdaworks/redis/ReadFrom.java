@@ -54,6 +54,14 @@ public abstract class ReadFrom {
      */
     public static final ReadFrom NEAREST = new ReadFromImpl.ReadFromNearest();
 
+    /**
+     * Setting to read from the slave with the lowest observed latency and fall back to master if no slave is available. The
+     * latency is tracked as moving average of response times and number of outstanding commands per connection.
+     *
+     * @since 4.5
+     */
+    public static final ReadFrom LOWEST_LATENCY = new ReadFromImpl.ReadFromLowestLatency();
+
     /**
      * Chooses the nodes from the matching Redis nodes that match this read selector.
      *
@@ -62,6 +70,17 @@ public abstract class ReadFrom {
      */
     public abstract List<RedisNodeDescription> select(Nodes nodes);
 
+    /**
+     * Returns whether the connection to read from is chosen among the selected nodes by their observed response times and
+     * outstanding commands. Otherwise, the first available node of the selection is used.
+     *
+     * @return {@literal true} if the read connection is chosen by latency.
+     * @since 4.5
+     */
+    public boolean isLatencyAware() {
+        return false;
+    }
+
     /**
      * Retrieve the {@link ReadFrom} preset by name.
      *
@@ -90,6 +109,10 @@ public abstract class ReadFrom {
             return NEAREST;
         }
 
+        if (name.equalsIgnoreCase("lowestLatency")) {
+            return LOWEST_LATENCY;
+        }
+
         throw new IllegalArgumentException("ReadFrom " + name + " not supported");
     }
 
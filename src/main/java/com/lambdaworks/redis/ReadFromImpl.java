@@ -131,4 +131,37 @@ class ReadFromImpl {
             return nodes.getNodes();
         }
     }
+
+    /**
+     * Read from slaves with the lowest latency and fall back to master if no slave is available.
+     */
+    static final class ReadFromLowestLatency extends ReadFrom {
+
+        @Override
+        public List<RedisNodeDescription> select(Nodes nodes) {
+
+            List<RedisNodeDescription> result = new ArrayList<>(nodes.getNodes().size());
+
+            for (RedisNodeDescription node : nodes) {
+                if (node.getRole() == RedisInstance.Role.SLAVE) {
+                    result.add(node);
+                }
+            }
+
+            if (result.isEmpty()) {
+                for (RedisNodeDescription node : nodes) {
+                    if (node.getRole() == RedisInstance.Role.MASTER) {
+                        result.add(node);
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean isLatencyAware() {
+            return true;
+        }
+    }
 }
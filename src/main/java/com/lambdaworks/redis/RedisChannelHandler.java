@@ -133,6 +133,15 @@ public abstract class RedisChannelHandler<K, V> extends ChannelInboundHandlerAda
         return channelWriter.write(cmd);
     }
 
+    protected Collection<RedisCommand<K, V, ?>> dispatch(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        if (debugEnabled) {
+            logger.debug("dispatching commands {}", commands);
+        }
+
+        return channelWriter.write(commands);
+    }
+
     /**
      * Register Closeable resources. Internal access only.
      *
@@ -238,4 +247,12 @@ public abstract class RedisChannelHandler<K, V> extends ChannelInboundHandlerAda
     public void flushCommands() {
         getChannelWriter().flushCommands();
     }
+
+    public int getResponseBufferCapacity() {
+        return getChannelWriter().getResponseBufferCapacity();
+    }
+
+    public int getResponseBufferOccupancy() {
+        return getChannelWriter().getResponseBufferOccupancy();
+    }
 }
@@ -16,6 +16,9 @@
 package com.lambdaworks.redis;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -40,6 +43,26 @@ public interface RedisChannelWriter<K, V> extends Closeable {
      */
     <T, C extends RedisCommand<K, V, T>> C write(C command);
 
+    /**
+     * Write multiple commands on the channel. The commands may be changed/wrapped during write and the written instances are
+     * returned after the call. Implementations may write the commands as a single batch. The default implementation writes each
+     * command using {@link #write(RedisCommand)}.
+     *
+     * @param commands the redis commands
+     * @return the written redis commands
+     * @since 4.5
+     */
+    default Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        List<RedisCommand<K, V, ?>> written = new ArrayList<>(commands.size());
+
+        for (RedisCommand<K, V, ?> command : commands) {
+            written.add(write(command));
+        }
+
+        return written;
+    }
+
     @Override
     void close();
 
@@ -70,4 +93,26 @@ public interface RedisChannelWriter<K, V> extends Closeable {
      * achieve batching. No-op if channel is not connected.
      */
     void flushCommands();
+
+    /**
+     * Returns the capacity of the buffers holding partially received responses. Writers that do not decode responses return
+     * {@literal 0}.
+     *
+     * @return the capacity of the response buffers in bytes, {@literal 0} if no partial response is pending.
+     * @since 4.5
+     */
+    default int getResponseBufferCapacity() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of received but not yet decoded bytes of partially received responses. Writers that do not decode
+     * responses return {@literal 0}.
+     *
+     * @return the number of buffered response bytes, {@literal 0} if no partial response is pending.
+     * @since 4.5
+     */
+    default int getResponseBufferOccupancy() {
+        return 0;
+    }
 }
@@ -466,9 +466,20 @@ public class RedisClient extends AbstractRedisClient {
         return getConnection(future);
     }
 
-    @SuppressWarnings("unused")
-    // Required by ReflectiveNodeConnectionFactory.
-    <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectStandaloneAsync(RedisCodec<K, V> codec, RedisURI redisURI) {
+    /**
+     * Open asynchronously a new connection to a Redis server using the supplied {@link RedisURI} and the supplied
+     * {@link RedisCodec codec} to encode/decode keys and values. The connection is established without blocking the calling
+     * thread.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return {@link ConnectionFuture} to indicate success or failure to connect.
+     * @since 4.5
+     */
+    public <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectStandaloneAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI) {
         return connectStandaloneAsync(codec, redisURI, Timeout.from(redisURI));
     }
 
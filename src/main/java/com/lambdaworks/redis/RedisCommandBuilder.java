@@ -793,6 +793,13 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(GET, new ValueOutput<>(codec), key);
     }
 
+    Command<K, V, Long> get(BulkChunkConsumer consumer, K key) {
+        notNullKey(key);
+        LettuceAssert.notNull(consumer, "BulkChunkConsumer " + MUST_NOT_BE_NULL);
+
+        return createCommand(GET, new BulkChunkStreamingOutput<>(codec, consumer), key);
+    }
+
     Command<K, V, Long> getbit(K key, long offset) {
         notNullKey(key);
 
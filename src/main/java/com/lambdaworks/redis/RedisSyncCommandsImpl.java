@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.codec.RedisCodec;
+
+/**
+ * A synchronous and thread-safe API for a Redis connection. Commands are dispatched directly and awaited without the use of a
+ * proxy.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class RedisSyncCommandsImpl<K, V> extends AbstractRedisSyncCommands<K, V> implements RedisCommands<K, V> {
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on
+     * @param codec the codec for command encoding
+     * @param async the asynchronous API of {@code connection}
+     */
+    public RedisSyncCommandsImpl(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec,
+            RedisAsyncCommandsImpl<K, V> async) {
+        super(connection, codec, async);
+    }
+
+    @Override
+    public String select(int db) {
+        return async.select(db);
+    }
+
+    @Override
+    public String swapdb(int db1, int db2) {
+        return dispatch(commandBuilder.swapdb(db1, db2));
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getStatefulConnection() {
+        return (StatefulRedisConnection<K, V>) connection;
+    }
+}
@@ -24,7 +24,6 @@ import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.api.async.RedisAsyncCommands;
 import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
 import com.lambdaworks.redis.api.sync.RedisCommands;
-import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.output.MultiOutput;
@@ -85,7 +84,7 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
      * @return a new instance
      */
     protected RedisCommands<K, V> newRedisSyncCommandsImpl() {
-        return syncHandler(async(), RedisCommands.class, RedisClusterCommands.class);
+        return new RedisSyncCommandsImpl<>(this, codec, async);
     }
 
     /**
@@ -116,6 +115,14 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         return sync;
     }
 
+    /**
+     * @return the codec used to encode/decode keys and values.
+     * @since 4.5
+     */
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
     @Override
     public boolean isMulti() {
         return multi != null;
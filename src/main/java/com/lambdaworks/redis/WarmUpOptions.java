@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Options to control eager connection warm-up for Master/Slave and Redis Cluster connections. Node connections are created
+ * lazily on first use by default. With warm-up enabled, connections to all masters and read candidates are opened in parallel
+ * as soon as the topology is known. Connecting awaits the warm-up for at most {@link #getTimeout() the timeout}, topology
+ * changes warm up new nodes in the background.
+ * <p>
+ * Each completed warm-up is published as {@link com.lambdaworks.redis.event.connection.ConnectionWarmUpEvent}.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class WarmUpOptions {
+
+    public static final boolean DEFAULT_ENABLED = false;
+    public static final long DEFAULT_TIMEOUT = 10;
+    public static final TimeUnit DEFAULT_TIMEOUT_UNIT = TimeUnit.SECONDS;
+
+    private final boolean enabled;
+    private final long timeout;
+    private final TimeUnit timeoutUnit;
+
+    protected WarmUpOptions(Builder builder) {
+
+        this.enabled = builder.enabled;
+        this.timeout = builder.timeout;
+        this.timeoutUnit = builder.timeoutUnit;
+    }
+
+    protected WarmUpOptions(WarmUpOptions original) {
+
+        this.enabled = original.isEnabled();
+        this.timeout = original.getTimeout();
+        this.timeoutUnit = original.getTimeoutUnit();
+    }
+
+    /**
+     * Create a copy of {@literal options}
+     *
+     * @param options the original
+     * @return A new instance of {@link WarmUpOptions} containing the values of {@literal options}
+     */
+    public static WarmUpOptions copyOf(WarmUpOptions options) {
+        return new WarmUpOptions(options);
+    }
+
+    /**
+     * Returns a new {@link WarmUpOptions.Builder} to construct {@link WarmUpOptions}.
+     *
+     * @return a new {@link WarmUpOptions.Builder} to construct {@link WarmUpOptions}.
+     */
+    public static WarmUpOptions.Builder builder() {
+        return new WarmUpOptions.Builder();
+    }
+
+    /**
+     * Create a new {@link WarmUpOptions} using default settings.
+     *
+     * @return a new instance of default warm-up options.
+     */
+    public static WarmUpOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link WarmUpOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private long timeout = DEFAULT_TIMEOUT;
+        private TimeUnit timeoutUnit = DEFAULT_TIMEOUT_UNIT;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables or disables eager connection warm-up. Defaults to {@literal false}. See {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@literal true} to warm up connections.
+         * @return {@code this}
+         */
+        public Builder enabled(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Set the maximal duration to await the warm-up when connecting. Connecting proceeds after the timeout while the
+         * warm-up continues in the background. Defaults to {@literal 10 SECONDS}. See {@link #DEFAULT_TIMEOUT} and
+         * {@link #DEFAULT_TIMEOUT_UNIT}.
+         *
+         * @param timeout the timeout, must be greater or equal to {@literal 0}.
+         * @param timeoutUnit unit for {@code timeout}, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder timeout(long timeout, TimeUnit timeoutUnit) {
+
+            LettuceAssert.isTrue(timeout >= 0, "Timeout must be greater or equal to 0");
+            LettuceAssert.notNull(timeoutUnit, "TimeUnit must not be null");
+
+            this.timeout = timeout;
+            this.timeoutUnit = timeoutUnit;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link WarmUpOptions}
+         *
+         * @return new instance of {@link WarmUpOptions}
+         */
+        public WarmUpOptions build() {
+            return new WarmUpOptions(this);
+        }
+    }
+
+    /**
+     * Returns whether connections are warmed up eagerly.
+     *
+     * @return {@literal true} if connections are warmed up eagerly.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the maximal duration to await the warm-up when connecting.
+     *
+     * @return the timeout.
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns the timeout unit.
+     *
+     * @return the timeout unit.
+     */
+    public TimeUnit getTimeoutUnit() {
+        return timeoutUnit;
+    }
+}
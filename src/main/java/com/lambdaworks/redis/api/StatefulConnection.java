@@ -96,4 +96,27 @@ public interface StatefulConnection<K, V> extends AutoCloseable {
      * achieve batching. No-op if channel is not connected.
      */
     void flushCommands();
+
+    /**
+     * Returns the capacity of the buffers holding partially received responses. Response buffers are allocated only while a
+     * response is incomplete. Connections that use multiple transport connections, such as Redis Cluster connections, report
+     * the sum across their transport connections.
+     *
+     * @return the capacity of the response buffers in bytes, {@literal 0} if no partial response is pending.
+     * @since 4.5
+     */
+    default int getResponseBufferCapacity() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of received but not yet decoded bytes of partially received responses. Connections that use multiple
+     * transport connections, such as Redis Cluster connections, report the sum across their transport connections.
+     *
+     * @return the number of buffered response bytes, {@literal 0} if no partial response is pending.
+     * @since 4.5
+     */
+    default int getResponseBufferOccupancy() {
+        return 0;
+    }
 }
@@ -21,6 +21,7 @@ import com.lambdaworks.redis.BitFieldArgs;
 import com.lambdaworks.redis.SetArgs;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
 import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.output.BulkChunkConsumer;
 
 /**
  * Asynchronous executed commands for Strings.
@@ -203,6 +204,16 @@ public interface RedisStringAsyncCommands<K, V> {
      */
     RedisFuture<V> get(K key);
 
+    /**
+     * Stream over the value of a key in chunks. The value is passed to the {@code consumer} as the bytes arrive from the server
+     * without accumulating the whole value in memory.
+     *
+     * @param consumer the chunk consumer
+     * @param key the key
+     * @return Long bulk-string-reply the number of bytes streamed, or {@literal null} when {@code key} does not exist.
+     */
+    RedisFuture<Long> get(BulkChunkConsumer consumer, K key);
+
     /**
      * Returns the bit value at offset in the string value stored at key.
      *
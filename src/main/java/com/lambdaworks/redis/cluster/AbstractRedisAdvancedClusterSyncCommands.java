@@ -0,0 +1,218 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.lambdaworks.redis.AbstractRedisSyncCommands;
+import com.lambdaworks.redis.GeoArgs;
+import com.lambdaworks.redis.GeoWithin;
+import com.lambdaworks.redis.KeyScanCursor;
+import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.ScanCursor;
+import com.lambdaworks.redis.StreamScanCursor;
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+import com.lambdaworks.redis.output.ValueStreamingChannel;
+
+/**
+ * Synchronous executed commands for Redis Cluster. Commands that are routed to multiple cluster nodes are delegated
+ * to {@link RedisAdvancedClusterAsyncCommandsImpl}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ * @generated by com.lambdaworks.apigenerator.CreateSyncApiImplementation
+ */
+public abstract class AbstractRedisAdvancedClusterSyncCommands<K, V> extends AbstractRedisSyncCommands<K, V> {
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the connection to operate on.
+     * @param codec the codec for command encoding.
+     * @param async the asynchronous API to delegate commands to that are routed to multiple cluster nodes.
+     */
+    public AbstractRedisAdvancedClusterSyncCommands(StatefulConnection<K, V> connection, RedisCodec<K, V> codec,
+            RedisAdvancedClusterAsyncCommandsImpl<K, V> async) {
+        super(connection, codec, async);
+    }
+
+    @Override
+    public Long del(K... keys) {
+        return await(async.del(keys));
+    }
+
+    @Override
+    public Long unlink(K... keys) {
+        return await(async.unlink(keys));
+    }
+
+    @Override
+    public Long exists(K... keys) {
+        return await(async.exists(keys));
+    }
+
+    @Override
+    public List<K> keys(K pattern) {
+        return await(async.keys(pattern));
+    }
+
+    @Override
+    public Long keys(KeyStreamingChannel<K> channel, K pattern) {
+        return await(async.keys(channel, pattern));
+    }
+
+    @Override
+    public V randomkey() {
+        return await(async.randomkey());
+    }
+
+    @Override
+    public Long touch(K... keys) {
+        return await(async.touch(keys));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan() {
+        return await(async.scan());
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanArgs scanArgs) {
+        return await(async.scan(scanArgs));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.scan(scanCursor, scanArgs));
+    }
+
+    @Override
+    public KeyScanCursor<K> scan(ScanCursor scanCursor) {
+        return await(async.scan(scanCursor));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel) {
+        return await(async.scan(channel));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanArgs scanArgs) {
+        return await(async.scan(channel, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor, ScanArgs scanArgs) {
+        return await(async.scan(channel, scanCursor, scanArgs));
+    }
+
+    @Override
+    public StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor) {
+        return await(async.scan(channel, scanCursor));
+    }
+
+    @Override
+    public String scriptFlush() {
+        return await(async.scriptFlush());
+    }
+
+    @Override
+    public String scriptKill() {
+        return await(async.scriptKill());
+    }
+
+    @Override
+    public String scriptLoad(V script) {
+        return await(async.scriptLoad(script));
+    }
+
+    @Override
+    public String clientSetname(K name) {
+        return await(async.clientSetname(name));
+    }
+
+    @Override
+    public Long dbsize() {
+        return await(async.dbsize());
+    }
+
+    @Override
+    public String flushall() {
+        return await(async.flushall());
+    }
+
+    @Override
+    public String flushdb() {
+        return await(async.flushdb());
+    }
+
+    @Override
+    public List<V> mget(K... keys) {
+        return await(async.mget(keys));
+    }
+
+    @Override
+    public Long mget(ValueStreamingChannel<V> channel, K... keys) {
+        return await(async.mget(channel, keys));
+    }
+
+    @Override
+    public String mset(Map<K, V> map) {
+        return await(async.mset(map));
+    }
+
+    @Override
+    public Boolean msetnx(Map<K, V> map) {
+        return await(async.msetnx(map));
+    }
+
+    @Override
+    public Set<V> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
+        return await(async.georadius(key, longitude, latitude, distance, unit));
+    }
+
+    @Override
+    public List<GeoWithin<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
+            GeoArgs geoArgs) {
+        return await(async.georadius(key, longitude, latitude, distance, unit, geoArgs));
+    }
+
+    @Override
+    public Set<V> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
+        return await(async.georadiusbymember(key, member, distance, unit));
+    }
+
+    @Override
+    public List<GeoWithin<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit, GeoArgs geoArgs) {
+        return await(async.georadiusbymember(key, member, distance, unit, geoArgs));
+    }
+
+    @Override
+    public List<K> clusterGetKeysInSlot(int slot, int count) {
+        return await(async.clusterGetKeysInSlot(slot, count));
+    }
+
+    @Override
+    public Long clusterCountKeysInSlot(int slot) {
+        return await(async.clusterCountKeysInSlot(slot));
+    }
+}
@@ -18,8 +18,12 @@ package com.lambdaworks.redis.cluster;
 import java.util.concurrent.TimeUnit;
 
 import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.FlushOptions;
+import com.lambdaworks.redis.HedgedReadOptions;
 import com.lambdaworks.redis.SocketOptions;
 import com.lambdaworks.redis.SslOptions;
+import com.lambdaworks.redis.WarmUpOptions;
+import com.lambdaworks.redis.internal.LettuceAssert;
 
 /**
  * Client Options to control the behavior of {@link RedisClusterClient}.
@@ -35,9 +39,11 @@ public class ClusterClientOptions extends ClientOptions {
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
     public static final boolean DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP = true;
     public static final int DEFAULT_MAX_REDIRECTS = 5;
+    public static final int DEFAULT_CONNECTIONS_PER_NODE = 1;
 
     private final boolean validateClusterNodeMembership;
     private final int maxRedirects;
+    private final int connectionsPerNode;
     private final ClusterTopologyRefreshOptions topologyRefreshOptions;
 
     protected ClusterClientOptions(Builder builder) {
@@ -46,6 +52,7 @@ public class ClusterClientOptions extends ClientOptions {
 
         this.validateClusterNodeMembership = builder.validateClusterNodeMembership;
         this.maxRedirects = builder.maxRedirects;
+        this.connectionsPerNode = builder.connectionsPerNode;
 
         ClusterTopologyRefreshOptions refreshOptions = builder.topologyRefreshOptions;
 
@@ -66,6 +73,7 @@ public class ClusterClientOptions extends ClientOptions {
 
         this.validateClusterNodeMembership = original.validateClusterNodeMembership;
         this.maxRedirects = original.maxRedirects;
+        this.connectionsPerNode = original.connectionsPerNode;
         this.topologyRefreshOptions = original.topologyRefreshOptions;
     }
 
@@ -108,6 +116,7 @@ public class ClusterClientOptions extends ClientOptions {
         private boolean closeStaleConnections = DEFAULT_CLOSE_STALE_CONNECTIONS;
         private boolean validateClusterNodeMembership = DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP;
         private int maxRedirects = DEFAULT_MAX_REDIRECTS;
+        private int connectionsPerNode = DEFAULT_CONNECTIONS_PER_NODE;
         private ClusterTopologyRefreshOptions topologyRefreshOptions = null;
 
         /**
@@ -191,6 +200,24 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        /**
+         * Number of connections to open per cluster node and intent for key-based commands. Slots are distributed across the
+         * connections of a node ({@code slot % connectionsPerNode}) so commands for the same slot always use the same
+         * connection and keep their order. Each connection is registered with its own event loop. Defaults to {@literal 1}.
+         * See {@link ClusterClientOptions#DEFAULT_CONNECTIONS_PER_NODE}.
+         *
+         * @param connectionsPerNode number of connections per node, must be greater {@literal 0}.
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder connectionsPerNode(int connectionsPerNode) {
+
+            LettuceAssert.isTrue(connectionsPerNode > 0, "Connections per node must be greater 0");
+
+            this.connectionsPerNode = connectionsPerNode;
+            return this;
+        }
+
         /**
          * Sets the {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
          *
@@ -232,6 +259,12 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder submissionQueueSize(int submissionQueueSize) {
+            super.submissionQueueSize(submissionQueueSize);
+            return this;
+        }
+
         @Override
         public Builder disconnectedBehavior(DisconnectedBehavior disconnectedBehavior) {
             super.disconnectedBehavior(disconnectedBehavior);
@@ -250,6 +283,24 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder flushOptions(FlushOptions flushOptions) {
+            super.flushOptions(flushOptions);
+            return this;
+        }
+
+        @Override
+        public Builder hedgedReadOptions(HedgedReadOptions hedgedReadOptions) {
+            super.hedgedReadOptions(hedgedReadOptions);
+            return this;
+        }
+
+        @Override
+        public Builder warmUpOptions(WarmUpOptions warmUpOptions) {
+            super.warmUpOptions(warmUpOptions);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -321,6 +372,17 @@ public class ClusterClientOptions extends ClientOptions {
         return maxRedirects;
     }
 
+    /**
+     * Number of connections per cluster node and intent for key-based commands. Defaults to {@literal 1}. See
+     * {@link ClusterClientOptions#DEFAULT_CONNECTIONS_PER_NODE}.
+     *
+     * @return the number of connections per node.
+     * @since 4.5
+     */
+    public int getConnectionsPerNode() {
+        return connectionsPerNode;
+    }
+
     /**
      * The {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
      *
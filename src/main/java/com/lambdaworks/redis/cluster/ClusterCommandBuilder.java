@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import static com.lambdaworks.redis.protocol.CommandType.*;
+
+import java.util.List;
+import java.util.Map;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.output.*;
+import com.lambdaworks.redis.protocol.BaseRedisCommandBuilder;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
+
+/**
+ * Command builder for the per-slot commands of cross-slot multi-key operations. Each command addresses keys of a single slot.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+class ClusterCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
+
+    private static final String MUST_NOT_BE_EMPTY = "must not be empty";
+
+    public ClusterCommandBuilder(RedisCodec<K, V> codec) {
+        super(codec);
+    }
+
+    public Command<K, V, Long> del(List<K> keys) {
+        return createCommand(DEL, new IntegerOutput<>(codec), keys(keys));
+    }
+
+    public Command<K, V, Long> exists(List<K> keys) {
+        return createCommand(EXISTS, new IntegerOutput<>(codec), keys(keys));
+    }
+
+    public Command<K, V, List<V>> mget(List<K> keys) {
+        return createCommand(MGET, new ValueListOutput<>(codec), keys(keys));
+    }
+
+    public Command<K, V, Long> mget(ValueStreamingChannel<V> channel, List<K> keys) {
+        LettuceAssert.notNull(channel, "ValueStreamingChannel must not be null");
+
+        return createCommand(MGET, new ValueStreamingOutput<>(codec, channel), keys(keys));
+    }
+
+    public Command<K, V, String> mset(Map<K, V> map) {
+        return createCommand(MSET, new StatusOutput<>(codec), keyValues(map));
+    }
+
+    public Command<K, V, Boolean> msetnx(Map<K, V> map) {
+        return createCommand(MSETNX, new BooleanOutput<>(codec), keyValues(map));
+    }
+
+    public Command<K, V, Long> touch(List<K> keys) {
+        return createCommand(TOUCH, new IntegerOutput<>(codec), keys(keys));
+    }
+
+    public Command<K, V, Long> unlink(List<K> keys) {
+        return createCommand(UNLINK, new IntegerOutput<>(codec), keys(keys));
+    }
+
+    private CommandArgs<K, V> keys(List<K> keys) {
+        LettuceAssert.isTrue(!keys.isEmpty(), "Keys " + MUST_NOT_BE_EMPTY);
+
+        return new CommandArgs<>(codec).addKeys(keys);
+    }
+
+    private CommandArgs<K, V> keyValues(Map<K, V> map) {
+        LettuceAssert.isTrue(!map.isEmpty(), "Map " + MUST_NOT_BE_EMPTY);
+
+        return new CommandArgs<>(codec).add(map);
+    }
+}
@@ -21,6 +21,7 @@ import com.lambdaworks.redis.ReadFrom;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.protocol.RedisCommand;
 
 /**
  * Connection provider for cluster operations.
@@ -91,6 +92,50 @@ interface ClusterConnectionProvider extends Closeable {
      */
     void setPartitions(Partitions partitions);
 
+    /**
+     * Discard cached connections affected by an in-place update of the {@link Partitions}. Slot connection caches are reset
+     * only for slots that changed their owner, read candidates only if replicas changed. Connections to nodes that changed
+     * their address are closed.
+     *
+     * @param update the applied {@link PartitionsUpdate}.
+     * @since 4.5
+     */
+    void updatePartitions(PartitionsUpdate update);
+
+    /**
+     * Reassign {@code slot} to the master node at {@code host} and {@code port} after a {@literal MOVED} redirection. The slot
+     * is updated in the {@link Partitions} and the connection cache so subsequent commands for the slot are routed to the new
+     * owner without waiting for a topology refresh. Redirections to nodes that are not known masters are ignored.
+     *
+     * @param slot the slot-hash of the redirected key, see {@link SlotHash}.
+     * @param host host of the node.
+     * @param port port of the node.
+     * @since 4.5
+     */
+    void updateSlotOwner(int slot, String host, int port);
+
+    /**
+     * Prepare a read {@code command} before it is written to {@code connection}. Commands are tracked to record response
+     * times and outstanding commands if the {@link ReadFrom} setting is {@link ReadFrom#isLatencyAware() latency-aware}.
+     *
+     * @param connection the connection obtained for {@link Intent#READ}.
+     * @param command the command to write.
+     * @return the command to write to {@code connection}.
+     * @since 4.5
+     */
+    <K, V, T> RedisCommand<K, V, T> trackRead(StatefulRedisConnection<K, V> connection, RedisCommand<K, V, T> command);
+
+    /**
+     * Retrieve an open read connection for {@code slot} other than {@code primary}. Only connections that are already
+     * established for the read candidates of {@code slot} are considered.
+     *
+     * @param slot the slot-hash of the key, see {@link SlotHash}.
+     * @param primary the connection that was obtained for {@link Intent#READ}.
+     * @return an alternate read connection or {@literal null} if no other read candidate is connected.
+     * @since 4.5
+     */
+    <K, V> StatefulRedisConnection<K, V> getAlternateReadConnection(int slot, StatefulRedisConnection<K, V> primary);
+
     /**
      * Disable or enable auto-flush behavior. Default is {@literal true}. If autoFlushCommands is disabled, multiple commands
      * can be issued without writing them actually to the transport. Commands are buffered until a {@link #flushCommands()} is
@@ -106,6 +151,18 @@ interface ClusterConnectionProvider extends Closeable {
      */
     void flushCommands();
 
+    /**
+     * @return the summed capacity of the response buffers of all connections in bytes.
+     * @since 4.5
+     */
+    int getResponseBufferCapacity();
+
+    /**
+     * @return the summed number of buffered response bytes of all connections.
+     * @since 4.5
+     */
+    int getResponseBufferOccupancy();
+
     /**
      * Set from which nodes data is read. The setting is used as default for read operations on this connection. See the
      * documentation for {@link ReadFrom} for more information.
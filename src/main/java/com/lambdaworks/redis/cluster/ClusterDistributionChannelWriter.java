@@ -18,7 +18,7 @@ package com.lambdaworks.redis.cluster;
 import static com.lambdaworks.redis.cluster.SlotHash.getSlot;
 import static com.lambdaworks.redis.protocol.CommandType.CLIENT;
 
-import java.nio.ByteBuffer;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 
 import com.lambdaworks.redis.*;
@@ -27,7 +27,9 @@ import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.internal.HostAndPort;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandArgsAccessor;
 import com.lambdaworks.redis.protocol.CommandKeyword;
+import com.lambdaworks.redis.protocol.HedgedReadDispatcher;
 import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -47,6 +49,7 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
 
     private ClusterConnectionProvider clusterConnectionProvider;
     private AsyncClusterConnectionProvider asyncClusterConnectionProvider;
+    private HedgedReadDispatcher hedgedReadDispatcher;
     private boolean closed = false;
     private volatile Partitions partitions;
 
@@ -82,6 +85,8 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
                 boolean asking;
                 if (clusterCommand.isMoved()) {
                     target = getMoveTarget(clusterCommand.getError());
+                    clusterConnectionProvider.updateSlotOwner(getMovedSlot(clusterCommand.getError()), target.getHostText(),
+                            target.getPort());
                     clusterEventListener.onMovedRedirection();
                     asking = false;
                 } else {
@@ -111,20 +116,20 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         // exclude CLIENT commands from cluster routing
         if (args != null && !CLIENT.equals(commandToSend.getType())) {
 
-            ByteBuffer encodedKey = args.getFirstEncodedKey();
-            if (encodedKey != null) {
+            K key = args.getFirstKey();
+            if (key != null) {
 
-                int hash = getSlot(encodedKey);
+                int hash = getSlot(CommandArgsAccessor.getCodec(args), key);
                 ClusterConnectionProvider.Intent intent = getIntent(command.getType());
 
                 CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = ((AsyncClusterConnectionProvider) clusterConnectionProvider)
                         .getConnectionAsync(intent, hash);
 
                 if (isSuccessfullyCompleted(connectFuture)) {
-                    writeCommand(commandToSend, false, connectFuture.join(), null);
+                    writeCommand(intent, hash, commandToSend, connectFuture.join(), null);
                 } else {
-                    connectFuture.whenComplete((connection, throwable) -> writeCommand(commandToSend, false, connection,
-                            throwable));
+                    connectFuture.whenComplete((connection, throwable) -> writeCommand(intent, hash, commandToSend,
+                            connection, throwable));
                 }
 
                 return (C) commandToSend;
@@ -136,6 +141,119 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         return (C) commandToSend;
     }
 
+    /**
+     * Write multiple commands. Commands that are routed to the same connection are written as a single batch so that commands
+     * targeting the same node share one flush. Redirected commands, commands without a key and commands whose connection is
+     * not yet available are written individually.
+     *
+     * @param commands the redis commands
+     * @return the written redis commands
+     * @since 4.5
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (closed) {
+            throw new RedisException("Connection is closed");
+        }
+
+        List<RedisCommand<K, V, ?>> written = new ArrayList<>(commands.size());
+        Map<StatefulRedisConnection<K, V>, List<RedisCommand<K, V, ?>>> batches = new LinkedHashMap<>();
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            if (command instanceof ClusterCommand) {
+                written.add(write(command));
+                continue;
+            }
+
+            CommandArgs<K, V> args = command.getArgs();
+            K key = args != null && !CLIENT.equals(command.getType()) ? args.getFirstKey() : null;
+
+            if (key == null) {
+                written.add(write(command));
+                continue;
+            }
+
+            ClusterConnectionProvider.Intent intent = getIntent(command.getType());
+
+            if (isHedgedRead(intent) && HedgedReadDispatcher.isHedgeable(command)) {
+                written.add(write(command));
+                continue;
+            }
+
+            CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = asyncClusterConnectionProvider
+                    .getConnectionAsync(intent, getSlot(CommandArgsAccessor.getCodec(args), key));
+
+            if (!isSuccessfullyCompleted(connectFuture)) {
+                written.add(write(command));
+                continue;
+            }
+
+            StatefulRedisConnection<K, V> connection = connectFuture.join();
+            ClusterCommand<K, V, ?> commandToSend = getCommandToSend(command);
+            batches.computeIfAbsent(connection, c -> new ArrayList<>()).add(trackRead(intent, connection, commandToSend));
+            written.add(commandToSend);
+        }
+
+        for (Map.Entry<StatefulRedisConnection<K, V>, List<RedisCommand<K, V, ?>>> entry : batches.entrySet()) {
+            writeCommands(entry.getValue(), ((RedisChannelHandler<K, V>) entry.getKey()).getChannelWriter());
+        }
+
+        return written;
+    }
+
+    private static <K, V> void writeCommands(List<RedisCommand<K, V, ?>> commands, RedisChannelWriter<K, V> writer) {
+
+        try {
+            getWriterToUse(writer).write(commands);
+        } catch (Exception e) {
+            for (RedisCommand<K, V, ?> command : commands) {
+                command.completeExceptionally(e);
+            }
+        }
+    }
+
+    private <T> void writeCommand(ClusterConnectionProvider.Intent intent, int slot, RedisCommand<K, V, T> command,
+            StatefulRedisConnection<K, V> connection, Throwable throwable) {
+
+        if (throwable != null || !isHedgedRead(intent)) {
+            writeCommand(trackRead(intent, connection, command), false, connection, throwable);
+            return;
+        }
+
+        hedgedReadDispatcher.dispatch(command, attempt -> writeCommand(trackRead(intent, connection, attempt), false,
+                connection, null), () -> {
+
+            StatefulRedisConnection<K, V> alternate = clusterConnectionProvider.getAlternateReadConnection(slot, connection);
+            return alternate != null ? attempt -> writeCommand(trackRead(intent, alternate, attempt), false, alternate, null)
+                    : null;
+        });
+    }
+
+    private boolean isHedgedRead(ClusterConnectionProvider.Intent intent) {
+
+        if (hedgedReadDispatcher == null || intent != ClusterConnectionProvider.Intent.READ) {
+            return false;
+        }
+
+        ReadFrom readFrom = clusterConnectionProvider.getReadFrom();
+        return readFrom != null && readFrom != ReadFrom.MASTER;
+    }
+
+    private <T> RedisCommand<K, V, T> trackRead(ClusterConnectionProvider.Intent intent,
+            StatefulRedisConnection<K, V> connection, RedisCommand<K, V, T> command) {
+
+        if (intent != ClusterConnectionProvider.Intent.READ || connection == null) {
+            return command;
+        }
+
+        return clusterConnectionProvider.trackRead(connection, command);
+    }
+
     private static boolean isSuccessfullyCompleted(CompletableFuture<?> connectFuture) {
         return connectFuture.isDone() && !connectFuture.isCompletedExceptionally();
     }
@@ -209,6 +327,18 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         return HostAndPort.parseCompat(movedMessageParts[2]);
     }
 
+    static int getMovedSlot(String errorMessage) {
+
+        LettuceAssert.notEmpty(errorMessage, "ErrorMessage must not be empty");
+        LettuceAssert.isTrue(errorMessage.startsWith(CommandKeyword.MOVED.name()), "ErrorMessage must start with "
+                + CommandKeyword.MOVED);
+
+        String[] movedMessageParts = errorMessage.split(" ");
+        LettuceAssert.isTrue(movedMessageParts.length >= 3, "ErrorMessage must consist of 3 tokens (" + errorMessage + ")");
+
+        return Integer.parseInt(movedMessageParts[1]);
+    }
+
     static HostAndPort getAskTarget(String errorMessage) {
 
         LettuceAssert.notEmpty(errorMessage, "ErrorMessage must not be empty");
@@ -255,6 +385,16 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         getClusterConnectionProvider().flushCommands();
     }
 
+    @Override
+    public int getResponseBufferCapacity() {
+        return defaultWriter.getResponseBufferCapacity() + getClusterConnectionProvider().getResponseBufferCapacity();
+    }
+
+    @Override
+    public int getResponseBufferOccupancy() {
+        return defaultWriter.getResponseBufferOccupancy() + getClusterConnectionProvider().getResponseBufferOccupancy();
+    }
+
     public ClusterConnectionProvider getClusterConnectionProvider() {
         return clusterConnectionProvider;
     }
@@ -270,6 +410,17 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         this.asyncClusterConnectionProvider = (AsyncClusterConnectionProvider) clusterConnectionProvider;
     }
 
+    /**
+     * Set the {@link HedgedReadDispatcher} to hedge reads across the read candidates of a slot. Reads are not hedged if the
+     * dispatcher is {@literal null} or reads use {@link ReadFrom#MASTER}.
+     *
+     * @param hedgedReadDispatcher the dispatcher, may be {@literal null}.
+     * @since 4.5
+     */
+    public void setHedgedReadDispatcher(HedgedReadDispatcher hedgedReadDispatcher) {
+        this.hedgedReadDispatcher = hedgedReadDispatcher;
+    }
+
     public void setPartitions(Partitions partitions) {
 
         this.partitions = partitions;
@@ -279,6 +430,13 @@ class ClusterDistributionChannelWriter<K, V> implements RedisChannelWriter<K, V>
         }
     }
 
+    void updatePartitions(PartitionsUpdate update) {
+
+        if (clusterConnectionProvider != null) {
+            clusterConnectionProvider.updatePartitions(update);
+        }
+    }
+
     public Partitions getPartitions() {
         return partitions;
     }
@@ -18,19 +18,30 @@ package com.lambdaworks.redis.cluster;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import rx.Observable;
 import rx.functions.Func1;
 
 import com.lambdaworks.redis.*;
+import com.lambdaworks.redis.api.async.RedisKeyAsyncCommands;
+import com.lambdaworks.redis.api.rx.RedisKeyReactiveCommands;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
 
 /**
- * Methods to support a Cluster-wide SCAN operation over multiple hosts.
- * 
+ * Methods to support a Cluster-wide SCAN operation over multiple hosts. A SCAN continued with a cluster cursor visits one node
+ * after another, a parallel SCAN visits multiple nodes concurrently.
+ *
  * @author Mark Paluch
  */
 class ClusterScanSupport {
@@ -144,6 +155,76 @@ class ClusterScanSupport {
         return getNodeIdForNextScanIteration(nodeIds, (ClusterScanCursor) cursor);
     }
 
+    /**
+     * Scan the keys of all {@code nodeIds} concurrently and stream them to {@code channel}. At most {@code parallelism} nodes
+     * are scanned at the same time. Per node, the next page is requested before the keys of the current page are emitted so
+     * that fetching and consuming pages overlap. {@code channel} is not invoked concurrently.
+     *
+     * @param nodeIds the nodes to scan.
+     * @param connectionFunction function to obtain the commands for a node Id.
+     * @param channel the channel to receive the keys.
+     * @param scanArgs scan arguments, may be {@literal null}.
+     * @param parallelism number of nodes to scan concurrently.
+     * @return a future completing with the number of emitted keys.
+     */
+    static <K, V> RedisFuture<Long> parallelScan(List<String> nodeIds,
+            Function<String, CompletionStage<? extends RedisKeyAsyncCommands<K, V>>> connectionFunction,
+            KeyStreamingChannel<K> channel, ScanArgs scanArgs, int parallelism) {
+
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater 0");
+
+        ParallelScan<K, V> scan = new ParallelScan<>(nodeIds, connectionFunction, channel, scanArgs);
+        scan.start(parallelism);
+
+        return new PipelinedRedisFuture<>(scan.result);
+    }
+
+    /**
+     * Scan the keys of all {@code nodeIds} concurrently. At most {@code parallelism} nodes are scanned at the same time and the
+     * resulting {@link Observable} honors backpressure. Per node, the next page is requested before the keys of the current page
+     * are emitted so that fetching and consuming pages overlap.
+     *
+     * @param nodeIds the nodes to scan.
+     * @param connectionFunction function to obtain the commands for a node Id.
+     * @param scanArgs scan arguments, may be {@literal null}.
+     * @param parallelism number of nodes to scan concurrently.
+     * @return the keys of all nodes.
+     */
+    static <K, V> Observable<K> reactiveParallelScan(List<String> nodeIds,
+            Func1<String, Observable<? extends RedisKeyReactiveCommands<K, V>>> connectionFunction, ScanArgs scanArgs,
+            int parallelism) {
+
+        LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater 0");
+
+        return Observable.from(nodeIds).flatMap(
+                nodeId -> connectionFunction.call(nodeId).flatMap(
+                        commands -> scanPages(commands, scan(commands, ScanCursor.INITIAL, scanArgs), scanArgs)), parallelism);
+    }
+
+    private static <K, V> Observable<K> scanPages(RedisKeyReactiveCommands<K, V> commands,
+            Observable<KeyScanCursor<K>> page, ScanArgs scanArgs) {
+
+        return page.concatMap(cursor -> {
+
+            if (cursor.isFinished()) {
+                return Observable.from(cursor.getKeys());
+            }
+
+            // request the next page right away, cache() retains it until the keys of this page are consumed.
+            Observable<KeyScanCursor<K>> next = scan(commands, cursor, scanArgs).cache();
+            next.subscribe(ignore -> {
+            }, ignore -> {
+            });
+
+            return Observable.from(cursor.getKeys()).concatWith(scanPages(commands, next, scanArgs));
+        });
+    }
+
+    private static <K, V> Observable<KeyScanCursor<K>> scan(RedisKeyReactiveCommands<K, V> commands, ScanCursor cursor,
+            ScanArgs scanArgs) {
+        return scanArgs != null ? commands.scan(cursor, scanArgs) : commands.scan(cursor);
+    }
+
     /**
      * Retrieve a list of node Ids to use for the SCAN operation.
      * 
@@ -225,6 +306,128 @@ class ClusterScanSupport {
         return reactiveStreamScanCursorMapper;
     }
 
+    /**
+     * State of a parallel SCAN that streams keys to a {@link KeyStreamingChannel}. Each worker scans one node after another
+     * until no node is left.
+     */
+    static class ParallelScan<K, V> {
+
+        private final Queue<String> nodeIds;
+        private final Function<String, CompletionStage<? extends RedisKeyAsyncCommands<K, V>>> connectionFunction;
+        private final KeyStreamingChannel<K> channel;
+        private final ScanArgs scanArgs;
+
+        private final AtomicInteger workers = new AtomicInteger();
+        private final AtomicLong count = new AtomicLong();
+        final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        ParallelScan(List<String> nodeIds,
+                Function<String, CompletionStage<? extends RedisKeyAsyncCommands<K, V>>> connectionFunction,
+                KeyStreamingChannel<K> channel, ScanArgs scanArgs) {
+
+            this.nodeIds = new ConcurrentLinkedQueue<>(nodeIds);
+            this.connectionFunction = connectionFunction;
+            this.channel = channel;
+            this.scanArgs = scanArgs;
+        }
+
+        void start(int parallelism) {
+
+            int workers = Math.min(parallelism, nodeIds.size());
+            this.workers.set(workers);
+
+            if (workers == 0) {
+                result.complete(0L);
+                return;
+            }
+
+            for (int i = 0; i < workers; i++) {
+                scanNextNode();
+            }
+        }
+
+        private void scanNextNode() {
+
+            String nodeId = nodeIds.poll();
+
+            if (nodeId == null) {
+                if (workers.decrementAndGet() == 0) {
+                    result.complete(count.get());
+                }
+                return;
+            }
+
+            try {
+                connectionFunction.apply(nodeId).whenComplete((commands, throwable) -> {
+
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                        return;
+                    }
+
+                    onPage(commands, scan(commands, ScanCursor.INITIAL));
+                });
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void onPage(RedisKeyAsyncCommands<K, V> commands, CompletableFuture<KeyScanCursor<K>> page) {
+
+            // loop instead of recursing for pages that are already available to keep the stack flat.
+            while (!result.isDone()) {
+
+                if (!page.isDone()) {
+
+                    CompletableFuture<KeyScanCursor<K>> pending = page;
+                    pending.whenComplete((cursor, throwable) -> onPage(commands, pending));
+                    return;
+                }
+
+                KeyScanCursor<K> cursor;
+                try {
+                    cursor = page.join();
+                } catch (Exception e) {
+                    result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+                    return;
+                }
+
+                CompletableFuture<KeyScanCursor<K>> next = cursor.isFinished() ? null : scan(commands, cursor);
+
+                try {
+                    emit(cursor.getKeys());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+
+                if (next == null) {
+                    scanNextNode();
+                    return;
+                }
+
+                page = next;
+            }
+        }
+
+        private void emit(List<K> keys) {
+
+            synchronized (channel) {
+                for (K key : keys) {
+                    channel.onKey(key);
+                }
+            }
+
+            count.addAndGet(keys.size());
+        }
+
+        private CompletableFuture<KeyScanCursor<K>> scan(RedisKeyAsyncCommands<K, V> commands, ScanCursor cursor) {
+
+            RedisFuture<KeyScanCursor<K>> future = scanArgs != null ? commands.scan(cursor, scanArgs) : commands.scan(cursor);
+            return future.toCompletableFuture();
+        }
+    }
+
     /**
      * Mapper between the node operation cursor and the cluster scan cursor.
      *
@@ -37,6 +37,8 @@ public class ClusterTopologyRefreshOptions {
     public static final TimeUnit DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT = TimeUnit.SECONDS;
     public static final int DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS = 5;
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
+    public static final boolean DEFAULT_INCREMENTAL_REFRESH = false;
+    public static final int DEFAULT_REFRESH_SAMPLE_SIZE = 0;
 
     private final boolean periodicRefreshEnabled;
     private final long refreshPeriod;
@@ -47,6 +49,8 @@ public class ClusterTopologyRefreshOptions {
     private final long adaptiveRefreshTimeout;
     private final TimeUnit adaptiveRefreshTimeoutUnit;
     private final int refreshTriggersReconnectAttempts;
+    private final boolean incrementalRefresh;
+    private final int refreshSampleSize;
 
     protected ClusterTopologyRefreshOptions(Builder builder) {
 
@@ -59,6 +63,8 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTimeout = builder.adaptiveRefreshTimeout;
         this.adaptiveRefreshTimeoutUnit = builder.adaptiveRefreshTimeoutUnit;
         this.refreshTriggersReconnectAttempts = builder.refreshTriggersReconnectAttempts;
+        this.incrementalRefresh = builder.incrementalRefresh;
+        this.refreshSampleSize = builder.refreshSampleSize;
     }
 
     protected ClusterTopologyRefreshOptions(ClusterTopologyRefreshOptions original) {
@@ -72,6 +78,8 @@ public class ClusterTopologyRefreshOptions {
         this.adaptiveRefreshTimeout = original.adaptiveRefreshTimeout;
         this.adaptiveRefreshTimeoutUnit = original.adaptiveRefreshTimeoutUnit;
         this.refreshTriggersReconnectAttempts = original.refreshTriggersReconnectAttempts;
+        this.incrementalRefresh = original.incrementalRefresh;
+        this.refreshSampleSize = original.refreshSampleSize;
     }
 
     /**
@@ -125,6 +133,8 @@ public class ClusterTopologyRefreshOptions {
         private long adaptiveRefreshTimeout = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT;
         private TimeUnit adaptiveRefreshTimeoutUnit = DEFAULT_ADAPTIVE_REFRESH_TIMEOUT_UNIT;
         private int refreshTriggersReconnectAttempts = DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS;
+        private boolean incrementalRefresh = DEFAULT_INCREMENTAL_REFRESH;
+        private int refreshSampleSize = DEFAULT_REFRESH_SAMPLE_SIZE;
 
         /**
          * @deprecated Use {@link ClusterTopologyRefreshOptions#builder()}
@@ -275,6 +285,41 @@ public class ClusterTopologyRefreshOptions {
             return this;
         }
 
+        /**
+         * Enables incremental topology refreshing. Incremental refreshes keep dedicated topology connections open between
+         * refreshes instead of connecting to each node on every refresh. A refreshed topology is applied only if nodes, roles,
+         * slots, addresses or replication sources changed. Changes are applied to the existing topology in place so that
+         * connections reset their cached slot connections only for moved slots and changed nodes. Defaults to
+         * {@literal false}. See
+         * {@link #DEFAULT_INCREMENTAL_REFRESH}.
+         *
+         * @param incrementalRefresh {@literal true} to enable incremental topology refreshing
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder incrementalRefresh(boolean incrementalRefresh) {
+            this.incrementalRefresh = incrementalRefresh;
+            return this;
+        }
+
+        /**
+         * Set the number of nodes queried per incremental topology refresh. Subsequent refreshes rotate through the known
+         * nodes so each node is queried eventually. The initial topology is always obtained from all refresh sources. A value
+         * of {@literal 0} queries all nodes. Comes only into effect if {@link #incrementalRefresh(boolean)} is enabled.
+         * Defaults to {@literal 0}. See {@link #DEFAULT_REFRESH_SAMPLE_SIZE}.
+         *
+         * @param refreshSampleSize number of nodes to query per refresh, must not be negative
+         * @return {@code this}
+         * @since 4.5
+         */
+        public Builder refreshSampleSize(int refreshSampleSize) {
+
+            LettuceAssert.isTrue(refreshSampleSize >= 0, "Refresh sample size must not be negative");
+
+            this.refreshSampleSize = refreshSampleSize;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterTopologyRefreshOptions}
          *
@@ -376,6 +421,27 @@ public class ClusterTopologyRefreshOptions {
         return refreshTriggersReconnectAttempts;
     }
 
+    /**
+     * Flag, whether incremental topology refreshing is enabled. Incremental refreshes retain topology connections between
+     * refreshes and apply a refreshed topology only if it changed. Defaults to {@literal false}.
+     *
+     * @return {@literal true} if incremental topology refreshing is enabled
+     * @since 4.5
+     */
+    public boolean isIncrementalRefresh() {
+        return incrementalRefresh;
+    }
+
+    /**
+     * Number of nodes queried per incremental topology refresh. {@literal 0} queries all nodes. Defaults to {@literal 0}.
+     *
+     * @return number of nodes queried per incremental topology refresh
+     * @since 4.5
+     */
+    public int getRefreshSampleSize() {
+        return refreshSampleSize;
+    }
+
     /**
      * Available refresh triggers to signal early topology refreshing.
      */
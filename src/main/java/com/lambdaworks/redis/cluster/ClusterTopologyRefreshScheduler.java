@@ -17,6 +17,7 @@ package com.lambdaworks.redis.cluster;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.lambdaworks.redis.resource.ClientResources;
 
@@ -36,6 +37,8 @@ class ClusterTopologyRefreshScheduler implements Runnable, ClusterEventListener
     private final ClientResources clientResources;
     private final ClusterTopologyRefreshTask clusterTopologyRefreshTask;
     private final AtomicReference<Timeout> timeoutRef = new AtomicReference<>();
+    private final LongAdder movedRedirections = new LongAdder();
+    private final LongAdder askRedirections = new LongAdder();
 
     ClusterTopologyRefreshScheduler(RedisClusterClient redisClusterClient, ClientResources clientResources) {
 
@@ -116,6 +119,8 @@ class ClusterTopologyRefreshScheduler implements Runnable, ClusterEventListener
     @Override
     public void onAskRedirection() {
 
+        askRedirections.increment();
+
         if (isEnabled(ClusterTopologyRefreshOptions.RefreshTrigger.ASK_REDIRECT)) {
             indicateTopologyRefreshSignal();
         }
@@ -124,6 +129,8 @@ class ClusterTopologyRefreshScheduler implements Runnable, ClusterEventListener
     @Override
     public void onMovedRedirection() {
 
+        movedRedirections.increment();
+
         if (isEnabled(ClusterTopologyRefreshOptions.RefreshTrigger.MOVED_REDIRECT)) {
             indicateTopologyRefreshSignal();
         }
@@ -138,6 +145,20 @@ class ClusterTopologyRefreshScheduler implements Runnable, ClusterEventListener
         }
     }
 
+    /**
+     * @return number of {@literal MOVED} redirections since this scheduler was created.
+     */
+    long getMovedRedirectionCount() {
+        return movedRedirections.sum();
+    }
+
+    /**
+     * @return number of {@literal ASK} redirections since this scheduler was created.
+     */
+    long getAskRedirectionCount() {
+        return askRedirections.sum();
+    }
+
     private ClusterTopologyRefreshOptions getClusterTopologyRefreshOptions() {
 
         ClusterClientOptions clusterClientOptions = redisClusterClient.getClusterClientOptions();
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.util.*;
+
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * Applies a refreshed topology to existing {@link Partitions} in place and records which cached connections are affected.
+ * Existing {@link RedisClusterNode} instances are retained and updated with the flags, addresses and replication sources of
+ * the refreshed topology. Slot ownership changes are applied per slot using
+ * {@link Partitions#reassignSlot(int, RedisClusterNode)}. Nodes that joined the cluster are added and nodes that left the
+ * cluster are removed.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+class PartitionsUpdate {
+
+    private final BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
+    private final Set<String> relocatedNodeIds = new HashSet<>();
+    private boolean readersChanged;
+
+    private PartitionsUpdate() {
+    }
+
+    /**
+     * Apply {@code source} to {@code target}.
+     *
+     * @param target the {@link Partitions} to update.
+     * @param source the refreshed topology.
+     * @return the {@link PartitionsUpdate} describing the applied changes.
+     */
+    static PartitionsUpdate apply(Partitions target, Partitions source) {
+
+        PartitionsUpdate update = new PartitionsUpdate();
+
+        Map<String, RedisClusterNode> removed = new LinkedHashMap<>();
+        Map<String, RedisClusterNode> nodes = new HashMap<>();
+        List<RedisClusterNode> added = new ArrayList<>();
+        List<RedisClusterNode> ordered = new ArrayList<>(source.size());
+
+        for (RedisClusterNode node : target) {
+            removed.put(node.getNodeId(), node);
+        }
+
+        for (RedisClusterNode node : source) {
+
+            RedisClusterNode existing = removed.remove(node.getNodeId());
+
+            if (existing == null) {
+
+                // slots are assigned below so that no slot is owned by two nodes
+                existing = new RedisClusterNode(node);
+                existing.setSlots(new BitSet(SlotHash.SLOT_COUNT));
+                added.add(existing);
+            } else {
+                update.updateNode(existing, node);
+            }
+
+            nodes.put(node.getNodeId(), existing);
+            ordered.add(existing);
+        }
+
+        if (!added.isEmpty()) {
+            target.addAll(added);
+        }
+
+        RedisClusterNode[] owners = new RedisClusterNode[SlotHash.SLOT_COUNT];
+
+        for (RedisClusterNode node : source) {
+
+            RedisClusterNode owner = nodes.get(node.getNodeId());
+            node.forEachSlotRange((from, to) -> Arrays.fill(owners, from, to + 1, owner));
+        }
+
+        for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+
+            RedisClusterNode owner = owners[slot];
+
+            if (owner == target.getPartitionBySlot(slot)) {
+                continue;
+            }
+
+            if (owner != null ? target.reassignSlot(slot, owner) : target.unassignSlot(slot)) {
+                update.slots.set(slot);
+            }
+        }
+
+        if (!added.isEmpty() || !removed.isEmpty() || !isSameOrder(target, ordered)) {
+
+            // removes nodes that left the cluster and applies the node order (by latency) used to select read candidates
+            target.reload(ordered);
+            update.readersChanged = true;
+        }
+
+        return update;
+    }
+
+    private void updateNode(RedisClusterNode existing, RedisClusterNode node) {
+
+        if (!isSameAddress(existing.getUri(), node.getUri())) {
+
+            relocatedNodeIds.add(existing.getNodeId());
+            existing.forEachSlotRange((from, to) -> slots.set(from, to + 1));
+            readersChanged = true;
+        }
+
+        if (!isSameRole(existing, node)) {
+            readersChanged = true;
+        }
+
+        existing.setUri(node.getUri());
+        existing.setFlags(new HashSet<>(node.getFlags()));
+        existing.setSlaveOf(node.getSlaveOf());
+        existing.setConnected(node.isConnected());
+        existing.setConfigEpoch(node.getConfigEpoch());
+        existing.setPingSentTimestamp(node.getPingSentTimestamp());
+        existing.setPongReceivedTimestamp(node.getPongReceivedTimestamp());
+    }
+
+    private static boolean isSameAddress(RedisURI uri, RedisURI other) {
+        return uri.getPort() == other.getPort() && uri.getHost().equals(other.getHost());
+    }
+
+    private static boolean isSameRole(RedisClusterNode node, RedisClusterNode other) {
+
+        for (RedisClusterNode.NodeFlag flag : RedisClusterNode.NodeFlag.values()) {
+            if (flag != RedisClusterNode.NodeFlag.MYSELF && node.is(flag) != other.is(flag)) {
+                return false;
+            }
+        }
+
+        return Objects.equals(node.getSlaveOf(), other.getSlaveOf());
+    }
+
+    private static boolean isSameOrder(Partitions partitions, List<RedisClusterNode> ordered) {
+
+        if (partitions.size() != ordered.size()) {
+            return false;
+        }
+
+        Iterator<RedisClusterNode> iterator = partitions.iterator();
+
+        for (RedisClusterNode node : ordered) {
+            if (iterator.next() != node) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return slots whose owner changed or whose owner changed its address.
+     */
+    BitSet getSlots() {
+        return slots;
+    }
+
+    /**
+     * @return node Ids of nodes whose address changed.
+     */
+    Set<String> getRelocatedNodeIds() {
+        return relocatedNodeIds;
+    }
+
+    /**
+     * @return {@literal true} if read candidates may have changed because nodes joined or left the cluster, changed their role,
+     *         replication source, address or latency order.
+     */
+    boolean isReadersChanged() {
+        return readersChanged;
+    }
+
+    /**
+     * @return {@literal true} if no cached connection is affected.
+     */
+    boolean isEmpty() {
+        return slots.isEmpty() && relocatedNodeIds.isEmpty() && !readersChanged;
+    }
+}
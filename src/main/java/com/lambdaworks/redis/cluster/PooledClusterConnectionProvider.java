@@ -18,7 +18,9 @@ package com.lambdaworks.redis.cluster;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
@@ -32,10 +34,14 @@ import com.lambdaworks.redis.cluster.ClusterNodeConnectionFactory.ConnectionKey;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.event.connection.ConnectionWarmUpEvent;
+import com.lambdaworks.redis.internal.ConnectionWarmUp;
 import com.lambdaworks.redis.internal.HostAndPort;
+import com.lambdaworks.redis.internal.LatencyTracker;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
+import com.lambdaworks.redis.protocol.RedisCommand;
 
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -63,6 +69,9 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     private final RedisChannelWriter<K, V> clusterWriter;
     private final RedisCodec<K, V> redisCodec;
     private final SynchronizingClusterConnectionProvider<K, V> connectionProvider;
+    private final LatencyTracker<StatefulRedisConnection<?, ?>> latencyTracker = new LatencyTracker<>();
+    private final int connectionsPerNode;
+    private final WarmUpOptions warmUpOptions;
 
     private Partitions partitions;
     private boolean autoFlushCommands = true;
@@ -76,6 +85,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         this.clusterWriter = clusterWriter;
         this.connectionFactory = new NodeConnectionPostProcessor(getConnectionFactory(redisClusterClient));
         this.connectionProvider = new SynchronizingClusterConnectionProvider<>(this.connectionFactory);
+
+        ClusterClientOptions options = redisClusterClient.getClusterClientOptions();
+        this.connectionsPerNode = options != null ? options.getConnectionsPerNode()
+                : ClusterClientOptions.DEFAULT_CONNECTIONS_PER_NODE;
+        this.warmUpOptions = options != null ? options.getWarmUpOptions() : ClusterClientOptions.DEFAULT_WARM_UP_OPTIONS;
     }
 
     @Override
@@ -124,12 +138,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
             // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
             // host because the nodeId can be handled by a different host.
             RedisURI uri = partition.getUri();
-            ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort());
+            ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort(), getStripe(slot));
             return getConnectionAsync(key).thenApply(connection -> {
 
                 synchronized (stateLock) {
                     if (writers[slot] == null) {
-                        writers[slot] = CompletableFuture.completedFuture(connection);
+                        cacheBySlots(writers, partition, slot, CompletableFuture.completedFuture(connection));
                     }
                 }
 
@@ -145,6 +159,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];// avoid races when reconfiguring partitions.
 
         boolean cached = true;
+        RedisClusterNode master = null;
 
         synchronized (stateLock) {
             readerCandidates = readers[slot];
@@ -152,49 +167,30 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
         if (readerCandidates == null) {
 
-            RedisClusterNode master = partitions.getPartitionBySlot(slot);
+            master = partitions.getPartitionBySlot(slot);
             if (master == null) {
                 throw new RedisException("Cannot determine a partition to read for slot " + slot + " (Partitions: "
                         + partitions + ")");
             }
 
-            List<RedisNodeDescription> candidates = getReadCandidates(master);
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return candidates;
-                }
-
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return candidates.iterator();
-                }
-            });
+            List<RedisNodeDescription> selection = selectReadCandidates(readFrom, master);
 
             if (selection.isEmpty()) {
                 throw new RedisException("Cannot determine a partition to read for slot " + slot + " (Partitions: "
                         + partitions + ") with setting " + readFrom);
             }
 
-            readerCandidates = getReadFromConnections(selection);
+            readerCandidates = getReadFromConnections(selection, getStripe(slot));
             cached = false;
         }
 
         CompletableFuture<StatefulRedisConnection<K, V>> selectedReaderCandidates[] = readerCandidates;
+        RedisClusterNode selectedMaster = master;
 
         if (cached) {
 
-            return CompletableFuture.allOf(readerCandidates).thenCompose(v -> {
-
-                for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : selectedReaderCandidates) {
-
-                    if (candidate.join().isOpen()) {
-                        return candidate;
-                    }
-                }
-
-                return selectedReaderCandidates[0];
-            });
+            return CompletableFuture.allOf(readerCandidates).thenApply(
+                    v -> selectReader(getConnections(selectedReaderCandidates)));
         }
 
         CompletableFuture<StatefulRedisConnection<K, V>[]> filteredReaderCandidates = new CompletableFuture<>();
@@ -227,18 +223,70 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                     }
                     synchronized (stateLock) {
                         readers[slot] = toCache;
+                        cacheBySlots(readers, selectedMaster, slot, toCache);
                     }
 
-                    for (StatefulRedisConnection<K, V> candidate : statefulRedisConnections) {
-                        if (candidate.isOpen()) {
-                            return candidate;
-                        }
-                    }
-
-                    return statefulRedisConnections[0];
+                    return selectReader(statefulRedisConnections);
                 });
     }
 
+    /**
+     * Select the connection to read from. Latency-aware {@link ReadFrom} settings choose among the open candidates by response
+     * times and outstanding commands, all other settings use the first open candidate.
+     */
+    private StatefulRedisConnection<K, V> selectReader(StatefulRedisConnection<K, V>[] candidates) {
+
+        if (readFrom != null && readFrom.isLatencyAware()) {
+
+            List<StatefulRedisConnection<K, V>> open = new ArrayList<>(candidates.length);
+
+            for (StatefulRedisConnection<K, V> candidate : candidates) {
+                if (candidate.isOpen()) {
+                    open.add(candidate);
+                }
+            }
+
+            if (!open.isEmpty()) {
+                return latencyTracker.select(open);
+            }
+
+            return candidates[0];
+        }
+
+        for (StatefulRedisConnection<K, V> candidate : candidates) {
+            if (candidate.isOpen()) {
+                return candidate;
+            }
+        }
+
+        return candidates[0];
+    }
+
+    /**
+     * Cache {@code value} for all slots served by {@code partition} that have no cached value yet. Must be called while holding
+     * {@code stateLock}.
+     */
+    private <T> void cacheBySlots(T[] cache, RedisClusterNode partition, int slot, T value) {
+
+        int stripe = getStripe(slot);
+
+        partition.forEachSlotRange((from, to) -> {
+            for (int i = from; i <= to; i++) {
+                if (cache[i] == null && getStripe(i) == stripe) {
+                    cache[i] = value;
+                }
+            }
+        });
+    }
+
+    /**
+     * Determine the connection index for {@code slot}. Commands for the same slot always use the same connection to retain
+     * their order.
+     */
+    private int getStripe(int slot) {
+        return slot % connectionsPerNode;
+    }
+
     private StatefulRedisConnection<K, V>[] getConnections(
             CompletableFuture<StatefulRedisConnection<K, V>>[] selectedReaderCandidates) {
 
@@ -273,7 +321,8 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         });
     }
 
-    private CompletableFuture<StatefulRedisConnection<K, V>>[] getReadFromConnections(List<RedisNodeDescription> selection) {
+    private CompletableFuture<StatefulRedisConnection<K, V>>[] getReadFromConnections(List<RedisNodeDescription> selection,
+            int stripe) {
 
         CompletableFuture<StatefulRedisConnection<K, V>>[] readerCandidates;
         // Use always host and port for slot-oriented operations. We don't want to get reconnected on a different
@@ -283,18 +332,36 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
         for (int i = 0; i < selection.size(); i++) {
 
-            RedisNodeDescription redisClusterNode = selection.get(i);
-
-            RedisURI uri = redisClusterNode.getUri();
-            ConnectionKey key = new ConnectionKey(redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE
-                    : Intent.READ, uri.getHost(), uri.getPort());
-
-            readerCandidates[i] = getConnectionAsync(key);
+            readerCandidates[i] = getConnectionAsync(getReadFromConnectionKey(selection.get(i), stripe));
         }
 
         return readerCandidates;
     }
 
+    private static ConnectionKey getReadFromConnectionKey(RedisNodeDescription redisClusterNode, int stripe) {
+
+        RedisURI uri = redisClusterNode.getUri();
+        return new ConnectionKey(redisClusterNode.getRole() == RedisInstance.Role.MASTER ? Intent.WRITE : Intent.READ,
+                uri.getHost(), uri.getPort(), stripe);
+    }
+
+    private List<RedisNodeDescription> selectReadCandidates(ReadFrom readFrom, RedisClusterNode master) {
+
+        List<RedisNodeDescription> candidates = getReadCandidates(master);
+
+        return readFrom.select(new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return candidates;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return candidates.iterator();
+            }
+        });
+    }
+
     private List<RedisNodeDescription> getReadCandidates(RedisClusterNode master) {
 
         return partitions.stream() //
@@ -413,6 +480,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     public void close() {
 
         resetFastConnectionCache();
+        latencyTracker.clear();
 
         connectionProvider.close();
     }
@@ -442,13 +510,193 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
         if (reconfigurePartitions) {
             reconfigurePartitions();
+
+            if (warmUpOptions.isEnabled()) {
+                warmUp();
+            }
+        }
+    }
+
+    @Override
+    public void updatePartitions(PartitionsUpdate update) {
+
+        synchronized (stateLock) {
+
+            if (update.isReadersChanged()) {
+                Arrays.fill(readers, null);
+            }
+
+            update.getSlots().stream().forEach(slot -> {
+                writers[slot] = null;
+                readers[slot] = null;
+            });
+        }
+
+        Set<String> relocatedNodeIds = update.getRelocatedNodeIds();
+        boolean expireStaleConnections = redisClusterClient.expireStaleConnections();
+
+        if (!relocatedNodeIds.isEmpty() || expireStaleConnections) {
+
+            connectionProvider.forEach((key, connection) -> {
+
+                boolean relocated = key.nodeId != null && relocatedNodeIds.contains(key.nodeId);
+
+                if (relocated || (expireStaleConnections && isStale(key))) {
+                    latencyTracker.remove(connection);
+                    connectionProvider.close(key);
+                }
+            });
+        }
+
+        if (warmUpOptions.isEnabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Open connections to all masters serving slots and, if a {@link ReadFrom} setting is configured, to their read candidates
+     * in parallel. Connections are opened for each stripe. Connections that are already established are not counted.
+     *
+     * @return a future that completes with the {@link ConnectionWarmUpEvent} after all connection attempts completed.
+     * @since 4.5
+     */
+    public CompletableFuture<ConnectionWarmUpEvent> warmUp() {
+
+        long start = System.nanoTime();
+        Partitions partitions;
+        ReadFrom readFrom;
+
+        synchronized (stateLock) {
+            partitions = this.partitions;
+            readFrom = this.readFrom;
+        }
+
+        Set<ConnectionKey> keys = new LinkedHashSet<>();
+
+        for (RedisClusterNode master : partitions) {
+
+            if (!master.is(RedisClusterNode.NodeFlag.MASTER) || master.getSlots().isEmpty()) {
+                continue;
+            }
+
+            for (int stripe = 0; stripe < connectionsPerNode; stripe++) {
+
+                keys.add(getReadFromConnectionKey(master, stripe));
+
+                if (readFrom != null) {
+                    for (RedisNodeDescription candidate : selectReadCandidates(readFrom, master)) {
+                        keys.add(getReadFromConnectionKey(candidate, stripe));
+                    }
+                }
+            }
         }
+
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> connections = new ArrayList<>(keys.size());
+
+        for (ConnectionKey key : keys) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> connection = getConnectionAsync(key);
+
+            if (!connection.isDone()) {
+                connections.add(connection);
+            }
+        }
+
+        if (debugEnabled) {
+            logger.debug("warmUp() opening " + connections.size() + " connections");
+        }
+
+        return ConnectionWarmUp.track(connections, start, redisClusterClient.getResources().eventBus());
     }
 
     protected Partitions getPartitions() {
         return partitions;
     }
 
+    @Override
+    public void updateSlotOwner(int slot, String host, int port) {
+
+        RedisClusterNode owner = getPartition(host, port);
+
+        if (owner == null || !owner.is(RedisClusterNode.NodeFlag.MASTER)) {
+            return;
+        }
+
+        synchronized (stateLock) {
+
+            if (!partitions.reassignSlot(slot, owner)) {
+                return;
+            }
+
+            writers[slot] = null;
+            readers[slot] = null;
+        }
+
+        if (debugEnabled) {
+            logger.debug("updateSlotOwner(" + slot + ", " + host + ", " + port + ")");
+        }
+
+        RedisURI uri = owner.getUri();
+        ConnectionKey key = new ConnectionKey(Intent.WRITE, uri.getHost(), uri.getPort(), getStripe(slot));
+        getConnectionAsync(key).thenAccept(connection -> {
+
+            synchronized (stateLock) {
+                if (writers[slot] == null && partitions.getPartitionBySlot(slot) == owner) {
+                    writers[slot] = CompletableFuture.completedFuture(connection);
+                }
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "hiding", "rawtypes" })
+    public <K, V, T> RedisCommand<K, V, T> trackRead(StatefulRedisConnection<K, V> connection, RedisCommand<K, V, T> command) {
+
+        ReadFrom readFrom = this.readFrom;
+
+        if (readFrom == null || !readFrom.isLatencyAware()) {
+            return command;
+        }
+
+        return latencyTracker.track(connection, command);
+    }
+
+    @Override
+    @SuppressWarnings({ "unchecked", "hiding", "rawtypes" })
+    public <K, V> StatefulRedisConnection<K, V> getAlternateReadConnection(int slot, StatefulRedisConnection<K, V> primary) {
+
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];
+        ReadFrom readFrom = this.readFrom;
+
+        synchronized (stateLock) {
+            readerCandidates = (CompletableFuture[]) readers[slot];
+        }
+
+        if (readFrom == null || readerCandidates == null) {
+            return null;
+        }
+
+        List<StatefulRedisConnection<K, V>> alternates = new ArrayList<>(readerCandidates.length);
+
+        for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : readerCandidates) {
+
+            if (!candidate.isDone() || candidate.isCompletedExceptionally()) {
+                continue;
+            }
+
+            StatefulRedisConnection<K, V> connection = candidate.join();
+            if (connection != primary && connection.isOpen()) {
+                alternates.add(connection);
+            }
+        }
+
+        if (alternates.isEmpty()) {
+            return null;
+        }
+
+        return readFrom.isLatencyAware() ? latencyTracker.select(alternates) : alternates.get(0);
+    }
+
     private void reconfigurePartitions() {
 
         resetFastConnectionCache();
@@ -468,6 +716,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
         connectionProvider.forEach((key, connection) -> {
             if (isStale(key)) {
+                latencyTracker.remove(connection);
                 connectionProvider.close(key);
             }
         });
@@ -509,13 +758,30 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         connectionProvider.forEach(StatefulConnection::flushCommands);
     }
 
+    @Override
+    public int getResponseBufferCapacity() {
+        return connectionProvider.sum(StatefulConnection::getResponseBufferCapacity);
+    }
+
+    @Override
+    public int getResponseBufferOccupancy() {
+        return connectionProvider.sum(StatefulConnection::getResponseBufferOccupancy);
+    }
+
     @Override
     public void setReadFrom(ReadFrom readFrom) {
 
+        boolean warmUp;
+
         synchronized (stateLock) {
+            warmUp = partitions != null && this.readFrom != readFrom;
             this.readFrom = readFrom;
             Arrays.fill(readers, null);
         }
+
+        if (warmUp && warmUpOptions.isEnabled()) {
+            warmUp();
+        }
     }
 
     @Override
@@ -531,6 +797,10 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         return connectionProvider.getConnectionCount();
     }
 
+    LatencyTracker<StatefulRedisConnection<?, ?>> getLatencyTracker() {
+        return latencyTracker;
+    }
+
     /**
      * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
      * cache.
@@ -45,12 +45,9 @@ import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.RedisCodec;
-import com.lambdaworks.redis.output.IntegerOutput;
-import com.lambdaworks.redis.output.KeyStreamingChannel;
-import com.lambdaworks.redis.output.ValueStreamingChannel;
-import com.lambdaworks.redis.protocol.AsyncCommand;
-import com.lambdaworks.redis.protocol.Command;
-import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.internal.LettuceLists;
+import com.lambdaworks.redis.output.*;
+import com.lambdaworks.redis.protocol.*;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -62,6 +59,9 @@ import com.lambdaworks.redis.protocol.CommandType;
 public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAsyncCommands<K, V> implements
         RedisAdvancedClusterAsyncConnection<K, V>, RedisAdvancedClusterAsyncCommands<K, V> {
 
+    private final StatefulRedisClusterConnectionImpl<K, V> clusterConnection;
+    private final ClusterCommandBuilder<K, V> clusterCommandBuilder;
+
     /**
      * Initialize a new connection.
      *
@@ -69,7 +69,24 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
      * @param codec Codec used to encode/decode keys and values.
      */
     public RedisAdvancedClusterAsyncCommandsImpl(StatefulRedisClusterConnectionImpl<K, V> connection, RedisCodec<K, V> codec) {
+        this(connection, connection, codec);
+    }
+
+    /**
+     * Initialize a new connection exposing {@code connection} as {@link #getStatefulConnection() stateful connection} while
+     * routing commands through {@code clusterConnection}. Used by connection wrappers such as pooled connections.
+     *
+     * @param connection the stateful connection exposed by this API, must delegate to {@code clusterConnection}.
+     * @param clusterConnection the underlying cluster connection.
+     * @param codec Codec used to encode/decode keys and values.
+     * @since 4.5
+     */
+    public RedisAdvancedClusterAsyncCommandsImpl(StatefulRedisClusterConnection<K, V> connection,
+            StatefulRedisClusterConnectionImpl<K, V> clusterConnection, RedisCodec<K, V> codec) {
+
         super(connection, codec);
+        this.clusterConnection = clusterConnection;
+        this.clusterCommandBuilder = new ClusterCommandBuilder<>(codec);
     }
 
     @Override
@@ -81,7 +98,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
         executions.put("Default", super.clientSetname(name).toCompletableFuture());
 
-        for (RedisClusterNode redisClusterNode : getStatefulConnection().getPartitions()) {
+        for (RedisClusterNode redisClusterNode : getClusterConnection().getPartitions()) {
 
             RedisURI uri = redisClusterNode.getUri();
 
@@ -152,12 +169,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.del(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned, clusterCommandBuilder::del);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -175,12 +187,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.exists(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned, clusterCommandBuilder::exists);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -198,7 +205,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Set<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
 
-        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+        if (getClusterConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
             return super.georadius_ro(key, longitude, latitude, distance, unit);
         }
 
@@ -209,7 +216,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     public RedisFuture<List<GeoWithin<V>>> georadius(K key, double longitude, double latitude, double distance,
             GeoArgs.Unit unit, GeoArgs geoArgs) {
 
-        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+        if (getClusterConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
             return super.georadius_ro(key, longitude, latitude, distance, unit, geoArgs);
         }
 
@@ -219,7 +226,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<Set<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
 
-        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
+        if (getClusterConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
             return super.georadiusbymember_ro(key, member, distance, unit);
         }
 
@@ -230,7 +237,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     public RedisFuture<List<GeoWithin<V>>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit,
             GeoArgs geoArgs) {
 
-        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
+        if (getClusterConnection().getState().hasCommand(CommandType.GEORADIUSBYMEMBER_RO)) {
             return super.georadiusbymember_ro(key, member, distance, unit, geoArgs);
         }
 
@@ -266,29 +273,29 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<List<V>> mget(Iterable<K> keys) {
 
-        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keys);
+        List<K> keyList = LettuceLists.newList(keys);
+        int[] slots = new int[keyList.size()];
+        int[] positions = new int[keyList.size()];
+
+        Map<Integer, List<K>> partitioned = SlotHash.partition(codec, keyList, slots, positions);
 
         if (partitioned.size() < 2) {
-            return super.mget(keys);
+            return super.mget(keyList);
         }
 
-        Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<V>>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<V>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
-        }
+        Map<Integer, RedisFuture<List<V>>> executions = dispatchPartitioned(partitioned, clusterCommandBuilder::mget);
 
         // restore order of key
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<V> result = new ArrayList<>();
-            for (K opKey : keys) {
-                int slot = slots.get(opKey);
 
-                int position = partitioned.get(slot).indexOf(opKey);
-                RedisFuture<List<V>> listRedisFuture = executions.get(slot);
-                result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
+            Map<Integer, List<V>> results = new HashMap<>(executions.size() * 2);
+            for (Map.Entry<Integer, RedisFuture<List<V>>> entry : executions.entrySet()) {
+                results.put(entry.getKey(), MultiNodeExecution.execute(() -> entry.getValue().get()));
+            }
+
+            List<V> result = new ArrayList<>(slots.length);
+            for (int i = 0; i < slots.length; i++) {
+                result.add(results.get(slots[i]).get(positions[i]));
             }
 
             return result;
@@ -309,12 +316,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.mget(channel, keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned,
+                slotKeys -> clusterCommandBuilder.mget(channel, slotKeys));
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -328,16 +331,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+        Map<Integer, RedisFuture<String>> executions = dispatchPartitioned(partitioned, slotKeys -> {
 
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
+            Map<K, V> op = new LinkedHashMap<>(slotKeys.size() * 2);
+            slotKeys.forEach(k -> op.put(k, map.get(k)));
 
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
+            return clusterCommandBuilder.mset(op);
+        });
 
         return MultiNodeExecution.firstOfAsync(executions);
     }
@@ -351,16 +351,13 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.msetnx(map);
         }
 
-        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+        Map<Integer, RedisFuture<Boolean>> executions = dispatchPartitioned(partitioned, slotKeys -> {
 
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
+            Map<K, V> op = new LinkedHashMap<>(slotKeys.size() * 2);
+            slotKeys.forEach(k -> op.put(k, map.get(k)));
 
-            RedisFuture<Boolean> msetnx = super.msetnx(op);
-            executions.put(entry.getKey(), msetnx);
-        }
+            return clusterCommandBuilder.msetnx(op);
+        });
 
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
 
@@ -378,7 +375,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     @Override
     public RedisFuture<V> randomkey() {
 
-        Partitions partitions = getStatefulConnection().getPartitions();
+        Partitions partitions = getClusterConnection().getPartitions();
         int index = ThreadLocalRandom.current().nextInt(partitions.size());
         RedisClusterNode partition = partitions.getPartition(index);
 
@@ -437,12 +434,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.touch(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> touch = super.touch(entry.getValue());
-            executions.put(entry.getKey(), touch);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned, clusterCommandBuilder::touch);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -461,12 +453,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.unlink(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPartitioned(partitioned, clusterCommandBuilder::unlink);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -495,7 +482,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             Function<RedisClusterAsyncCommands<K, V>, RedisFuture<T>> function, Function<RedisClusterNode, Boolean> filter) {
         Map<String, CompletableFuture<T>> executions = new HashMap<>();
 
-        for (RedisClusterNode redisClusterNode : getStatefulConnection().getPartitions()) {
+        for (RedisClusterNode redisClusterNode : getClusterConnection().getPartitions()) {
 
             if (!filter.apply(redisClusterNode)) {
                 continue;
@@ -511,7 +498,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     }
 
     private RedisClusterAsyncCommands<K, V> findConnectionBySlot(int slot) {
-        RedisClusterNode node = getStatefulConnection().getPartitions().getPartitionBySlot(slot);
+        RedisClusterNode node = getClusterConnection().getPartitions().getPartitionBySlot(slot);
         if (node != null) {
             return getConnection(node.getUri().getHost(), node.getUri().getPort());
         }
@@ -521,12 +508,12 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     @Override
     public RedisClusterAsyncCommands<K, V> getConnection(String nodeId) {
-        return getStatefulConnection().getConnection(nodeId).async();
+        return getClusterConnection().getConnection(nodeId).async();
     }
 
     @Override
     public RedisClusterAsyncCommands<K, V> getConnection(String host, int port) {
-        return getStatefulConnection().getConnection(host, port).async();
+        return getClusterConnection().getConnection(host, port).async();
     }
 
     private CompletableFuture<RedisClusterAsyncCommands<K, V>> getConnectionAsync(String nodeId) {
@@ -539,13 +526,61 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
                 StatefulRedisConnection::async);
     }
 
+    /**
+     * Create a command for each slot partition and dispatch all commands at once. Commands that target the same cluster node
+     * are written to the node connection as a single batch.
+     *
+     * @param partitioned keys partitioned by slot-hash
+     * @param commandFactory function to create the command for the keys of a single slot
+     * @param <T> result type
+     * @return map between slot-hash and the future of the command.
+     */
+    private <T> Map<Integer, RedisFuture<T>> dispatchPartitioned(Map<Integer, List<K>> partitioned,
+            Function<List<K>, RedisCommand<K, V, T>> commandFactory) {
+
+        Map<Integer, RedisFuture<T>> executions = new LinkedHashMap<>(partitioned.size() * 2);
+        List<RedisCommand<K, V, ?>> commands = new ArrayList<>(partitioned.size());
+
+        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+
+            AsyncCommand<K, V, T> command = new AsyncCommand<>(commandFactory.apply(entry.getValue()));
+            executions.put(entry.getKey(), command);
+            commands.add(command);
+        }
+
+        getClusterConnection().dispatch(commands);
+
+        return executions;
+    }
+
     @Override
-    public StatefulRedisClusterConnectionImpl<K, V> getStatefulConnection() {
-        return (StatefulRedisClusterConnectionImpl<K, V>) connection;
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return (StatefulRedisClusterConnection<K, V>) connection;
+    }
+
+    /**
+     * @return the underlying cluster connection.
+     */
+    StatefulRedisClusterConnectionImpl<K, V> getClusterConnection() {
+        return clusterConnection;
+    }
+
+    /**
+     * Returns the underlying cluster connection. {@link #getStatefulConnection()} returned
+     * {@link StatefulRedisClusterConnectionImpl} before 4.5. It returns {@link StatefulRedisClusterConnection} since 4.5
+     * so connection wrappers such as pooled connections can be exposed.
+     *
+     * @return the underlying cluster connection.
+     * @since 4.5
+     * @deprecated since 4.5, use {@link #getStatefulConnection()} and program against {@link StatefulRedisClusterConnection}.
+     */
+    @Deprecated
+    public StatefulRedisClusterConnectionImpl<K, V> getStatefulConnectionImpl() {
+        return getClusterConnection();
     }
 
     protected AsyncClusterConnectionProvider getConnectionProvider() {
-        return (AsyncClusterConnectionProvider) getStatefulConnection().getClusterDistributionChannelWriter()
+        return (AsyncClusterConnectionProvider) getClusterConnection().getClusterDistributionChannelWriter()
                 .getClusterConnectionProvider();
     }
 
@@ -570,12 +605,11 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
         NodeSelectionSupport<RedisAsyncCommands<K, V>, ?> selection;
 
-        StatefulRedisClusterConnectionImpl<K, V> impl = (StatefulRedisClusterConnectionImpl<K, V>) connection;
         if (dynamic) {
-            selection = new DynamicNodeSelection<>(impl.getClusterDistributionChannelWriter(), predicate, intent,
+            selection = new DynamicNodeSelection<>(clusterConnection.getClusterDistributionChannelWriter(), predicate, intent,
                     StatefulRedisConnection::async);
         } else {
-            selection = new StaticNodeSelection<>(impl.getClusterDistributionChannelWriter(), predicate, intent,
+            selection = new StaticNodeSelection<>(clusterConnection.getClusterDistributionChannelWriter(), predicate, intent,
                     StatefulRedisConnection::async);
         }
 
@@ -631,11 +665,23 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
                 asyncClusterStreamScanCursorMapper());
     }
 
+    @Override
+    public RedisFuture<Long> scanParallel(KeyStreamingChannel<K> channel, int parallelism) {
+        return scanParallel(channel, null, parallelism);
+    }
+
+    @Override
+    public RedisFuture<Long> scanParallel(KeyStreamingChannel<K> channel, ScanArgs scanArgs, int parallelism) {
+
+        List<String> nodeIds = ClusterScanSupport.getNodeIds(getClusterConnection(), ScanCursor.INITIAL);
+        return ClusterScanSupport.parallelScan(nodeIds, this::getConnectionAsync, channel, scanArgs, parallelism);
+    }
+
     private <T extends ScanCursor> RedisFuture<T> clusterScan(ScanCursor cursor,
             BiFunction<RedisKeyAsyncCommands<K, V>, ScanCursor, RedisFuture<T>> scanFunction,
             ScanCursorMapper<RedisFuture<T>> resultMapper) {
 
-        return clusterScan(getStatefulConnection(), cursor, scanFunction, resultMapper);
+        return clusterScan(getClusterConnection(), cursor, scanFunction, resultMapper);
     }
 
     /**
@@ -36,6 +36,7 @@ import com.lambdaworks.redis.api.rx.RedisScriptingReactiveCommands;
 import com.lambdaworks.redis.api.rx.RedisServerReactiveCommands;
 import com.lambdaworks.redis.api.rx.Success;
 import com.lambdaworks.redis.cluster.ClusterConnectionProvider.Intent;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
 import com.lambdaworks.redis.cluster.api.rx.RedisAdvancedClusterReactiveCommands;
 import com.lambdaworks.redis.cluster.api.rx.RedisClusterReactiveCommands;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
@@ -57,6 +58,8 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
     private static Function<RedisClusterNode, Boolean> ALL_NODE_FILTER = node -> true;
 
+    private final StatefulRedisClusterConnectionImpl<K, V> clusterConnection;
+
     /**
      * Initialize a new connection.
      *
@@ -64,7 +67,23 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
      * @param codec Codec used to encode/decode keys and values.
      */
     public RedisAdvancedClusterReactiveCommandsImpl(StatefulRedisClusterConnectionImpl<K, V> connection, RedisCodec<K, V> codec) {
+        this(connection, connection, codec);
+    }
+
+    /**
+     * Initialize a new connection exposing {@code connection} as {@link #getStatefulConnection() stateful connection} while
+     * routing commands through {@code clusterConnection}. Used by connection wrappers such as pooled connections.
+     *
+     * @param connection the stateful connection exposed by this API, must delegate to {@code clusterConnection}.
+     * @param clusterConnection the underlying cluster connection.
+     * @param codec Codec used to encode/decode keys and values.
+     * @since 4.5
+     */
+    public RedisAdvancedClusterReactiveCommandsImpl(StatefulRedisClusterConnection<K, V> connection,
+            StatefulRedisClusterConnectionImpl<K, V> clusterConnection, RedisCodec<K, V> codec) {
+
         super(connection, codec);
+        this.clusterConnection = clusterConnection;
     }
 
     @Override
@@ -74,7 +93,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
         observables.add(super.clientSetname(name));
 
-        for (RedisClusterNode redisClusterNode : getStatefulConnection().getPartitions()) {
+        for (RedisClusterNode redisClusterNode : getClusterConnection().getPartitions()) {
             Single<RedisClusterReactiveCommands<K, V>> byNodeId = getConnectionReactive(redisClusterNode.getNodeId());
 
             observables.add(byNodeId.flatMapObservable(conn -> {
@@ -182,7 +201,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     @Override
     public Observable<V> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
 
-        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+        if (getClusterConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
             return super.georadius_ro(key, longitude, latitude, distance, unit);
         }
 
@@ -193,7 +212,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     public Observable<GeoWithin<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit,
             GeoArgs geoArgs) {
 
-        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+        if (getClusterConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
             return super.georadius_ro(key, longitude, latitude, distance, unit, geoArgs);
         }
 
@@ -203,7 +222,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     @Override
     public Observable<V> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit) {
 
-        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+        if (getClusterConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
             return super.georadiusbymember_ro(key, member, distance, unit);
         }
 
@@ -213,7 +232,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     @Override
     public Observable<GeoWithin<V>> georadiusbymember(K key, V member, double distance, GeoArgs.Unit unit, GeoArgs geoArgs) {
 
-        if (getStatefulConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
+        if (getClusterConnection().getState().hasCommand(CommandType.GEORADIUS_RO)) {
             return super.georadiusbymember_ro(key, member, distance, unit, geoArgs);
         }
 
@@ -317,7 +336,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     @Override
     public Observable<V> randomkey() {
 
-        Partitions partitions = getStatefulConnection().getPartitions();
+        Partitions partitions = getClusterConnection().getPartitions();
         int index = ThreadLocalRandom.current().nextInt(partitions.size());
 
         Single<RedisClusterReactiveCommands<K, V>> connection = getConnectionReactive(partitions.getPartition(index)
@@ -422,7 +441,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
         Map<String, Observable<T>> executions = new HashMap<>();
 
-        for (RedisClusterNode redisClusterNode : getStatefulConnection().getPartitions()) {
+        for (RedisClusterNode redisClusterNode : getClusterConnection().getPartitions()) {
 
             if (!filter.apply(redisClusterNode)) {
                 continue;
@@ -438,7 +457,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
     private Single<RedisClusterReactiveCommands<K, V>> findConnectionBySlotReactive(int slot) {
 
-        RedisClusterNode node = getStatefulConnection().getPartitions().getPartitionBySlot(slot);
+        RedisClusterNode node = getClusterConnection().getPartitions().getPartitionBySlot(slot);
         if (node != null) {
             return getConnectionReactive(node.getUri().getHost(), node.getUri().getPort());
         }
@@ -447,13 +466,34 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     }
 
     @Override
-    public StatefulRedisClusterConnectionImpl<K, V> getStatefulConnection() {
-        return (StatefulRedisClusterConnectionImpl<K, V>) connection;
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return (StatefulRedisClusterConnection<K, V>) connection;
+    }
+
+    /**
+     * @return the underlying cluster connection.
+     */
+    StatefulRedisClusterConnectionImpl<K, V> getClusterConnection() {
+        return clusterConnection;
+    }
+
+    /**
+     * Returns the underlying cluster connection. {@link #getStatefulConnection()} returned
+     * {@link StatefulRedisClusterConnectionImpl} before 4.5. It returns {@link StatefulRedisClusterConnection} since 4.5
+     * so connection wrappers such as pooled connections can be exposed.
+     *
+     * @return the underlying cluster connection.
+     * @since 4.5
+     * @deprecated since 4.5, use {@link #getStatefulConnection()} and program against {@link StatefulRedisClusterConnection}.
+     */
+    @Deprecated
+    public StatefulRedisClusterConnectionImpl<K, V> getStatefulConnectionImpl() {
+        return getClusterConnection();
     }
 
     @Override
     public RedisClusterReactiveCommands<K, V> getConnection(String nodeId) {
-        return getStatefulConnection().getConnection(nodeId).reactive();
+        return getClusterConnection().getConnection(nodeId).reactive();
     }
 
     private Single<RedisClusterReactiveCommands<K, V>> getConnectionReactive(String nodeId) {
@@ -463,7 +503,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
 
     @Override
     public RedisClusterReactiveCommands<K, V> getConnection(String host, int port) {
-        return getStatefulConnection().getConnection(host, port).reactive();
+        return getClusterConnection().getConnection(host, port).reactive();
     }
 
     private Single<RedisClusterReactiveCommands<K, V>> getConnectionReactive(String host, int port) {
@@ -472,7 +512,7 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
     }
 
     private AsyncClusterConnectionProvider getConnectionProvider() {
-        return (AsyncClusterConnectionProvider) getStatefulConnection().getClusterDistributionChannelWriter()
+        return (AsyncClusterConnectionProvider) getClusterConnection().getClusterDistributionChannelWriter()
                 .getClusterConnectionProvider();
     }
 
@@ -522,12 +562,28 @@ public class RedisAdvancedClusterReactiveCommandsImpl<K, V> extends AbstractRedi
                 reactiveClusterStreamScanCursorMapper());
     }
 
+    @Override
+    public Observable<K> scanParallel(int parallelism) {
+        return scanParallel(null, parallelism);
+    }
+
+    @Override
+    public Observable<K> scanParallel(ScanArgs scanArgs, int parallelism) {
+
+        return Observable.defer(() -> {
+
+            List<String> nodeIds = ClusterScanSupport.getNodeIds(getClusterConnection(), ScanCursor.INITIAL);
+            return ClusterScanSupport.reactiveParallelScan(nodeIds, nodeId -> getConnectionReactive(nodeId).toObservable(),
+                    scanArgs, parallelism);
+        });
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends ScanCursor> Observable<T> clusterScan(ScanCursor cursor,
             BiFunction<RedisKeyReactiveCommands<K, V>, ScanCursor, Observable<T>> scanFunction,
             ClusterScanSupport.ScanCursorMapper<Observable<T>> resultMapper) {
 
-        return clusterScan(getStatefulConnection(), cursor, scanFunction, (ClusterScanSupport.ScanCursorMapper) resultMapper);
+        return clusterScan(getClusterConnection(), cursor, scanFunction, (ClusterScanSupport.ScanCursorMapper) resultMapper);
     }
 
     /**
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Predicate;
+
+import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.NodeSelectionSupport;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelection;
+import com.lambdaworks.redis.cluster.api.sync.NodeSelectionCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+
+/**
+ * A synchronous and thread-safe API for a Redis Cluster connection. Commands are dispatched directly and awaited without the
+ * use of a proxy. Node selections are still backed by {@link NodeSelectionInvocationHandler}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class RedisAdvancedClusterSyncCommandsImpl<K, V> extends AbstractRedisAdvancedClusterSyncCommands<K, V> implements
+        RedisAdvancedClusterCommands<K, V> {
+
+    private final StatefulRedisClusterConnectionImpl<K, V> clusterConnection;
+    private final RedisAdvancedClusterAsyncCommandsImpl<K, V> clusterAsync;
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param connection the stateful connection
+     * @param codec Codec used to encode/decode keys and values.
+     * @param async the asynchronous API of {@code connection}
+     */
+    public RedisAdvancedClusterSyncCommandsImpl(StatefulRedisClusterConnectionImpl<K, V> connection, RedisCodec<K, V> codec,
+            RedisAdvancedClusterAsyncCommandsImpl<K, V> async) {
+        this(connection, connection, codec, async);
+    }
+
+    /**
+     * Initialize a new instance exposing {@code connection} as {@link #getStatefulConnection() stateful connection} while
+     * routing commands through {@code clusterConnection}. Used by connection wrappers such as pooled connections.
+     *
+     * @param connection the stateful connection exposed by this API, must delegate to {@code clusterConnection}.
+     * @param clusterConnection the underlying cluster connection.
+     * @param codec Codec used to encode/decode keys and values.
+     * @param async the asynchronous API of {@code connection}
+     * @since 4.5
+     */
+    public RedisAdvancedClusterSyncCommandsImpl(StatefulRedisClusterConnection<K, V> connection,
+            StatefulRedisClusterConnectionImpl<K, V> clusterConnection, RedisCodec<K, V> codec,
+            RedisAdvancedClusterAsyncCommandsImpl<K, V> async) {
+
+        super(connection, codec, async);
+        this.clusterConnection = clusterConnection;
+        this.clusterAsync = async;
+    }
+
+    @Override
+    public Long scanParallel(KeyStreamingChannel<K> channel, int parallelism) {
+        return await(clusterAsync.scanParallel(channel, parallelism));
+    }
+
+    @Override
+    public Long scanParallel(KeyStreamingChannel<K> channel, ScanArgs scanArgs, int parallelism) {
+        return await(clusterAsync.scanParallel(channel, scanArgs, parallelism));
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String nodeId) {
+        return clusterConnection.getConnection(nodeId).sync();
+    }
+
+    @Override
+    public RedisClusterCommands<K, V> getConnection(String host, int port) {
+        return clusterConnection.getConnection(host, port).sync();
+    }
+
+    @Override
+    public StatefulRedisClusterConnection<K, V> getStatefulConnection() {
+        return (StatefulRedisClusterConnection<K, V>) connection;
+    }
+
+    @Override
+    public NodeSelection<K, V> readonly(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.READ, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, false);
+    }
+
+    @Override
+    public NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, boolean dynamic) {
+        return nodes(predicate, ClusterConnectionProvider.Intent.WRITE, dynamic);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected NodeSelection<K, V> nodes(Predicate<RedisClusterNode> predicate, ClusterConnectionProvider.Intent intent,
+            boolean dynamic) {
+
+        NodeSelectionSupport<RedisCommands<K, V>, ?> selection;
+
+        if (dynamic) {
+            selection = new DynamicNodeSelection<>(clusterConnection.getClusterDistributionChannelWriter(), predicate, intent,
+                    StatefulRedisConnection::sync);
+        } else {
+            selection = new StaticNodeSelection<>(clusterConnection.getClusterDistributionChannelWriter(), predicate, intent,
+                    StatefulRedisConnection::sync);
+        }
+
+        NodeSelectionInvocationHandler h = new NodeSelectionInvocationHandler((AbstractNodeSelection<?, ?, ?, ?>) selection,
+                RedisClusterAsyncCommands.class, clusterConnection.getTimeout(), clusterConnection.getTimeoutUnit());
+        return (NodeSelection<K, V>) Proxy.newProxyInstance(NodeSelectionSupport.class.getClassLoader(), new Class<?>[] {
+                NodeSelectionCommands.class, NodeSelection.class }, h);
+    }
+}
@@ -21,6 +21,7 @@ import java.net.URI;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -42,10 +43,12 @@ import com.lambdaworks.redis.cluster.topology.NodeConnectionFactory;
 import com.lambdaworks.redis.cluster.topology.TopologyComparators;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.internal.ConnectionWarmUp;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceLists;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
 import com.lambdaworks.redis.protocol.CommandHandler;
+import com.lambdaworks.redis.protocol.HedgedReadDispatcher;
 import com.lambdaworks.redis.pubsub.PubSubCommandHandler;
 import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnection;
 import com.lambdaworks.redis.pubsub.StatefulRedisPubSubConnectionImpl;
@@ -133,6 +136,7 @@ public class RedisClusterClient extends AbstractRedisClient {
 
     protected final AtomicBoolean clusterTopologyRefreshActivated = new AtomicBoolean(false);
     protected final AtomicReference<ScheduledFuture<?>> clusterTopologyRefreshFuture = new AtomicReference<>();
+    private final AtomicInteger refreshSampleOffset = new AtomicInteger();
 
     private final ClusterTopologyRefresh refresh = new ClusterTopologyRefresh(new NodeConnectionFactoryImpl(), getResources());
     private final ClusterTopologyRefreshScheduler clusterTopologyRefreshScheduler = new ClusterTopologyRefreshScheduler(this,
@@ -585,6 +589,11 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
 
+        if (getOptions().getHedgedReadOptions().isEnabled()) {
+            clusterWriter.setHedgedReadDispatcher(new HedgedReadDispatcher(getOptions().getHedgedReadOptions(),
+                    clientResources.eventExecutorGroup()));
+        }
+
         StatefulRedisClusterConnectionImpl<K, V> connection = new StatefulRedisClusterConnectionImpl<>(clusterWriter, codec,
                 timeout, unit);
 
@@ -616,6 +625,9 @@ public class RedisClusterClient extends AbstractRedisClient {
 
         connection.registerCloseables(closeableResources, clusterWriter, pooledClusterConnectionProvider);
 
+        if (getOptions().getWarmUpOptions().isEnabled()) {
+            ConnectionWarmUp.await(pooledClusterConnectionProvider.warmUp(), getOptions().getWarmUpOptions());
+        }
 
         return connection;
     }
@@ -793,16 +805,38 @@ public class RedisClusterClient extends AbstractRedisClient {
         } else {
 
             Partitions loadedPartitions = loadPartitions();
+            boolean incremental = isIncrementalRefresh();
+
+            if (incremental && !TopologyComparators.isChangedInDetail(getPartitions(), loadedPartitions)) {
+                logger.debug("Cluster topology unchanged");
+                return;
+            }
+
             if (TopologyComparators.isChanged(getPartitions(), loadedPartitions)) {
 
                 logger.debug("Using a new cluster topology");
 
-                List<RedisClusterNode> before = new ArrayList<>(getPartitions());
+                List<RedisClusterNode> before = new ArrayList<>(getPartitions().size());
+                for (RedisClusterNode node : getPartitions()) {
+                    // incremental refreshes update nodes in place
+                    before.add(incremental ? new RedisClusterNode(node) : node);
+                }
                 List<RedisClusterNode> after = new ArrayList<>(loadedPartitions);
 
                 getResources().eventBus().publish(new ClusterTopologyChangedEvent(before, after));
             }
 
+            if (incremental) {
+
+                PartitionsUpdate update = PartitionsUpdate.apply(this.partitions, loadedPartitions);
+
+                if (!update.isEmpty()) {
+                    updatePartitionsInConnections(update);
+                }
+
+                return;
+            }
+
             this.partitions.reload(loadedPartitions.getPartitions());
         }
 
@@ -820,6 +854,23 @@ public class RedisClusterClient extends AbstractRedisClient {
         });
     }
 
+    /**
+     * Apply an in-place {@link PartitionsUpdate} to all connections. Connections retain their slot connection caches except
+     * for slots and nodes affected by {@code update}.
+     *
+     * @param update the applied update.
+     */
+    void updatePartitionsInConnections(PartitionsUpdate update) {
+
+        forEachClusterConnection(input -> {
+            input.updatePartitions(update);
+        });
+
+        forEachClusterPubSubConnection(input -> {
+            input.updatePartitions(update);
+        });
+    }
+
     protected void initializePartitions() {
         this.partitions = loadPartitions();
     }
@@ -836,6 +887,28 @@ public class RedisClusterClient extends AbstractRedisClient {
         return partitions;
     }
 
+    /**
+     * Returns the number of {@literal MOVED} redirections received by connections of this client. Redirections update the
+     * slot owner in {@link #getPartitions()} immediately. Sampling the count periodically yields the redirect rate, a
+     * persistently high rate indicates slot migrations or a stale topology view.
+     *
+     * @return number of {@literal MOVED} redirections since the client was created.
+     * @since 4.5
+     */
+    public long getMovedRedirectionCount() {
+        return clusterTopologyRefreshScheduler.getMovedRedirectionCount();
+    }
+
+    /**
+     * Returns the number of {@literal ASK} redirections received by connections of this client.
+     *
+     * @return number of {@literal ASK} redirections since the client was created.
+     * @since 4.5
+     */
+    public long getAskRedirectionCount() {
+        return clusterTopologyRefreshScheduler.getAskRedirectionCount();
+    }
+
     /**
      * Retrieve partitions. Nodes within {@link Partitions} are ordered by latency. Lower latency nodes come first.
      *
@@ -844,10 +917,22 @@ public class RedisClusterClient extends AbstractRedisClient {
     protected Partitions loadPartitions() {
 
         Iterable<RedisURI> topologyRefreshSource = getTopologyRefreshSource();
+        boolean discovery = useDynamicRefreshSources();
+        boolean incremental = isIncrementalRefresh();
+
+        if (incremental && this.partitions != null && !this.partitions.isEmpty()) {
+
+            int sampleSize = getClusterClientOptions().getTopologyRefreshOptions().getRefreshSampleSize();
+
+            if (sampleSize > 0) {
+                topologyRefreshSource = sample(topologyRefreshSource, sampleSize);
+                discovery = false;
+            }
+        }
 
         String message = "Cannot retrieve initial cluster partitions from initial URIs " + topologyRefreshSource;
         try {
-            Map<RedisURI, Partitions> partitions = refresh.loadViews(topologyRefreshSource, useDynamicRefreshSources());
+            Map<RedisURI, Partitions> partitions = refresh.loadViews(topologyRefreshSource, discovery, incremental);
 
             if (partitions.isEmpty()) {
                 throw new RedisException(message);
@@ -872,6 +957,28 @@ public class RedisClusterClient extends AbstractRedisClient {
         }
     }
 
+    /**
+     * Select {@code sampleSize} consecutive {@link RedisURI}s from {@code source}. Each call continues where the previous
+     * sample ended so that all nodes are queried over subsequent refreshes.
+     */
+    private List<RedisURI> sample(Iterable<RedisURI> source, int sampleSize) {
+
+        List<RedisURI> uris = LettuceLists.newList(source);
+
+        if (uris.size() <= sampleSize) {
+            return uris;
+        }
+
+        int offset = Math.floorMod(refreshSampleOffset.getAndAdd(sampleSize), uris.size());
+        List<RedisURI> sample = new ArrayList<>(sampleSize);
+
+        for (int i = 0; i < sampleSize; i++) {
+            sample.add(uris.get((offset + i) % uris.size()));
+        }
+
+        return sample;
+    }
+
     /**
      * Determines a {@link Partitions topology view} based on the current and the obtain topology views.
      *
@@ -947,6 +1054,8 @@ public class RedisClusterClient extends AbstractRedisClient {
             }
         }
 
+        refresh.close();
+
         super.shutdown(quietPeriod, timeout, timeUnit);
     }
 
@@ -1094,6 +1203,10 @@ public class RedisClusterClient extends AbstractRedisClient {
         return StringCodec.UTF8;
     }
 
+    boolean isIncrementalRefresh() {
+        return getClusterClientOptions() != null && getClusterClientOptions().getTopologyRefreshOptions().isIncrementalRefresh();
+    }
+
     ClusterClientOptions getClusterClientOptions() {
         if (getOptions() instanceof ClusterClientOptions) {
             return (ClusterClientOptions) getOptions();
@@ -19,7 +19,10 @@ import java.nio.ByteBuffer;
 import java.util.*;
 
 import com.lambdaworks.codec.CRC16;
-import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.codec.*;
+import com.lambdaworks.redis.protocol.CommandArgs.ExperimentalByteArrayCodec;
+
+import io.netty.buffer.ByteBuf;
 
 /**
  * Utility to calculate the slot from a key.
@@ -49,13 +52,38 @@ public class SlotHash {
     }
 
     /**
-     * Calculate the slot from the given key.
+     * Calculate the slot from the given key. The slot is calculated from the UTF-8 representation of the key.
      *
      * @param key the key
      * @return slot
      */
     public static final int getSlot(String key) {
-        return getSlot(key.getBytes());
+        return getSlot((CharSequence) key);
+    }
+
+    /**
+     * Calculate the slot from the given key without encoding the key into an intermediate buffer. The slot is calculated from
+     * the UTF-8 representation of the key.
+     *
+     * @param key the key
+     * @return slot
+     * @since 4.5
+     */
+    public static int getSlot(CharSequence key) {
+
+        int from = 0;
+        int to = key.length();
+
+        int start = indexOf(key, from, to, (char) SUBKEY_START);
+        if (start != -1) {
+            int end = indexOf(key, start + 1, to, (char) SUBKEY_END);
+            if (end != -1 && end != start + 1) {
+                from = start + 1;
+                to = end;
+            }
+        }
+
+        return CRC16.crc16(key, from, to) % SLOT_COUNT;
     }
 
     /**
@@ -65,45 +93,120 @@ public class SlotHash {
      * @return slot
      */
     public static int getSlot(byte[] key) {
-        return getSlot(ByteBuffer.wrap(key));
+        return getSlot(key, 0, key.length);
     }
 
     /**
-     * Calculate the slot from the given key.
+     * Calculate the slot from the given key. The slot is calculated from the {@link ByteBuffer#remaining() remaining} bytes.
+     * Position and limit of the buffer remain unchanged.
      *
      * @param key the key
      * @return slot
      */
     public static int getSlot(ByteBuffer key) {
 
-        int limit = key.limit();
-        int position = key.position();
+        if (key.hasArray()) {
+            return getSlot(key.array(), key.arrayOffset() + key.position(), key.remaining());
+        }
+
+        int from = key.position();
+        int to = key.limit();
 
-        int start = indexOf(key, SUBKEY_START);
+        int start = indexOf(key, from, to, SUBKEY_START);
         if (start != -1) {
-            int end = indexOf(key, start + 1, SUBKEY_END);
+            int end = indexOf(key, start + 1, to, SUBKEY_END);
             if (end != -1 && end != start + 1) {
-                key.position(start + 1).limit(end);
+                from = start + 1;
+                to = end;
             }
         }
 
-        try {
-            if (key.hasArray()) {
-                return CRC16.crc16(key.array(), key.position(), key.limit() - key.position()) % SLOT_COUNT;
+        return CRC16.crc16(key, from, to - from) % SLOT_COUNT;
+    }
+
+    /**
+     * Calculate the slot from the given key. The slot is calculated from the {@link ByteBuf#readableBytes() readable bytes}.
+     * Reader and writer index of the buffer remain unchanged.
+     *
+     * @param key the key
+     * @return slot
+     * @since 4.5
+     */
+    public static int getSlot(ByteBuf key) {
+
+        if (key.hasArray()) {
+            return getSlot(key.array(), key.arrayOffset() + key.readerIndex(), key.readableBytes());
+        }
+
+        if (key.nioBufferCount() == 1) {
+            return getSlot(key.internalNioBuffer(key.readerIndex(), key.readableBytes()));
+        }
+
+        return getSlot(key.nioBuffer());
+    }
+
+    /**
+     * Calculate the slot for the given key. Keys of the built-in codecs are hashed without encoding, other keys are encoded
+     * with the {@link RedisCodec codec} first.
+     *
+     * @param codec codec to encode the key
+     * @param key the key
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return slot
+     * @since 4.5
+     */
+    static <K, V> int getSlot(RedisCodec<K, V> codec, K key) {
+
+        Class<?> codecType = codec.getClass();
+
+        if (key instanceof byte[] && (codecType == ByteArrayCodec.class || codecType == ExperimentalByteArrayCodec.class)) {
+            return getSlot((byte[]) key);
+        }
+
+        if (key instanceof String && (codecType == Utf8StringCodec.class || codec == StringCodec.UTF8)) {
+            return getSlot((CharSequence) key);
+        }
+
+        if (key instanceof ByteBuf && codecType == ByteBufCodec.class) {
+            return getSlot((ByteBuf) key);
+        }
+
+        return getSlot(codec.encodeKey(key));
+    }
+
+    private static int getSlot(byte[] key, int offset, int length) {
+
+        int from = offset;
+        int to = offset + length;
+
+        int start = indexOf(key, from, to, SUBKEY_START);
+        if (start != -1) {
+            int end = indexOf(key, start + 1, to, SUBKEY_END);
+            if (end != -1 && end != start + 1) {
+                from = start + 1;
+                to = end;
             }
-            return CRC16.crc16(key) % SLOT_COUNT;
-        } finally {
-            key.position(position).limit(limit);
         }
+
+        return CRC16.crc16(key, from, to - from) % SLOT_COUNT;
     }
 
-    private static int indexOf(ByteBuffer haystack, byte needle) {
-        return indexOf(haystack, haystack.position(), needle);
+    private static int indexOf(byte[] haystack, int start, int end, byte needle) {
+
+        for (int i = start; i < end; i++) {
+
+            if (haystack[i] == needle) {
+                return i;
+            }
+        }
+
+        return -1;
     }
 
-    private static int indexOf(ByteBuffer haystack, int start, byte needle) {
+    private static int indexOf(ByteBuffer haystack, int start, int end, byte needle) {
 
-        for (int i = start; i < haystack.remaining(); i++) {
+        for (int i = start; i < end; i++) {
 
             if (haystack.get(i) == needle) {
                 return i;
@@ -113,6 +216,18 @@ public class SlotHash {
         return -1;
     }
 
+    private static int indexOf(CharSequence haystack, int start, int end, char needle) {
+
+        for (int i = start; i < end; i++) {
+
+            if (haystack.charAt(i) == needle) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * Partition keys by slot-hash. The resulting map honors order of the keys.
      *
@@ -127,7 +242,7 @@ public class SlotHash {
 
         Map<Integer, List<K>> partitioned = new HashMap<>();
         for (K key : keys) {
-            int slot = getSlot(codec.encodeKey(key));
+            int slot = getSlot(codec, key);
             if (!partitioned.containsKey(slot)) {
                 partitioned.put(slot, new ArrayList<>());
             }
@@ -137,6 +252,40 @@ public class SlotHash {
         return partitioned;
     }
 
+    /**
+     * Partition keys by slot-hash and record the slot and the position within the partition for each key. The resulting map
+     * honors order of the keys. {@code slots[i]} and {@code positions[i]} allow looking up the result for {@code keys.get(i)}
+     * without searching the partition, duplicate keys retain their own position.
+     *
+     * @param codec codec to encode the key
+     * @param keys list of keys
+     * @param slots array receiving the slot-hash for each key, must be at least as long as {@code keys}
+     * @param positions array receiving the position within the partition for each key, must be at least as long as
+     *        {@code keys}
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return map between slot-hash and an ordered list of keys.
+     * @since 4.5
+     */
+    static <K, V> Map<Integer, List<K>> partition(RedisCodec<K, V> codec, List<K> keys, int[] slots, int[] positions) {
+
+        Map<Integer, List<K>> partitioned = new LinkedHashMap<>();
+
+        int index = 0;
+        for (K key : keys) {
+
+            int slot = getSlot(codec, key);
+            List<K> partition = partitioned.computeIfAbsent(slot, k -> new ArrayList<>());
+
+            slots[index] = slot;
+            positions[index] = partition.size();
+            partition.add(key);
+            index++;
+        }
+
+        return partitioned;
+    }
+
     /**
      * Create mapping between the Key and hash slot.
      *
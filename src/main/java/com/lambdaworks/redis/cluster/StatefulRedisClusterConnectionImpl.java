@@ -20,7 +20,7 @@ import static com.lambdaworks.redis.protocol.CommandType.READONLY;
 import static com.lambdaworks.redis.protocol.CommandType.READWRITE;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -86,9 +86,7 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         this.codec = codec;
 
         this.async = new RedisAdvancedClusterAsyncCommandsImpl<>(this, codec);
-        this.sync = (RedisAdvancedClusterCommands) Proxy.newProxyInstance(AbstractRedisClient.class.getClassLoader(),
-                new Class<?>[] { RedisAdvancedClusterConnection.class, RedisAdvancedClusterCommands.class },
-                syncInvocationHandler());
+        this.sync = new RedisAdvancedClusterSyncCommandsImpl<>(this, codec, async);
         this.reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(this, codec);
     }
 
@@ -97,6 +95,12 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return sync;
     }
 
+    /**
+     * @return the {@link InvocationHandler} for a proxy-based synchronous API.
+     * @deprecated since 4.5, {@link #sync()} is implemented by {@link RedisAdvancedClusterSyncCommandsImpl} and no longer
+     *             proxy-based.
+     */
+    @Deprecated
     protected InvocationHandler syncInvocationHandler() {
         return new ClusterFutureSyncInvocationHandler<>(this, RedisClusterAsyncCommands.class, NodeSelection.class,
                 NodeSelectionCommands.class, async());
@@ -112,6 +116,14 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return reactive;
     }
 
+    /**
+     * @return the codec used to encode/decode keys and values.
+     * @since 4.5
+     */
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
     @Deprecated
     protected RedisAdvancedClusterReactiveCommandsImpl<K, V> getReactiveCommands() {
         return reactive;
@@ -232,6 +244,18 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         return super.dispatch((C) local);
     }
 
+    /**
+     * Dispatch multiple commands. Commands that target the same cluster node are written as a single batch.
+     *
+     * @param commands the commands to dispatch
+     * @return the dispatched commands
+     * @since 4.5
+     */
+    @Override
+    public Collection<RedisCommand<K, V, ?>> dispatch(Collection<? extends RedisCommand<K, V, ?>> commands) {
+        return super.dispatch(commands);
+    }
+
     private <T> RedisCommand<K, V, T> attachOnComplete(RedisCommand<K, V, T> command, Consumer<T> consumer) {
 
         if (command instanceof CompleteableCommand) {
@@ -246,6 +270,10 @@ public class StatefulRedisClusterConnectionImpl<K, V> extends RedisChannelHandle
         getClusterDistributionChannelWriter().setPartitions(partitions);
     }
 
+    void updatePartitions(PartitionsUpdate update) {
+        getClusterDistributionChannelWriter().updatePartitions(update);
+    }
+
     public Partitions getPartitions() {
         return partitions;
     }
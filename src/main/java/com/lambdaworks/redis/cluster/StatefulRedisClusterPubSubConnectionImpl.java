@@ -150,6 +150,10 @@ class StatefulRedisClusterPubSubConnectionImpl<K, V> extends StatefulRedisPubSub
         getClusterDistributionChannelWriter().setPartitions(partitions);
     }
 
+    void updatePartitions(PartitionsUpdate update) {
+        getClusterDistributionChannelWriter().updatePartitions(update);
+    }
+
     public Partitions getPartitions() {
         return partitions;
     }
@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 
 import com.lambdaworks.redis.ConnectionFuture;
 import com.lambdaworks.redis.RedisConnectionException;
@@ -179,6 +180,25 @@ class SynchronizingClusterConnectionProvider<K, V> {
         connections.forEach((key, sync) -> sync.doWithSync(action));
     }
 
+    /**
+     * Sum a value across all established {@link StatefulRedisConnection}s. Pending connections are not considered.
+     *
+     * @param function the function to obtain the value of a connection.
+     * @return the sum.
+     */
+    public int sum(ToIntFunction<? super StatefulRedisConnection<K, V>> function) {
+
+        int sum = 0;
+
+        for (Sync<K, V> sync : connections.values()) {
+            if (sync instanceof Finished) {
+                sum += function.applyAsInt(sync.getConnection());
+            }
+        }
+
+        return sum;
+    }
+
     interface Sync<K, V> {
 
         /**
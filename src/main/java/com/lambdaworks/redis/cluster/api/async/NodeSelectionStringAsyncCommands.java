@@ -20,6 +20,7 @@ import java.util.Map;
 import com.lambdaworks.redis.BitFieldArgs;
 import com.lambdaworks.redis.SetArgs;
 import com.lambdaworks.redis.output.ValueStreamingChannel;
+import com.lambdaworks.redis.output.BulkChunkConsumer;
 
 /**
  * Asynchronous executed commands on a node selection for Strings.
@@ -202,6 +203,16 @@ public interface NodeSelectionStringAsyncCommands<K, V> {
      */
     AsyncExecutions<V> get(K key);
 
+    /**
+     * Stream over the value of a key in chunks. The value is passed to the {@code consumer} as the bytes arrive from the server
+     * without accumulating the whole value in memory.
+     *
+     * @param consumer the chunk consumer
+     * @param key the key
+     * @return Long bulk-string-reply the number of bytes streamed, or {@literal null} when {@code key} does not exist.
+     */
+    AsyncExecutions<Long> get(BulkChunkConsumer consumer, K key);
+
     /**
      * Returns the bit value at offset in the string value stored at key.
      *
@@ -294,6 +294,33 @@ public interface RedisAdvancedClusterReactiveCommands<K, V> extends RedisCluster
      */
     Observable<StreamScanCursor> scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor);
 
+    /**
+     * Iterate the keys space of all Cluster nodes concurrently. Nodes are selected using the {@link
+     * com.lambdaworks.redis.ReadFrom} setting of the connection. At most {@code parallelism} nodes are scanned at the same
+     * time. The next page of a node is requested while the keys of the current page are emitted. The resulting
+     * {@link Observable} supports backpressure, keys of different nodes are interleaved.
+     *
+     * @param parallelism number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @return K the scanned keys.
+     * @see RedisKeyReactiveCommands#scan(ScanArgs)
+     * @since 4.5
+     */
+    Observable<K> scanParallel(int parallelism);
+
+    /**
+     * Iterate the keys space of all Cluster nodes concurrently. Nodes are selected using the {@link
+     * com.lambdaworks.redis.ReadFrom} setting of the connection. At most {@code parallelism} nodes are scanned at the same
+     * time. The next page of a node is requested while the keys of the current page are emitted. The resulting
+     * {@link Observable} supports backpressure, keys of different nodes are interleaved.
+     *
+     * @param scanArgs scan arguments
+     * @param parallelism number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @return K the scanned keys.
+     * @see RedisKeyReactiveCommands#scan(ScanArgs)
+     * @since 4.5
+     */
+    Observable<K> scanParallel(ScanArgs scanArgs, int parallelism);
+
     /**
      * Touch one or more keys with pipelining. Touch sets the last accessed time for a key. Non-exsitent keys wont get created.
      * Cross-slot keys will result in multiple calls to the particular cluster nodes.
@@ -356,6 +356,35 @@ public interface RedisAdvancedClusterCommands<K, V> extends RedisClusterCommands
      */
     StreamScanCursor scan(KeyStreamingChannel<K> channel, ScanCursor scanCursor);
 
+    /**
+     * Iterate the keys space of all Cluster nodes concurrently. Nodes are selected using the {@link
+     * com.lambdaworks.redis.ReadFrom} setting of the connection. At most {@code parallelism} nodes are scanned at the same
+     * time. The next page of a node is requested while the keys of the current page are emitted. {@code channel} is not
+     * invoked concurrently but keys of different nodes are interleaved.
+     *
+     * @param channel streaming channel that receives a call for every key
+     * @param parallelism number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @return Long the number of scanned keys.
+     * @see RedisKeyCommands#scan(KeyStreamingChannel, ScanArgs)
+     * @since 4.5
+     */
+    Long scanParallel(KeyStreamingChannel<K> channel, int parallelism);
+
+    /**
+     * Iterate the keys space of all Cluster nodes concurrently. Nodes are selected using the {@link
+     * com.lambdaworks.redis.ReadFrom} setting of the connection. At most {@code parallelism} nodes are scanned at the same
+     * time. The next page of a node is requested while the keys of the current page are emitted. {@code channel} is not
+     * invoked concurrently but keys of different nodes are interleaved.
+     *
+     * @param channel streaming channel that receives a call for every key
+     * @param scanArgs scan arguments
+     * @param parallelism number of nodes to scan concurrently, must be greater {@literal 0}.
+     * @return Long the number of scanned keys.
+     * @see RedisKeyCommands#scan(KeyStreamingChannel, ScanArgs)
+     * @since 4.5
+     */
+    Long scanParallel(KeyStreamingChannel<K> channel, ScanArgs scanArgs, int parallelism);
+
     /**
      * Touch one or more keys with pipelining. Touch sets the last accessed time for a key. Non-exsitent keys wont get created.
      * Cross-slot keys will result in multiple calls to the particular cluster nodes.
@@ -15,18 +15,19 @@
  */
 package com.lambdaworks.redis.cluster.models.partitions;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import com.lambdaworks.redis.LettuceStrings;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.internal.HostAndPort;
-import com.lambdaworks.redis.internal.LettuceLists;
 
 /**
- * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}.
+ * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}. The parser operates in a single
+ * pass on the raw reply bytes and does not split the output into intermediate line or token {@link String strings}.
  * 
  * @author Mark Paluch
  * @since 3.0
@@ -35,12 +36,16 @@ public class ClusterPartitionParser {
 
     public static final String CONNECTED = "connected";
 
-    private static final String TOKEN_SLOT_IN_TRANSITION = "[";
-    private static final char TOKEN_NODE_SEPARATOR = '\n';
-    private static final Pattern TOKEN_PATTERN = Pattern.compile(Character.toString(TOKEN_NODE_SEPARATOR));
-    private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
-    private static final Pattern DASH_PATTERN = Pattern.compile("\\-");
-    private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
+    private static final byte TOKEN_SLOT_IN_TRANSITION = '[';
+    private static final byte TOKEN_NODE_SEPARATOR = '\n';
+    private static final byte TOKEN_SEPARATOR = ' ';
+    private static final byte TOKEN_FLAG_SEPARATOR = ',';
+    private static final byte TOKEN_RANGE_SEPARATOR = '-';
+    private static final byte TOKEN_BUS_PORT_SEPARATOR = '@';
+    private static final byte[] CONNECTED_BYTES = CONNECTED.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NO_MASTER = "-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] FLAG_NAMES;
+    private static final RedisClusterNode.NodeFlag[] FLAG_VALUES;
 
     static {
         Map<String, RedisClusterNode.NodeFlag> map = new HashMap<>();
@@ -53,7 +58,16 @@ public class ClusterPartitionParser {
         map.put("fail", RedisClusterNode.NodeFlag.FAIL);
         map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
         map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
-        FLAG_MAPPING = Collections.unmodifiableMap(map);
+
+        FLAG_NAMES = new byte[map.size()][];
+        FLAG_VALUES = new RedisClusterNode.NodeFlag[map.size()];
+
+        int index = 0;
+        for (Map.Entry<String, RedisClusterNode.NodeFlag> entry : map.entrySet()) {
+            FLAG_NAMES[index] = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            FLAG_VALUES[index] = entry.getValue();
+            index++;
+        }
     }
 
     /**
@@ -70,32 +84,48 @@ public class ClusterPartitionParser {
      * @return the partitions object.
      */
     public static Partitions parse(String nodes) {
+        return parse(ByteBuffer.wrap(nodes.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Parse raw partition lines into Partitions object. Parsing reads the remaining bytes of {@code nodes} without changing the
+     * buffer position.
+     *
+     * @param nodes raw output of CLUSTER NODES
+     * @return the partitions object.
+     * @since 4.5
+     */
+    public static Partitions parse(ByteBuffer nodes) {
+
         Partitions result = new Partitions();
 
         try {
-            List<RedisClusterNode> mappedNodes = TOKEN_PATTERN.splitAsStream(nodes).filter(s -> !s.isEmpty())
-                    .map(ClusterPartitionParser::parseNode)
-                    .collect(Collectors.toList());
+
+            List<RedisClusterNode> mappedNodes = new ArrayList<>();
+            LineReader reader = new LineReader(nodes);
+
+            while (reader.nextLine()) {
+                mappedNodes.add(parseNode(reader));
+            }
+
             result.addAll(mappedNodes);
         } catch (Exception e) {
-            throw new RedisException("Cannot parse " + nodes, e);
+            throw new RedisException("Cannot parse " + StandardCharsets.UTF_8.decode(nodes.duplicate()), e);
         }
 
         return result;
     }
 
-    private static RedisClusterNode parseNode(String nodeInformation) {
+    private static RedisClusterNode parseNode(LineReader reader) {
 
-        Iterator<String> iterator = SPACE_PATTERN.splitAsStream(nodeInformation).iterator();
-
-        String nodeId = iterator.next();
+        String nodeId = reader.requireToken().tokenAsString();
         boolean connected = false;
         RedisURI uri = null;
 
-        String hostAndPortPart = iterator.next();
-        if(hostAndPortPart.contains("@")) {
-            hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
-        }
+        reader.requireToken();
+        int busPortSeparator = reader.indexOf(TOKEN_BUS_PORT_SEPARATOR);
+        String hostAndPortPart = busPortSeparator == -1 ? reader.tokenAsString() : reader.asString(reader.tokenStart,
+                busPortSeparator);
 
         HostAndPort hostAndPort = HostAndPort.parseCompat(hostAndPortPart);
 
@@ -103,83 +133,253 @@ public class ClusterPartitionParser {
             uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
         }
 
-        String flags = iterator.next();
-        List<String> flagStrings = LettuceLists.newList(flags.split("\\,"));
-
-        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
+        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(reader.requireToken());
 
-        String slaveOfString = iterator.next(); // (nodeId or -)
-        String slaveOf = "-".equals(slaveOfString) ? null : slaveOfString;
+        reader.requireToken(); // (nodeId or -)
+        String slaveOf = reader.tokenEquals(NO_MASTER) ? null : reader.tokenAsString();
 
-        long pingSentTs = getLongFromIterator(iterator, 0);
-        long pongReceivedTs = getLongFromIterator(iterator, 0);
-        long configEpoch = getLongFromIterator(iterator, 0);
+        long pingSentTs = reader.nextToken() ? reader.tokenAsLong() : 0;
+        long pongReceivedTs = reader.nextToken() ? reader.tokenAsLong() : 0;
+        long configEpoch = reader.nextToken() ? reader.tokenAsLong() : 0;
 
-        String connectedFlags = iterator.next(); // "connected" : "disconnected"
-
-        if (CONNECTED.equals(connectedFlags)) {
+        if (reader.requireToken().tokenEquals(CONNECTED_BYTES)) { // "connected" : "disconnected"
             connected = true;
         }
 
-        List<String> slotStrings = LettuceLists.newList(iterator); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
-        List<Integer> slots = readSlots(slotStrings);
+        BitSet slots = readSlots(reader); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
 
         RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs,
-                configEpoch, slots, nodeFlags);
+                configEpoch, Collections.emptyList(), nodeFlags);
+        partition.setSlots(slots);
 
         return partition;
 
     }
 
-    private static Set<RedisClusterNode.NodeFlag> readFlags(List<String> flagStrings) {
+    private static Set<RedisClusterNode.NodeFlag> readFlags(LineReader reader) {
+
+        Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
+
+        int flagStart = reader.tokenStart;
+        while (flagStart <= reader.tokenEnd) {
 
-        Set<RedisClusterNode.NodeFlag> flags = new HashSet<>();
-        for (String flagString : flagStrings) {
-            if (FLAG_MAPPING.containsKey(flagString)) {
-                flags.add(FLAG_MAPPING.get(flagString));
+            int flagEnd = reader.indexOf(TOKEN_FLAG_SEPARATOR, flagStart);
+            if (flagEnd == -1) {
+                flagEnd = reader.tokenEnd;
             }
+
+            for (int i = 0; i < FLAG_NAMES.length; i++) {
+                if (reader.regionEquals(flagStart, flagEnd, FLAG_NAMES[i])) {
+                    flags.add(FLAG_VALUES[i]);
+                    break;
+                }
+            }
+
+            flagStart = flagEnd + 1;
         }
+
         return Collections.unmodifiableSet(flags);
     }
 
-    private static List<Integer> readSlots(List<String> slotStrings) {
+    private static BitSet readSlots(LineReader reader) {
+
+        BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
 
-        List<Integer> slots = new ArrayList<>();
-        for (String slotString : slotStrings) {
+        while (reader.nextToken()) {
 
-            if (slotString.startsWith(TOKEN_SLOT_IN_TRANSITION)) {
+            if (reader.byteAt(reader.tokenStart) == TOKEN_SLOT_IN_TRANSITION) {
                 // not interesting
                 continue;
-
             }
 
-            if (slotString.contains("-")) {
+            int rangeSeparator = reader.indexOf(TOKEN_RANGE_SEPARATOR);
+            if (rangeSeparator != -1) {
                 // slot range
-                Iterator<String> it = DASH_PATTERN.splitAsStream(slotString).iterator();
-                int from = Integer.parseInt(it.next());
-                int to = Integer.parseInt(it.next());
+                int from = (int) reader.parseLong(reader.tokenStart, rangeSeparator);
+                int to = (int) reader.parseLong(rangeSeparator + 1, reader.tokenEnd);
+                slots.set(from, to + 1);
+                continue;
+            }
+
+            slots.set((int) reader.tokenAsLong());
+        }
+
+        return slots;
+    }
+
+    /**
+     * Cursor over the lines and space-separated tokens of the raw {@code CLUSTER NODES} output. Positions are absolute buffer
+     * indexes, the buffer position is not changed.
+     */
+    private static class LineReader {
+
+        private final ByteBuffer buffer;
+        private final int limit;
+        private int nextLineStart;
+        private int lineStart;
+        private int lineEnd;
+        private int tokenStart;
+        private int tokenEnd;
+
+        LineReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.limit = buffer.limit();
+            this.nextLineStart = buffer.position();
+        }
+
+        /**
+         * Advance to the next non-empty line.
+         *
+         * @return {@literal true} if a line is available.
+         */
+        boolean nextLine() {
+
+            while (nextLineStart < limit) {
 
-                for (int slot = from; slot <= to; slot++) {
-                    slots.add(slot);
+                int start = nextLineStart;
+                int end = start;
 
+                while (end < limit && buffer.get(end) != TOKEN_NODE_SEPARATOR) {
+                    end++;
+                }
+
+                nextLineStart = end + 1;
+
+                while (end > start && buffer.get(end - 1) == '\r') {
+                    end--;
+                }
+
+                if (end > start) {
+                    lineStart = start;
+                    lineEnd = end;
+                    tokenEnd = start - 1;
+                    return true;
                 }
-                continue;
             }
 
-            slots.add(Integer.parseInt(slotString));
+            return false;
         }
 
-        return Collections.unmodifiableList(slots);
-    }
+        /**
+         * Advance to the next token of the current line.
+         *
+         * @return {@literal true} if a token is available.
+         */
+        boolean nextToken() {
+
+            int position = tokenEnd + 1;
+            while (position < lineEnd && buffer.get(position) == TOKEN_SEPARATOR) {
+                position++;
+            }
+
+            if (position >= lineEnd) {
+                tokenStart = tokenEnd = lineEnd;
+                return false;
+            }
+
+            tokenStart = position;
+            while (position < lineEnd && buffer.get(position) != TOKEN_SEPARATOR) {
+                position++;
+            }
+            tokenEnd = position;
+
+            return true;
+        }
+
+        LineReader requireToken() {
 
-    private static long getLongFromIterator(Iterator<?> iterator, long defaultValue) {
-        if (iterator.hasNext()) {
-            Object object = iterator.next();
-            if (object instanceof String) {
-                return Long.parseLong((String) object);
+            if (!nextToken()) {
+                throw new IllegalArgumentException("Unexpected end of line: " + asString(lineStart, lineEnd));
             }
+
+            return this;
         }
-        return defaultValue;
-    }
 
+        byte byteAt(int index) {
+            return buffer.get(index);
+        }
+
+        int indexOf(byte b) {
+            return indexOf(b, tokenStart);
+        }
+
+        int indexOf(byte b, int from) {
+
+            for (int i = from; i < tokenEnd; i++) {
+                if (buffer.get(i) == b) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        boolean tokenEquals(byte[] bytes) {
+            return regionEquals(tokenStart, tokenEnd, bytes);
+        }
+
+        boolean regionEquals(int start, int end, byte[] bytes) {
+
+            if (end - start != bytes.length) {
+                return false;
+            }
+
+            for (int i = 0; i < bytes.length; i++) {
+                if (buffer.get(start + i) != bytes[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        long tokenAsLong() {
+            return parseLong(tokenStart, tokenEnd);
+        }
+
+        long parseLong(int start, int end) {
+
+            if (start >= end) {
+                throw new NumberFormatException("Empty number in: " + asString(lineStart, lineEnd));
+            }
+
+            boolean negative = buffer.get(start) == '-';
+            int index = negative ? start + 1 : start;
+            long result = 0;
+
+            if (index == end) {
+                throw new NumberFormatException(asString(start, end));
+            }
+
+            for (; index < end; index++) {
+
+                int digit = buffer.get(index) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException(asString(start, end));
+                }
+
+                result = result * 10 + digit;
+            }
+
+            return negative ? -result : result;
+        }
+
+        String tokenAsString() {
+            return asString(tokenStart, tokenEnd);
+        }
+
+        String asString(int start, int end) {
+
+            if (buffer.hasArray()) {
+                return new String(buffer.array(), buffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+            }
+
+            byte[] bytes = new byte[end - start];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(start + i);
+            }
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
 }
@@ -103,9 +103,7 @@ public class Partitions implements Collection<RedisClusterNode> {
             for (RedisClusterNode partition : partitions) {
 
                 readView.add(partition);
-                for (Integer integer : partition.getSlots()) {
-                    slotCache[integer.intValue()] = partition;
-                }
+                partition.forEachSlotRange((from, to) -> Arrays.fill(slotCache, from, to + 1, partition));
             }
 
             this.slotCache = slotCache;
@@ -113,6 +111,80 @@ public class Partitions implements Collection<RedisClusterNode> {
         }
     }
 
+    /**
+     * Reassign a single {@code slot} to {@code node} without rebuilding the partition source. The slot is removed from its
+     * previous owner and the slot cache is updated in place, so concurrent lookups see either the previous or the new owner.
+     * This method is intended to apply {@literal MOVED} redirections until the next topology refresh replaces the partitions.
+     *
+     * @param slot the slot
+     * @param node the new owner of the slot, must be part of this {@link Partitions}
+     * @return {@literal true} if the owner of the slot changed.
+     * @since 4.5
+     */
+    public boolean reassignSlot(int slot, RedisClusterNode node) {
+
+        LettuceAssert.notNull(node, "RedisClusterNode must not be null");
+        LettuceAssert.isTrue(slot >= 0 && slot < SlotHash.SLOT_COUNT, "Slot " + slot + " out of range");
+
+        synchronized (partitions) {
+
+            if (this.slotCache == EMPTY || !containsInstance(node)) {
+                return false;
+            }
+
+            RedisClusterNode previous = this.slotCache[slot];
+            if (previous == node) {
+                return false;
+            }
+
+            if (previous != null) {
+                previous.setSlot(slot, false);
+            }
+            node.setSlot(slot, true);
+
+            this.slotCache[slot] = node;
+
+            return true;
+        }
+    }
+
+    /**
+     * Remove {@code slot} from its owner without rebuilding the partition source, leaving the slot unassigned. The slot cache
+     * is updated in place.
+     *
+     * @param slot the slot
+     * @return {@literal true} if the slot was assigned to a node.
+     * @since 4.5
+     */
+    public boolean unassignSlot(int slot) {
+
+        LettuceAssert.isTrue(slot >= 0 && slot < SlotHash.SLOT_COUNT, "Slot " + slot + " out of range");
+
+        synchronized (partitions) {
+
+            RedisClusterNode previous = this.slotCache[slot];
+            if (this.slotCache == EMPTY || previous == null) {
+                return false;
+            }
+
+            previous.setSlot(slot, false);
+            this.slotCache[slot] = null;
+
+            return true;
+        }
+    }
+
+    private boolean containsInstance(RedisClusterNode node) {
+
+        for (RedisClusterNode partition : partitions) {
+            if (partition == node) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Returns an iterator over the {@link RedisClusterNode nodes} in this {@link Partitions} from the read-view. The
      * {@link Iterator} remains consistent during partition updates with the nodes that have been part of the {@link Partitions}
@@ -16,11 +16,11 @@
 package com.lambdaworks.redis.cluster.models.partitions;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.IntConsumer;
 
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceSets;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
@@ -45,7 +45,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
     private long pongReceivedTimestamp;
     private long configEpoch;
 
-    private List<Integer> slots;
+    private BitSet slots;
     private Set<NodeFlag> flags;
 
     public RedisClusterNode() {
@@ -61,7 +61,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = pingSentTimestamp;
         this.pongReceivedTimestamp = pongReceivedTimestamp;
         this.configEpoch = configEpoch;
-        this.slots = slots;
+        this.slots = slots != null ? toBitSet(slots) : null;
         this.flags = flags;
     }
 
@@ -73,7 +73,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pingSentTimestamp = redisClusterNode.pingSentTimestamp;
         this.pongReceivedTimestamp = redisClusterNode.pongReceivedTimestamp;
         this.configEpoch = redisClusterNode.configEpoch;
-        this.slots = new ArrayList<>(redisClusterNode.slots);
+        this.slots = redisClusterNode.slots != null ? (BitSet) redisClusterNode.slots.clone() : null;
         this.flags = LettuceSets.newHashSet(redisClusterNode.flags);
     }
 
@@ -183,8 +183,16 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.configEpoch = configEpoch;
     }
 
+    /**
+     * Returns the slots for which this {@link RedisClusterNode} is the
+     * {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag#MASTER}. The returned {@link List} is a
+     * view in ascending slot order that is backed by this node: changes to the list are reflected in the node. Adding a slot
+     * that is already contained does not change the list.
+     *
+     * @return the slots or {@literal null} if slots were not set.
+     */
     public List<Integer> getSlots() {
-        return slots;
+        return slots != null ? new SlotList(slots) : null;
     }
 
     /**
@@ -197,9 +205,111 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
     public void setSlots(List<Integer> slots) {
         LettuceAssert.notNull(slots, "Slots must not be null");
 
+        this.slots = toBitSet(slots);
+    }
+
+    /**
+     * Sets the slots for which this {@link RedisClusterNode} is the
+     * {@link com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode.NodeFlag#MASTER}. The {@link BitSet} is copied.
+     *
+     * @param slots set bits represent the slots, must not be {@literal null} but may be empty
+     * @since 4.5
+     */
+    public void setSlots(BitSet slots) {
+        LettuceAssert.notNull(slots, "Slots must not be null");
+
+        this.slots = (BitSet) slots.clone();
+    }
+
+    /**
+     * Add or remove a single slot in place. The slots are sized for all {@link SlotHash#SLOT_COUNT slots} on first use so that
+     * subsequent updates do not reallocate.
+     *
+     * @param slot the slot
+     * @param owned {@literal true} to add the slot, {@literal false} to remove it.
+     */
+    void setSlot(int slot, boolean owned) {
+
+        BitSet slots = this.slots;
+
+        if (slots == null || slots.size() < SlotHash.SLOT_COUNT) {
+
+            BitSet resized = new BitSet(SlotHash.SLOT_COUNT);
+
+            if (slots != null) {
+                resized.or(slots);
+            }
+
+            slots = resized;
+        }
+
+        slots.set(slot, owned);
         this.slots = slots;
     }
 
+    /**
+     * Performs the given action for each slot of this {@link RedisClusterNode} in ascending slot order.
+     *
+     * @param consumer the action, must not be {@literal null}
+     * @since 4.5
+     */
+    public void forEachSlot(IntConsumer consumer) {
+
+        LettuceAssert.notNull(consumer, "Consumer must not be null");
+
+        if (slots == null) {
+            return;
+        }
+
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            consumer.accept(slot);
+        }
+    }
+
+    /**
+     * Performs the given action for each contiguous range of slots of this {@link RedisClusterNode} in ascending slot order.
+     *
+     * @param consumer the action, must not be {@literal null}
+     * @since 4.5
+     */
+    public void forEachSlotRange(SlotRangeConsumer consumer) {
+
+        LettuceAssert.notNull(consumer, "Consumer must not be null");
+
+        if (slots == null) {
+            return;
+        }
+
+        for (int from = slots.nextSetBit(0); from >= 0; from = slots.nextSetBit(from)) {
+
+            int to = slots.nextClearBit(from);
+            consumer.accept(from, to - 1);
+            from = to;
+        }
+    }
+
+    /**
+     * @return the number of slots of this {@link RedisClusterNode}.
+     * @since 4.5
+     */
+    public int getSlotCount() {
+        return slots != null ? slots.cardinality() : 0;
+    }
+
+    /**
+     * @param other the other node
+     * @return {@literal true} if this {@link RedisClusterNode} is responsible for the same slots as {@code other}.
+     * @since 4.5
+     */
+    public boolean hasSameSlotsAs(RedisClusterNode other) {
+
+        if (slots == null || other.slots == null) {
+            return getSlotCount() == other.getSlotCount();
+        }
+
+        return slots.equals(other.slots);
+    }
+
     public Set<NodeFlag> getFlags() {
         return flags;
     }
@@ -250,7 +360,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         sb.append(", configEpoch=").append(configEpoch);
         sb.append(", flags=").append(flags);
         if (slots != null) {
-            sb.append(", slot count=").append(slots.size());
+            sb.append(", slot count=").append(slots.cardinality());
         }
         sb.append(']');
         return sb.toString();
@@ -271,7 +381,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
      * @return true if the slot is contained within the handled slots.
      */
     public boolean hasSlot(int slot) {
-        return getSlots().contains(slot);
+        return slot >= 0 && slot < SlotHash.SLOT_COUNT && slots.get(slot);
     }
 
     /**
@@ -285,6 +395,20 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         return is(NodeFlag.MASTER) ? Role.MASTER : Role.SLAVE;
     }
 
+    private static BitSet toBitSet(List<Integer> slots) {
+
+        if (slots instanceof SlotList) {
+            return (BitSet) ((SlotList) slots).slots.clone();
+        }
+
+        BitSet bitSet = slots.isEmpty() ? new BitSet() : new BitSet(SlotHash.SLOT_COUNT);
+        for (Integer slot : slots) {
+            bitSet.set(slot);
+        }
+
+        return bitSet;
+    }
+
     /**
      * Redis Cluster node flags.
      */
@@ -292,4 +416,130 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         NOFLAGS, MYSELF, SLAVE, MASTER, EVENTUAL_FAIL, FAIL, HANDSHAKE, NOADDR;
     }
 
+    /**
+     * Callback for contiguous slot ranges.
+     *
+     * @since 4.5
+     */
+    @FunctionalInterface
+    public interface SlotRangeConsumer {
+
+        /**
+         * @param from first slot of the range (inclusive)
+         * @param to last slot of the range (inclusive)
+         */
+        void accept(int from, int to);
+    }
+
+    /**
+     * {@link List} view in ascending order backed by a {@link BitSet}.
+     */
+    static class SlotList extends AbstractList<Integer> {
+
+        private final BitSet slots;
+
+        SlotList(BitSet slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public Integer get(int index) {
+
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            int slot = slots.nextSetBit(0);
+            for (int i = 0; i < index && slot >= 0; i++) {
+                slot = slots.nextSetBit(slot + 1);
+            }
+
+            if (slot < 0) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            return slot;
+        }
+
+        @Override
+        public int size() {
+            return slots.cardinality();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return slots.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer && (Integer) o >= 0 && slots.get((Integer) o);
+        }
+
+        @Override
+        public boolean add(Integer slot) {
+
+            if (slots.get(slot)) {
+                return false;
+            }
+
+            slots.set(slot);
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+
+            if (!contains(o)) {
+                return false;
+            }
+
+            slots.clear((Integer) o);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            slots.clear();
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+
+            return new Iterator<Integer>() {
+
+                int next = slots.nextSetBit(0);
+                int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Integer next() {
+
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+
+                    last = next;
+                    next = slots.nextSetBit(next + 1);
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+
+                    slots.clear(last);
+                    last = -1;
+                }
+            };
+        }
+    }
+
 }
@@ -18,6 +18,7 @@ package com.lambdaworks.redis.cluster.models.slots;
 import java.util.*;
 
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.SlotHash;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 
 /**
@@ -83,9 +84,10 @@ public class ClusterSlotsParser {
             master = getRedisClusterNode(iterator, nodeCache);
             if(master != null) {
                 master.setFlags(Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
-                Set<Integer> slots = new TreeSet<>(master.getSlots());
-                slots.addAll(createSlots(from, to));
-                master.setSlots(new ArrayList<>(slots));
+                BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
+                master.forEachSlotRange((rangeFrom, rangeTo) -> slots.set(rangeFrom, rangeTo + 1));
+                slots.set(from, to + 1);
+                master.setSlots(slots);
             }
         }
 
@@ -101,14 +103,6 @@ public class ClusterSlotsParser {
         return new ClusterSlotRange(from, to, master, Collections.unmodifiableList(slaves));
     }
 
-    private static List<Integer> createSlots(int from, int to) {
-        List<Integer> slots = new ArrayList<>();
-        for (int i = from; i < to + 1; i++) {
-            slots.add(i);
-        }
-        return slots;
-    }
-
     private static RedisClusterNode getRedisClusterNode(Iterator<?> iterator, Map<String, RedisClusterNode> nodeCache) {
         Object element = iterator.next();
         RedisClusterNode redisClusterNode = null;
@@ -46,6 +46,8 @@ public class ClusterTopologyRefresh {
 
     private final NodeConnectionFactory nodeConnectionFactory;
     private final ClientResources clientResources;
+    private final Map<RedisURI, StatefulRedisConnection<String, String>> refreshConnections = new TreeMap<>(
+            TopologyComparators.RedisURIComparator.INSTANCE);
 
     public ClusterTopologyRefresh(NodeConnectionFactory nodeConnectionFactory, ClientResources clientResources) {
         this.nodeConnectionFactory = nodeConnectionFactory;
@@ -61,25 +63,45 @@ public class ClusterTopologyRefresh {
      * @return mapping between {@link RedisURI} and {@link Partitions}
      */
     public Map<RedisURI, Partitions> loadViews(Iterable<RedisURI> seed, boolean discovery) {
+        return loadViews(seed, discovery, false);
+    }
+
+    /**
+     * Load partition views from a collection of {@link RedisURI}s and return the view per {@link RedisURI}. Partitions contain
+     * an ordered list of {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come first.
+     * <p>
+     * Using {@code reuseConnections} keeps the topology connections open after the refresh and reuses them for subsequent
+     * refreshes. Only nodes without an open topology connection are connected. Connections to nodes that are no longer part of
+     * the cluster are closed. Call {@link #close()} to release the retained connections.
+     *
+     * @param seed collection of {@link RedisURI}s
+     * @param discovery {@literal true} to discover additional nodes
+     * @param reuseConnections {@literal true} to retain topology connections across refreshes
+     * @return mapping between {@link RedisURI} and {@link Partitions}
+     * @since 4.5
+     */
+    public Map<RedisURI, Partitions> loadViews(Iterable<RedisURI> seed, boolean discovery, boolean reuseConnections) {
 
         long commandTimeoutNs = getCommandTimeoutNs(seed);
 
         Connections connections = null;
+        Set<RedisURI> clusterNodes = null;
         try {
-            connections = getConnections(seed).get(commandTimeoutNs, TimeUnit.NANOSECONDS);
+            connections = getConnections(seed, reuseConnections).get(commandTimeoutNs, TimeUnit.NANOSECONDS);
 
-            Requests requestedTopology = connections.requestTopology();
-            Requests requestedClients = connections.requestClients();
+            Requests<byte[]> requestedTopology = connections.requestTopology();
+            Requests<String> requestedClients = connections.requestClients();
 
             NodeTopologyViews nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients, commandTimeoutNs);
+            clusterNodes = nodeSpecificViews.getClusterNodes();
 
             if (discovery) {
-                Set<RedisURI> allKnownUris = nodeSpecificViews.getClusterNodes();
+                Set<RedisURI> allKnownUris = clusterNodes;
                 Set<RedisURI> discoveredNodes = difference(allKnownUris, toSet(seed));
 
                 if (!discoveredNodes.isEmpty()) {
-                    Connections discoveredConnections = getConnections(discoveredNodes).optionalGet(commandTimeoutNs,
-                            TimeUnit.NANOSECONDS);
+                    Connections discoveredConnections = getConnections(discoveredNodes, reuseConnections).optionalGet(
+                            commandTimeoutNs, TimeUnit.NANOSECONDS);
                     connections = connections.mergeWith(discoveredConnections);
 
                     requestedTopology = requestedTopology.mergeWith(discoveredConnections.requestTopology());
@@ -99,16 +121,98 @@ public class ClusterTopologyRefresh {
             throw new RedisCommandInterruptedException(e);
         } finally {
             if (connections != null) {
-                connections.close();
+                if (reuseConnections) {
+                    retainConnections(connections, seed, clusterNodes);
+                } else {
+                    connections.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Close all topology connections retained by {@link #loadViews(Iterable, boolean, boolean)}.
+     *
+     * @since 4.5
+     */
+    public void close() {
+
+        List<StatefulRedisConnection<String, String>> toClose;
+        synchronized (refreshConnections) {
+            toClose = new ArrayList<>(refreshConnections.values());
+            refreshConnections.clear();
+        }
+
+        toClose.forEach(StatefulRedisConnection::close);
+    }
+
+    /**
+     * @return number of topology connections retained for reuse.
+     */
+    int getRetainedConnectionCount() {
+        synchronized (refreshConnections) {
+            return refreshConnections.size();
+        }
+    }
+
+    /*
+     * Retain open connections to seed and cluster nodes for the next refresh and close all others.
+     */
+    private void retainConnections(Connections connections, Iterable<RedisURI> seed, Set<RedisURI> clusterNodes) {
+
+        Set<RedisURI> retain = new TreeSet<>(TopologyComparators.RedisURIComparator.INSTANCE);
+        seed.forEach(retain::add);
+
+        if (clusterNodes != null) {
+            retain.addAll(clusterNodes);
+        }
+
+        List<StatefulRedisConnection<String, String>> toClose = new ArrayList<>();
+
+        synchronized (refreshConnections) {
+
+            connections.forEach((redisURI, connection) -> {
+
+                StatefulRedisConnection<String, String> previous = refreshConnections.get(redisURI);
+
+                if (retain.contains(redisURI) && connection.isOpen()) {
+                    refreshConnections.put(redisURI, connection);
+                    if (previous != null && previous != connection) {
+                        toClose.add(previous);
+                    }
+                } else {
+                    if (previous == connection) {
+                        refreshConnections.remove(redisURI);
+                    }
+                    toClose.add(connection);
+                }
+            });
+
+            if (clusterNodes != null) {
+
+                Iterator<Map.Entry<RedisURI, StatefulRedisConnection<String, String>>> iterator = refreshConnections
+                        .entrySet().iterator();
+
+                while (iterator.hasNext()) {
+
+                    Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry = iterator.next();
+                    if (!retain.contains(entry.getKey())) {
+                        toClose.add(entry.getValue());
+                        iterator.remove();
+                    }
+                }
             }
         }
+
+        toClose.forEach(StatefulRedisConnection::close);
     }
 
     private Set<RedisURI> toSet(Iterable<RedisURI> seed) {
         return StreamSupport.stream(seed.spliterator(), false).collect(Collectors.toCollection(HashSet::new));
     }
 
-    NodeTopologyViews getNodeSpecificViews(Requests requestedTopology, Requests requestedClients, long commandTimeoutNs)
+    NodeTopologyViews getNodeSpecificViews(Requests<byte[]> requestedTopology, Requests<String> requestedClients,
+            long commandTimeoutNs)
             throws InterruptedException {
 
         List<RedisClusterNodeSnapshot> allNodes = new ArrayList<>();
@@ -192,7 +296,8 @@ public class ClusterTopologyRefresh {
     /*
      * Open connections where an address can be resolved.
      */
-    private AsyncConnections getConnections(Iterable<RedisURI> redisURIs) throws InterruptedException {
+    private AsyncConnections getConnections(Iterable<RedisURI> redisURIs, boolean reuseConnections)
+            throws InterruptedException {
 
         AsyncConnections connections = new AsyncConnections();
 
@@ -201,6 +306,16 @@ public class ClusterTopologyRefresh {
                 continue;
             }
 
+            if (reuseConnections) {
+
+                StatefulRedisConnection<String, String> connection = getRetainedConnection(redisURI);
+
+                if (connection != null) {
+                    connections.addConnection(redisURI, CompletableFuture.completedFuture(connection));
+                    continue;
+                }
+            }
+
             try {
                 SocketAddress socketAddress = SocketAddressResolver.resolve(redisURI, clientResources.dnsResolver());
 
@@ -240,6 +355,25 @@ public class ClusterTopologyRefresh {
         return connections;
     }
 
+    private StatefulRedisConnection<String, String> getRetainedConnection(RedisURI redisURI) {
+
+        StatefulRedisConnection<String, String> connection;
+
+        synchronized (refreshConnections) {
+
+            connection = refreshConnections.get(redisURI);
+
+            if (connection == null || connection.isOpen()) {
+                return connection;
+            }
+
+            refreshConnections.remove(redisURI);
+        }
+
+        connection.close();
+        return null;
+    }
+
     /**
      * Resolve a {@link RedisURI} from a map of cluster views by {@link Partitions} as key
      *
@@ -17,10 +17,12 @@ package com.lambdaworks.redis.cluster.topology;
 
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.ByteArrayOutput;
 import com.lambdaworks.redis.output.StatusOutput;
 import com.lambdaworks.redis.protocol.Command;
 import com.lambdaworks.redis.protocol.CommandArgs;
@@ -64,20 +66,21 @@ class Connections {
     }
 
     /*
-     * Initiate {@code CLUSTER NODES} on all connections and return the {@link Requests}.
+     * Initiate {@code CLUSTER NODES} on all connections and return the {@link Requests}. Replies are retained as raw bytes
+     * so they can be parsed without decoding them into a {@link String} first.
      *
      * @return the {@link Requests}.
      */
-    public Requests requestTopology() {
+    public Requests<byte[]> requestTopology() {
 
-        Requests requests = new Requests();
+        Requests<byte[]> requests = new Requests<>();
 
         for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : connections.entrySet()) {
 
             CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.NODES);
-            Command<String, String, String> command = new Command<>(CommandType.CLUSTER, new StatusOutput<>(StringCodec.UTF8),
-                    args);
-            TimedAsyncCommand<String, String, String> timedCommand = new TimedAsyncCommand<>(command);
+            Command<String, String, byte[]> command = new Command<>(CommandType.CLUSTER,
+                    new ByteArrayOutput<>(StringCodec.UTF8), args);
+            TimedAsyncCommand<String, String, byte[]> timedCommand = new TimedAsyncCommand<>(command);
 
             entry.getValue().dispatch(timedCommand);
             requests.addRequest(entry.getKey(), timedCommand);
@@ -91,9 +94,9 @@ class Connections {
      *
      * @return the {@link Requests}.
      */
-    public Requests requestClients() {
+    public Requests<String> requestClients() {
 
-        Requests requests = new Requests();
+        Requests<String> requests = new Requests<>();
 
         for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : connections.entrySet()) {
 
@@ -109,6 +112,17 @@ class Connections {
         return requests;
     }
 
+    /**
+     * Performs the given action for each connection.
+     *
+     * @param action the action
+     */
+    public void forEach(BiConsumer<RedisURI, StatefulRedisConnection<String, String>> action) {
+        synchronized (connections) {
+            connections.forEach(action);
+        }
+    }
+
     /**
      * Close all connections.
      */
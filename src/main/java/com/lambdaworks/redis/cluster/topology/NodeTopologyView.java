@@ -15,6 +15,7 @@
  */
 package com.lambdaworks.redis.cluster.topology;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.ExecutionException;
 
 import com.lambdaworks.redis.RedisFuture;
@@ -35,7 +36,7 @@ class NodeTopologyView {
     private final int connectedClients;
 
     private final long latency;
-    private final String clusterNodes;
+    private final byte[] clusterNodes;
 
     private final String clientList;
 
@@ -50,12 +51,12 @@ class NodeTopologyView {
         this.latency = 0;
     }
 
-    NodeTopologyView(RedisURI redisURI, String clusterNodes, String clientList, long latency) {
+    NodeTopologyView(RedisURI redisURI, byte[] clusterNodes, String clientList, long latency) {
 
         this.available = true;
         this.redisURI = redisURI;
 
-        this.partitions = ClusterPartitionParser.parse(clusterNodes);
+        this.partitions = ClusterPartitionParser.parse(ByteBuffer.wrap(clusterNodes));
         this.connectedClients = getClients(clientList);
 
         this.clusterNodes = clusterNodes;
@@ -65,10 +66,10 @@ class NodeTopologyView {
         getOwnPartition().setUri(redisURI);
     }
 
-    static NodeTopologyView from(RedisURI redisURI, Requests clusterNodesRequests, Requests clientListRequests)
-            throws ExecutionException, InterruptedException {
+    static NodeTopologyView from(RedisURI redisURI, Requests<byte[]> clusterNodesRequests,
+            Requests<String> clientListRequests) throws ExecutionException, InterruptedException {
 
-        TimedAsyncCommand<String, String, String> nodes = clusterNodesRequests.getRequest(redisURI);
+        TimedAsyncCommand<String, String, byte[]> nodes = clusterNodesRequests.getRequest(redisURI);
         TimedAsyncCommand<String, String, String> clients = clientListRequests.getRequest(redisURI);
 
         if (resultAvailable(nodes) && resultAvailable(clients)) {
@@ -128,7 +129,7 @@ class NodeTopologyView {
         return clientList;
     }
 
-    String getClusterNodes() {
+    byte[] getClusterNodes() {
         return clusterNodes;
     }
 
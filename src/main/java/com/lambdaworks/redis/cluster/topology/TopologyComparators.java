@@ -18,6 +18,7 @@ package com.lambdaworks.redis.cluster.topology;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.lambdaworks.redis.RedisURI;
@@ -25,7 +26,6 @@ import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceLists;
-import com.lambdaworks.redis.internal.LettuceSets;
 
 /**
  * Comparators for {@link RedisClusterNode} and {@link RedisURI}.
@@ -134,6 +134,44 @@ public class TopologyComparators {
         return false;
     }
 
+    /**
+     * Check if properties changed which are essential for cluster operations or connection routing. In addition to
+     * {@link #isChanged(Partitions, Partitions)}, this method compares all flags except
+     * {@link RedisClusterNode.NodeFlag#MYSELF}, {@link RedisURI connection points} and the replication source of each node.
+     *
+     * @param o1 the first object to be compared.
+     * @param o2 the second object to be compared.
+     * @return {@literal true} if nodes, flags, slots, connection points or replication sources changed.
+     * @since 4.5
+     */
+    public static boolean isChangedInDetail(Partitions o1, Partitions o2) {
+
+        if (isChanged(o1, o2)) {
+            return true;
+        }
+
+        for (RedisClusterNode base : o2) {
+
+            RedisClusterNode other = o1.getPartitionByNodeId(base.getNodeId());
+
+            for (RedisClusterNode.NodeFlag flag : RedisClusterNode.NodeFlag.values()) {
+                if (flag != RedisClusterNode.NodeFlag.MYSELF && !sameFlags(base, other, flag)) {
+                    return true;
+                }
+            }
+
+            if (RedisURIComparator.INSTANCE.compare(base.getUri(), other.getUri()) != 0) {
+                return true;
+            }
+
+            if (!Objects.equals(base.getSlaveOf(), other.getSlaveOf())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Check for {@code MASTER} or {@code SLAVE} flags and whether the responsible slots changed.
      *
@@ -155,7 +193,7 @@ public class TopologyComparators {
             return false;
         }
 
-        if (!LettuceSets.newHashSet(o1.getSlots()).equals(LettuceSets.newHashSet(o2.getSlots()))) {
+        if (!o1.hasSameSlotsAs(o2)) {
             return false;
         }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.codec;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * A {@link RedisCodec} that uses Netty {@link ByteBuf buffers} for keys and values. Bulk replies are decoded without copying:
+ * decoded keys and values are {@link ByteBuf#retain() retained} slices of the inbound response buffer.
+ * <p>
+ * Decoded keys and values are reference-counted. Callers are responsible to {@link ByteBuf#release() release} each decoded
+ * buffer once it is no longer used, otherwise the connection's response buffer cannot be reused and memory is leaked. Keys and
+ * values passed to commands are written without modifying their reader index, and are not released by the driver.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class ByteBufCodec implements RedisCodec<ByteBuf, ByteBuf>, ToByteBufEncoder<ByteBuf, ByteBuf>,
+        FromByteBufDecoder<ByteBuf, ByteBuf> {
+
+    public static final ByteBufCodec INSTANCE = new ByteBufCodec();
+
+    /**
+     * Decode the key from a region of the response buffer.
+     *
+     * @param bytes the key bytes, must not be {@literal null}.
+     * @return the retained key buffer. Must be released by the caller.
+     */
+    @Override
+    public ByteBuf decodeKey(ByteBuf bytes) {
+        return bytes.retain();
+    }
+
+    /**
+     * Decode the value from a region of the response buffer.
+     *
+     * @param bytes the value bytes, must not be {@literal null}.
+     * @return the retained value buffer. Must be released by the caller.
+     */
+    @Override
+    public ByteBuf decodeValue(ByteBuf bytes) {
+        return bytes.retain();
+    }
+
+    @Override
+    public ByteBuf decodeKey(ByteBuffer bytes) {
+        return Unpooled.copiedBuffer(bytes);
+    }
+
+    @Override
+    public ByteBuf decodeValue(ByteBuffer bytes) {
+        return Unpooled.copiedBuffer(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(ByteBuf key) {
+        return encode(key);
+    }
+
+    @Override
+    public ByteBuffer encodeValue(ByteBuf value) {
+        return encode(value);
+    }
+
+    @Override
+    public void encodeKey(ByteBuf key, ByteBuf target) {
+        encode(key, target);
+    }
+
+    @Override
+    public void encodeValue(ByteBuf value, ByteBuf target) {
+        encode(value, target);
+    }
+
+    @Override
+    public int estimateSize(Object keyOrValue) {
+
+        if (keyOrValue instanceof ByteBuf) {
+            return ((ByteBuf) keyOrValue).readableBytes();
+        }
+
+        return 0;
+    }
+
+    private static void encode(ByteBuf source, ByteBuf target) {
+
+        if (source == null) {
+            return;
+        }
+
+        target.writeBytes(source, source.readerIndex(), source.readableBytes());
+    }
+
+    private static ByteBuffer encode(ByteBuf source) {
+
+        if (source == null) {
+            return ByteBuffer.allocate(0);
+        }
+
+        return source.nioBuffer();
+    }
+}
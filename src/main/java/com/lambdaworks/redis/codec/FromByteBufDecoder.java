@@ -0,0 +1,50 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optimized decoder that decodes keys and values directly from a region of the inbound response {@link ByteBuf}. This decoder
+ * is the counterpart to {@link ToByteBufEncoder} and avoids wrapping response data in an intermediate
+ * {@link java.nio.ByteBuffer}.
+ * <p>
+ * Classes implementing {@link FromByteBufDecoder} are required to implement {@link RedisCodec} as well. The {@link ByteBuf}
+ * passed to the decode methods is a slice of the response buffer that is only valid during the call. Implementations must not
+ * release the buffer and must {@link ByteBuf#retain() retain} it if they keep a reference beyond the method call.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public interface FromByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param bytes the key bytes, must not be {@literal null}.
+     * @return the decoded key, may be {@literal null}.
+     */
+    K decodeKey(ByteBuf bytes);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param bytes the value bytes, must not be {@literal null}.
+     * @return the decoded value, may be {@literal null}.
+     */
+    V decodeValue(ByteBuf bytes);
+}
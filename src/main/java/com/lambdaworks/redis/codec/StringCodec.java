@@ -37,7 +37,8 @@ import io.netty.util.CharsetUtil;
  * @author Mark Paluch
  * @since 4.3
  */
-public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String> {
+public class StringCodec
+        implements RedisCodec<String, String>, ToByteBufEncoder<String, String>, FromByteBufDecoder<String, String> {
 
     public static final StringCodec UTF8 = new StringCodec(LettuceCharsets.UTF8);
     public static final StringCodec ASCII = new StringCodec(LettuceCharsets.ASCII);
@@ -145,6 +146,16 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
         return Unpooled.wrappedBuffer(bytes).toString(charset);
     }
 
+    @Override
+    public String decodeKey(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
+    @Override
+    public String decodeValue(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
     @Override
     public ByteBuffer encodeKey(String key) {
         return encodeAndAllocateBuffer(key);
@@ -24,12 +24,14 @@ import java.nio.charset.CharsetDecoder;
 
 import com.lambdaworks.redis.protocol.LettuceCharsets;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * A {@link RedisCodec} that handles UTF-8 encoded keys and values.
  * 
  * @author Will Glozer
  */
-public class Utf8StringCodec implements RedisCodec<String, String> {
+public class Utf8StringCodec implements RedisCodec<String, String>, FromByteBufDecoder<String, String> {
 
     private static final byte[] EMPTY = new byte[0];
 
@@ -57,6 +59,16 @@ public class Utf8StringCodec implements RedisCodec<String, String> {
         return decode(bytes);
     }
 
+    @Override
+    public String decodeKey(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
+    @Override
+    public String decodeValue(ByteBuf bytes) {
+        return bytes.toString(charset);
+    }
+
     @Override
     public ByteBuffer encodeKey(String key) {
         return encode(key);
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.event.connection;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.event.Event;
+
+/**
+ * Event published after connections to Master/Slave or Redis Cluster nodes were warmed up. The event carries the number of
+ * connections that were opened, the number of failed connection attempts and the time it took until all attempts completed.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ * @see com.lambdaworks.redis.WarmUpOptions
+ */
+public class ConnectionWarmUpEvent implements Event {
+
+    private final int connectionCount;
+    private final int failedCount;
+    private final long durationNanos;
+
+    /**
+     * Creates a new {@link ConnectionWarmUpEvent}.
+     *
+     * @param connectionCount number of connections that were opened.
+     * @param failedCount number of connection attempts that failed.
+     * @param durationNanos duration of the warm-up in {@link TimeUnit#NANOSECONDS}.
+     */
+    public ConnectionWarmUpEvent(int connectionCount, int failedCount, long durationNanos) {
+
+        this.connectionCount = connectionCount;
+        this.failedCount = failedCount;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Returns the number of connections that were opened.
+     *
+     * @return the number of connections that were opened.
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    /**
+     * Returns the number of connection attempts that failed.
+     *
+     * @return the number of connection attempts that failed.
+     */
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns the duration of the warm-up.
+     *
+     * @param unit the target unit, must not be {@literal null}.
+     * @return the duration of the warm-up.
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [connectionCount=").append(connectionCount);
+        sb.append(", failedCount=").append(failedCount);
+        sb.append(", duration=").append(TimeUnit.NANOSECONDS.toMillis(durationNanos)).append("ms");
+        sb.append(']');
+        return sb.toString();
+    }
+}
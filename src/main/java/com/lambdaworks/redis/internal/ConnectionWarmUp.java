@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.internal;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.lambdaworks.redis.RedisCommandInterruptedException;
+import com.lambdaworks.redis.WarmUpOptions;
+import com.lambdaworks.redis.event.EventBus;
+import com.lambdaworks.redis.event.connection.ConnectionWarmUpEvent;
+
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Utility to track eager connection warm-ups. A warm-up completes once all connection attempts completed, regardless of
+ * whether they succeeded or failed, and publishes a {@link ConnectionWarmUpEvent}.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ * @see WarmUpOptions
+ */
+public class ConnectionWarmUp {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ConnectionWarmUp.class);
+
+    private ConnectionWarmUp() {
+    }
+
+    /**
+     * Track completion of {@code connections}. The returned future completes with a {@link ConnectionWarmUpEvent} once all
+     * connection attempts completed. The event is published to {@code eventBus} if at least one connection was attempted.
+     *
+     * @param connections the connection attempts, must not be {@literal null}.
+     * @param startNanos {@link System#nanoTime()} at the time the warm-up was started.
+     * @param eventBus the event bus, must not be {@literal null}.
+     * @return a future that completes with the {@link ConnectionWarmUpEvent} after all connection attempts completed.
+     */
+    public static CompletableFuture<ConnectionWarmUpEvent> track(Collection<? extends CompletionStage<?>> connections,
+            long startNanos, EventBus eventBus) {
+
+        LettuceAssert.notNull(connections, "Connections must not be null");
+        LettuceAssert.notNull(eventBus, "EventBus must not be null");
+
+        AtomicInteger failed = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture[connections.size()];
+
+        int index = 0;
+        for (CompletionStage<?> connection : connections) {
+            futures[index++] = connection.handle((c, throwable) -> {
+
+                if (throwable != null) {
+                    failed.incrementAndGet();
+                }
+                return null;
+            }).toCompletableFuture();
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(ignore -> {
+
+            ConnectionWarmUpEvent event = new ConnectionWarmUpEvent(futures.length - failed.get(), failed.get(),
+                    System.nanoTime() - startNanos);
+
+            if (futures.length != 0) {
+
+                logger.debug("Warm-up completed: {}", event);
+                eventBus.publish(event);
+            }
+
+            return event;
+        });
+    }
+
+    /**
+     * Await completion of {@code warmUp} for at most {@link WarmUpOptions#getTimeout()}. The warm-up continues in the
+     * background if it did not complete within the timeout.
+     *
+     * @param warmUp the warm-up future, must not be {@literal null}.
+     * @param options the warm-up options, must not be {@literal null}.
+     * @return {@literal true} if the warm-up completed within the timeout.
+     */
+    public static boolean await(CompletableFuture<?> warmUp, WarmUpOptions options) {
+
+        LettuceAssert.notNull(warmUp, "Warm-up future must not be null");
+        LettuceAssert.notNull(options, "WarmUpOptions must not be null");
+
+        try {
+            warmUp.get(options.getTimeout(), options.getTimeoutUnit());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        } catch (TimeoutException e) {
+            logger.warn("Connection warm-up did not complete within {} {}", options.getTimeout(), options.getTimeoutUnit());
+        } catch (ExecutionException e) {
+            logger.warn("Connection warm-up failed", e.getCause());
+        }
+
+        return false;
+    }
+}
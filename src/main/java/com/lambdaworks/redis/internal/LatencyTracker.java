@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.lambdaworks.redis.protocol.CommandWrapper;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Tracker for response times and outstanding commands of endpoints (typically connections). Response times are kept as
+ * exponentially weighted moving average (EWMA) of the observed command completion times. {@link #select(List)} picks an
+ * endpoint using the power-of-two-choices strategy: two random candidates are compared and the one with the lower cost
+ * ({@code response time × (outstanding commands + 1)}) wins. This spreads load across all candidates while routing around
+ * slow or overloaded endpoints.
+ *
+ * @param <T> endpoint type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class LatencyTracker<T> {
+
+    /**
+     * Default weight of a new response time sample.
+     */
+    public static final double DEFAULT_ALPHA = 0.25;
+
+    private final Map<T, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+    private final double alpha;
+
+    /**
+     * Create a new {@link LatencyTracker} using {@link #DEFAULT_ALPHA}.
+     */
+    public LatencyTracker() {
+        this(DEFAULT_ALPHA);
+    }
+
+    /**
+     * Create a new {@link LatencyTracker}.
+     *
+     * @param alpha weight of a new response time sample, must be greater {@literal 0} and less or equal to {@literal 1}.
+     */
+    public LatencyTracker(double alpha) {
+
+        LettuceAssert.isTrue(alpha > 0 && alpha <= 1, "Alpha must be greater 0 and less or equal to 1");
+
+        this.alpha = alpha;
+    }
+
+    /**
+     * Track {@code command} as outstanding command of {@code endpoint}. The returned command must be dispatched instead of
+     * {@code command}. Its completion records the response time and releases the outstanding command.
+     *
+     * @param endpoint the endpoint the command is sent to, must not be {@literal null}.
+     * @param command the command, must not be {@literal null}.
+     * @return the tracked command.
+     */
+    public <K, V, R> RedisCommand<K, V, R> track(T endpoint, RedisCommand<K, V, R> command) {
+
+        LettuceAssert.notNull(endpoint, "Endpoint must not be null");
+        LettuceAssert.notNull(command, "Command must not be null");
+
+        EndpointStatistics endpointStatistics = getStatistics(endpoint);
+        endpointStatistics.inFlight.incrementAndGet();
+
+        return new TrackedCommand<>(command, endpointStatistics, alpha);
+    }
+
+    /**
+     * Select an endpoint from {@code candidates} using the power-of-two-choices strategy.
+     *
+     * @param candidates the candidates, must not be {@literal null} or empty.
+     * @return the selected endpoint.
+     */
+    public <C extends T> C select(List<C> candidates) {
+
+        LettuceAssert.notNull(candidates, "Candidates must not be null");
+        LettuceAssert.isTrue(!candidates.isEmpty(), "Candidates must not be empty");
+
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        C left = candidates.get(first);
+        C right = candidates.get(second);
+
+        return getCost(right) < getCost(left) ? right : left;
+    }
+
+    /**
+     * Record a response time sample for {@code endpoint}.
+     *
+     * @param endpoint the endpoint, must not be {@literal null}.
+     * @param responseTime the response time.
+     * @param unit unit of {@code responseTime}.
+     */
+    public void record(T endpoint, long responseTime, TimeUnit unit) {
+
+        LettuceAssert.notNull(endpoint, "Endpoint must not be null");
+
+        getStatistics(endpoint).record(unit.toNanos(responseTime), alpha);
+    }
+
+    /**
+     * @param endpoint the endpoint.
+     * @return the number of outstanding commands for {@code endpoint}.
+     */
+    public int getInFlight(T endpoint) {
+
+        EndpointStatistics endpointStatistics = statistics.get(endpoint);
+        return endpointStatistics != null ? endpointStatistics.inFlight.get() : 0;
+    }
+
+    /**
+     * @param endpoint the endpoint.
+     * @param unit the target unit.
+     * @return the averaged response time for {@code endpoint} or {@literal 0} if no response was recorded yet.
+     */
+    public long getResponseTime(T endpoint, TimeUnit unit) {
+
+        EndpointStatistics endpointStatistics = statistics.get(endpoint);
+        return endpointStatistics != null ? unit.convert(endpointStatistics.responseTime.get(), TimeUnit.NANOSECONDS) : 0;
+    }
+
+    /**
+     * Remove statistics of {@code endpoint}.
+     *
+     * @param endpoint the endpoint.
+     */
+    public void remove(T endpoint) {
+        statistics.remove(endpoint);
+    }
+
+    /**
+     * Remove all statistics.
+     */
+    public void clear() {
+        statistics.clear();
+    }
+
+    private long getCost(T endpoint) {
+
+        EndpointStatistics endpointStatistics = statistics.get(endpoint);
+
+        if (endpointStatistics == null) {
+            return 0;
+        }
+
+        return (endpointStatistics.responseTime.get() + 1) * (endpointStatistics.inFlight.get() + 1);
+    }
+
+    private EndpointStatistics getStatistics(T endpoint) {
+
+        EndpointStatistics endpointStatistics = statistics.get(endpoint);
+
+        if (endpointStatistics == null) {
+            endpointStatistics = statistics.computeIfAbsent(endpoint, key -> new EndpointStatistics());
+        }
+
+        return endpointStatistics;
+    }
+
+    /**
+     * Statistics of a single endpoint.
+     */
+    static class EndpointStatistics {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        // EWMA of response times in nanoseconds, 0 if no sample was recorded yet.
+        final AtomicLong responseTime = new AtomicLong();
+
+        void record(long nanos, double alpha) {
+
+            long sample = Math.max(1, nanos);
+
+            for (;;) {
+
+                long current = responseTime.get();
+                long updated = current == 0 ? sample : current + (long) (alpha * (sample - current));
+
+                if (responseTime.compareAndSet(current, Math.max(1, updated))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Command wrapper that releases the outstanding command and records the response time on completion.
+     */
+    static class TrackedCommand<K, V, R> extends CommandWrapper<K, V, R> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<TrackedCommand> FINISHED = AtomicIntegerFieldUpdater.newUpdater(
+                TrackedCommand.class, "finished");
+
+        private final EndpointStatistics statistics;
+        private final double alpha;
+        private final long start = System.nanoTime();
+
+        // accessed via AtomicIntegerFieldUpdater.
+        @SuppressWarnings("unused")
+        private volatile int finished = 0;
+
+        TrackedCommand(RedisCommand<K, V, R> command, EndpointStatistics statistics, double alpha) {
+
+            super(command);
+
+            this.statistics = statistics;
+            this.alpha = alpha;
+        }
+
+        @Override
+        public void complete() {
+
+            if (finish()) {
+                statistics.record(System.nanoTime() - start, alpha);
+            }
+
+            super.complete();
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable throwable) {
+
+            finish();
+            return super.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void cancel() {
+
+            finish();
+            super.cancel();
+        }
+
+        private boolean finish() {
+
+            if (FINISHED.compareAndSet(this, 0, 1)) {
+                statistics.inFlight.decrementAndGet();
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
@@ -53,6 +53,17 @@ public class LettuceFactories {
         return maxSize > ARRAY_QUEUE_THRESHOLD ? new LinkedBlockingQueue<>(maxSize) : new ArrayBlockingQueue<>(maxSize);
     }
 
+    /**
+     * Creates a new bounded {@link Queue} for multiple producers/single consumer.
+     *
+     * @param capacity queue capacity.
+     * @return a new, empty {@link MpscArrayQueue}.
+     * @since 4.5
+     */
+    public static <T> Queue<T> newMpscQueue(int capacity) {
+        return new MpscArrayQueue<>(capacity);
+    }
+
     /**
      * Creates a new {@link Queue} for single producer/single consumer.
      *
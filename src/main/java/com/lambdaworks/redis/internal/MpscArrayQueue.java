@@ -0,0 +1,222 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.internal;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free multi-producer/single-consumer queue backed by a ring buffer. Producers claim a slot by incrementing the
+ * producer index and publish the element into the claimed slot. {@link #offer(Object)} may be called concurrently from
+ * multiple threads, {@link #poll()} and {@link #peek()} must be called by one consumer at a time.
+ * <p>
+ * This class does not support {@code null} elements. {@link #iterator() Iterators} are weakly consistent and do not support
+ * {@link Iterator#remove() removal}.
+ * </p>
+ * This class is part of the internal API and may change without further notice.
+ *
+ * @param <E> element type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class MpscArrayQueue<E> extends AbstractQueue<E> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MpscArrayQueue> PRODUCER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueue.class, "producerIndex");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<MpscArrayQueue> CONSUMER_INDEX = AtomicLongFieldUpdater
+            .newUpdater(MpscArrayQueue.class, "consumerIndex");
+
+    private final AtomicReferenceArray<E> buffer;
+    private final int capacity;
+    private final int mask;
+
+    // access via PRODUCER_INDEX
+    @SuppressWarnings("unused")
+    private volatile long producerIndex;
+
+    // access via CONSUMER_INDEX
+    @SuppressWarnings("unused")
+    private volatile long consumerIndex;
+
+    /**
+     * Create a new {@link MpscArrayQueue}.
+     *
+     * @param capacity the queue capacity, must be greater {@literal 0}. The ring buffer is sized to the next power of two.
+     */
+    public MpscArrayQueue(int capacity) {
+
+        LettuceAssert.isTrue(capacity > 0, "Capacity must be greater 0");
+        LettuceAssert.isTrue(capacity <= 1 << 30, "Capacity must be less or equal to 2^30");
+
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.capacity = capacity;
+        this.mask = size - 1;
+    }
+
+    @Override
+    public boolean offer(E element) {
+
+        LettuceAssert.notNull(element, "Element must not be null");
+
+        long index;
+        do {
+            index = producerIndex;
+
+            if (index - consumerIndex >= capacity) {
+                return false;
+            }
+        } while (!PRODUCER_INDEX.compareAndSet(this, index, index + 1));
+
+        buffer.lazySet(offset(index), element);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+
+        long index = consumerIndex;
+        int offset = offset(index);
+        E element = buffer.get(offset);
+
+        if (element == null) {
+
+            if (index == producerIndex) {
+                return null;
+            }
+
+            // slot claimed by a producer but not yet published.
+            do {
+                element = buffer.get(offset);
+            } while (element == null);
+        }
+
+        buffer.lazySet(offset, null);
+        CONSUMER_INDEX.lazySet(this, index + 1);
+        return element;
+    }
+
+    @Override
+    public E peek() {
+
+        long index = consumerIndex;
+        int offset = offset(index);
+        E element = buffer.get(offset);
+
+        if (element == null && index != producerIndex) {
+            do {
+                element = buffer.get(offset);
+            } while (element == null);
+        }
+
+        return element;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex == producerIndex;
+    }
+
+    @Override
+    public int size() {
+
+        long consumer = consumerIndex;
+        long producer = producerIndex;
+
+        return (int) Math.min(Math.max(producer - consumer, 0), capacity);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements in this queue in FIFO order. The iterator traverses the elements
+     * published at the time of its creation and skips elements that were consumed in the meantime. It does not support
+     * {@link Iterator#remove() removal}.
+     *
+     * @return an iterator over the elements in this queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(consumerIndex, producerIndex);
+    }
+
+    private int offset(long index) {
+        return (int) index & mask;
+    }
+
+    /**
+     * Iterator over the slots between the consumer and producer index at creation time.
+     */
+    private class Itr implements Iterator<E> {
+
+        private final long limit;
+        private long index;
+        private E next;
+
+        Itr(long index, long limit) {
+
+            this.index = index;
+            this.limit = limit;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+
+            E element = next;
+
+            if (element == null) {
+                throw new NoSuchElementException();
+            }
+
+            advance();
+            return element;
+        }
+
+        private void advance() {
+
+            next = null;
+
+            while (next == null && index < limit) {
+
+                index = Math.max(index, consumerIndex);
+
+                if (index >= limit) {
+                    return;
+                }
+
+                E element = buffer.get(offset(index));
+
+                // the slot may have been consumed and reused by a producer while reading it.
+                if (index >= consumerIndex) {
+                    next = element;
+                }
+
+                index++;
+            }
+        }
+    }
+}
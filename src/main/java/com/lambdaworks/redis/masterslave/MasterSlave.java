@@ -17,15 +17,19 @@ package com.lambdaworks.redis.masterslave;
 
 import java.util.*;
 
+import com.lambdaworks.redis.HedgedReadOptions;
 import com.lambdaworks.redis.RedisClient;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.WarmUpOptions;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.ConnectionWarmUp;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.internal.LettuceLists;
 import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
+import com.lambdaworks.redis.protocol.HedgedReadDispatcher;
 
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -164,8 +168,9 @@ public class MasterSlave {
                 redisURI, Collections.emptyMap());
 
         connectionProvider.setKnownNodes(refresh.getNodes(redisURI));
+        warmUp(redisClient, connectionProvider);
 
-        MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider);
+        MasterSlaveChannelWriter<K, V> channelWriter = createChannelWriter(redisClient, connectionProvider);
         StatefulRedisMasterSlaveConnectionImpl<K, V> connection = new StatefulRedisMasterSlaveConnectionImpl<>(channelWriter,
                 codec, redisURI.getTimeout(), redisURI.getUnit());
 
@@ -228,8 +233,9 @@ public class MasterSlave {
                     redisURI, initialConnections);
 
             connectionProvider.setKnownNodes(refresh.getNodes(redisURI));
+            warmUp(redisClient, connectionProvider);
 
-            MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider);
+            MasterSlaveChannelWriter<K, V> channelWriter = createChannelWriter(redisClient, connectionProvider);
 
             StatefulRedisMasterSlaveConnectionImpl<K, V> connection = new StatefulRedisMasterSlaveConnectionImpl<>(
                     channelWriter, codec, redisURI.getTimeout(), redisURI.getUnit());
@@ -266,8 +272,9 @@ public class MasterSlave {
             }
 
             connectionProvider.setKnownNodes(nodes);
+            warmUp(redisClient, connectionProvider);
 
-            MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider);
+            MasterSlaveChannelWriter<K, V> channelWriter = createChannelWriter(redisClient, connectionProvider);
 
             StatefulRedisMasterSlaveConnectionImpl<K, V> connection = new StatefulRedisMasterSlaveConnectionImpl<>(
                     channelWriter, codec, seedNode.getTimeout(), seedNode.getUnit());
@@ -284,6 +291,29 @@ public class MasterSlave {
         }
     }
 
+    private static <K, V> void warmUp(RedisClient redisClient, MasterSlaveConnectionProvider<K, V> connectionProvider) {
+
+        WarmUpOptions warmUpOptions = redisClient.getOptions().getWarmUpOptions();
+
+        if (warmUpOptions.isEnabled()) {
+            ConnectionWarmUp.await(connectionProvider.warmUp(), warmUpOptions);
+        }
+    }
+
+    private static <K, V> MasterSlaveChannelWriter<K, V> createChannelWriter(RedisClient redisClient,
+            MasterSlaveConnectionProvider<K, V> connectionProvider) {
+
+        MasterSlaveChannelWriter<K, V> channelWriter = new MasterSlaveChannelWriter<>(connectionProvider);
+        HedgedReadOptions hedgedReadOptions = redisClient.getOptions().getHedgedReadOptions();
+
+        if (hedgedReadOptions.isEnabled()) {
+            channelWriter.setHedgedReadDispatcher(new HedgedReadDispatcher(hedgedReadOptions, redisClient.getResources()
+                    .eventExecutorGroup()));
+        }
+
+        return channelWriter;
+    }
+
     private static RedisNodeDescription lookupMaster(List<RedisNodeDescription> nodes) {
 
         Optional<RedisNodeDescription> first = nodes.stream().filter(n -> n.getRole() == RedisInstance.Role.MASTER).findFirst();
@@ -21,6 +21,7 @@ import com.lambdaworks.redis.RedisChannelWriter;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.protocol.HedgedReadDispatcher;
 import com.lambdaworks.redis.protocol.ProtocolKeyword;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
@@ -32,6 +33,7 @@ import com.lambdaworks.redis.protocol.RedisCommand;
 class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
 
     private MasterSlaveConnectionProvider<K, V> masterSlaveConnectionProvider;
+    private HedgedReadDispatcher hedgedReadDispatcher;
     private boolean closed = false;
 
     public MasterSlaveChannelWriter(MasterSlaveConnectionProvider<K, V> masterSlaveConnectionProvider) {
@@ -50,9 +52,46 @@ class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
         MasterSlaveConnectionProvider.Intent intent = getIntent(command.getType());
         StatefulRedisConnection<K, V> connection = masterSlaveConnectionProvider.getConnection(intent);
 
+        if (intent == MasterSlaveConnectionProvider.Intent.READ) {
+
+            if (isHedgedRead()) {
+
+                hedgedReadDispatcher.dispatch(command, attempt -> dispatchRead(connection, attempt), () -> {
+
+                    StatefulRedisConnection<K, V> alternate = masterSlaveConnectionProvider
+                            .getAlternateReadConnection(connection);
+                    return alternate != null ? attempt -> dispatchRead(alternate, attempt) : null;
+                });
+
+                return command;
+            }
+
+            RedisCommand<K, V, T> commandToSend = masterSlaveConnectionProvider.trackRead(connection, command);
+
+            if (commandToSend != command) {
+                connection.dispatch(commandToSend);
+                return command;
+            }
+        }
+
         return connection.dispatch(command);
     }
 
+    private boolean isHedgedRead() {
+
+        ReadFrom readFrom = masterSlaveConnectionProvider.getReadFrom();
+        return hedgedReadDispatcher != null && readFrom != null && readFrom != ReadFrom.MASTER;
+    }
+
+    private <T> void dispatchRead(StatefulRedisConnection<K, V> connection, RedisCommand<K, V, T> command) {
+
+        try {
+            connection.dispatch(masterSlaveConnectionProvider.trackRead(connection, command));
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
     private MasterSlaveConnectionProvider.Intent getIntent(ProtocolKeyword type) {
 
         if (ReadOnlyCommands.isReadOnlyCommand(type)) {
@@ -77,6 +116,17 @@ class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
         }
     }
 
+    /**
+     * Set the {@link HedgedReadDispatcher} to hedge reads across read candidates. Reads are not hedged if the dispatcher is
+     * {@literal null} or reads use {@link ReadFrom#MASTER}.
+     *
+     * @param hedgedReadDispatcher the dispatcher, may be {@literal null}.
+     * @since 4.5
+     */
+    public void setHedgedReadDispatcher(HedgedReadDispatcher hedgedReadDispatcher) {
+        this.hedgedReadDispatcher = hedgedReadDispatcher;
+    }
+
     public MasterSlaveConnectionProvider<K, V> getMasterSlaveConnectionProvider() {
         return masterSlaveConnectionProvider;
     }
@@ -95,6 +145,16 @@ class MasterSlaveChannelWriter<K, V> implements RedisChannelWriter<K, V> {
         masterSlaveConnectionProvider.flushCommands();
     }
 
+    @Override
+    public int getResponseBufferCapacity() {
+        return masterSlaveConnectionProvider.getResponseBufferCapacity();
+    }
+
+    @Override
+    public int getResponseBufferOccupancy() {
+        return masterSlaveConnectionProvider.getResponseBufferOccupancy();
+    }
+
     @Override
     public void reset() {
         masterSlaveConnectionProvider.reset();
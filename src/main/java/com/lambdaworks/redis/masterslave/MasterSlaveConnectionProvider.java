@@ -18,20 +18,27 @@ package com.lambdaworks.redis.masterslave;
 import static com.lambdaworks.redis.masterslave.MasterSlaveUtils.findNodeByHostAndPort;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.ReadFrom;
 import com.lambdaworks.redis.RedisClient;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.WarmUpOptions;
 import com.lambdaworks.redis.api.StatefulConnection;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.event.connection.ConnectionWarmUpEvent;
+import com.lambdaworks.redis.internal.ConnectionWarmUp;
+import com.lambdaworks.redis.internal.LatencyTracker;
 import com.lambdaworks.redis.internal.LettuceSets;
 import com.lambdaworks.redis.models.role.RedisInstance;
 import com.lambdaworks.redis.models.role.RedisNodeDescription;
+import com.lambdaworks.redis.protocol.RedisCommand;
 
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -49,21 +56,27 @@ public class MasterSlaveConnectionProvider<K, V> {
 
     // Contains HostAndPort-identified connections.
     private final Map<ConnectionKey, StatefulRedisConnection<K, V>> connections = new ConcurrentHashMap<>();
-    private final ConnectionFactory<K, V> connectionFactory;
+    private final ConnectionFactory connectionFactory;
+    private final LatencyTracker<StatefulRedisConnection<K, V>> latencyTracker = new LatencyTracker<>();
     private final RedisURI initialRedisUri;
+    private final RedisClient redisClient;
+    private final WarmUpOptions warmUpOptions;
 
     private List<RedisNodeDescription> knownNodes = new ArrayList<>();
 
     private boolean autoFlushCommands = true;
     private final Object stateLock = new Object();
     private ReadFrom readFrom;
+    private volatile boolean closed;
 
     @Deprecated
     public MasterSlaveConnectionProvider(RedisClient redisClient, RedisCodec<K, V> redisCodec,
             StatefulRedisConnection<K, V> masterConnection, RedisURI initialRedisUri) {
 
         this.initialRedisUri = initialRedisUri;
-        this.connectionFactory = new ConnectionFactory<>(redisClient, redisCodec);
+        this.redisClient = redisClient;
+        this.warmUpOptions = getWarmUpOptions(redisClient);
+        this.connectionFactory = new ConnectionFactory(redisClient, redisCodec);
         connections.put(toConnectionKey(initialRedisUri), masterConnection);
     }
 
@@ -71,13 +84,21 @@ public class MasterSlaveConnectionProvider<K, V> {
             Map<RedisURI, StatefulRedisConnection<K, V>> initialConnections) {
 
         this.initialRedisUri = initialRedisUri;
-        this.connectionFactory = new ConnectionFactory<>(redisClient, redisCodec);
+        this.redisClient = redisClient;
+        this.warmUpOptions = getWarmUpOptions(redisClient);
+        this.connectionFactory = new ConnectionFactory(redisClient, redisCodec);
 
         for (Map.Entry<RedisURI, StatefulRedisConnection<K, V>> entry : initialConnections.entrySet()) {
             connections.put(toConnectionKey(entry.getKey()), entry.getValue());
         }
     }
 
+    private static WarmUpOptions getWarmUpOptions(RedisClient redisClient) {
+
+        ClientOptions options = redisClient.getOptions();
+        return options != null ? options.getWarmUpOptions() : ClientOptions.DEFAULT_WARM_UP_OPTIONS;
+    }
+
     /**
      * Retrieve a {@link StatefulRedisConnection} by the intent.
      * {@link com.lambdaworks.redis.masterslave.MasterSlaveConnectionProvider.Intent#WRITE} intentions use the master
@@ -94,23 +115,17 @@ public class MasterSlaveConnectionProvider<K, V> {
         }
 
         if (readFrom != null && intent == Intent.READ) {
-            List<RedisNodeDescription> selection = readFrom.select(new ReadFrom.Nodes() {
-                @Override
-                public List<RedisNodeDescription> getNodes() {
-                    return knownNodes;
-                }
-
-                @Override
-                public Iterator<RedisNodeDescription> iterator() {
-                    return knownNodes.iterator();
-                }
-            });
+            List<RedisNodeDescription> selection = selectReadCandidates(readFrom);
 
             if (selection.isEmpty()) {
                 throw new RedisException(String.format("Cannot determine a node to read (Known nodes: %s) with setting %s",
                         knownNodes, readFrom));
             }
             try {
+                if (readFrom.isLatencyAware()) {
+                    return getLatencyAwareConnection(selection);
+                }
+
                 for (RedisNodeDescription redisNodeDescription : selection) {
                     StatefulRedisConnection<K, V> readerCandidate = getConnection(redisNodeDescription);
                     if (!readerCandidate.isOpen()) {
@@ -128,6 +143,97 @@ public class MasterSlaveConnectionProvider<K, V> {
         return getConnection(getMaster());
     }
 
+    private List<RedisNodeDescription> selectReadCandidates(ReadFrom readFrom) {
+
+        return readFrom.select(new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return knownNodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return knownNodes.iterator();
+            }
+        });
+    }
+
+    /**
+     * Retrieve an open read connection other than {@code primary} using the {@link ReadFrom} setting. Only connections that
+     * are already established are considered.
+     *
+     * @param primary the connection that was obtained for {@link Intent#READ}.
+     * @return an alternate read connection or {@literal null} if no other read candidate is connected.
+     * @since 4.5
+     */
+    public StatefulRedisConnection<K, V> getAlternateReadConnection(StatefulRedisConnection<K, V> primary) {
+
+        ReadFrom readFrom = this.readFrom;
+
+        if (readFrom == null) {
+            return null;
+        }
+
+        List<StatefulRedisConnection<K, V>> alternates = new ArrayList<>();
+
+        for (RedisNodeDescription redisNodeDescription : selectReadCandidates(readFrom)) {
+
+            StatefulRedisConnection<K, V> candidate = connections.get(toConnectionKey(redisNodeDescription.getUri()));
+
+            if (candidate != null && candidate != primary && candidate.isOpen()) {
+                alternates.add(candidate);
+            }
+        }
+
+        if (alternates.isEmpty()) {
+            return null;
+        }
+
+        return readFrom.isLatencyAware() ? latencyTracker.select(alternates) : alternates.get(0);
+    }
+
+    private StatefulRedisConnection<K, V> getLatencyAwareConnection(List<RedisNodeDescription> selection) {
+
+        List<StatefulRedisConnection<K, V>> readerCandidates = new ArrayList<>(selection.size());
+
+        for (RedisNodeDescription redisNodeDescription : selection) {
+            StatefulRedisConnection<K, V> readerCandidate = getConnection(redisNodeDescription);
+            if (readerCandidate.isOpen()) {
+                readerCandidates.add(readerCandidate);
+            }
+        }
+
+        if (readerCandidates.isEmpty()) {
+            return getConnection(selection.get(0));
+        }
+
+        return latencyTracker.select(readerCandidates);
+    }
+
+    /**
+     * Prepare a read {@code command} before it is dispatched to {@code connection}. Commands are tracked to record response
+     * times and outstanding commands if the {@link ReadFrom} setting is {@link ReadFrom#isLatencyAware() latency-aware}.
+     *
+     * @param connection the connection obtained for {@link Intent#READ}.
+     * @param command the command to dispatch.
+     * @return the command to dispatch to {@code connection}.
+     * @since 4.5
+     */
+    public <T> RedisCommand<K, V, T> trackRead(StatefulRedisConnection<K, V> connection, RedisCommand<K, V, T> command) {
+
+        ReadFrom readFrom = this.readFrom;
+
+        if (readFrom == null || !readFrom.isLatencyAware()) {
+            return command;
+        }
+
+        return latencyTracker.track(connection, command);
+    }
+
+    LatencyTracker<StatefulRedisConnection<K, V>> getLatencyTracker() {
+        return latencyTracker;
+    }
+
     protected StatefulRedisConnection<K, V> getConnection(RedisNodeDescription redisNodeDescription) {
         return connections.computeIfAbsent(
                 new ConnectionKey(redisNodeDescription.getUri().getHost(), redisNodeDescription.getUri().getPort()),
@@ -174,6 +280,7 @@ public class MasterSlaveConnectionProvider<K, V> {
             StatefulRedisConnection<K, V> connection = connections.get(connectionKey);
             if (connection != null) {
                 connections.remove(connectionKey);
+                latencyTracker.remove(connection);
                 connection.close();
             }
         }
@@ -190,8 +297,11 @@ public class MasterSlaveConnectionProvider<K, V> {
      */
     public void close() {
 
+        closed = true;
+
         Collection<StatefulRedisConnection<K, V>> connections = allConnections();
         this.connections.clear();
+        latencyTracker.clear();
         connections.forEach(StatefulRedisConnection::close);
     }
 
@@ -199,6 +309,22 @@ public class MasterSlaveConnectionProvider<K, V> {
         allConnections().forEach(StatefulConnection::flushCommands);
     }
 
+    /**
+     * @return the summed capacity of the response buffers of all connections in bytes.
+     * @since 4.5
+     */
+    public int getResponseBufferCapacity() {
+        return allConnections().stream().mapToInt(StatefulConnection::getResponseBufferCapacity).sum();
+    }
+
+    /**
+     * @return the summed number of buffered response bytes of all connections.
+     * @since 4.5
+     */
+    public int getResponseBufferOccupancy() {
+        return allConnections().stream().mapToInt(StatefulConnection::getResponseBufferOccupancy).sum();
+    }
+
     public void setAutoFlushCommands(boolean autoFlushCommands) {
         synchronized (stateLock) {
         }
@@ -214,13 +340,64 @@ public class MasterSlaveConnectionProvider<K, V> {
      * @param knownNodes
      */
     public void setKnownNodes(Collection<RedisNodeDescription> knownNodes) {
+
+        boolean warmUp;
+
         synchronized (stateLock) {
 
+            warmUp = !this.knownNodes.isEmpty();
+
             this.knownNodes.clear();
             this.knownNodes.addAll(knownNodes);
 
             closeStaleConnections();
         }
+
+        if (warmUp && warmUpOptions.isEnabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Open connections to the master and, if a {@link ReadFrom} setting is configured, to all read candidates in parallel.
+     * Nodes that are already connected are skipped.
+     *
+     * @return a future that completes with the {@link ConnectionWarmUpEvent} after all connection attempts completed.
+     * @since 4.5
+     */
+    public CompletableFuture<ConnectionWarmUpEvent> warmUp() {
+
+        long start = System.nanoTime();
+        Set<ConnectionKey> keys = new LinkedHashSet<>();
+
+        synchronized (stateLock) {
+
+            for (RedisNodeDescription knownNode : knownNodes) {
+                if (knownNode.getRole() == RedisInstance.Role.MASTER) {
+                    keys.add(toConnectionKey(knownNode.getUri()));
+                }
+            }
+
+            if (readFrom != null) {
+                for (RedisNodeDescription candidate : selectReadCandidates(readFrom)) {
+                    keys.add(toConnectionKey(candidate.getUri()));
+                }
+            }
+        }
+
+        List<CompletableFuture<StatefulRedisConnection<K, V>>> futures = new ArrayList<>(keys.size());
+
+        for (ConnectionKey key : keys) {
+            if (!connections.containsKey(key)) {
+                futures.add(connectionFactory.connectAsync(key));
+            }
+        }
+
+        if (debugEnabled) {
+            logger.debug("warmUp() opening " + futures.size() + " connections");
+        }
+
+        return ConnectionWarmUp.track(futures, start, redisClient.getResources().eventBus());
     }
 
     public ReadFrom getReadFrom() {
@@ -228,9 +405,17 @@ public class MasterSlaveConnectionProvider<K, V> {
     }
 
     public void setReadFrom(ReadFrom readFrom) {
+
+        boolean warmUp;
+
         synchronized (stateLock) {
+            warmUp = !knownNodes.isEmpty() && this.readFrom != readFrom;
             this.readFrom = readFrom;
         }
+
+        if (warmUp && warmUpOptions.isEnabled()) {
+            warmUp();
+        }
     }
 
     public RedisNodeDescription getMaster() {
@@ -243,7 +428,7 @@ public class MasterSlaveConnectionProvider<K, V> {
         throw new RedisException(String.format("Master is currently unknown: %s", knownNodes));
     }
 
-    private class ConnectionFactory<K, V> implements Function<ConnectionKey, StatefulRedisConnection<K, V>> {
+    private class ConnectionFactory implements Function<ConnectionKey, StatefulRedisConnection<K, V>> {
 
         private final RedisClient redisClient;
         private final RedisCodec<K, V> redisCodec;
@@ -256,6 +441,49 @@ public class MasterSlaveConnectionProvider<K, V> {
         @Override
         public StatefulRedisConnection<K, V> apply(ConnectionKey key) {
 
+            StatefulRedisConnection<K, V> connection = redisClient.connect(redisCodec, getRedisURI(key));
+
+            synchronized (stateLock) {
+                connection.setAutoFlushCommands(autoFlushCommands);
+            }
+
+            return connection;
+        }
+
+        /**
+         * Connect asynchronously and register the connection unless another connection to the same node was registered in
+         * the meantime. Connections completing after the provider was closed are closed immediately.
+         *
+         * @param key the connection key.
+         * @return the registered connection.
+         */
+        CompletableFuture<StatefulRedisConnection<K, V>> connectAsync(ConnectionKey key) {
+
+            return redisClient.connectStandaloneAsync(redisCodec, getRedisURI(key)).toCompletableFuture()
+                    .thenApply(connection -> {
+
+                        synchronized (stateLock) {
+                            connection.setAutoFlushCommands(autoFlushCommands);
+                        }
+
+                        StatefulRedisConnection<K, V> existing = connections.putIfAbsent(key, connection);
+
+                        if (existing != null) {
+                            connection.close();
+                            return existing;
+                        }
+
+                        if (closed) {
+                            connections.remove(key, connection);
+                            connection.close();
+                        }
+
+                        return connection;
+                    });
+        }
+
+        private RedisURI getRedisURI(ConnectionKey key) {
+
             RedisURI.Builder builder = RedisURI.Builder.redis(key.host, key.port);
 
             if (initialRedisUri.getPassword() != null && initialRedisUri.getPassword().length != 0) {
@@ -267,13 +495,7 @@ public class MasterSlaveConnectionProvider<K, V> {
             }
             builder.withDatabase(initialRedisUri.getDatabase());
 
-            StatefulRedisConnection<K, V> connection = redisClient.connect(redisCodec, builder.build());
-
-            synchronized (stateLock) {
-                connection.setAutoFlushCommands(autoFlushCommands);
-            }
-
-            return connection;
+            return builder.build();
         }
     }
 
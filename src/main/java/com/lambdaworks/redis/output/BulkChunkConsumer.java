@@ -0,0 +1,42 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.output;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Streaming API for bulk string replies. You can implement this interface in order to receive a call to {@code onChunk} for
+ * every chunk of a bulk string as the bytes arrive from the server. Chunks are delivered in order and the bulk string is never
+ * accumulated in memory.
+ * <p>
+ * The chunk is a view on the connection's response buffer and is valid only during the {@code onChunk} call. Consume (e.g.
+ * {@link ByteBuf#readBytes(java.nio.channels.GatheringByteChannel, int) write to a channel}) or copy the chunk before
+ * returning.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+@FunctionalInterface
+public interface BulkChunkConsumer {
+
+    /**
+     * Called on every incoming chunk of the bulk string.
+     *
+     * @param chunk the chunk, never {@literal null}.
+     */
+    void onChunk(ByteBuf chunk);
+}
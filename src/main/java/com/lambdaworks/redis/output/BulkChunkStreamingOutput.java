@@ -0,0 +1,67 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.output;
+
+import java.nio.ByteBuffer;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Streaming-Output of a bulk string in chunks. Returns the number of bytes streamed to the {@link BulkChunkConsumer}, or
+ * {@literal null} if the reply was a null bulk string.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class BulkChunkStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
+
+    private final BulkChunkConsumer consumer;
+
+    public BulkChunkStreamingOutput(RedisCodec<K, V> codec, BulkChunkConsumer consumer) {
+        super(codec, Long.valueOf(0));
+
+        LettuceAssert.notNull(consumer, "BulkChunkConsumer must not be null");
+        this.consumer = consumer;
+    }
+
+    /**
+     * Set a chunk of the bulk string.
+     *
+     * @param chunk the chunk, must not be {@literal null}.
+     */
+    public void setChunk(ByteBuf chunk) {
+
+        output = output.longValue() + chunk.readableBytes();
+        consumer.onChunk(chunk);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes == null) {
+            output = null;
+            return;
+        }
+
+        setChunk(Unpooled.wrappedBuffer(bytes));
+    }
+}
@@ -17,9 +17,12 @@ package com.lambdaworks.redis.output;
 
 import java.nio.ByteBuffer;
 
+import com.lambdaworks.redis.codec.FromByteBufDecoder;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Abstract representation of the output of a redis command.
  * 
@@ -65,6 +68,29 @@ public abstract class CommandOutput<K, V, T> {
         throw new IllegalStateException();
     }
 
+    /**
+     * Set the command output to a bulk reply backed by the response {@link ByteBuf}. This method is called instead of
+     * {@link #set(ByteBuffer)} if {@link #isByteBufOutput()} returns {@literal true}. The buffer is only valid during this call,
+     * implementations must {@link ByteBuf#retain() retain} the buffer to keep a reference. The default implementation
+     * delegates to {@link #set(ByteBuffer)}.
+     *
+     * @param bytes The command output, must not be {@literal null}.
+     * @since 4.5
+     */
+    public void setByteBuf(ByteBuf bytes) {
+        set(bytes.nioBuffer());
+    }
+
+    /**
+     * Check whether this output consumes bulk replies through {@link #setByteBuf(ByteBuf)}.
+     *
+     * @return {@literal true} if bulk replies are passed as {@link ByteBuf}.
+     * @since 4.5
+     */
+    public boolean isByteBufOutput() {
+        return codec instanceof FromByteBufDecoder;
+    }
+
     /**
      * Set the command output to a 64-bit signed integer. Concrete {@link CommandOutput} implementations must override this
      * method unless they only receive a byte array value.
@@ -121,6 +147,38 @@ public abstract class CommandOutput<K, V, T> {
         // nothing to do by default
     }
 
+    /**
+     * Decode a key from a region of the response buffer.
+     *
+     * @param bytes the key bytes, must not be {@literal null}.
+     * @return the decoded key.
+     */
+    @SuppressWarnings("unchecked")
+    protected K decodeKey(ByteBuf bytes) {
+
+        if (codec instanceof FromByteBufDecoder) {
+            return ((FromByteBufDecoder<K, V>) codec).decodeKey(bytes);
+        }
+
+        return codec.decodeKey(bytes.nioBuffer());
+    }
+
+    /**
+     * Decode a value from a region of the response buffer.
+     *
+     * @param bytes the value bytes, must not be {@literal null}.
+     * @return the decoded value.
+     */
+    @SuppressWarnings("unchecked")
+    protected V decodeValue(ByteBuf bytes) {
+
+        if (codec instanceof FromByteBufDecoder) {
+            return ((FromByteBufDecoder<K, V>) codec).decodeValue(bytes);
+        }
+
+        return codec.decodeValue(bytes.nioBuffer());
+    }
+
     protected String decodeAscii(ByteBuffer bytes) {
         if(bytes == null) {
             return null;
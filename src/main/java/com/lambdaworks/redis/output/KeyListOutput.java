@@ -22,6 +22,8 @@ import java.util.List;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link List} of keys output.
  *
@@ -45,6 +47,11 @@ public class KeyListOutput<K, V> extends CommandOutput<K, V, List<K>> implements
         subscriber.onNext(output, codec.decodeKey(bytes));
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        subscriber.onNext(output, decodeKey(bytes));
+    }
+
     @Override
     public void multi(int count) {
 
@@ -20,6 +20,8 @@ import java.nio.ByteBuffer;
 import com.lambdaworks.redis.KeyScanCursor;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link com.lambdaworks.redis.KeyScanCursor} for scan cursor output.
  *
@@ -37,4 +39,9 @@ public class KeyScanOutput<K, V> extends ScanOutput<K, V, KeyScanCursor<K>> {
     protected void setOutput(ByteBuffer bytes) {
         output.getKeys().add(bytes == null ? null : codec.decodeKey(bytes));
     }
+
+    @Override
+    protected void setOutput(ByteBuf bytes) {
+        output.getKeys().add(decodeKey(bytes));
+    }
 }
@@ -20,6 +20,8 @@ import java.nio.ByteBuffer;
 import com.lambdaworks.redis.KeyValue;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Key-value pair output.
  *
@@ -48,4 +50,15 @@ public class KeyValueOutput<K, V> extends CommandOutput<K, V, KeyValue<K, V>> {
             }
         }
     }
+
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (key == null) {
+            key = decodeKey(bytes);
+        } else {
+            V value = decodeValue(bytes);
+            output = new KeyValue<>(key, value);
+        }
+    }
 }
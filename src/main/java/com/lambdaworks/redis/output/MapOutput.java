@@ -21,6 +21,8 @@ import java.util.Map;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link Map} of keys and values output.
  *
@@ -51,6 +53,18 @@ public class MapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
         key = null;
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (key == null) {
+            key = decodeKey(bytes);
+            return;
+        }
+
+        output.put(key, decodeValue(bytes));
+        key = null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void set(long integer) {
@@ -20,6 +20,8 @@ import java.nio.ByteBuffer;
 import com.lambdaworks.redis.MapScanCursor;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link com.lambdaworks.redis.MapScanCursor} for scan cursor output.
  *
@@ -47,4 +49,16 @@ public class MapScanOutput<K, V> extends ScanOutput<K, V, MapScanCursor<K, V>> {
         output.getMap().put(key, value);
         key = null;
     }
+
+    @Override
+    protected void setOutput(ByteBuf bytes) {
+
+        if (key == null) {
+            key = decodeKey(bytes);
+            return;
+        }
+
+        output.getMap().put(key, decodeValue(bytes));
+        key = null;
+    }
 }
@@ -24,6 +24,8 @@ import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceFactories;
 import com.lambdaworks.redis.protocol.RedisCommand;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Output of all commands within a MULTI block.
  *
@@ -68,6 +70,14 @@ public class MultiOutput<K, V> extends CommandOutput<K, V, List<Object>> {
         }
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        RedisCommand<K, V, ?> command = queue.peek();
+        if (command != null && command.getOutput() != null) {
+            command.getOutput().setByteBuf(bytes);
+        }
+    }
+
     @Override
     public void multi(int count) {
 
@@ -21,6 +21,8 @@ import com.lambdaworks.redis.LettuceStrings;
 import com.lambdaworks.redis.ScanCursor;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Cursor handling output.
  * 
@@ -50,5 +52,27 @@ public abstract class ScanOutput<K, V, T extends ScanCursor> extends CommandOutp
 
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (output.getCursor() == null) {
+            set(bytes.nioBuffer());
+            return;
+        }
+
+        setOutput(bytes);
+    }
+
     protected abstract void setOutput(ByteBuffer bytes);
+
+    /**
+     * Set a cursor element from a region of the response buffer. The default implementation delegates to
+     * {@link #setOutput(ByteBuffer)}.
+     *
+     * @param bytes the element bytes, must not be {@literal null}.
+     * @since 4.5
+     */
+    protected void setOutput(ByteBuf bytes) {
+        setOutput(bytes.nioBuffer());
+    }
 }
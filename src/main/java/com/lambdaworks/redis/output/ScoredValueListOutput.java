@@ -24,6 +24,8 @@ import com.lambdaworks.redis.ScoredValue;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link List} of values and their associated scores.
  *
@@ -56,6 +58,17 @@ public class ScoredValueListOutput<K, V> extends CommandOutput<K, V, List<Scored
         value = null;
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (value == null) {
+            value = decodeValue(bytes);
+            return;
+        }
+
+        set(bytes.nioBuffer());
+    }
+
     @Override
     public void multi(int count) {
 
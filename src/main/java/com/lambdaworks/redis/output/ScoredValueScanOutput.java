@@ -22,6 +22,8 @@ import com.lambdaworks.redis.ScoredValue;
 import com.lambdaworks.redis.ScoredValueScanCursor;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link com.lambdaworks.redis.ScoredValueScanCursor} for scan cursor output.
  *
@@ -49,4 +51,15 @@ public class ScoredValueScanOutput<K, V> extends ScanOutput<K, V, ScoredValueSca
         output.getValues().add(new ScoredValue<>(score, value));
         value = null;
     }
+
+    @Override
+    protected void setOutput(ByteBuf bytes) {
+
+        if (value == null) {
+            value = decodeValue(bytes);
+            return;
+        }
+
+        setOutput(bytes.nioBuffer());
+    }
 }
@@ -19,6 +19,8 @@ import java.nio.ByteBuffer;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Value output.
  *
@@ -38,4 +40,9 @@ public class ValueOutput<K, V> extends CommandOutput<K, V, V> {
     public void set(ByteBuffer bytes) {
         output = (bytes == null) ? null : codec.decodeValue(bytes);
     }
+
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+        output = decodeValue(bytes);
+    }
 }
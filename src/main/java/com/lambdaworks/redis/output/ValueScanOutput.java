@@ -20,6 +20,8 @@ import java.nio.ByteBuffer;
 import com.lambdaworks.redis.ValueScanCursor;
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * {@link com.lambdaworks.redis.ValueScanCursor} for scan cursor output.
  *
@@ -37,4 +39,9 @@ public class ValueScanOutput<K, V> extends ScanOutput<K, V, ValueScanCursor<V>>
     protected void setOutput(ByteBuffer bytes) {
         output.getValues().add(bytes == null ? null : codec.decodeValue(bytes));
     }
+
+    @Override
+    protected void setOutput(ByteBuf bytes) {
+        output.getValues().add(decodeValue(bytes));
+    }
 }
@@ -19,6 +19,8 @@ import java.nio.ByteBuffer;
 
 import com.lambdaworks.redis.codec.RedisCodec;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Streaming-Output of Values. Returns the count of all values (including null).
  *
@@ -42,4 +44,11 @@ public class ValueStreamingOutput<K, V> extends CommandOutput<K, V, Long> {
         output = output.longValue() + 1;
     }
 
+    @Override
+    public void setByteBuf(ByteBuf bytes) {
+
+        channel.onValue(decodeValue(bytes));
+        output = output.longValue() + 1;
+    }
+
 }
@@ -56,6 +56,8 @@ public class CommandArgs<K, V> {
 
     final List<SingularArgument> singularArguments = new ArrayList<>(10);
 
+    private int encodedLength;
+
     /**
      *
      * @param codec Codec used to encode/decode keys and values, must not be {@literal null}.
@@ -74,6 +76,17 @@ public class CommandArgs<K, V> {
         return singularArguments.size();
     }
 
+    /**
+     * Returns the number of bytes required to encode all arguments. The length is exact for protocol keywords, numbers, strings
+     * and {@code byte[]} keys/values. Keys and values encoded by other codecs contribute an estimate.
+     *
+     * @return the (estimated) encoded length of all arguments in bytes.
+     * @since 4.5
+     */
+    public int getEncodedLength() {
+        return encodedLength;
+    }
+
     /**
      * Adds a key argument.
      *
@@ -82,7 +95,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> addKey(K key) {
 
-        singularArguments.add(KeyArgument.of(key, codec));
+        addArgument(KeyArgument.of(key, codec));
         return this;
     }
 
@@ -126,7 +139,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> addValue(V value) {
 
-        singularArguments.add(ValueArgument.of(value, codec));
+        addArgument(ValueArgument.of(value, codec));
         return this;
     }
 
@@ -187,7 +200,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> add(String s) {
 
-        singularArguments.add(StringArgument.of(s));
+        addArgument(StringArgument.of(s));
         return this;
     }
 
@@ -199,7 +212,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> add(char[] cs) {
 
-        singularArguments.add(CharArrayArgument.of(cs));
+        addArgument(CharArrayArgument.of(cs));
         return this;
     }
 
@@ -211,7 +224,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> add(long n) {
 
-        singularArguments.add(IntegerArgument.of(n));
+        addArgument(IntegerArgument.of(n));
         return this;
     }
 
@@ -223,7 +236,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> add(double n) {
 
-        singularArguments.add(DoubleArgument.of(n));
+        addArgument(DoubleArgument.of(n));
         return this;
     }
 
@@ -235,7 +248,7 @@ public class CommandArgs<K, V> {
      */
     public CommandArgs<K, V> add(byte[] value) {
 
-        singularArguments.add(BytesArgument.of(value));
+        addArgument(BytesArgument.of(value));
         return this;
     }
 
@@ -248,7 +261,7 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(CommandKeyword keyword) {
 
         LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(keyword));
+        addArgument(ProtocolKeywordArgument.of(keyword));
         return this;
     }
 
@@ -261,7 +274,7 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(CommandType type) {
 
         LettuceAssert.notNull(type, "CommandType must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(type));
+        addArgument(ProtocolKeywordArgument.of(type));
         return this;
     }
 
@@ -274,17 +287,32 @@ public class CommandArgs<K, V> {
     public CommandArgs<K, V> add(ProtocolKeyword keyword) {
 
         LettuceAssert.notNull(keyword, "CommandKeyword must not be null");
-        singularArguments.add(ProtocolKeywordArgument.of(keyword));
+        addArgument(ProtocolKeywordArgument.of(keyword));
         return this;
     }
 
+    /**
+     * Remove all arguments so this instance can be reused.
+     */
+    void clear() {
+
+        singularArguments.clear();
+        encodedLength = 0;
+    }
+
+    private void addArgument(SingularArgument argument) {
+
+        singularArguments.add(argument);
+        encodedLength += argument.estimateSize();
+    }
+
     @Override
     public String toString() {
 
         final StringBuilder sb = new StringBuilder();
         sb.append(getClass().getSimpleName());
 
-        ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.buffer(singularArguments.size() * 10);
+        ByteBuf buffer = UnpooledByteBufAllocator.DEFAULT.buffer(encodedLength);
         encode(buffer);
         buffer.resetReaderIndex();
 
@@ -326,6 +354,16 @@ public class CommandArgs<K, V> {
         return CommandArgsAccessor.encodeFirstKey(this);
     }
 
+    /**
+     * Returns the first key argument without encoding it.
+     *
+     * @return the first key argument or {@literal null}.
+     * @since 4.5
+     */
+    public K getFirstKey() {
+        return CommandArgsAccessor.getFirstKey(this);
+    }
+
     /**
      * Encode the {@link CommandArgs} and write the arguments to the {@link ByteBuf}.
      *
@@ -349,6 +387,23 @@ public class CommandArgs<K, V> {
          * @param buffer
          */
         abstract void encode(ByteBuf buffer);
+
+        /**
+         * Estimate the number of bytes written by {@link #encode(ByteBuf)}.
+         *
+         * @return the encoded size in bytes.
+         */
+        abstract int estimateSize();
+
+        /**
+         * Compute the size of a bulk string ({@code $<length>CRLF<content>CRLF}) with {@code contentLength} bytes.
+         *
+         * @param contentLength number of content bytes.
+         * @return the encoded size in bytes.
+         */
+        static int bulkSize(int contentLength) {
+            return 1 + IntegerArgument.sizeOf(contentLength) + 2 + contentLength + 2;
+        }
     }
 
     static class BytesArgument extends SingularArgument {
@@ -368,6 +423,11 @@ public class CommandArgs<K, V> {
             writeBytes(buffer, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkSize(val.length);
+        }
+
         static void writeBytes(ByteBuf buffer, byte[] value) {
 
             buffer.writeByte('$');
@@ -475,6 +535,38 @@ public class CommandArgs<K, V> {
             StringArgument.writeString(target, Long.toString(val));
         }
 
+        @Override
+        int estimateSize() {
+            return bulkSize(sizeOf(val));
+        }
+
+        /**
+         * Compute the number of characters of the decimal representation of {@code value}.
+         *
+         * @param value the value.
+         * @return number of characters including the sign.
+         */
+        static int sizeOf(long value) {
+
+            if (value == Long.MIN_VALUE) {
+                return 20;
+            }
+
+            int size = 1;
+
+            if (value < 0) {
+                size++;
+                value = -value;
+            }
+
+            while (value >= 10) {
+                value /= 10;
+                size++;
+            }
+
+            return size;
+        }
+
         static void writeInteger(ByteBuf target, long value) {
 
             if (value < 10) {
@@ -522,6 +614,12 @@ public class CommandArgs<K, V> {
         void encode(ByteBuf target) {
             StringArgument.writeString(target, Double.toString(val));
         }
+
+        @Override
+        int estimateSize() {
+            // Double.toString(…) emits at most 24 characters
+            return bulkSize(24);
+        }
     }
 
     static class StringArgument extends SingularArgument {
@@ -541,6 +639,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkSize(val.length());
+        }
+
         static void writeString(ByteBuf target, String value) {
 
             target.writeByte('$');
@@ -572,6 +675,11 @@ public class CommandArgs<K, V> {
             writeString(target, val);
         }
 
+        @Override
+        int estimateSize() {
+            return bulkSize(val.length);
+        }
+
         static void writeString(ByteBuf target, char[] value) {
 
             target.writeByte('$');
@@ -627,6 +735,11 @@ public class CommandArgs<K, V> {
 
             ByteBufferArgument.writeByteBuffer(target, codec.encodeKey(key));
         }
+
+        @Override
+        int estimateSize() {
+            return estimateKeyOrValueSize(key, codec);
+        }
     }
 
     static class ValueArgument<K, V> extends SingularArgument {
@@ -665,6 +778,36 @@ public class CommandArgs<K, V> {
 
             ByteBufferArgument.writeByteBuffer(target, codec.encodeValue(val));
         }
+
+        @Override
+        int estimateSize() {
+            return estimateKeyOrValueSize(val, codec);
+        }
+    }
+
+    /**
+     * Estimate the encoded size of a key or value. {@code byte[]} sizes are exact, {@link ToByteBufEncoder} codecs provide
+     * their own estimate and {@link String strings} are estimated by their length.
+     *
+     * @param keyOrValue the key or value, may be {@literal null}.
+     * @param codec the codec.
+     * @return the estimated encoded size in bytes.
+     */
+    static int estimateKeyOrValueSize(Object keyOrValue, RedisCodec<?, ?> codec) {
+
+        if (keyOrValue instanceof byte[]) {
+            return SingularArgument.bulkSize(((byte[]) keyOrValue).length);
+        }
+
+        if (codec instanceof ToByteBufEncoder) {
+            return SingularArgument.bulkSize(((ToByteBufEncoder<?, ?>) codec).estimateSize(keyOrValue));
+        }
+
+        if (keyOrValue instanceof String) {
+            return SingularArgument.bulkSize(((String) keyOrValue).length());
+        }
+
+        return SingularArgument.bulkSize(0);
     }
 
     /**
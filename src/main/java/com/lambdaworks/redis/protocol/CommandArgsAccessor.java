@@ -17,6 +17,8 @@ package com.lambdaworks.redis.protocol;
 
 import java.nio.ByteBuffer;
 
+import com.lambdaworks.redis.codec.RedisCodec;
+
 import com.lambdaworks.redis.protocol.CommandArgs.CharArrayArgument;
 import com.lambdaworks.redis.protocol.CommandArgs.KeyArgument;
 import com.lambdaworks.redis.protocol.CommandArgs.SingularArgument;
@@ -50,6 +52,37 @@ public class CommandArgsAccessor {
         return null;
     }
 
+    /**
+     * Get the first key for cluster command routing.
+     *
+     * @param commandArgs must not be null.
+     * @return the first key or {@literal null}.
+     * @since 4.5
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> K getFirstKey(CommandArgs<K, V> commandArgs) {
+
+        for (SingularArgument singularArgument : commandArgs.singularArguments) {
+
+            if (singularArgument instanceof KeyArgument) {
+                return ((KeyArgument<K, V>) singularArgument).key;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the {@link RedisCodec} used to encode keys and values.
+     *
+     * @param commandArgs must not be null.
+     * @return the codec.
+     * @since 4.5
+     */
+    public static <K, V> RedisCodec<K, V> getCodec(CommandArgs<K, V> commandArgs) {
+        return commandArgs.codec;
+    }
+
     /**
      * Get the first {@link String} argument.
      *
@@ -51,22 +51,60 @@ public class CommandEncoder extends MessageToByteEncoder<Object> {
     @Override
     protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) throws Exception {
 
-        if (msg instanceof Collection) {
+        int initialCapacity = estimateSize(msg);
 
-            if (preferDirect) {
-                return ctx.alloc().ioBuffer(((Collection) msg).size() * 16);
-            } else {
-                return ctx.alloc().heapBuffer(((Collection) msg).size() * 16);
-            }
+        if (initialCapacity <= 0) {
+            return preferDirect ? ctx.alloc().ioBuffer() : ctx.alloc().heapBuffer();
         }
 
         if (preferDirect) {
-            return ctx.alloc().ioBuffer();
+            return ctx.alloc().ioBuffer(initialCapacity);
         } else {
-            return ctx.alloc().heapBuffer();
+            return ctx.alloc().heapBuffer(initialCapacity);
         }
     }
 
+    /**
+     * Estimate the number of bytes required to encode a single {@link RedisCommand} or a {@link Collection} of commands.
+     *
+     * @param msg the message.
+     * @return the estimated size in bytes or {@literal 0} if the size cannot be estimated.
+     */
+    @SuppressWarnings("unchecked")
+    static int estimateSize(Object msg) {
+
+        if (msg instanceof RedisCommand) {
+            return estimateSize((RedisCommand<?, ?, ?>) msg);
+        }
+
+        if (msg instanceof Collection) {
+
+            long size = 0;
+            for (RedisCommand<?, ?, ?> command : (Collection<RedisCommand<?, ?, ?>>) msg) {
+                size += estimateSize(command);
+            }
+
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        return 0;
+    }
+
+    private static int estimateSize(RedisCommand<?, ?, ?> command) {
+
+        if (command.getType() == null) {
+            return 0;
+        }
+
+        CommandArgs<?, ?> args = command.getArgs();
+        int count = 1 + (args != null ? args.count() : 0);
+
+        // *<count>CRLF followed by the command type as bulk string and the arguments
+        return 1 + CommandArgs.IntegerArgument.sizeOf(count) + 2
+                + CommandArgs.SingularArgument.bulkSize(command.getType().getBytes().length)
+                + (args != null ? args.getEncodedLength() : 0);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
@@ -61,6 +61,10 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private static final AtomicIntegerFieldUpdater<CommandHandler> QUEUE_SIZE = AtomicIntegerFieldUpdater.newUpdater(
             CommandHandler.class, "queueSize");
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static final AtomicIntegerFieldUpdater<CommandHandler> DRAIN_SCHEDULED = AtomicIntegerFieldUpdater.newUpdater(
+            CommandHandler.class, "drainScheduled");
+
     /**
      * When we encounter an unexpected IOException we look for these {@link Throwable#getMessage() messages} (because we have no
      * better way to distinguish) and log them at DEBUG rather than WARN, since they are generally caused by unclean client
@@ -69,6 +73,23 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private static final Set<String> SUPPRESS_IO_EXCEPTION_MESSAGES = LettuceSets.unmodifiableSet("Connection reset by peer",
             "Broken pipe", "Connection timed out");
 
+    /**
+     * Capacity above which a response buffer holding only a small remainder of a partial response is replaced by a right-sized
+     * buffer.
+     */
+    private static final int SHRINK_THRESHOLD = 8192 * 8;
+
+    /**
+     * Maximal number of commands taken from the submission queue per {@link #writeBatch batch write}.
+     */
+    private static final int SUBMISSION_BATCH_SIZE = 1024;
+
+    /**
+     * Submission queue size used with {@link FlushOptions#isCoalesceWrites() write coalescing} if
+     * {@link ClientOptions#getSubmissionQueueSize()} does not configure a submission queue.
+     */
+    private static final int COALESCING_SUBMISSION_QUEUE_SIZE = SUBMISSION_BATCH_SIZE * 4;
+
     protected final long commandHandlerId = CHANNEL_COUNTER.incrementAndGet();
     protected final ClientOptions clientOptions;
     protected final ClientResources clientResources;
@@ -78,11 +99,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     protected final Object stateLock = new Object();
     private final boolean latencyMetricsEnabled;
     private final boolean boundedQueue;
+    private final boolean coalesceWrites;
+    private final FlushOptions flushOptions;
+    private final Queue<RedisCommand<K, V, ?>> submissionQueue;
+    private final Runnable drainTask = this::drainSubmissionQueue;
 
     protected final Deque<RedisCommand<K, V, ?>> stack = new ArrayDeque<>();
-    protected final ByteBuf buffer = ByteBufAllocator.DEFAULT.directBuffer(8192 * 8);
+    protected ByteBuf buffer;
     protected final RedisStateMachine<K, V> rsm = new RedisStateMachine<>();
     protected volatile Channel channel;
+    private volatile ChannelHandlerContext context;
     private volatile ConnectionWatchdog connectionWatchdog;
 
     // If TRACE level logging has been enabled at startup.
@@ -103,9 +129,19 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
     private RedisChannelHandler<K, V> redisChannelHandler;
     private volatile Throwable connectionError;
     private String logPrefix;
-    private boolean autoFlushCommands = true;
+    private volatile boolean autoFlushCommands = true;
     private PristineFallbackCommand fallbackCommand;
     private boolean pristine;
+    private volatile int bufferCapacity;
+    private volatile int bufferOccupancy;
+
+    // event loop confined, used to coalesce writes
+    private int pendingFlushCommands;
+    private boolean flushScheduled;
+
+    // access via DRAIN_SCHEDULED
+    @SuppressWarnings("unused")
+    private volatile int drainScheduled = 0;
 
     static {
 
@@ -141,6 +177,16 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         this.disconnectedBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         this.commandBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         boundedQueue = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
+
+        this.flushOptions = clientOptions.getFlushOptions();
+        this.coalesceWrites = flushOptions.isCoalesceWrites();
+
+        int submissionQueueSize = clientOptions.getSubmissionQueueSize();
+        if (submissionQueueSize == 0 && coalesceWrites) {
+            submissionQueueSize = COALESCING_SUBMISSION_QUEUE_SIZE;
+        }
+
+        this.submissionQueue = submissionQueueSize > 0 ? LettuceFactories.newMpscQueue(submissionQueueSize) : null;
     }
 
     @Override
@@ -184,6 +230,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         synchronized (stateLock) {
             channel = ctx.channel();
+            context = ctx;
         }
 
         if (debugEnabled) {
@@ -193,7 +240,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         setState(LifecycleState.REGISTERED);
 
-        buffer.clear();
+        releaseBuffer();
         ctx.fireChannelRegistered();
     }
 
@@ -219,6 +266,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         synchronized (stateLock) {
             channel = null;
+            context = null;
         }
 
         ctx.fireChannelUnregistered();
@@ -242,7 +290,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
 
         try {
-            if (buffer.refCnt() < 1) {
+            if (isClosed()) {
                 logger.warn("{} Ignoring received data for closed or abandoned connection", logPrefix());
                 return;
             }
@@ -256,11 +304,21 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 logger.trace("{} Buffer: {}", logPrefix(), input.toString(Charset.defaultCharset()).trim());
             }
 
-            buffer.writeBytes(input);
+            if (buffer == null) {
+                buffer = input;
+                input = null;
+            } else {
+                buffer = cumulate(ctx.alloc(), buffer, input);
+            }
 
             decode(ctx, buffer);
         } finally {
-            input.release();
+
+            if (input != null) {
+                input.release();
+            }
+
+            trimBuffer();
         }
     }
 
@@ -298,6 +356,8 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 throw e;
             }
 
+            RecyclableCommand<?, ?> recyclable = RecyclableCommand.getRecyclable(command);
+
             if (isProtectedMode(command)) {
                 onProtectedMode(command.getOutput().getError());
             } else {
@@ -311,11 +371,11 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
                 }
             }
 
-            if (buffer.refCnt() != 0) {
-                buffer.discardReadBytes();
-            }
-
             afterComplete(ctx, command);
+
+            if (recyclable != null && command.isDone()) {
+                recyclable.recycle();
+            }
         }
     }
 
@@ -443,6 +503,10 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         LettuceAssert.notNull(command, "Command must not be null");
 
+        if (canSubmit() && submit(command)) {
+            return command;
+        }
+
         try {
             incrementWriters();
 
@@ -471,7 +535,242 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         return command;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (canSubmit()) {
+
+            for (RedisCommand<K, V, ?> command : commands) {
+                write(command);
+            }
+
+            return (Collection<RedisCommand<K, V, ?>>) commands;
+        }
+
+        try {
+            incrementWriters();
+
+            validateQueues(commands.size());
+
+            if (autoFlushCommands) {
+
+                if (isConnected()) {
+
+                    List<RedisCommand<K, V, ?>> commandsToSend = new ArrayList<>(commands.size());
+                    for (RedisCommand<K, V, ?> command : commands) {
+                        commandsToSend.add(potentiallyWrapLatencyCommand(command));
+                    }
+
+                    writeToChannel(commandsToSend);
+                } else {
+                    for (RedisCommand<K, V, ?> command : commands) {
+                        writeToDisconnectedBuffer(potentiallyWrapLatencyCommand(command));
+                    }
+                }
+
+            } else {
+                for (RedisCommand<K, V, ?> command : commands) {
+                    bufferCommand(potentiallyWrapLatencyCommand(command));
+                }
+            }
+        } finally {
+            decrementWriters();
+            if (debugEnabled) {
+                logger.debug("{} write() done", logPrefix());
+            }
+        }
+
+        return (Collection<RedisCommand<K, V, ?>>) commands;
+    }
+
+    /**
+     * Check whether commands can be enqueued to the submission queue. Submissions are accepted only once the connection is
+     * {@link LifecycleState#ACTIVE active} and buffered commands were replayed. Writes during activation (e.g. {@code AUTH},
+     * {@code SELECT}) and writes while commands are buffered use the locked write path to retain command order.
+     *
+     * @return {@literal true} if commands can be enqueued to the submission queue.
+     */
+    private boolean canSubmit() {
+        return submissionQueue != null && autoFlushCommands && lifecycleState == LifecycleState.ACTIVE
+                && disconnectedBuffer.isEmpty();
+    }
+
+    /**
+     * Enqueue a command to the submission queue without acquiring writer locks. The event loop writes enqueued commands in
+     * batches.
+     *
+     * @param command the command.
+     * @return {@literal true} if the command was enqueued, {@literal false} if the submission queue is full.
+     */
+    private boolean submit(RedisCommand<K, V, ?> command) {
+
+        validateWrite();
+
+        QUEUE_SIZE.incrementAndGet(this);
+
+        if (!submissionQueue.offer(potentiallyWrapLatencyCommand(command))) {
+            QUEUE_SIZE.decrementAndGet(this);
+            return false;
+        }
+
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+
+        if (!DRAIN_SCHEDULED.compareAndSet(this, 0, 1)) {
+            return;
+        }
+
+        Channel channel = this.channel;
+        if (channel != null) {
+            channel.eventLoop().execute(drainTask);
+        } else {
+            clientResources.eventExecutorGroup().execute(drainTask);
+        }
+    }
+
+    /**
+     * Write commands from the submission queue. Commands are moved to the disconnected buffer if the handler is not registered
+     * with a channel or the connection is not {@link LifecycleState#ACTIVE active}. Buffered commands are replayed on
+     * activation. Commands submitted while draining are written by a subsequent drain.
+     */
+    private void drainSubmissionQueue() {
+
+        ChannelHandlerContext ctx = this.context;
+
+        if (ctx != null && !ctx.executor().inEventLoop()) {
+            ctx.executor().execute(drainTask);
+            return;
+        }
+
+        if (ctx == null || lifecycleState != LifecycleState.ACTIVE) {
+
+            List<RedisCommand<K, V, ?>> commands = new ArrayList<>();
+            pollSubmissions(commands, Integer.MAX_VALUE);
+            QUEUE_SIZE.addAndGet(this, -commands.size());
+            commands.forEach(this::writeToDisconnectedBuffer);
+        } else {
+
+            writePendingSubmissions(ctx);
+
+            if (!coalesceWrites) {
+                pendingFlushCommands = 0;
+                ctx.flush();
+            }
+        }
+
+        DRAIN_SCHEDULED.set(this, 0);
+
+        if (!submissionQueue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Write the commands that are enqueued in the submission queue at the time of calling this method. Must be called from the
+     * event loop.
+     *
+     * @param ctx the channel handler context.
+     */
+    private void writePendingSubmissions(ChannelHandlerContext ctx) {
+
+        int pending = submissionQueue.size();
+
+        while (pending > 0) {
+
+            int count = writeSubmissions(ctx);
+
+            if (count == 0) {
+                return;
+            }
+
+            pending -= count;
+        }
+    }
+
+    /**
+     * Take a batch of commands from the submission queue and write these using a single {@link #writeBatch batch write}.
+     * Must be called from the event loop.
+     *
+     * @param ctx the channel handler context.
+     * @return number of commands taken from the submission queue.
+     */
+    private int writeSubmissions(ChannelHandlerContext ctx) {
+
+        List<RedisCommand<K, V, ?>> batch = new ArrayList<>(Math.min(submissionQueue.size(), SUBMISSION_BATCH_SIZE));
+        int count = pollSubmissions(batch, SUBMISSION_BATCH_SIZE);
+
+        if (batch.isEmpty()) {
+            return count;
+        }
+
+        ChannelPromise promise = ctx.newPromise();
+
+        if (reliability == Reliability.AT_MOST_ONCE) {
+            promise.addListener(new AtMostOnceWriteListener(batch));
+        } else {
+            promise.addListener(new RetryListener(batch));
+        }
+
+        try {
+            writeBatch(ctx, batch, promise);
+
+            if (coalesceWrites) {
+                flushCoalesced(ctx, batch.size());
+            }
+        } catch (Exception e) {
+            promise.tryFailure(e);
+        }
+
+        return count;
+    }
+
+    /**
+     * Take up to {@code limit} commands from the submission queue. Completed commands are discarded. Taken commands remain
+     * accounted in the queue size until their write completes or the caller dequeues them.
+     *
+     * @param target the target collection.
+     * @param limit maximal number of commands to take.
+     * @return number of commands taken from the submission queue.
+     */
+    private int pollSubmissions(Collection<RedisCommand<K, V, ?>> target, int limit) {
+
+        int count = 0;
+        int discarded = 0;
+
+        synchronized (submissionQueue) {
+
+            RedisCommand<K, V, ?> command;
+            while (count < limit && (command = submissionQueue.poll()) != null) {
+
+                count++;
+
+                if (command.isDone()) {
+                    discarded++;
+                    continue;
+                }
+
+                target.add(command);
+            }
+        }
+
+        if (discarded != 0) {
+            QUEUE_SIZE.addAndGet(this, -discarded);
+        }
+
+        return count;
+    }
+
     private void validateWrite() {
+        validateQueues(1);
+    }
+
+    private void validateQueues(int commands) {
 
         if (lifecycleState == LifecycleState.CLOSED) {
             throw new RedisException("Connection is closed");
@@ -479,17 +778,17 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         if (usesBoundedQueues()) {
 
-            if (QUEUE_SIZE.get(this) + 1 > clientOptions.getRequestQueueSize()) {
+            if (QUEUE_SIZE.get(this) + commands > clientOptions.getRequestQueueSize()) {
                 throw new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
                         + ". Commands are not accepted until the queue size drops.");
             }
 
-            if (disconnectedBuffer.size() + 1 > clientOptions.getRequestQueueSize()) {
+            if (disconnectedBuffer.size() + commands > clientOptions.getRequestQueueSize()) {
                 throw new RedisException("Request queue size exceeded: " + clientOptions.getRequestQueueSize()
                         + ". Commands are not accepted until the queue size drops.");
             }
 
-            if (commandBuffer.size() + 1 > clientOptions.getRequestQueueSize()) {
+            if (commandBuffer.size() + commands > clientOptions.getRequestQueueSize()) {
                 throw new RedisException("Command buffer size exceeded: " + clientOptions.getRequestQueueSize()
                         + ". Commands are not accepted until the queue size drops.");
             }
@@ -556,6 +855,10 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             logger.debug("{} write() writeAndFlush command {}", logPrefix(), command);
         }
 
+        if (coalesceWrites) {
+            return write(channel, command);
+        }
+
         return channel.writeAndFlush(command);
     }
 
@@ -723,8 +1026,18 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             logger.debug("{} write(ctx, {}, promise)", logPrefix(), msg);
         }
 
+        // retain command order for writes that bypass the submission queue. Submissions are not written ahead of commands
+        // written during activation.
+        if (submissionQueue != null && lifecycleState == LifecycleState.ACTIVE && !submissionQueue.isEmpty()) {
+            writePendingSubmissions(ctx);
+        }
+
         if (msg instanceof RedisCommand) {
             writeSingleCommand(ctx, (RedisCommand<K, V, ?>) msg, promise);
+
+            if (coalesceWrites) {
+                flushCoalesced(ctx, 1);
+            }
             return;
         }
 
@@ -733,6 +1046,87 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
     }
 
+    /**
+     * @see io.netty.channel.ChannelDuplexHandler#flush(io.netty.channel.ChannelHandlerContext)
+     */
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+
+        pendingFlushCommands = 0;
+        ctx.flush();
+    }
+
+    /**
+     * Flush coalesced writes once the number of pending commands or bytes exceeds the limits configured in
+     * {@link FlushOptions}. Otherwise, make sure a flush is scheduled.
+     *
+     * @param ctx the channel handler context.
+     * @param commands number of written commands.
+     */
+    private void flushCoalesced(ChannelHandlerContext ctx, int commands) throws Exception {
+
+        pendingFlushCommands += commands;
+
+        if (pendingFlushCommands >= flushOptions.getMaxCommands() || getPendingWriteBytes(ctx) >= flushOptions.getMaxBytes()) {
+            flush(ctx);
+            return;
+        }
+
+        scheduleFlush(ctx);
+    }
+
+    /**
+     * Write a command without flushing. Writes issued outside the event loop are submitted as task because
+     * {@link Channel#write(Object)} does not wake up the event loop. Coalesced writes use the submission queue and reach this
+     * method only if the submission queue is full or does not accept submissions.
+     *
+     * @param channel the channel.
+     * @param command the command to write.
+     * @return the write future.
+     */
+    private static ChannelFuture write(Channel channel, RedisCommand<?, ?, ?> command) {
+
+        EventLoop eventLoop = channel.eventLoop();
+
+        if (eventLoop.inEventLoop()) {
+            return channel.write(command);
+        }
+
+        ChannelPromise promise = channel.newPromise();
+        eventLoop.execute(() -> channel.write(command, promise));
+        return promise;
+    }
+
+    /**
+     * Schedule a flush on the event loop after the delay configured in {@link FlushOptions} unless a flush is already
+     * scheduled.
+     *
+     * @param ctx the channel handler context.
+     */
+    private void scheduleFlush(ChannelHandlerContext ctx) {
+
+        if (flushScheduled) {
+            return;
+        }
+
+        flushScheduled = true;
+        ctx.executor().schedule(() -> {
+
+            flushScheduled = false;
+
+            if (pendingFlushCommands > 0) {
+                pendingFlushCommands = 0;
+                ctx.flush();
+            }
+        }, flushOptions.getMaxDelay(), flushOptions.getMaxDelayUnit());
+    }
+
+    private static long getPendingWriteBytes(ChannelHandlerContext ctx) {
+
+        ChannelOutboundBuffer outboundBuffer = ctx.channel().unsafe().outboundBuffer();
+        return outboundBuffer != null ? outboundBuffer.totalPendingWriteBytes() : 0;
+    }
+
     private void writeSingleCommand(ChannelHandlerContext ctx, RedisCommand<K, V, ?> command, ChannelPromise promise)
             throws Exception {
 
@@ -793,6 +1187,8 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
         if (!toWrite.isEmpty()) {
             ctx.write(toWrite, promise);
+        } else {
+            promise.trySuccess();
         }
     }
 
@@ -1037,6 +1433,14 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         List<RedisCommand<K, V, ?>> queuedCommands = new ArrayList<>(stack.size() + disconnectedBuffer.size());
 
         drainCommands(stack, queuedCommands);
+
+        if (submissionQueue != null) {
+
+            int drained = queuedCommands.size();
+            pollSubmissions(queuedCommands, Integer.MAX_VALUE);
+            QUEUE_SIZE.addAndGet(this, -(queuedCommands.size() - drained));
+        }
+
         drainCommands(disconnectedBuffer, queuedCommands);
 
         try {
@@ -1079,9 +1483,10 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
             setState(LifecycleState.ACTIVATING);
             redisChannelHandler.activated();
         }
-        setState(LifecycleState.ACTIVE);
 
+        // replay buffered commands before accepting submissions
         flushCommands(disconnectedBuffer);
+        setState(LifecycleState.ACTIVE);
     }
 
     private void cancelCommands(String message) {
@@ -1121,10 +1526,100 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
 
     private void resetInternals() {
         rsm.reset();
+        releaseBuffer();
+    }
+
+    /**
+     * Append {@code input} to the {@code cumulation} buffer. The cumulation is replaced by a new buffer if it cannot be written
+     * to: Slices of the buffer are handed out to {@link com.lambdaworks.redis.output.CommandOutput#isByteBufOutput() ByteBuf
+     * outputs} and writing into a shared buffer would corrupt these slices.
+     *
+     * @param alloc the allocator to allocate a new cumulation buffer.
+     * @param cumulation the current cumulation buffer.
+     * @param input the received data.
+     * @return the cumulation buffer containing the unread bytes of {@code cumulation} followed by {@code input}.
+     */
+    private static ByteBuf cumulate(ByteBufAllocator alloc, ByteBuf cumulation, ByteBuf input) {
 
-        if (buffer.refCnt() > 0) {
-            buffer.clear();
+        if (cumulation.refCnt() > 1 || cumulation.writerIndex() > cumulation.maxCapacity() - input.readableBytes()) {
+
+            ByteBuf expanded = alloc.directBuffer(cumulation.readableBytes() + input.readableBytes());
+            expanded.writeBytes(cumulation);
+            cumulation.release();
+            cumulation = expanded;
         }
+
+        return cumulation.writeBytes(input);
+    }
+
+    /**
+     * Release the response buffer once all received data is decoded. A remainder of a partial response is compacted, or copied
+     * into a right-sized buffer if the remainder occupies only a small part of a large buffer.
+     */
+    private void trimBuffer() {
+
+        ByteBuf buffer = this.buffer;
+
+        if (buffer == null) {
+            return;
+        }
+
+        if (!buffer.isReadable()) {
+            releaseBuffer();
+            return;
+        }
+
+        if (buffer.refCnt() == 1) {
+
+            if (buffer.capacity() > SHRINK_THRESHOLD && buffer.readableBytes() < buffer.capacity() / 4) {
+
+                ByteBuf trimmed = buffer.alloc().directBuffer(buffer.readableBytes());
+                trimmed.writeBytes(buffer);
+                buffer.release();
+                this.buffer = buffer = trimmed;
+            } else {
+                buffer.discardSomeReadBytes();
+            }
+        }
+
+        bufferCapacity = buffer.capacity();
+        bufferOccupancy = buffer.readableBytes();
+    }
+
+    private void releaseBuffer() {
+
+        ByteBuf buffer = this.buffer;
+        this.buffer = null;
+
+        bufferCapacity = 0;
+        bufferOccupancy = 0;
+
+        if (buffer != null && buffer.refCnt() > 0) {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Returns the capacity of the buffer holding a partially received response. The buffer is allocated only while a response is
+     * incomplete and released once all received data is decoded.
+     *
+     * @return the capacity of the response buffer in bytes, {@literal 0} if no partial response is pending.
+     * @since 4.5
+     */
+    @Override
+    public int getResponseBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    /**
+     * Returns the number of received but not yet decoded bytes of a partially received response.
+     *
+     * @return the number of buffered response bytes, {@literal 0} if no partial response is pending.
+     * @since 4.5
+     */
+    @Override
+    public int getResponseBufferOccupancy() {
+        return bufferOccupancy;
     }
 
     protected List<RedisCommand<K, V, ?>> prepareReset() {
@@ -1136,6 +1631,13 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         drainCommands(disconnectedBuffer, toCancel);
         drainCommands(commandBuffer, toCancel);
 
+        if (submissionQueue != null) {
+
+            int cancelled = toCancel.size();
+            pollSubmissions(toCancel, Integer.MAX_VALUE);
+            QUEUE_SIZE.addAndGet(this, -(toCancel.size() - cancelled));
+        }
+
         return toCancel;
     }
 
@@ -1204,10 +1706,7 @@ public class CommandHandler<K, V> extends ChannelDuplexHandler implements RedisC
         }
 
         rsm.close();
-
-        if (buffer.refCnt() > 0) {
-            buffer.release();
-        }
+        releaseBuffer();
     }
 
     /**
@@ -16,6 +16,8 @@
 package com.lambdaworks.redis.protocol;
 
 import java.net.SocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -25,6 +27,8 @@ import com.lambdaworks.redis.RedisChannelHandler;
 import com.lambdaworks.redis.internal.LettuceAssert;
 import com.lambdaworks.redis.resource.Delay;
 import com.lambdaworks.redis.resource.Delay.StatefulDelay;
+import com.lambdaworks.redis.resource.ReconnectCoordinator;
+import com.lambdaworks.redis.resource.ReconnectCoordinator.Permit;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.*;
@@ -50,11 +54,27 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(ConnectionWatchdog.class);
 
+    private static final Permit UNCOORDINATED = new Permit() {
+
+        @Override
+        public void success() {
+        }
+
+        @Override
+        public void failure() {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
     private final Delay reconnectDelay;
     private final Bootstrap bootstrap;
     private final EventExecutorGroup reconnectWorkers;
     private final ReconnectionHandler reconnectionHandler;
     private final ReconnectionListener reconnectionListener;
+    private final ReconnectCoordinator reconnectCoordinator;
 
     private Channel channel;
     private final Timer timer;
@@ -66,6 +86,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
     private volatile int attempts;
     private volatile boolean listenOnChannelInactive;
     private volatile Timeout reconnectScheduleTimeout;
+    private volatile boolean awaitingPermit;
     private volatile String logPrefix;
 
     /**
@@ -83,6 +104,28 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
     public ConnectionWatchdog(Delay reconnectDelay, ClientOptions clientOptions, Bootstrap bootstrap, Timer timer,
             EventExecutorGroup reconnectWorkers, Supplier<SocketAddress> socketAddressSupplier,
             ReconnectionListener reconnectionListener) {
+        this(reconnectDelay, clientOptions, bootstrap, timer, reconnectWorkers, socketAddressSupplier, reconnectionListener,
+                null);
+    }
+
+    /**
+     * Create a new watchdog that adds to new connections to the supplied {@link ChannelGroup} and establishes a new
+     * {@link Channel} when disconnected, while reconnect is true. The socketAddressSupplier can supply the reconnect address.
+     * Reconnect attempts are coordinated with other connections to the same endpoint using {@code reconnectCoordinator}.
+     *
+     * @param reconnectDelay reconnect delay, must not be {@literal null}
+     * @param clientOptions client options for the current connection, must not be {@literal null}
+     * @param bootstrap Configuration for new channels, must not be {@literal null}
+     * @param timer Timer used for delayed reconnect, must not be {@literal null}
+     * @param reconnectWorkers executor group for reconnect tasks, must not be {@literal null}
+     * @param socketAddressSupplier the socket address supplier to obtain an address for reconnection, may be {@literal null}
+     * @param reconnectionListener the reconnection listener, must not be {@literal null}
+     * @param reconnectCoordinator the reconnect coordinator, may be {@literal null} to reconnect without coordination
+     * @since 4.5
+     */
+    public ConnectionWatchdog(Delay reconnectDelay, ClientOptions clientOptions, Bootstrap bootstrap, Timer timer,
+            EventExecutorGroup reconnectWorkers, Supplier<SocketAddress> socketAddressSupplier,
+            ReconnectionListener reconnectionListener, ReconnectCoordinator reconnectCoordinator) {
 
         LettuceAssert.notNull(reconnectDelay, "Delay must not be null");
         LettuceAssert.notNull(clientOptions, "ClientOptions must not be null");
@@ -96,6 +139,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
         this.timer = timer;
         this.reconnectWorkers = reconnectWorkers;
         this.reconnectionListener = reconnectionListener;
+        this.reconnectCoordinator = reconnectCoordinator;
 
         Supplier<SocketAddress> wrappedSocketAddressSupplier = new Supplier<SocketAddress>() {
             @Override
@@ -208,7 +252,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
             return;
         }
 
-        if ((channel == null || !channel.isActive()) && reconnectScheduleTimeout == null) {
+        if ((channel == null || !channel.isActive()) && reconnectScheduleTimeout == null && !awaitingPermit) {
             attempts++;
 
             final int attempt = attempts;
@@ -234,7 +278,8 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
 
     /**
      * Reconnect to the remote address that the closed channel was connected to. This creates a new {@link ChannelPipeline} with
-     * the same handler instances contained in the old channel's pipeline.
+     * the same handler instances contained in the old channel's pipeline. The reconnect attempt awaits a {@link Permit} from
+     * the {@link ReconnectCoordinator} if the watchdog was created with a coordinator.
      *
      * @param timeout Timer task handle.
      *
@@ -255,6 +300,61 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
             return;
         }
 
+        SocketAddress endpoint = remoteAddress;
+
+        if (reconnectCoordinator == null || endpoint == null) {
+            reconnect(UNCOORDINATED);
+            return;
+        }
+
+        awaitingPermit = true;
+        CompletableFuture<Permit> permit = reconnectCoordinator.acquire(endpoint).toCompletableFuture();
+
+        if (permit.isDone() && !permit.isCompletedExceptionally()) {
+            awaitingPermit = false;
+            reconnect(permit.join());
+            return;
+        }
+
+        permit.whenComplete((it, throwable) -> {
+
+            awaitingPermit = false;
+
+            if (throwable != null) {
+
+                logger.debug("{} Reconnect deferred: {}", logPrefix(), throwable.toString());
+
+                if (!isReconnectSuspended()) {
+                    scheduleReconnect();
+                }
+                return;
+            }
+
+            try {
+                reconnectWorkers.submit(() -> {
+                    reconnect(it);
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                it.cancel();
+            }
+        });
+    }
+
+    private void reconnect(Permit permit) {
+
+        if (!isEventLoopGroupActive()) {
+            logger.debug("isEventLoopGroupActive() == false");
+            permit.cancel();
+            return;
+        }
+
+        if (commandHandler != null && commandHandler.isClosed()) {
+            logger.debug("Skip reconnect, CommandHandler is closed");
+            permit.cancel();
+            return;
+        }
+
         boolean shouldLog = shouldLog();
 
         InternalLogLevel infoLevel = InternalLogLevel.INFO;
@@ -277,7 +377,18 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
 
             future.addListener(it -> {
 
-                if (it.isSuccess() || it.cause() == null) {
+                if (it.isSuccess()) {
+                    permit.success();
+                    return;
+                }
+
+                if (it.isCancelled()) {
+                    permit.cancel();
+                } else {
+                    permit.failure();
+                }
+
+                if (it.cause() == null) {
                     return;
                 }
 
@@ -294,6 +405,7 @@ public class ConnectionWatchdog extends ChannelInboundHandlerAdapter implements
                 }
             });
         } catch (Exception e) {
+            permit.failure();
             logger.log(warnLevel, "Cannot reconnect: {}", e.toString());
         }
     }
@@ -0,0 +1,634 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.lambdaworks.redis.HedgedReadOptions;
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.output.BulkChunkStreamingOutput;
+import com.lambdaworks.redis.output.CommandOutput;
+import com.lambdaworks.redis.output.StreamingOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * Dispatcher for hedged (speculative) reads. A read command is sent to its primary target. If the primary target does not
+ * reply within the hedge delay, the command is sent to an alternate target. The first successful reply completes the command,
+ * the other reply is discarded. Error replies (such as {@literal MOVED}) complete the command only if no other attempt is
+ * pending.
+ * <p>
+ * The primary target decodes its reply directly into the output of the original command. A read is hedged only if the primary
+ * target did not start to reply when the hedge delay elapses. Both attempts then decode into a recording output and the reply
+ * of the winning attempt is replayed into the output of the original command. The hedge delay is the configured percentile of
+ * recently observed response times, bounded by the minimal delay of {@link HedgedReadOptions}. Reads are not hedged until
+ * enough response times were observed.
+ * </p>
+ * <p>
+ * Cursor-based commands (such as {@literal SCAN}), commands that depend on connection or node state and commands using a
+ * streaming output are never hedged, see {@link #isHedgeable(RedisCommand)}.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class HedgedReadDispatcher {
+
+    private static final int SAMPLE_SIZE = 1024;
+    private static final int UPDATE_INTERVAL = 128;
+
+    private static final Set<CommandType> NON_HEDGEABLE_COMMANDS = EnumSet.of(CommandType.SCAN, CommandType.HSCAN,
+            CommandType.SSCAN, CommandType.ZSCAN, CommandType.ASKING, CommandType.READWRITE, CommandType.MULTI,
+            CommandType.CLIENT, CommandType.INFO, CommandType.SCRIPT, CommandType.EVAL, CommandType.EVALSHA);
+
+    private final EventExecutorGroup executor;
+    private final double percentile;
+    private final long minDelayNanos;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final LongAdder hedgedReads = new LongAdder();
+
+    // hedge delay in nanoseconds, -1 until enough response times were observed.
+    private volatile long delayNanos = -1;
+
+    /**
+     * Create a new {@link HedgedReadDispatcher}.
+     *
+     * @param options the hedged read options, must not be {@literal null}.
+     * @param executor executor to schedule hedged reads, must not be {@literal null}.
+     */
+    public HedgedReadDispatcher(HedgedReadOptions options, EventExecutorGroup executor) {
+
+        LettuceAssert.notNull(options, "HedgedReadOptions must not be null");
+        LettuceAssert.notNull(executor, "EventExecutorGroup must not be null");
+
+        this.executor = executor;
+        this.percentile = options.getPercentile();
+        this.minDelayNanos = options.getMinDelayUnit().toNanos(options.getMinDelay());
+    }
+
+    /**
+     * Dispatch a read {@code command}.
+     *
+     * @param command the command, must not be {@literal null}.
+     * @param primary writes a command to the primary target, must not be {@literal null}.
+     * @param alternate supplies the writer for the alternate target when the read is hedged. The supplier may return
+     *        {@literal null} if no alternate target is available.
+     */
+    public <K, V, T> void dispatch(RedisCommand<K, V, T> command, Consumer<RedisCommand<K, V, T>> primary,
+            Supplier<Consumer<RedisCommand<K, V, T>>> alternate) {
+
+        LettuceAssert.notNull(command, "Command must not be null");
+        LettuceAssert.notNull(primary, "Primary must not be null");
+        LettuceAssert.notNull(alternate, "Alternate must not be null");
+
+        if (!isHedgeable(command)) {
+            primary.accept(command);
+            return;
+        }
+
+        long delay = this.delayNanos;
+
+        if (delay < 0) {
+            primary.accept(new SampledCommand<>(command, System.nanoTime()));
+            return;
+        }
+
+        HedgedRead<K, V, T> hedgedRead = new HedgedRead<>(command);
+        RedisCommand<K, V, T> attempt = hedgedRead.primary();
+
+        hedgedRead.timeout = executor.schedule(() -> {
+
+            if (hedgedRead.isDone()) {
+                return;
+            }
+
+            Consumer<RedisCommand<K, V, T>> writer = alternate.get();
+            Attempt<K, V, T> hedge = writer != null ? hedgedRead.hedge() : null;
+
+            if (hedge != null) {
+                hedgedReads.increment();
+                writer.accept(hedge);
+            }
+        }, Math.max(delay, minDelayNanos), TimeUnit.NANOSECONDS);
+
+        primary.accept(attempt);
+    }
+
+    /**
+     * Check whether {@code command} can be hedged. Cursor-based commands, commands that depend on connection or node state and
+     * commands without arguments or with a streaming output are not hedged.
+     *
+     * @param command the command, must not be {@literal null}.
+     * @return {@literal true} if {@code command} can be sent to an alternate target.
+     */
+    public static boolean isHedgeable(RedisCommand<?, ?, ?> command) {
+
+        CommandOutput<?, ?, ?> output = command.getOutput();
+
+        if (command.getArgs() == null || output == null || NON_HEDGEABLE_COMMANDS.contains(command.getType())) {
+            return false;
+        }
+
+        return !(output instanceof StreamingOutput || output instanceof BulkChunkStreamingOutput);
+    }
+
+    /**
+     * @param unit the target unit.
+     * @return the current hedge delay or {@literal -1} if reads are not hedged yet.
+     */
+    public long getDelay(TimeUnit unit) {
+
+        long delay = this.delayNanos;
+        return delay < 0 ? -1 : unit.convert(Math.max(delay, minDelayNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return number of reads that were sent to an alternate target.
+     */
+    public long getHedgedReadCount() {
+        return hedgedReads.sum();
+    }
+
+    /**
+     * Record an observed read response time.
+     *
+     * @param nanos the response time in nanoseconds.
+     */
+    void record(long nanos) {
+
+        long count = sampleCount.getAndIncrement();
+        samples.set((int) (count & (SAMPLE_SIZE - 1)), nanos);
+
+        if ((count + 1) % UPDATE_INTERVAL == 0) {
+            updateDelay(count + 1);
+        }
+    }
+
+    private void updateDelay(long count) {
+
+        int size = (int) Math.min(count, SAMPLE_SIZE);
+        long[] sorted = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+
+        Arrays.sort(sorted);
+
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        this.delayNanos = sorted[Math.max(0, Math.min(size - 1, index))];
+    }
+
+    /**
+     * Wrapper recording the response time of a read that is not hedged.
+     */
+    class SampledCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+        private final long start;
+
+        SampledCommand(RedisCommand<K, V, T> command, long start) {
+            super(command);
+            this.start = start;
+        }
+
+        @Override
+        public void complete() {
+
+            record(System.nanoTime() - start);
+            super.complete();
+        }
+    }
+
+    /**
+     * State of a hedged read. Attempts complete on different I/O threads, so state transitions synchronize on the
+     * {@link HedgedRead} instance.
+     */
+    class HedgedRead<K, V, T> {
+
+        private final RedisCommand<K, V, T> command;
+        private final RedisCodec<K, V> codec;
+
+        private final List<Attempt<K, V, T>> attempts = new ArrayList<>(2);
+        private PrimaryOutput<K, V, T> primaryOutput;
+        private Attempt<K, V, T> failed;
+        private Throwable failure;
+        private boolean done;
+
+        volatile ScheduledFuture<?> timeout;
+
+        HedgedRead(RedisCommand<K, V, T> command) {
+
+            this.command = command;
+            this.codec = CommandArgsAccessor.getCodec(command.getArgs());
+        }
+
+        synchronized Attempt<K, V, T> primary() {
+
+            primaryOutput = new PrimaryOutput<>(codec, command.getOutput());
+            return newAttempt(primaryOutput);
+        }
+
+        private Attempt<K, V, T> newAttempt(CommandOutput<K, V, T> output) {
+
+            Attempt<K, V, T> attempt = new Attempt<>(this, command.getType(), output, command.getArgs());
+            attempts.add(attempt);
+            return attempt;
+        }
+
+        synchronized boolean isDone() {
+            return done;
+        }
+
+        synchronized Attempt<K, V, T> hedge() {
+
+            if (done || attempts.size() > 1 || !primaryOutput.startRecording()) {
+                return null;
+            }
+
+            return newAttempt(new RecordingOutput<>(codec));
+        }
+
+        void onFinished(Attempt<K, V, T> attempt, Throwable throwable) {
+
+            if (throwable == null) {
+                record(System.nanoTime() - attempt.start);
+            }
+
+            boolean success = throwable == null && !attempt.getOutput().hasError();
+            Attempt<K, V, T> result;
+            Throwable resultFailure;
+
+            synchronized (this) {
+
+                if (done || attempt.finished) {
+                    return;
+                }
+
+                attempt.finished = true;
+
+                if (!success && isOtherAttemptPending(attempt)) {
+                    failed = attempt;
+                    failure = throwable;
+                    return;
+                }
+
+                done = true;
+
+                // if all attempts failed, the primary attempt determines the outcome.
+                if (success || failed == null || attempt == attempts.get(0)) {
+                    result = attempt;
+                    resultFailure = throwable;
+                } else {
+                    result = failed;
+                    resultFailure = failure;
+                }
+            }
+
+            cancelTimeout();
+
+            if (resultFailure != null) {
+                command.completeExceptionally(resultFailure);
+                return;
+            }
+
+            try {
+                RecordingOutput<K, V, T> recording = getRecording(result.getOutput());
+
+                if (recording != null) {
+                    recording.replay(command.getOutput());
+                }
+
+                command.complete();
+            } catch (Exception e) {
+                command.completeExceptionally(e);
+            }
+        }
+
+        private RecordingOutput<K, V, T> getRecording(CommandOutput<K, V, T> output) {
+
+            if (output instanceof PrimaryOutput) {
+                return ((PrimaryOutput<K, V, T>) output).getRecording();
+            }
+
+            return (RecordingOutput<K, V, T>) output;
+        }
+
+        private boolean isOtherAttemptPending(Attempt<K, V, T> attempt) {
+
+            for (Attempt<K, V, T> other : attempts) {
+                if (other != attempt && !other.finished) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void cancelTimeout() {
+
+            ScheduledFuture<?> timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Single attempt of a hedged read.
+     */
+    static class Attempt<K, V, T> extends Command<K, V, T> {
+
+        private final HedgedRead<K, V, T> hedgedRead;
+        private final long start = System.nanoTime();
+
+        // guarded by hedgedRead.
+        boolean finished;
+
+        Attempt(HedgedRead<K, V, T> hedgedRead, ProtocolKeyword type, CommandOutput<K, V, T> output,
+                CommandArgs<K, V> args) {
+
+            super(type, output, args);
+            this.hedgedRead = hedgedRead;
+        }
+
+        @Override
+        public void complete() {
+
+            super.complete();
+            hedgedRead.onFinished(this, null);
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable throwable) {
+
+            boolean result = super.completeExceptionally(throwable);
+            hedgedRead.onFinished(this, throwable);
+            return result;
+        }
+
+        @Override
+        public void cancel() {
+
+            super.cancel();
+            hedgedRead.onFinished(this, new CancellationException());
+        }
+    }
+
+    /**
+     * Output of the primary attempt. Replies are passed through to the output of the original command unless the read was
+     * hedged before the primary target started to reply. Replies of a hedged read are recorded because the alternate target
+     * may reply first.
+     */
+    static class PrimaryOutput<K, V, T> extends CommandOutput<K, V, T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<PrimaryOutput> STATE = AtomicIntegerFieldUpdater
+                .newUpdater(PrimaryOutput.class, "state");
+
+        private static final int ST_PENDING = 0;
+        private static final int ST_PASS_THROUGH = 1;
+        private static final int ST_RECORDING = 2;
+
+        private final CommandOutput<K, V, T> target;
+
+        // published by the state transition to ST_RECORDING.
+        private RecordingOutput<K, V, T> recording;
+
+        // accessed via STATE.
+        @SuppressWarnings("unused")
+        private volatile int state = ST_PENDING;
+
+        PrimaryOutput(RedisCodec<K, V> codec, CommandOutput<K, V, T> target) {
+
+            super(codec, null);
+            this.target = target;
+        }
+
+        /**
+         * Switch to recording if the primary target did not start to reply yet.
+         *
+         * @return {@literal true} if replies are recorded.
+         */
+        boolean startRecording() {
+
+            RecordingOutput<K, V, T> recording = new RecordingOutput<>(codec);
+            this.recording = recording;
+
+            return STATE.compareAndSet(this, ST_PENDING, ST_RECORDING);
+        }
+
+        /**
+         * @return the recording output or {@literal null} if replies were passed through.
+         */
+        RecordingOutput<K, V, T> getRecording() {
+            return state == ST_RECORDING ? recording : null;
+        }
+
+        private CommandOutput<K, V, T> delegate() {
+
+            if (state == ST_PENDING) {
+                STATE.compareAndSet(this, ST_PENDING, ST_PASS_THROUGH);
+            }
+
+            return state == ST_RECORDING ? recording : target;
+        }
+
+        @Override
+        public T get() {
+            return delegate().get();
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+            delegate().set(bytes);
+        }
+
+        @Override
+        public void setByteBuf(ByteBuf bytes) {
+            delegate().setByteBuf(bytes);
+        }
+
+        @Override
+        public boolean isByteBufOutput() {
+            return delegate().isByteBufOutput();
+        }
+
+        @Override
+        public void set(long integer) {
+            delegate().set(integer);
+        }
+
+        @Override
+        public void setError(ByteBuffer error) {
+            delegate().setError(error);
+        }
+
+        @Override
+        public void setError(String error) {
+            delegate().setError(error);
+        }
+
+        @Override
+        public boolean hasError() {
+            return delegate().hasError();
+        }
+
+        @Override
+        public String getError() {
+            return delegate().getError();
+        }
+
+        @Override
+        public void complete(int depth) {
+            delegate().complete(depth);
+        }
+
+        @Override
+        public void multi(int count) {
+            delegate().multi(count);
+        }
+    }
+
+    /**
+     * Output that records all callbacks to replay them on another output.
+     */
+    static class RecordingOutput<K, V, T> extends CommandOutput<K, V, T> {
+
+        private static final Object NULL_BULK = new Object();
+
+        private final List<Object> events = new ArrayList<>();
+
+        RecordingOutput(RedisCodec<K, V> codec) {
+            super(codec, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+
+            if (bytes == null) {
+                events.add(NULL_BULK);
+                return;
+            }
+
+            ByteBuffer copy = ByteBuffer.allocate(bytes.remaining());
+            copy.put(bytes.duplicate()).flip();
+            events.add(copy);
+        }
+
+        @Override
+        public void set(long integer) {
+            events.add(integer);
+        }
+
+        @Override
+        public void setError(ByteBuffer error) {
+            setError(decodeAscii(error));
+        }
+
+        @Override
+        public void setError(String error) {
+
+            super.setError(error);
+            events.add(new ErrorEvent(error));
+        }
+
+        @Override
+        public void complete(int depth) {
+            events.add(new CompleteEvent(depth));
+        }
+
+        @Override
+        public void multi(int count) {
+            events.add(new MultiEvent(count));
+        }
+
+        void replay(CommandOutput<K, V, ?> target) {
+
+            if (target == null) {
+                return;
+            }
+
+            for (Object event : events) {
+
+                if (event == NULL_BULK) {
+                    target.set((ByteBuffer) null);
+                } else if (event instanceof ByteBuffer) {
+
+                    ByteBuffer bytes = ((ByteBuffer) event).duplicate();
+                    if (target.isByteBufOutput()) {
+                        target.setByteBuf(Unpooled.wrappedBuffer(bytes));
+                    } else {
+                        target.set(bytes);
+                    }
+                } else if (event instanceof Long) {
+                    target.set((Long) event);
+                } else if (event instanceof ErrorEvent) {
+                    target.setError(((ErrorEvent) event).message);
+                } else if (event instanceof CompleteEvent) {
+                    target.complete(((CompleteEvent) event).depth);
+                } else if (event instanceof MultiEvent) {
+                    target.multi(((MultiEvent) event).count);
+                }
+            }
+        }
+
+        static class ErrorEvent {
+
+            final String message;
+
+            ErrorEvent(String message) {
+                this.message = message;
+            }
+        }
+
+        static class CompleteEvent {
+
+            final int depth;
+
+            CompleteEvent(int depth) {
+                this.depth = depth;
+            }
+        }
+
+        static class MultiEvent {
+
+            final int count;
+
+            MultiEvent(int count) {
+                this.count = count;
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.nio.ByteBuffer;
+
+import com.lambdaworks.redis.codec.RedisCodec;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.output.CommandOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.Recycler;
+
+/**
+ * Fire-and-forget {@link RedisCommand} that is pooled using Netty's {@link Recycler}. A {@link RecyclableCommand} owns its
+ * {@link CommandArgs} and an output that discards the reply but retains errors so that cluster redirections ({@code MOVED},
+ * {@code ASK}) can be followed. Commands are obtained from a {@link Pool} and returned to the pool by {@link CommandHandler}
+ * once the reply was received and the command is no longer referenced by the connection. Commands that received a redirection
+ * may have been dispatched to another node and are therefore not recycled.
+ * <p>
+ * Callers must not keep a reference to a {@link RecyclableCommand} or its {@link #getArgs() arguments} after dispatching it.
+ * Pooling can be disabled by setting {@code io.netty.recycler.maxCapacityPerThread} to {@literal 0}.
+ * </p>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public final class RecyclableCommand<K, V> implements RedisCommand<K, V, Void> {
+
+    private static final byte ST_INITIAL = 0;
+    private static final byte ST_COMPLETED = 1;
+    private static final byte ST_CANCELLED = 2;
+
+    private final Recycler.Handle<RecyclableCommand<K, V>> handle;
+    private final CommandArgs<K, V> args;
+    private final DiscardingOutput<K, V> output;
+
+    private ProtocolKeyword type;
+    private volatile byte status = ST_INITIAL;
+
+    private RecyclableCommand(Recycler.Handle<RecyclableCommand<K, V>> handle, RedisCodec<K, V> codec) {
+
+        this.handle = handle;
+        this.args = new CommandArgs<>(codec);
+        this.output = new DiscardingOutput<>(codec);
+    }
+
+    @Override
+    public CommandOutput<K, V, Void> getOutput() {
+        return output;
+    }
+
+    @Override
+    public void complete() {
+        this.status = ST_COMPLETED;
+    }
+
+    @Override
+    public void cancel() {
+        this.status = ST_CANCELLED;
+    }
+
+    @Override
+    public CommandArgs<K, V> getArgs() {
+        return args;
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable throwable) {
+
+        this.status = ST_COMPLETED;
+        return true;
+    }
+
+    @Override
+    public ProtocolKeyword getType() {
+        return type;
+    }
+
+    @Override
+    public void encode(ByteBuf buf) {
+
+        buf.writeByte('*');
+        CommandArgs.IntegerArgument.writeInteger(buf, 1 + args.count());
+
+        buf.writeBytes(CommandArgs.CRLF);
+
+        CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+
+        args.encode(buf);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return status == ST_CANCELLED;
+    }
+
+    @Override
+    public boolean isDone() {
+        return status != ST_INITIAL;
+    }
+
+    /**
+     * Replies to a {@link RecyclableCommand} are always discarded, {@code output} is ignored.
+     *
+     * @param output the new command output.
+     * @throws IllegalStateException if the command is cancelled/completed
+     */
+    @Override
+    public void setOutput(CommandOutput<K, V, Void> output) {
+        LettuceAssert.assertState(!isDone(), "Command is completed/cancelled. Cannot set a new output");
+    }
+
+    /**
+     * Return this command to its {@link Pool}. The command must not be used after recycling.
+     */
+    void recycle() {
+
+        type = null;
+        args.clear();
+        output.setError((String) null);
+        handle.recycle(this);
+    }
+
+    /**
+     * Recycle {@code command} if it is a (wrapped) {@link RecyclableCommand} that can be recycled.
+     *
+     * @param command the command.
+     * @see #getRecyclable(RedisCommand)
+     */
+    static void recycle(RedisCommand<?, ?, ?> command) {
+
+        RecyclableCommand<?, ?> recyclable = getRecyclable(command);
+
+        if (recyclable != null) {
+            recyclable.recycle();
+        }
+    }
+
+    /**
+     * Obtain the {@link RecyclableCommand} wrapped by {@code command} if it can be recycled once {@code command} is done.
+     * Commands that are part of a transaction remain referenced by the transaction until {@code EXEC} completes. Commands that
+     * received a {@code MOVED} or {@code ASK} redirection are re-dispatched by the cluster connection on completion and
+     * recycled by the connection that receives the final reply, if at all. Both are therefore not recyclable. This method must
+     * be called after decoding the reply and before completing {@code command}.
+     *
+     * @param command the command.
+     * @return the {@link RecyclableCommand} or {@literal null} if {@code command} cannot be recycled.
+     */
+    static RecyclableCommand<?, ?> getRecyclable(RedisCommand<?, ?, ?> command) {
+
+        RedisCommand<?, ?, ?> unwrapped = command;
+
+        while (unwrapped instanceof DecoratedCommand) {
+
+            if (unwrapped instanceof TransactionalCommand) {
+                return null;
+            }
+
+            unwrapped = ((DecoratedCommand<?, ?, ?>) unwrapped).getDelegate();
+        }
+
+        if (!(unwrapped instanceof RecyclableCommand)) {
+            return null;
+        }
+
+        RecyclableCommand<?, ?> recyclable = (RecyclableCommand<?, ?>) unwrapped;
+        return recyclable.output.isRedirection() ? null : recyclable;
+    }
+
+    @Override
+    public String toString() {
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [type=").append(type);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Pool of {@link RecyclableCommand} instances for a {@link RedisCodec}. Pooled instances are cached per thread.
+     *
+     * @param <K> Key type.
+     * @param <V> Value type.
+     */
+    public static class Pool<K, V> {
+
+        private final Recycler<RecyclableCommand<K, V>> recycler;
+
+        /**
+         * Create a new {@link Pool} for {@link RecyclableCommand commands} using {@link RedisCodec codec}.
+         *
+         * @param codec must not be {@literal null}.
+         */
+        public Pool(RedisCodec<K, V> codec) {
+
+            LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+            this.recycler = new Recycler<RecyclableCommand<K, V>>() {
+                @Override
+                protected RecyclableCommand<K, V> newObject(Handle<RecyclableCommand<K, V>> handle) {
+                    return new RecyclableCommand<>(handle, codec);
+                }
+            };
+        }
+
+        /**
+         * Obtain a {@link RecyclableCommand} of the given {@link ProtocolKeyword type} with empty {@link CommandArgs}.
+         *
+         * @param type the command type, must not be {@literal null}.
+         * @return the {@link RecyclableCommand}.
+         */
+        public RecyclableCommand<K, V> get(ProtocolKeyword type) {
+
+            LettuceAssert.notNull(type, "Command type must not be null");
+
+            RecyclableCommand<K, V> command = recycler.get();
+            command.type = type;
+            command.status = ST_INITIAL;
+            return command;
+        }
+    }
+
+    /**
+     * {@link CommandOutput} that discards replies and retains only the error. Instances are owned by a single
+     * {@link RecyclableCommand} and reset when recycling the command.
+     */
+    static class DiscardingOutput<K, V> extends CommandOutput<K, V, Void> {
+
+        DiscardingOutput(RedisCodec<K, V> codec) {
+            super(codec, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+        }
+
+        @Override
+        public void setByteBuf(ByteBuf bytes) {
+        }
+
+        @Override
+        public boolean isByteBufOutput() {
+            return true;
+        }
+
+        @Override
+        public void set(long integer) {
+        }
+
+        boolean isRedirection() {
+            return error != null
+                    && (error.startsWith(CommandKeyword.MOVED.name()) || error.startsWith(CommandKeyword.ASK.name()));
+        }
+    }
+}
@@ -20,14 +20,13 @@ import static com.lambdaworks.redis.protocol.RedisStateMachine.State.Type.*;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.output.BulkChunkStreamingOutput;
 import com.lambdaworks.redis.output.CommandOutput;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufProcessor;
-import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.util.Version;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
@@ -77,7 +76,7 @@ public class RedisStateMachine<K, V> {
 
     static class State {
         enum Type {
-            SINGLE, ERROR, INTEGER, BULK, MULTI, BYTES
+            SINGLE, ERROR, INTEGER, BULK, MULTI, BYTES, CHUNKED_BYTES
         }
 
         Type type = null;
@@ -88,8 +87,6 @@ public class RedisStateMachine<K, V> {
     private final boolean debugEnabled = logger.isDebugEnabled();
     private final LongProcessor longProcessor;
     private final IndexOfLineBreakProcessor indexOfLineBreakProcessor;
-    private final ByteBuf responseElementBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(1024);
-    private final AtomicBoolean closed = new AtomicBoolean();
 
     private int stackElements;
 
@@ -201,7 +198,7 @@ public class RedisStateMachine<K, V> {
                     if (length == -1) {
                         safeSet(output, null, command);
                     } else {
-                        state.type = BYTES;
+                        state.type = output instanceof BulkChunkStreamingOutput ? CHUNKED_BYTES : BYTES;
                         state.count = length + 2;
                         buffer.markReaderIndex();
                         continue loop;
@@ -227,11 +224,22 @@ public class RedisStateMachine<K, V> {
 
                     continue loop;
                 case BYTES:
+                    if (output.isByteBufOutput()) {
+                        if (!readSlice(buffer, state.count, output, command)) {
+                            break loop;
+                        }
+                        break;
+                    }
                     if ((bytes = readBytes(buffer, state.count)) == null) {
                         break loop;
                     }
                     safeSet(output, bytes, command);
                     break;
+                case CHUNKED_BYTES:
+                    if (!readChunk(buffer, state, (BulkChunkStreamingOutput<K, V>) output, command)) {
+                        break loop;
+                    }
+                    break;
                 default:
                     throw new IllegalStateException("State " + state.type + " not supported");
             }
@@ -258,12 +266,11 @@ public class RedisStateMachine<K, V> {
     }
 
     /**
-     * Close the state machine to free resources.
+     * Close the state machine to free resources. The state machine does not hold buffers of its own, response elements are
+     * read from the response buffer.
      */
     public void close() {
-        if (closed.compareAndSet(false, true)) {
-            responseElementBuffer.release();
-        }
+        reset();
     }
 
     private int findLineEnd(ByteBuf buffer) {
@@ -301,16 +308,7 @@ public class RedisStateMachine<K, V> {
 
         if (end > -1) {
             int start = buffer.readerIndex();
-            responseElementBuffer.clear();
-            int size = end - start - 1;
-
-            if (responseElementBuffer.capacity() < size) {
-                responseElementBuffer.capacity(size);
-            }
-
-            buffer.readBytes(responseElementBuffer, size);
-
-            bytes = responseElementBuffer.internalNioBuffer(0, size);
+            bytes = buffer.nioBuffer(start, end - start - 1);
 
             buffer.readerIndex(end + 1);
             buffer.markReaderIndex();
@@ -323,19 +321,70 @@ public class RedisStateMachine<K, V> {
         ByteBuffer bytes = null;
 
         if (buffer.readableBytes() >= count) {
-            responseElementBuffer.clear();
 
-            int size = count - 2;
+            bytes = buffer.nioBuffer(buffer.readerIndex(), count - 2);
+            buffer.readerIndex(buffer.readerIndex() + count);
+        }
+        return bytes;
+    }
+
+    /**
+     * Pass a bulk reply as slice of the response {@code buffer} to the {@link CommandOutput} without copying the bulk payload.
+     *
+     * @param buffer the response buffer.
+     * @param count number of bytes including the trailing {@code CRLF}.
+     * @param output the command output.
+     * @param command the command itself.
+     * @return {@literal true} if the bulk reply was read.
+     */
+    private boolean readSlice(ByteBuf buffer, int count, CommandOutput<K, V, ?> output, RedisCommand<K, V, ?> command) {
+
+        if (buffer.readableBytes() < count) {
+            return false;
+        }
+
+        safeSetByteBuf(output, buffer.readSlice(count - 2), command);
+        buffer.skipBytes(2);
+
+        return true;
+    }
+
+    /**
+     * Pass the readable bytes of a bulk reply as chunk to the {@link BulkChunkStreamingOutput}. {@link State#count} tracks the
+     * number of remaining bytes including the trailing {@code CRLF}.
+     *
+     * @param buffer the response buffer.
+     * @param state the current state.
+     * @param output the streaming output.
+     * @param command the command itself.
+     * @return {@literal true} if the bulk reply was read completely.
+     */
+    private boolean readChunk(ByteBuf buffer, State state, BulkChunkStreamingOutput<K, V> output,
+            RedisCommand<K, V, ?> command) {
+
+        int remaining = state.count - 2;
+
+        if (remaining > 0) {
+
+            int length = Math.min(buffer.readableBytes(), remaining);
 
-            if (responseElementBuffer.capacity() < size) {
-                responseElementBuffer.capacity(size);
+            if (length > 0) {
+                safeSetChunk(output, buffer.readSlice(length), command);
+                state.count -= length;
+                buffer.markReaderIndex();
             }
-            buffer.readBytes(responseElementBuffer, size);
 
-            bytes = responseElementBuffer.internalNioBuffer(0, size);
-            buffer.readerIndex(buffer.readerIndex() + 2);
+            if (state.count > 2) {
+                return false;
+            }
         }
-        return bytes;
+
+        if (buffer.readableBytes() < 2) {
+            return false;
+        }
+
+        buffer.skipBytes(2);
+        return true;
     }
 
     /**
@@ -432,6 +481,39 @@ public class RedisStateMachine<K, V> {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setByteBuf(ByteBuf)}. Completes a command exceptionally in case an exception occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param command
+     */
+    protected void safeSetByteBuf(CommandOutput<K, V, ?> output, ByteBuf bytes, RedisCommand<K, V, ?> command) {
+
+        try {
+            output.setByteBuf(bytes);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Safely sets {@link BulkChunkStreamingOutput#setChunk(ByteBuf)}. Completes a command exceptionally in case an exception
+     * occurs.
+     *
+     * @param output
+     * @param chunk
+     * @param command
+     */
+    protected void safeSetChunk(BulkChunkStreamingOutput<K, V> output, ByteBuf chunk, RedisCommand<K, V, ?> command) {
+
+        try {
+            output.setChunk(chunk);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#multi(int)}. Completes a command exceptionally in case an exception occurs.
      *
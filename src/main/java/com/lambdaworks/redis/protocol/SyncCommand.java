@@ -0,0 +1,158 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.lambdaworks.redis.ExceptionFactory;
+import com.lambdaworks.redis.RedisCommandExecutionException;
+import com.lambdaworks.redis.RedisCommandInterruptedException;
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.output.CommandOutput;
+
+/**
+ * A command wrapper that allows a single caller thread to block until the command is completed. {@link SyncCommand} is used by
+ * the synchronous API instead of {@link AsyncCommand} to await command completion without the allocation and completion
+ * overhead of a {@link java.util.concurrent.CompletableFuture}.
+ * <p>
+ * Only the thread that calls {@link #await(long, TimeUnit)} is notified on completion. Exceptional completion, cancellation and
+ * timeouts are reported the same way as {@link com.lambdaworks.redis.LettuceFutures#awaitOrCancel} reports them.
+ * </p>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <T> Command output type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class SyncCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+    private volatile boolean done;
+    private volatile Thread waiter;
+    private Throwable exception;
+
+    /**
+     * @param command the command, must not be {@literal null}.
+     */
+    public SyncCommand(RedisCommand<K, V, T> command) {
+        super(command);
+    }
+
+    @Override
+    public void complete() {
+
+        super.complete();
+        signal();
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable throwable) {
+
+        this.exception = throwable;
+        boolean result = super.completeExceptionally(throwable);
+        signal();
+        return result;
+    }
+
+    @Override
+    public void cancel() {
+
+        super.cancel();
+        signal();
+    }
+
+    /**
+     * Wait up to the specified time for the command to complete and return the command result. The command is canceled if the
+     * timeout expires.
+     *
+     * @param timeout Maximum time to wait for a result.
+     * @param unit Unit of time for the timeout.
+     * @return the command result.
+     * @throws com.lambdaworks.redis.RedisCommandTimeoutException if the timeout expires.
+     * @throws RedisCommandExecutionException if Redis responds with an error.
+     * @throws RedisCommandInterruptedException if the waiting thread is interrupted.
+     * @throws CancellationException if the command was canceled.
+     */
+    public T await(long timeout, TimeUnit unit) {
+
+        if (!done) {
+            awaitCompletion(timeout, unit);
+        }
+
+        if (exception != null) {
+
+            if (exception instanceof RedisCommandExecutionException) {
+                throw ExceptionFactory.createExecutionException(exception.getMessage(), exception);
+            }
+
+            throw new RedisException(exception);
+        }
+
+        if (isCancelled()) {
+            throw new CancellationException();
+        }
+
+        CommandOutput<K, V, T> output = getOutput();
+
+        if (output == null) {
+            return null;
+        }
+
+        if (output.hasError()) {
+            throw ExceptionFactory.createExecutionException(output.getError());
+        }
+
+        return output.get();
+    }
+
+    private void awaitCompletion(long timeout, TimeUnit unit) {
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        waiter = Thread.currentThread();
+
+        try {
+            while (!done) {
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    cancel();
+                    throw ExceptionFactory.createTimeoutException(timeout, unit);
+                }
+
+                LockSupport.parkNanos(this, remaining);
+
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new RedisCommandInterruptedException(new InterruptedException());
+                }
+            }
+        } finally {
+            waiter = null;
+        }
+    }
+
+    private void signal() {
+
+        done = true;
+
+        Thread waiter = this.waiter;
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+}
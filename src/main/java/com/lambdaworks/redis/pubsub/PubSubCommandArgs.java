@@ -44,4 +44,13 @@ class PubSubCommandArgs<K, V> extends CommandArgs<K, V> {
     public ByteBuffer getFirstEncodedKey() {
         return null;
     }
+
+    /**
+     *
+     * @return always {@literal null}.
+     */
+    @Override
+    public K getFirstKey() {
+        return null;
+    }
 }
@@ -67,7 +67,6 @@ public class PubSubCommandHandler<K, V> extends CommandHandler<K, V> {
 
             ctx.fireChannelRead(output);
             output = new PubSubOutput<>(codec);
-            buffer.discardReadBytes();
         }
     }
 
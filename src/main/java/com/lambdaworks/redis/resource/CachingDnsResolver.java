@@ -0,0 +1,246 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.resource;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Caching {@link DnsResolver} decorating a delegate resolver. Each resolved record is cached with its own expiry:
+ * <ul>
+ * <li>Successful lookups are fresh for {@code ttl} and are served without consulting the delegate.</li>
+ * <li>Failed lookups ({@link UnknownHostException}) are cached for {@code negativeTtl} to not repeat lookups for unknown
+ * hosts on each reconnect attempt.</li>
+ * <li>Expired successful lookups are served stale for up to {@code maxStale} while the record is refreshed in the background
+ * using the {@link Executor}. A failed refresh keeps the stale record and retries after {@code negativeTtl}.</li>
+ * </ul>
+ * Only lookups for hosts without a usable record call the delegate on the calling thread. Once a host was resolved, connect
+ * and reconnect attempts do not block on DNS as long as the record is refreshed within {@code ttl + maxStale}.
+ * <p>
+ * Usage:
+ *
+ * <pre class="code">
+ * DnsResolver dnsResolver = new CachingDnsResolver(DnsResolvers.JVM_DEFAULT, executor);
+ * ClientResources clientResources = DefaultClientResources.builder().dnsResolver(dnsResolver).build();
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class CachingDnsResolver implements DnsResolver {
+
+    public static final long DEFAULT_TTL = 30;
+    public static final long DEFAULT_NEGATIVE_TTL = 5;
+    public static final long DEFAULT_MAX_STALE = 300;
+    public static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.SECONDS;
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(CachingDnsResolver.class);
+
+    private final Map<String, Record> cache = new ConcurrentHashMap<>();
+    private final DnsResolver delegate;
+    private final Executor executor;
+    private final long ttl;
+    private final long negativeTtl;
+    private final long maxStale;
+    private final LongSupplier nanoTime;
+
+    /**
+     * Creates a new {@link CachingDnsResolver} using {@link #DEFAULT_TTL}, {@link #DEFAULT_NEGATIVE_TTL} and
+     * {@link #DEFAULT_MAX_STALE}.
+     *
+     * @param delegate the resolver performing the actual lookup, must not be {@literal null}.
+     * @param executor executor for background refreshes, must not be {@literal null}.
+     */
+    public CachingDnsResolver(DnsResolver delegate, Executor executor) {
+        this(delegate, executor, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL, DEFAULT_MAX_STALE, DEFAULT_TIME_UNIT);
+    }
+
+    /**
+     * Creates a new {@link CachingDnsResolver}.
+     *
+     * @param delegate the resolver performing the actual lookup, must not be {@literal null}.
+     * @param executor executor for background refreshes, must not be {@literal null}.
+     * @param ttl time to live of successful lookups, must be greater or equal to {@literal 0}.
+     * @param negativeTtl time to live of failed lookups, must be greater or equal to {@literal 0}.
+     * @param maxStale time an expired successful lookup is served while it is refreshed, must be greater or equal to
+     *        {@literal 0}.
+     * @param timeUnit unit for {@code ttl}, {@code negativeTtl} and {@code maxStale}, must not be {@literal null}.
+     */
+    public CachingDnsResolver(DnsResolver delegate, Executor executor, long ttl, long negativeTtl, long maxStale,
+            TimeUnit timeUnit) {
+        this(delegate, executor, ttl, negativeTtl, maxStale, timeUnit, System::nanoTime);
+    }
+
+    CachingDnsResolver(DnsResolver delegate, Executor executor, long ttl, long negativeTtl, long maxStale,
+            TimeUnit timeUnit, LongSupplier nanoTime) {
+
+        LettuceAssert.notNull(delegate, "DnsResolver must not be null");
+        LettuceAssert.notNull(executor, "Executor must not be null");
+        LettuceAssert.isTrue(ttl >= 0, "TTL must be greater or equal to 0");
+        LettuceAssert.isTrue(negativeTtl >= 0, "Negative TTL must be greater or equal to 0");
+        LettuceAssert.isTrue(maxStale >= 0, "Max stale must be greater or equal to 0");
+        LettuceAssert.notNull(timeUnit, "TimeUnit must not be null");
+
+        this.delegate = delegate;
+        this.executor = executor;
+        this.ttl = timeUnit.toNanos(ttl);
+        this.negativeTtl = timeUnit.toNanos(negativeTtl);
+        this.maxStale = timeUnit.toNanos(maxStale);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Resolve {@code host} using a cached record if available.
+     *
+     * @param host the hostname, must not be empty or {@literal null}.
+     * @return array of one or more {@link InetAddress adresses}
+     * @throws UnknownHostException if the delegate cannot resolve {@code host}.
+     */
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+
+        LettuceAssert.notEmpty(host, "Host must not be empty");
+
+        long now = nanoTime.getAsLong();
+        Record record = cache.get(host);
+
+        if (record != null) {
+
+            if (record.isFresh(now)) {
+                return record.get();
+            }
+
+            if (record.isServableStale(now)) {
+                refresh(host, record);
+                return record.get();
+            }
+        }
+
+        Record resolved = lookup(host);
+        cache.put(host, resolved);
+
+        return resolved.get();
+    }
+
+    /**
+     * Remove the cached record for {@code host}.
+     *
+     * @param host the hostname.
+     */
+    public void evict(String host) {
+        cache.remove(host);
+    }
+
+    /**
+     * Remove all cached records.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private void refresh(String host, Record stale) {
+
+        if (!stale.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+
+                Record resolved = lookup(host);
+
+                if (resolved.failure != null) {
+
+                    logger.debug("Cannot refresh DNS record for {}, serving stale record: {}", host,
+                            resolved.failure.toString());
+                    cache.replace(host, stale, stale.retryAt(nanoTime.getAsLong() + negativeTtl));
+                    return;
+                }
+
+                cache.replace(host, stale, resolved);
+            });
+        } catch (RejectedExecutionException e) {
+
+            logger.debug("Cannot schedule DNS refresh for {}: {}", host, e.toString());
+            stale.refreshing.set(false);
+        }
+    }
+
+    private Record lookup(String host) {
+
+        try {
+            InetAddress[] addresses = delegate.resolve(host);
+            long now = nanoTime.getAsLong();
+            return new Record(addresses, null, now + ttl, now + ttl + maxStale);
+        } catch (UnknownHostException e) {
+            long now = nanoTime.getAsLong();
+            return new Record(null, e, now + negativeTtl, now + negativeTtl);
+        }
+    }
+
+    /**
+     * Cached lookup result. Either {@code addresses} or {@code failure} is set.
+     */
+    static class Record {
+
+        final InetAddress[] addresses;
+        final UnknownHostException failure;
+        final long expiresAt;
+        final long staleUntil;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Record(InetAddress[] addresses, UnknownHostException failure, long expiresAt, long staleUntil) {
+
+            this.addresses = addresses;
+            this.failure = failure;
+            this.expiresAt = expiresAt;
+            this.staleUntil = staleUntil;
+        }
+
+        boolean isFresh(long now) {
+            return now - expiresAt < 0;
+        }
+
+        boolean isServableStale(long now) {
+            return failure == null && now - staleUntil < 0;
+        }
+
+        Record retryAt(long retryAt) {
+            return new Record(addresses, null, Math.min(retryAt, staleUntil), staleUntil);
+        }
+
+        InetAddress[] get() throws UnknownHostException {
+
+            if (failure != null) {
+                throw new UnknownHostException(failure.getMessage());
+            }
+
+            return addresses.clone();
+        }
+    }
+}
@@ -41,6 +41,7 @@ import io.netty.util.concurrent.Future;
  * <li>{@link CommandLatencyCollector} to collect latency details. Requires the {@literal HdrHistogram} library.</li>
  * <li>{@link DnsResolver} to collect latency details. Requires the {@literal LatencyUtils} library.</li>
  * <li>Reconnect {@link Delay}.</li>
+ * <li>{@link ReconnectCoordinator} to coordinate reconnect attempts to the same endpoint.</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -150,6 +151,14 @@ public interface ClientResources {
      */
     Delay reconnectDelay();
 
+    /**
+     * Returns the {@link ReconnectCoordinator} that coordinates reconnect attempts of all connections using these resources.
+     *
+     * @return the {@link ReconnectCoordinator}.
+     * @since 4.5
+     */
+    ReconnectCoordinator reconnectCoordinator();
+
     /**
      * Returns the {@link NettyCustomizer} to customize netty components.
      *
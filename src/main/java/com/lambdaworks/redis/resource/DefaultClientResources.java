@@ -60,6 +60,7 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  * {@link com.lambdaworks.redis.metrics.CommandLatencyCollector}.</li>
  * <li>a {@code dnsResolver} which is a provided instance of {@link DnsResolver}.</li>
  * <li>a {@code timer} that is a provided instance of {@link io.netty.util.HashedWheelTimer}.</li>
+ * <li>a {@code reconnectCoordinator} that is a provided instance of {@link ReconnectCoordinator}.</li>
  * <li>a {@code nettyCustomizer} that is a provided instance of {@link NettyCustomizer}.</li>
  * </ul>
  *
@@ -125,6 +126,7 @@ public class DefaultClientResources implements ClientResources {
     private final MetricEventPublisher metricEventPublisher;
     private final DnsResolver dnsResolver;
     private final Supplier<Delay> reconnectDelay;
+    private final ReconnectCoordinator reconnectCoordinator;
     private final NettyCustomizer nettyCustomizer;
 
     private volatile boolean shutdownCalled = false;
@@ -214,6 +216,13 @@ public class DefaultClientResources implements ClientResources {
         }
 
         reconnectDelay = builder.reconnectDelay;
+
+        if (builder.reconnectCoordinator == null) {
+            reconnectCoordinator = new DefaultReconnectCoordinator(timer);
+        } else {
+            reconnectCoordinator = builder.reconnectCoordinator;
+        }
+
         nettyCustomizer = builder.nettyCustomizer;
     }
 
@@ -251,6 +260,7 @@ public class DefaultClientResources implements ClientResources {
         private EventPublisherOptions commandLatencyPublisherOptions = DefaultEventPublisherOptions.create();
         private DnsResolver dnsResolver = NETTY_DNS_RESOLVER_SUPPORTED ? DnsResolvers.UNRESOLVED : DnsResolvers.JVM_DEFAULT;
         private Supplier<Delay> reconnectDelay = DEFAULT_RECONNECT_DELAY;
+        private ReconnectCoordinator reconnectCoordinator;
         private NettyCustomizer nettyCustomizer = DEFAULT_NETTY_CUSTOMIZER;
 
         /**
@@ -448,6 +458,22 @@ public class DefaultClientResources implements ClientResources {
             return this;
         }
 
+        /**
+         * Sets the {@link ReconnectCoordinator} to coordinate reconnect attempts of connections to the same endpoint. Defaults
+         * to {@link DefaultReconnectCoordinator} using {@link #timer(Timer) the timer}.
+         *
+         * @param reconnectCoordinator the reconnect coordinator, must not be {@literal null}.
+         * @return this
+         * @since 4.5
+         */
+        public Builder reconnectCoordinator(ReconnectCoordinator reconnectCoordinator) {
+
+            LettuceAssert.notNull(reconnectCoordinator, "ReconnectCoordinator must not be null");
+
+            this.reconnectCoordinator = reconnectCoordinator;
+            return this;
+        }
+
         /**
          * Sets the {@link NettyCustomizer} instance to customize netty components during connection.
          *
@@ -602,6 +628,11 @@ public class DefaultClientResources implements ClientResources {
         return reconnectDelay.get();
     }
 
+    @Override
+    public ReconnectCoordinator reconnectCoordinator() {
+        return reconnectCoordinator;
+    }
+
     @Override
     public NettyCustomizer nettyCustomizer() {
         return nettyCustomizer;
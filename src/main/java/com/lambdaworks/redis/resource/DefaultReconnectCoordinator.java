@@ -0,0 +1,329 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.resource;
+
+import java.net.SocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.lambdaworks.redis.RedisConnectionException;
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+import io.netty.util.Timer;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Default {@link ReconnectCoordinator} that probes an endpoint before releasing reconnect attempts of other connections.
+ * <p>
+ * Endpoints are tracked by their {@link SocketAddress}. An endpoint that is not known to be available admits a single reconnect
+ * attempt (the probe) while further attempts wait for its outcome. A successful probe marks the endpoint available and releases
+ * the waiting attempts with a random delay of up to {@code maxJitter}. A failed probe defers all waiting attempts so they retry
+ * after their own reconnect delay. Available endpoints admit up to {@code maxConcurrency} concurrent reconnect attempts, any
+ * failed attempt requires a new probe.
+ * </p>
+ * <p>
+ * Endpoints that are available and have neither pending nor waiting reconnect attempts are evicted. The next reconnect attempt
+ * to an evicted endpoint probes it again. Attempt and success counts are kept separately from the endpoint state and survive
+ * eviction so they can be read after a reconnect wave completed.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class DefaultReconnectCoordinator implements ReconnectCoordinator {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+    public static final long DEFAULT_MAX_JITTER = 100;
+    public static final TimeUnit DEFAULT_MAX_JITTER_UNIT = TimeUnit.MILLISECONDS;
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(DefaultReconnectCoordinator.class);
+
+    private final Map<SocketAddress, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<SocketAddress, Counters> counters = new ConcurrentHashMap<>();
+    private final Timer timer;
+    private final int maxConcurrency;
+    private final long maxJitterNanos;
+
+    /**
+     * Create a new {@link DefaultReconnectCoordinator} using {@link #DEFAULT_MAX_CONCURRENCY} and {@link #DEFAULT_MAX_JITTER}.
+     *
+     * @param timer the timer to delay released reconnect attempts, must not be {@literal null}.
+     */
+    public DefaultReconnectCoordinator(Timer timer) {
+        this(timer, DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_JITTER, DEFAULT_MAX_JITTER_UNIT);
+    }
+
+    /**
+     * Create a new {@link DefaultReconnectCoordinator}.
+     *
+     * @param timer the timer to delay released reconnect attempts, must not be {@literal null}.
+     * @param maxConcurrency maximal number of concurrent reconnect attempts per endpoint, must be greater {@literal 0}.
+     * @param maxJitter maximal random delay of reconnect attempts released after a successful probe, must be greater or
+     *        equal to {@literal 0}.
+     * @param maxJitterUnit unit for {@code maxJitter}, must not be {@literal null}.
+     */
+    public DefaultReconnectCoordinator(Timer timer, int maxConcurrency, long maxJitter, TimeUnit maxJitterUnit) {
+
+        LettuceAssert.notNull(timer, "Timer must not be null");
+        LettuceAssert.isTrue(maxConcurrency > 0, "Max concurrency must be greater 0");
+        LettuceAssert.isTrue(maxJitter >= 0, "Max jitter must be greater or equal to 0");
+        LettuceAssert.notNull(maxJitterUnit, "TimeUnit must not be null");
+
+        this.timer = timer;
+        this.maxConcurrency = maxConcurrency;
+        this.maxJitterNanos = maxJitterUnit.toNanos(maxJitter);
+    }
+
+    @Override
+    public CompletionStage<Permit> acquire(SocketAddress endpoint) {
+
+        LettuceAssert.notNull(endpoint, "Endpoint must not be null");
+
+        for (;;) {
+
+            CompletableFuture<Permit> waiter = getEndpoint(endpoint).acquire();
+
+            if (waiter != null) {
+                return waiter;
+            }
+        }
+    }
+
+    @Override
+    public long getAttempts(SocketAddress endpoint) {
+
+        Counters state = counters.get(endpoint);
+        return state != null ? state.attempts.get() : 0;
+    }
+
+    @Override
+    public long getSuccesses(SocketAddress endpoint) {
+
+        Counters state = counters.get(endpoint);
+        return state != null ? state.successes.get() : 0;
+    }
+
+    private Endpoint getEndpoint(SocketAddress endpoint) {
+
+        Endpoint state = endpoints.get(endpoint);
+
+        if (state == null) {
+            state = endpoints.computeIfAbsent(endpoint, Endpoint::new);
+        }
+
+        return state;
+    }
+
+    private void grant(CompletableFuture<Permit> waiter, Permit permit, boolean jitter) {
+
+        if (!jitter || maxJitterNanos == 0) {
+            waiter.complete(permit);
+            return;
+        }
+
+        long delay = ThreadLocalRandom.current().nextLong(maxJitterNanos + 1);
+
+        try {
+            timer.newTimeout(it -> waiter.complete(permit), delay, TimeUnit.NANOSECONDS);
+        } catch (IllegalStateException e) {
+            // timer stopped
+            waiter.complete(permit);
+        }
+    }
+
+    /**
+     * Reconnect attempt and success counts of a single endpoint.
+     */
+    static class Counters {
+
+        final AtomicLong attempts = new AtomicLong();
+        final AtomicLong successes = new AtomicLong();
+    }
+
+    /**
+     * Reconnect state of a single endpoint.
+     */
+    class Endpoint {
+
+        final SocketAddress address;
+        final Counters counters;
+
+        // guarded by this
+        private final Queue<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+        private boolean available;
+        private boolean probing;
+        private int inFlight;
+        private boolean evicted;
+
+        Endpoint(SocketAddress address) {
+            this.address = address;
+            this.counters = DefaultReconnectCoordinator.this.counters.computeIfAbsent(address, it -> new Counters());
+        }
+
+        /**
+         * @return the permit future or {@literal null} if this endpoint was evicted and the acquire must be retried.
+         */
+        CompletableFuture<Permit> acquire() {
+
+            CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            Permit permit = null;
+
+            synchronized (this) {
+
+                if (evicted) {
+                    endpoints.remove(address, this);
+                    return null;
+                }
+
+                if (available ? inFlight < maxConcurrency : !probing && inFlight == 0) {
+                    permit = admit();
+                } else {
+                    waiters.add(waiter);
+                }
+            }
+
+            if (permit != null) {
+                waiter.complete(permit);
+            }
+
+            return waiter;
+        }
+
+        void release(EndpointPermit permit, Outcome outcome) {
+
+            List<CompletableFuture<Permit>> deferred = new ArrayList<>();
+            List<CompletableFuture<Permit>> granted = new ArrayList<>();
+            List<Permit> permits = new ArrayList<>();
+            boolean evict;
+
+            if (outcome != Outcome.CANCELLED) {
+                counters.attempts.incrementAndGet();
+            }
+
+            synchronized (this) {
+
+                inFlight--;
+
+                if (permit.probe) {
+                    probing = false;
+                }
+
+                if (outcome == Outcome.SUCCESS) {
+
+                    counters.successes.incrementAndGet();
+                    available = true;
+                }
+
+                if (outcome == Outcome.FAILURE) {
+
+                    available = false;
+                    deferred.addAll(waiters);
+                    waiters.clear();
+                }
+
+                while (!waiters.isEmpty() && (available ? inFlight < maxConcurrency : !probing && inFlight == 0)) {
+                    granted.add(waiters.poll());
+                    permits.add(admit());
+                }
+
+                evicted = available && inFlight == 0 && waiters.isEmpty();
+                evict = evicted;
+            }
+
+            if (evict) {
+                endpoints.remove(address, this);
+            }
+
+            if (!deferred.isEmpty()) {
+
+                logger.debug("Reconnect to {} failed, deferring {} reconnect attempts", address, deferred.size());
+
+                RedisConnectionException exception = new RedisConnectionException(
+                        String.format("Reconnect to %s deferred, endpoint is not available", address));
+                deferred.forEach(waiter -> waiter.completeExceptionally(exception));
+            }
+
+            for (int i = 0; i < granted.size(); i++) {
+                grant(granted.get(i), permits.get(i), outcome == Outcome.SUCCESS);
+            }
+        }
+
+        // guarded by this
+        private Permit admit() {
+
+            boolean probe = !available;
+
+            if (probe) {
+                probing = true;
+            }
+
+            inFlight++;
+            return new EndpointPermit(this, probe);
+        }
+    }
+
+    enum Outcome {
+        SUCCESS, FAILURE, CANCELLED;
+    }
+
+    /**
+     * {@link Permit} that releases its endpoint exactly once.
+     */
+    static class EndpointPermit implements Permit {
+
+        private final Endpoint endpoint;
+        private final boolean probe;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        EndpointPermit(Endpoint endpoint, boolean probe) {
+            this.endpoint = endpoint;
+            this.probe = probe;
+        }
+
+        @Override
+        public void success() {
+            release(Outcome.SUCCESS);
+        }
+
+        @Override
+        public void failure() {
+            release(Outcome.FAILURE);
+        }
+
+        @Override
+        public void cancel() {
+            release(Outcome.CANCELLED);
+        }
+
+        private void release(Outcome outcome) {
+
+            if (released.compareAndSet(false, true)) {
+                endpoint.release(this, outcome);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.resource;
+
+import java.net.SocketAddress;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Coordinator for reconnect attempts of connections sharing the same endpoint. Connections that lose their connection at the
+ * same time (e.g. because a Redis node restarted) ask for a {@link Permit} before attempting to reconnect. A coordinator can
+ * use the permits to probe an endpoint with a single connection and to bound the number of concurrent reconnect attempts.
+ * <p>
+ * Coordinators are shared amongst all connections using the same {@link ClientResources} and must be thread-safe.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ * @see DefaultReconnectCoordinator
+ */
+public interface ReconnectCoordinator {
+
+    /**
+     * Request a reconnect attempt to {@code endpoint}. The returned {@link CompletionStage} completes with a {@link Permit}
+     * once the reconnect attempt may proceed. The stage completes exceptionally if the attempt is deferred. Deferred attempts
+     * should be retried after the regular reconnect delay. The {@link Permit} must be released by reporting the outcome of
+     * the attempt.
+     *
+     * @param endpoint the remote address, must not be {@literal null}.
+     * @return a {@link CompletionStage} that completes with a {@link Permit} once the reconnect attempt may proceed.
+     */
+    CompletionStage<Permit> acquire(SocketAddress endpoint);
+
+    /**
+     * Returns the number of completed reconnect attempts to {@code endpoint}.
+     *
+     * @param endpoint the remote address.
+     * @return the number of completed reconnect attempts.
+     */
+    long getAttempts(SocketAddress endpoint);
+
+    /**
+     * Returns the number of successful reconnect attempts to {@code endpoint}.
+     *
+     * @param endpoint the remote address.
+     * @return the number of successful reconnect attempts.
+     */
+    long getSuccesses(SocketAddress endpoint);
+
+    /**
+     * Permission to perform a single reconnect attempt. Exactly one of the methods must be called to release the permit,
+     * subsequent calls are ignored.
+     */
+    interface Permit {
+
+        /**
+         * Release the permit after the reconnect attempt succeeded.
+         */
+        void success();
+
+        /**
+         * Release the permit after the reconnect attempt failed.
+         */
+        void failure();
+
+        /**
+         * Release the permit without having attempted to reconnect.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.protocol.RedisCommand;
+import com.lambdaworks.redis.support.ConnectionPoolSupport.HasTargetConnection;
+import com.lambdaworks.redis.support.ConnectionPoolSupport.Origin;
+
+/**
+ * Base class for pooled connection wrappers. A wrapper delegates to the pooled connection and returns it to its
+ * {@link Origin pool} on {@link #close()}. The wrapper cannot be used after it was closed.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @param <C> Pooled connection type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+abstract class AbstractPooledConnection<K, V, C extends StatefulConnection<K, V>> implements StatefulConnection<K, V>,
+        HasTargetConnection {
+
+    private final Origin<Object> pool;
+    private volatile C connection;
+
+    AbstractPooledConnection(C connection, Origin<Object> pool) {
+        this.connection = connection;
+        this.pool = pool;
+    }
+
+    /**
+     * @return the pooled connection.
+     * @throws RedisException if the connection was returned to the pool.
+     */
+    protected C getDelegate() {
+
+        C connection = this.connection;
+
+        if (connection == null) {
+            throw new RedisException("Connection is deallocated and cannot be used anymore.");
+        }
+
+        return connection;
+    }
+
+    @Override
+    public StatefulConnection<?, ?> getTargetConnection() {
+        return connection;
+    }
+
+    @Override
+    public void setTimeout(long timeout, TimeUnit unit) {
+        getDelegate().setTimeout(timeout, unit);
+    }
+
+    @Override
+    public TimeUnit getTimeoutUnit() {
+        return getDelegate().getTimeoutUnit();
+    }
+
+    @Override
+    public long getTimeout() {
+        return getDelegate().getTimeout();
+    }
+
+    @Override
+    public <T, R extends RedisCommand<K, V, T>> R dispatch(R command) {
+        return getDelegate().dispatch(command);
+    }
+
+    @Override
+    public void close() {
+
+        getDelegate();
+
+        try {
+            pool.returnObject(this);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RedisException(e);
+        }
+
+        connection = null;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return getDelegate().isOpen();
+    }
+
+    @Override
+    public ClientOptions getOptions() {
+        return getDelegate().getOptions();
+    }
+
+    @Override
+    public void reset() {
+        getDelegate().reset();
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+        getDelegate().setAutoFlushCommands(autoFlush);
+    }
+
+    @Override
+    public void flushCommands() {
+        getDelegate().flushCommands();
+    }
+
+    @Override
+    public int getResponseBufferCapacity() {
+        return getDelegate().getResponseBufferCapacity();
+    }
+
+    @Override
+    public int getResponseBufferOccupancy() {
+        return getDelegate().getResponseBufferOccupancy();
+    }
+}
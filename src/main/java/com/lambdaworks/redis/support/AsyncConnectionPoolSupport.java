@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import com.lambdaworks.redis.RedisClient;
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.internal.LettuceAssert;
+import com.lambdaworks.redis.support.ConnectionPoolSupport.HasTargetConnection;
+
+/**
+ * Asynchronous connection pool support for {@link BoundedAsyncPool}. Connection pool creation requires a {@link Supplier} that
+ * connects asynchronously to Redis, such as {@link RedisClient#connectStandaloneAsync(com.lambdaworks.redis.codec.RedisCodec,
+ * com.lambdaworks.redis.RedisURI)}. The pool can allocate either wrapped or direct connections.
+ * <ul>
+ * <li>Wrapped instances will return the connection back to the pool when called {@link StatefulConnection#close()}.</li>
+ * <li>Regular connections need to be returned to the pool with {@link AsyncPool#release(Object)}</li>
+ * </ul>
+ * <p>
+ * Acquiring a connection never blocks: connections are created, validated and released through {@link CompletionStage}s. Closing
+ * a pooled connection is performed on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} so that
+ * {@link AsyncPool#release(Object) releases} and idle eviction do not block I/O threads.
+ * </p>
+ *
+ * <h2>Example usage</h2>
+ *
+ * <pre>
+ * // application initialization
+ * RedisClient client = RedisClient.create();
+ * BoundedAsyncPool&lt;StatefulRedisConnection&lt;String, String&gt;&gt; pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+ *         () -&gt; client.connectStandaloneAsync(StringCodec.UTF8, RedisURI.create(host, port)), BoundedPoolConfig.create());
+ *
+ * // executing work
+ * CompletableFuture&lt;String&gt; pingResponse = pool.acquire().thenCompose(c -&gt; {
+ *
+ *     return c.async().ping().whenComplete((s, throwable) -&gt; pool.release(c));
+ * });
+ *
+ * // terminating
+ * pool.close();
+ * client.shutdown();
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public abstract class AsyncConnectionPoolSupport {
+
+    private AsyncConnectionPoolSupport() {
+    }
+
+    /**
+     * Creates a new {@link BoundedAsyncPool} using the {@link Supplier}. Allocated instances are wrapped and must not be
+     * returned with {@link AsyncPool#release(Object)}. The pool is pre-warmed with {@link BoundedPoolConfig#getMinIdle()
+     * minIdle} connections in the background.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     */
+    public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config) {
+        return createBoundedObjectPool(connectionSupplier, config, true);
+    }
+
+    /**
+     * Creates a new {@link BoundedAsyncPool} using the {@link Supplier}. The pool is pre-warmed with
+     * {@link BoundedPoolConfig#getMinIdle() minIdle} connections in the background.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param wrapConnections {@literal false} to return direct connections that need to be returned to the pool using
+     *        {@link AsyncPool#release(Object)}. {@literal true} to return wrapped connection that are returned to the pool
+     *        when invoking {@link StatefulConnection#close()}.
+     * @param <T> connection type.
+     * @return the connection pool.
+     */
+    public static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> createBoundedObjectPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
+
+        BoundedAsyncPool<T> pool = newPool(connectionSupplier, config, wrapConnections);
+        pool.createIdle();
+
+        return pool;
+    }
+
+    /**
+     * Creates a new {@link BoundedAsyncPool} using the {@link Supplier} and pre-warms it with
+     * {@link BoundedPoolConfig#getMinIdle() minIdle} connections. The returned {@link CompletionStage} completes once the pool
+     * is warmed up and fails (closing the pool) if a connection could not be established.
+     *
+     * @param connectionSupplier must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     * @param wrapConnections {@literal false} to return direct connections that need to be returned to the pool using
+     *        {@link AsyncPool#release(Object)}. {@literal true} to return wrapped connection that are returned to the pool
+     *        when invoking {@link StatefulConnection#close()}.
+     * @param <T> connection type.
+     * @return a {@link CompletionStage} emitting the connection pool.
+     */
+    public static <T extends StatefulConnection<?, ?>> CompletionStage<BoundedAsyncPool<T>> createBoundedObjectPoolAsync(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
+
+        BoundedAsyncPool<T> pool = newPool(connectionSupplier, config, wrapConnections);
+        CompletableFuture<BoundedAsyncPool<T>> result = new CompletableFuture<>();
+
+        pool.createIdle().whenComplete((ignore, throwable) -> {
+
+            if (throwable == null) {
+                result.complete(pool);
+                return;
+            }
+
+            pool.close();
+            result.completeExceptionally(throwable);
+        });
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends StatefulConnection<?, ?>> BoundedAsyncPool<T> newPool(
+            Supplier<CompletionStage<T>> connectionSupplier, BoundedPoolConfig config, boolean wrapConnections) {
+
+        LettuceAssert.notNull(connectionSupplier, "Connection supplier must not be null");
+        LettuceAssert.notNull(config, "BoundedPoolConfig must not be null");
+
+        if (!wrapConnections) {
+            return new BoundedAsyncPool<>(new RedisPooledObjectFactory<>(connectionSupplier), config);
+        }
+
+        return new BoundedAsyncPool<T>(new RedisPooledObjectFactory<>(connectionSupplier), config) {
+
+            @Override
+            public CompletableFuture<T> acquire() {
+
+                CompletableFuture<T> acquire = super.acquire();
+                CompletableFuture<T> result = acquire
+                        .thenApply(connection -> ConnectionPoolSupport.wrapConnection(connection, this::release));
+
+                // a cancelled acquire must not keep the connection: withdraw the pending acquire or return the connection.
+                result.whenComplete((connection, throwable) -> {
+                    if (result.isCancelled() && !acquire.cancel(false)) {
+                        acquire.thenAccept(this::release);
+                    }
+                });
+
+                return result;
+            }
+
+            @Override
+            public CompletableFuture<Void> release(T object) {
+
+                if (object instanceof HasTargetConnection) {
+                    return super.release((T) ((HasTargetConnection) object).getTargetConnection());
+                }
+
+                return super.release(object);
+            }
+        };
+    }
+
+    /**
+     * {@link AsyncObjectFactory} for Redis connections.
+     *
+     * @param <T> connection type.
+     */
+    private static class RedisPooledObjectFactory<T extends StatefulConnection<?, ?>> implements AsyncObjectFactory<T> {
+
+        private final Supplier<CompletionStage<T>> connectionSupplier;
+
+        RedisPooledObjectFactory(Supplier<CompletionStage<T>> connectionSupplier) {
+            this.connectionSupplier = connectionSupplier;
+        }
+
+        @Override
+        public CompletableFuture<T> create() {
+            return connectionSupplier.get().toCompletableFuture();
+        }
+
+        @Override
+        public CompletableFuture<Void> destroy(T object) {
+            return CompletableFuture.runAsync(object::close);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> validate(T object) {
+            return CompletableFuture.completedFuture(object.isOpen());
+        }
+    }
+}
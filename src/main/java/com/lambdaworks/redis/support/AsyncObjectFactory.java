@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An interface defining life-cycle methods for instances to be served by an {@link AsyncPool}. All methods are non-blocking
+ * and report their outcome through a {@link CompletableFuture}.
+ *
+ * @param <T> Type of element managed by this factory.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public interface AsyncObjectFactory<T> {
+
+    /**
+     * Create an instance that can be served by the pool.
+     *
+     * @return a future completing with the new instance.
+     */
+    CompletableFuture<T> create();
+
+    /**
+     * Destroy an instance no longer needed by the pool.
+     *
+     * @param object the instance to be destroyed.
+     * @return a future completing once the instance is destroyed.
+     */
+    CompletableFuture<Void> destroy(T object);
+
+    /**
+     * Ensure that the instance is safe to be returned by the pool.
+     *
+     * @param object the instance to be validated.
+     * @return a future completing with {@literal false} if {@code object} is not valid and should be dropped from the pool,
+     *         {@literal true} otherwise.
+     */
+    CompletableFuture<Boolean> validate(T object);
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface declaring non-blocking object pool methods allowing to {@link #acquire()} and {@link #release(Object)} objects. All
+ * activity of a pool task outcome is communicated through the returned {@link CompletableFuture}.
+ *
+ * @param <T> Type of element being pooled.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public interface AsyncPool<T> extends Closeable {
+
+    /**
+     * Acquire an object from this {@link AsyncPool}. The returned {@link CompletableFuture} is notified once the acquire is
+     * successful and failed otherwise. Behavior upon acquiring objects from an exhausted pool depends on the pool
+     * implementation.
+     *
+     * @return the {@link CompletableFuture} which is notified once the acquire is complete.
+     */
+    CompletableFuture<T> acquire();
+
+    /**
+     * Release an object back to this {@link AsyncPool}. The returned {@link CompletableFuture} is notified once the release is
+     * successful and failed otherwise. When failed the object will automatically disposed.
+     *
+     * @param object the object to be released. The object must have been acquired from this pool.
+     * @return the {@link CompletableFuture} which is notified once the release is complete.
+     */
+    CompletableFuture<Void> release(T object);
+
+    /**
+     * Clear the pool by destroying all idle objects.
+     */
+    void clear();
+
+    /**
+     * Close the pool. Pending acquires fail, idle objects are destroyed and objects that are still in use are destroyed once
+     * they are released.
+     */
+    @Override
+    void close();
+}
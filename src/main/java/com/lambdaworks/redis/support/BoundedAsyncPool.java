@@ -0,0 +1,509 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Bounded, non-blocking {@link AsyncPool} implementation. Objects are created, validated and destroyed through an
+ * {@link AsyncObjectFactory}; no method of this pool blocks the calling thread.
+ * <p>
+ * Idle objects are handed out in LIFO order so that recently used objects are reused and surplus objects age out through idle
+ * eviction. If the pool is exhausted ({@link BoundedPoolConfig#getMaxTotal() maxTotal} objects in use), acquires are queued
+ * and completed in FIFO order as soon as an object is released. Acquires that would exceed
+ * {@link BoundedPoolConfig#getMaxWaiters() maxWaiters} fail with {@link NoSuchElementException}.
+ * </p>
+ * <p>
+ * Idle objects exceeding the {@link BoundedPoolConfig#getIdleTimeout() idle timeout} are evicted lazily on {@link #acquire()}
+ * or when calling {@link #evictIdle()}, keeping at least {@link BoundedPoolConfig#getMinIdle() minIdle} objects.
+ * {@link #createIdle()} pre-warms the pool with {@code minIdle} objects.
+ * </p>
+ *
+ * @param <T> Type of element being pooled.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class BoundedAsyncPool<T> implements AsyncPool<T> {
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private final AsyncObjectFactory<T> factory;
+    private final BoundedPoolConfig config;
+    private final long idleTimeoutNanos;
+
+    // Most recently released objects at the head, eviction candidates at the tail.
+    private final Deque<IdleObject<T>> idle = new ConcurrentLinkedDeque<>();
+    private final Queue<CompletableFuture<T>> waiters = new ConcurrentLinkedQueue<>();
+    private final Set<T> objects = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Set<T> borrowed = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    // Counts objects in use, idle objects and objects being created.
+    private final AtomicInteger objectCount = new AtomicInteger();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    // Objects released while handing out an object on the same thread, see makeAvailable(Object).
+    private final ThreadLocal<Releases<T>> releases = ThreadLocal.withInitial(Releases::new);
+
+    private volatile boolean closed = false;
+
+    /**
+     * Create a new {@link BoundedAsyncPool}. The pool is not pre-warmed, see {@link #createIdle()}.
+     *
+     * @param factory must not be {@literal null}.
+     * @param config must not be {@literal null}.
+     */
+    public BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig config) {
+
+        LettuceAssert.notNull(factory, "AsyncObjectFactory must not be null");
+        LettuceAssert.notNull(config, "BoundedPoolConfig must not be null");
+
+        this.factory = factory;
+        this.config = config;
+        this.idleTimeoutNanos = config.getIdleTimeoutUnit().toNanos(config.getIdleTimeout());
+    }
+
+    /**
+     * Create idle objects until the pool holds {@link BoundedPoolConfig#getMinIdle() minIdle} objects. Objects are created
+     * concurrently.
+     *
+     * @return a future completing once all idle objects are created. The future fails if any object could not be created.
+     */
+    public CompletableFuture<Void> createIdle() {
+
+        int toCreate = config.getMinIdle() - idleCount.get();
+        List<CompletableFuture<T>> futures = new ArrayList<>(Math.max(0, toCreate));
+
+        for (int i = 0; i < toCreate && reserveCapacity(); i++) {
+
+            CompletableFuture<T> future = new CompletableFuture<>();
+            futures.add(future);
+
+            create(future);
+            future.thenAccept(object -> {
+                borrowed.remove(object);
+                makeAvailable(object);
+            });
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+    }
+
+    @Override
+    public CompletableFuture<T> acquire() {
+
+        if (closed) {
+            return failed(new IllegalStateException("AsyncPool is closed"));
+        }
+
+        evictIdle();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        acquire(result);
+
+        return result;
+    }
+
+    private void acquire(CompletableFuture<T> result) {
+
+        T object = pollIdle();
+
+        if (object != null) {
+            handOut(object, result, config.isTestOnAcquire());
+            return;
+        }
+
+        if (reserveCapacity()) {
+            create(result);
+            return;
+        }
+
+        if (waiterCount.incrementAndGet() > config.getMaxWaiters()) {
+            waiterCount.decrementAndGet();
+            result.completeExceptionally(new NoSuchElementException("Pool exhausted"));
+            return;
+        }
+
+        waiters.offer(result);
+
+        // an object might have been released (or destroyed) after polling idle objects but before enqueuing.
+        serveWaiters();
+    }
+
+    @Override
+    public CompletableFuture<Void> release(T object) {
+
+        if (!objects.contains(object)) {
+            return failed(new IllegalStateException("Returned object not currently part of this pool"));
+        }
+
+        if (!borrowed.remove(object)) {
+            return failed(new IllegalStateException("Returned object is not currently borrowed"));
+        }
+
+        if (closed) {
+            return destroy(object);
+        }
+
+        if (config.isTestOnRelease()) {
+            return factory.validate(object).handle((valid, throwable) -> valid != null && valid).thenCompose(valid -> {
+
+                if (valid) {
+                    makeAvailable(object);
+                    return COMPLETED;
+                }
+
+                return destroy(object);
+            });
+        }
+
+        makeAvailable(object);
+        return COMPLETED;
+    }
+
+    /**
+     * Destroy idle objects that were idle longer than the configured {@link BoundedPoolConfig#getIdleTimeout() idle timeout}
+     * while keeping {@link BoundedPoolConfig#getMinIdle() minIdle} objects. Idle eviction is performed lazily on
+     * {@link #acquire()} and can be triggered periodically by calling this method.
+     */
+    public void evictIdle() {
+
+        if (idleTimeoutNanos <= 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        while (idleCount.get() > config.getMinIdle()) {
+
+            IdleObject<T> oldest = idle.peekLast();
+
+            if (oldest == null || now - oldest.since < idleTimeoutNanos) {
+                return;
+            }
+
+            if (idle.removeLastOccurrence(oldest)) {
+                idleCount.decrementAndGet();
+                destroy(oldest.object);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+
+        T object;
+        while ((object = pollIdle()) != null) {
+            destroy(object);
+        }
+    }
+
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        CompletableFuture<T> waiter;
+        while ((waiter = pollWaiter()) != null) {
+            waiter.completeExceptionally(new IllegalStateException("AsyncPool is closed"));
+        }
+
+        clear();
+    }
+
+    /**
+     * @return the number of idle objects.
+     */
+    public int getIdle() {
+        return idleCount.get();
+    }
+
+    /**
+     * @return the number of objects managed by this pool (idle, in use and in creation).
+     */
+    public int getObjectCount() {
+        return objectCount.get();
+    }
+
+    /**
+     * @return the number of pending acquires.
+     */
+    public int getWaiters() {
+        return waiterCount.get();
+    }
+
+    /**
+     * @return the pool configuration.
+     */
+    public BoundedPoolConfig getConfig() {
+        return config;
+    }
+
+    private void create(CompletableFuture<T> result) {
+
+        CompletableFuture<T> future;
+        try {
+            future = factory.create();
+        } catch (RuntimeException e) {
+            future = failed(e);
+        }
+
+        future.whenComplete((object, throwable) -> {
+
+            if (throwable != null) {
+                objectCount.decrementAndGet();
+                result.completeExceptionally(throwable);
+                serveWaiters();
+                return;
+            }
+
+            objects.add(object);
+
+            if (closed) {
+                destroy(object);
+                result.completeExceptionally(new IllegalStateException("AsyncPool is closed"));
+                return;
+            }
+
+            if (!complete(result, object)) {
+                makeAvailable(object);
+            }
+        });
+    }
+
+    private void handOut(T object, CompletableFuture<T> result, boolean validate) {
+
+        if (!validate) {
+            if (!complete(result, object)) {
+                makeAvailable(object);
+            }
+            return;
+        }
+
+        factory.validate(object).whenComplete((valid, throwable) -> {
+
+            if (valid != null && valid) {
+                handOut(object, result, false);
+                return;
+            }
+
+            // invalid objects free their capacity so acquiring again creates a new object if no idle one is left.
+            destroy(object).whenComplete((ignore, destroyError) -> acquire(result));
+        });
+    }
+
+    /**
+     * Hand {@code object} to the first pending acquire or return it to the idle objects. Completing a pending acquire runs
+     * its callbacks on the current thread, and these commonly release the object again. Such nested releases are deferred
+     * until the outer hand-out returns, so that a long waiter queue does not translate into unbounded recursion.
+     */
+    private void makeAvailable(T object) {
+
+        Releases<T> releases = this.releases.get();
+
+        if (releases.draining) {
+            releases.pending.add(object);
+            return;
+        }
+
+        releases.draining = true;
+        try {
+
+            T next = object;
+            do {
+                doMakeAvailable(next);
+            } while ((next = releases.pending.poll()) != null);
+        } finally {
+            releases.draining = false;
+        }
+    }
+
+    private void doMakeAvailable(T object) {
+
+        CompletableFuture<T> waiter;
+        while ((waiter = pollWaiter()) != null) {
+            if (complete(waiter, object)) {
+                return;
+            }
+        }
+
+        if (closed || idleCount.get() >= config.getMaxIdle()) {
+            destroy(object);
+            return;
+        }
+
+        idle.offerFirst(new IdleObject<>(object));
+        idleCount.incrementAndGet();
+
+        // an acquire might have been enqueued after polling waiters but before returning the object to the idle objects.
+        serveWaiters();
+    }
+
+    /**
+     * Complete {@code result} with {@code object} and mark the object as borrowed. The object is marked before completion
+     * because completion callbacks may release it right away.
+     *
+     * @return {@literal true} if {@code result} was completed with {@code object}.
+     */
+    private boolean complete(CompletableFuture<T> result, T object) {
+
+        borrowed.add(object);
+
+        if (result.complete(object)) {
+            return true;
+        }
+
+        borrowed.remove(object);
+        return false;
+    }
+
+    private void serveWaiters() {
+
+        while (!waiters.isEmpty()) {
+
+            T object = pollIdle();
+
+            if (object != null) {
+
+                CompletableFuture<T> waiter = pollWaiter();
+
+                if (waiter == null) {
+                    idle.offerFirst(new IdleObject<>(object));
+                    idleCount.incrementAndGet();
+                    return;
+                }
+
+                handOut(object, waiter, config.isTestOnAcquire());
+                continue;
+            }
+
+            if (reserveCapacity()) {
+
+                CompletableFuture<T> waiter = pollWaiter();
+
+                if (waiter == null) {
+                    objectCount.decrementAndGet();
+                    return;
+                }
+
+                create(waiter);
+                continue;
+            }
+
+            return;
+        }
+    }
+
+    private CompletableFuture<Void> destroy(T object) {
+
+        if (!objects.remove(object)) {
+            return COMPLETED;
+        }
+
+        borrowed.remove(object);
+
+        objectCount.decrementAndGet();
+
+        CompletableFuture<Void> future;
+        try {
+            future = factory.destroy(object);
+        } catch (RuntimeException e) {
+            future = failed(e);
+        }
+
+        if (!closed) {
+            serveWaiters();
+        }
+
+        return future;
+    }
+
+    private boolean reserveCapacity() {
+
+        for (;;) {
+
+            int current = objectCount.get();
+
+            if (current >= config.getMaxTotal()) {
+                return false;
+            }
+
+            if (objectCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private T pollIdle() {
+
+        IdleObject<T> idleObject = idle.pollFirst();
+
+        if (idleObject == null) {
+            return null;
+        }
+
+        idleCount.decrementAndGet();
+        return idleObject.object;
+    }
+
+    private CompletableFuture<T> pollWaiter() {
+
+        CompletableFuture<T> waiter = waiters.poll();
+
+        if (waiter != null) {
+            waiterCount.decrementAndGet();
+        }
+
+        return waiter;
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable throwable) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Per-thread state of deferred releases.
+     */
+    static class Releases<T> {
+
+        final Queue<T> pending = new ArrayDeque<>();
+        boolean draining;
+    }
+
+    /**
+     * Idle object along with the time it was returned to the pool.
+     */
+    static class IdleObject<T> {
+
+        final T object;
+        final long since = System.nanoTime();
+
+        IdleObject(T object) {
+            this.object = object;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.internal.LettuceAssert;
+
+/**
+ * Configuration for {@link BoundedAsyncPool}. The pool is bounded by the {@link #getMaxTotal() total number of objects} and
+ * the {@link #getMaxWaiters() number of pending acquires}. Idle objects are kept up to {@link #getMaxIdle() maxIdle} and
+ * evicted once they were idle longer than {@link #getIdleTimeout() the idle timeout}, but not below
+ * {@link #getMinIdle() minIdle}.
+ *
+ * @author Mark Paluch
+ * @since 4.5
+ */
+public class BoundedPoolConfig {
+
+    public static final int DEFAULT_MAX_TOTAL = 8;
+    public static final int DEFAULT_MAX_IDLE = 8;
+    public static final int DEFAULT_MIN_IDLE = 0;
+    public static final int DEFAULT_MAX_WAITERS = 1024;
+    public static final long DEFAULT_IDLE_TIMEOUT = 0;
+    public static final TimeUnit DEFAULT_IDLE_TIMEOUT_UNIT = TimeUnit.MILLISECONDS;
+    public static final boolean DEFAULT_TEST_ON_ACQUIRE = false;
+    public static final boolean DEFAULT_TEST_ON_RELEASE = false;
+
+    private final int maxTotal;
+    private final int maxIdle;
+    private final int minIdle;
+    private final int maxWaiters;
+    private final long idleTimeout;
+    private final TimeUnit idleTimeoutUnit;
+    private final boolean testOnAcquire;
+    private final boolean testOnRelease;
+
+    protected BoundedPoolConfig(Builder builder) {
+
+        this.maxTotal = builder.maxTotal;
+        this.maxIdle = builder.maxIdle;
+        this.minIdle = builder.minIdle;
+        this.maxWaiters = builder.maxWaiters;
+        this.idleTimeout = builder.idleTimeout;
+        this.idleTimeoutUnit = builder.idleTimeoutUnit;
+        this.testOnAcquire = builder.testOnAcquire;
+        this.testOnRelease = builder.testOnRelease;
+    }
+
+    /**
+     * Returns a new {@link BoundedPoolConfig.Builder} to construct {@link BoundedPoolConfig}.
+     *
+     * @return a new {@link BoundedPoolConfig.Builder} to construct {@link BoundedPoolConfig}.
+     */
+    public static BoundedPoolConfig.Builder builder() {
+        return new BoundedPoolConfig.Builder();
+    }
+
+    /**
+     * Create a new {@link BoundedPoolConfig} using default settings.
+     *
+     * @return a new instance of default pool settings.
+     */
+    public static BoundedPoolConfig create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link BoundedPoolConfig}.
+     */
+    public static class Builder {
+
+        private int maxTotal = DEFAULT_MAX_TOTAL;
+        private int maxIdle = DEFAULT_MAX_IDLE;
+        private int minIdle = DEFAULT_MIN_IDLE;
+        private int maxWaiters = DEFAULT_MAX_WAITERS;
+        private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        private TimeUnit idleTimeoutUnit = DEFAULT_IDLE_TIMEOUT_UNIT;
+        private boolean testOnAcquire = DEFAULT_TEST_ON_ACQUIRE;
+        private boolean testOnRelease = DEFAULT_TEST_ON_RELEASE;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of objects (idle and in use) managed by the pool. Defaults to {@literal 8}. See
+         * {@link #DEFAULT_MAX_TOTAL}.
+         *
+         * @param maxTotal the maximum number of objects, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxTotal(int maxTotal) {
+
+            LettuceAssert.isTrue(maxTotal > 0, "Max total must be greater 0");
+
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of idle objects. Objects released to a pool holding {@code maxIdle} idle objects are
+         * destroyed. Defaults to {@literal 8}. See {@link #DEFAULT_MAX_IDLE}.
+         *
+         * @param maxIdle the maximum number of idle objects, must be greater or equal to {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxIdle(int maxIdle) {
+
+            LettuceAssert.isTrue(maxIdle >= 0, "Max idle must be greater or equal to 0");
+
+            this.maxIdle = maxIdle;
+            return this;
+        }
+
+        /**
+         * Set the minimum number of idle objects. The pool is pre-warmed with {@code minIdle} objects and idle eviction keeps
+         * at least {@code minIdle} objects. Defaults to {@literal 0}. See {@link #DEFAULT_MIN_IDLE}.
+         *
+         * @param minIdle the minimum number of idle objects, must be greater or equal to {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder minIdle(int minIdle) {
+
+            LettuceAssert.isTrue(minIdle >= 0, "Min idle must be greater or equal to 0");
+
+            this.minIdle = minIdle;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of pending acquires waiting for an object while the pool is exhausted. Further acquires fail
+         * immediately. Defaults to {@literal 1024}. See {@link #DEFAULT_MAX_WAITERS}.
+         *
+         * @param maxWaiters the maximum number of pending acquires, must be greater or equal to {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxWaiters(int maxWaiters) {
+
+            LettuceAssert.isTrue(maxWaiters >= 0, "Max waiters must be greater or equal to 0");
+
+            this.maxWaiters = maxWaiters;
+            return this;
+        }
+
+        /**
+         * Set the time after which idle objects are evicted. Defaults to {@literal 0} which disables idle eviction. See
+         * {@link #DEFAULT_IDLE_TIMEOUT} and {@link #DEFAULT_IDLE_TIMEOUT_UNIT}.
+         *
+         * @param idleTimeout the idle timeout, must be greater or equal to {@literal 0}.
+         * @param idleTimeoutUnit unit for {@code idleTimeout}, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder idleTimeout(long idleTimeout, TimeUnit idleTimeoutUnit) {
+
+            LettuceAssert.isTrue(idleTimeout >= 0, "Idle timeout must be greater or equal to 0");
+            LettuceAssert.notNull(idleTimeoutUnit, "TimeUnit must not be null");
+
+            this.idleTimeout = idleTimeout;
+            this.idleTimeoutUnit = idleTimeoutUnit;
+            return this;
+        }
+
+        /**
+         * Enables or disables validation of objects before they are handed out. Defaults to {@literal false}. See
+         * {@link #DEFAULT_TEST_ON_ACQUIRE}.
+         *
+         * @param testOnAcquire {@literal true} to validate objects on acquire.
+         * @return {@code this}
+         */
+        public Builder testOnAcquire(boolean testOnAcquire) {
+
+            this.testOnAcquire = testOnAcquire;
+            return this;
+        }
+
+        /**
+         * Enables or disables validation of objects when they are released. Defaults to {@literal false}. See
+         * {@link #DEFAULT_TEST_ON_RELEASE}.
+         *
+         * @param testOnRelease {@literal true} to validate objects on release.
+         * @return {@code this}
+         */
+        public Builder testOnRelease(boolean testOnRelease) {
+
+            this.testOnRelease = testOnRelease;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link BoundedPoolConfig}
+         *
+         * @return new instance of {@link BoundedPoolConfig}
+         */
+        public BoundedPoolConfig build() {
+
+            LettuceAssert.isTrue(minIdle <= maxIdle, "Min idle must be less or equal to max idle");
+            LettuceAssert.isTrue(minIdle <= maxTotal, "Min idle must be less or equal to max total");
+
+            return new BoundedPoolConfig(this);
+        }
+    }
+
+    /**
+     * @return the maximum number of objects managed by the pool.
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * @return the maximum number of idle objects.
+     */
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    /**
+     * @return the minimum number of idle objects.
+     */
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /**
+     * @return the maximum number of pending acquires.
+     */
+    public int getMaxWaiters() {
+        return maxWaiters;
+    }
+
+    /**
+     * @return the idle timeout, {@literal 0} if idle eviction is disabled.
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * @return the idle timeout unit.
+     */
+    public TimeUnit getIdleTimeoutUnit() {
+        return idleTimeoutUnit;
+    }
+
+    /**
+     * @return {@literal true} if objects are validated on acquire.
+     */
+    public boolean isTestOnAcquire() {
+        return testOnAcquire;
+    }
+
+    /**
+     * @return {@literal true} if objects are validated on release.
+     */
+    public boolean isTestOnRelease() {
+        return testOnRelease;
+    }
+}
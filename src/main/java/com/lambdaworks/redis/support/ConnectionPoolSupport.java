@@ -33,7 +33,9 @@ import org.apache.commons.pool2.impl.SoftReferenceObjectPool;
 
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
 import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.cluster.StatefulRedisClusterConnectionImpl;
 import com.lambdaworks.redis.internal.AbstractInvocationHandler;
 import com.lambdaworks.redis.internal.LettuceAssert;
 
@@ -41,7 +43,9 @@ import com.lambdaworks.redis.internal.LettuceAssert;
  * Connection pool support for {@link GenericObjectPool} and {@link SoftReferenceObjectPool}. Connection pool creation requires
  * a {@link Supplier} that creates Redis connections. The pool can allocate either wrapped or direct connections.
  * <ul>
- * <li>Wrapped instances will return the connection back to the pool when called {@link StatefulConnection#close()}.</li>
+ * <li>Wrapped instances will return the connection back to the pool when called {@link StatefulConnection#close()}. Closing
+ * the command API obtained from a wrapped instance returns the connection as well. Wrapped instances are invalid after
+ * returning them to the pool.</li>
  * <li>Regular connections need to be returned to the pool with {@link GenericObjectPool#returnObject(Object)}</li>
  * </ul>
  * <p>
@@ -121,7 +125,7 @@ public abstract class ConnectionPoolSupport {
 
             @Override
             public T borrowObject() throws Exception {
-                return wrapConnections ? wrapConnection(super.borrowObject(), this) : super.borrowObject();
+                return wrapConnections ? wrapConnection(super.borrowObject(), this::returnObject) : super.borrowObject();
             }
 
             @Override
@@ -174,7 +178,7 @@ public abstract class ConnectionPoolSupport {
         SoftReferenceObjectPool<T> pool = new SoftReferenceObjectPool<T>(new RedisPooledObjectFactory<>(connectionSupplier)) {
             @Override
             public T borrowObject() throws Exception {
-                return wrapConnections ? wrapConnection(super.borrowObject(), this) : super.borrowObject();
+                return wrapConnections ? wrapConnection(super.borrowObject(), this::returnObject) : super.borrowObject();
             }
 
             @Override
@@ -192,8 +196,22 @@ public abstract class ConnectionPoolSupport {
         return pool;
     }
 
+    /**
+     * Wrap a pooled {@code connection} so that closing the connection or one of its command APIs returns the connection to
+     * {@code pool}. Standalone and Redis Cluster connections are wrapped with delegating classes, other connection types
+     * (such as Pub/Sub or Master/Slave connections) with a dynamic proxy.
+     */
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private static <T> T wrapConnection(T connection, ObjectPool<T> pool) {
+    static <T> T wrapConnection(T connection, Origin<T> pool) {
+
+        if (connection.getClass() == StatefulRedisConnectionImpl.class) {
+            return (T) new PooledStatefulRedisConnection<>((StatefulRedisConnectionImpl) connection, (Origin) pool);
+        }
+
+        if (connection.getClass() == StatefulRedisClusterConnectionImpl.class) {
+            return (T) new PooledStatefulRedisClusterConnection<>((StatefulRedisClusterConnectionImpl) connection,
+                    (Origin) pool);
+        }
 
         ReturnObjectOnCloseInvocationHandler<T> handler = new ReturnObjectOnCloseInvocationHandler<>(connection, pool);
 
@@ -254,9 +272,9 @@ public abstract class ConnectionPoolSupport {
         private T proxiedConnection;
         private Map<Method, Object> connectionProxies = new ConcurrentHashMap<>(5, 1);
 
-        private final ObjectPool<T> pool;
+        private final Origin<T> pool;
 
-        ReturnObjectOnCloseInvocationHandler(T connection, ObjectPool<T> pool) {
+        ReturnObjectOnCloseInvocationHandler(T connection, Origin<T> pool) {
             this.connection = connection;
             this.pool = pool;
         }
@@ -370,4 +388,14 @@ public abstract class ConnectionPoolSupport {
     interface HasTargetConnection {
         StatefulConnection<?, ?> getTargetConnection();
     }
+
+    /**
+     * Pool a wrapped connection is returned to on {@link StatefulConnection#close()}.
+     *
+     * @param <T> Connection type.
+     * @since 4.5
+     */
+    interface Origin<T> {
+        void returnObject(T o) throws Exception;
+    }
 }
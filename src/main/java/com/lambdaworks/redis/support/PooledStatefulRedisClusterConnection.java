@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import com.lambdaworks.redis.ReadFrom;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.RedisAdvancedClusterAsyncCommandsImpl;
+import com.lambdaworks.redis.cluster.RedisAdvancedClusterReactiveCommandsImpl;
+import com.lambdaworks.redis.cluster.RedisAdvancedClusterSyncCommandsImpl;
+import com.lambdaworks.redis.cluster.StatefulRedisClusterConnectionImpl;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import com.lambdaworks.redis.cluster.api.rx.RedisAdvancedClusterReactiveCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.support.ConnectionPoolSupport.Origin;
+
+/**
+ * Pooled {@link StatefulRedisClusterConnection} wrapper. Command APIs are bound to this wrapper so that closing them returns
+ * the connection to the pool while commands are dispatched without reflection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+class PooledStatefulRedisClusterConnection<K, V> extends
+        AbstractPooledConnection<K, V, StatefulRedisClusterConnectionImpl<K, V>> implements
+        StatefulRedisClusterConnection<K, V> {
+
+    // created lazily, most borrowers use a single API.
+    private volatile RedisAdvancedClusterAsyncCommandsImpl<K, V> async;
+    private volatile RedisAdvancedClusterCommands<K, V> sync;
+    private volatile RedisAdvancedClusterReactiveCommands<K, V> reactive;
+
+    PooledStatefulRedisClusterConnection(StatefulRedisClusterConnectionImpl<K, V> connection, Origin<Object> pool) {
+        super(connection, pool);
+    }
+
+    @Override
+    public RedisAdvancedClusterCommands<K, V> sync() {
+
+        RedisAdvancedClusterCommands<K, V> sync = this.sync;
+
+        if (sync == null) {
+
+            StatefulRedisClusterConnectionImpl<K, V> connection = getDelegate();
+            this.sync = sync = new RedisAdvancedClusterSyncCommandsImpl<>(this, connection, connection.getCodec(), getAsync());
+        }
+
+        return sync;
+    }
+
+    @Override
+    public RedisAdvancedClusterAsyncCommands<K, V> async() {
+        return getAsync();
+    }
+
+    @Override
+    public RedisAdvancedClusterReactiveCommands<K, V> reactive() {
+
+        RedisAdvancedClusterReactiveCommands<K, V> reactive = this.reactive;
+
+        if (reactive == null) {
+
+            StatefulRedisClusterConnectionImpl<K, V> connection = getDelegate();
+            this.reactive = reactive = new RedisAdvancedClusterReactiveCommandsImpl<>(this, connection, connection.getCodec());
+        }
+
+        return reactive;
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getConnection(String nodeId) {
+        return getDelegate().getConnection(nodeId);
+    }
+
+    @Override
+    public StatefulRedisConnection<K, V> getConnection(String host, int port) {
+        return getDelegate().getConnection(host, port);
+    }
+
+    @Override
+    public void setReadFrom(ReadFrom readFrom) {
+        getDelegate().setReadFrom(readFrom);
+    }
+
+    @Override
+    public ReadFrom getReadFrom() {
+        return getDelegate().getReadFrom();
+    }
+
+    @Override
+    public Partitions getPartitions() {
+        return getDelegate().getPartitions();
+    }
+
+    private RedisAdvancedClusterAsyncCommandsImpl<K, V> getAsync() {
+
+        RedisAdvancedClusterAsyncCommandsImpl<K, V> async = this.async;
+
+        if (async == null) {
+
+            StatefulRedisClusterConnectionImpl<K, V> connection = getDelegate();
+            this.async = async = new RedisAdvancedClusterAsyncCommandsImpl<>(this, connection, connection.getCodec());
+        }
+
+        return async;
+    }
+}
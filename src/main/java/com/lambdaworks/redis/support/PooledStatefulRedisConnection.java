@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import com.lambdaworks.redis.RedisAsyncCommandsImpl;
+import com.lambdaworks.redis.RedisReactiveCommandsImpl;
+import com.lambdaworks.redis.RedisSyncCommandsImpl;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.api.async.RedisAsyncCommands;
+import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.support.ConnectionPoolSupport.Origin;
+
+/**
+ * Pooled {@link StatefulRedisConnection} wrapper. Command APIs are bound to this wrapper so that closing them returns the
+ * connection to the pool while commands are dispatched without reflection.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 4.5
+ */
+class PooledStatefulRedisConnection<K, V> extends AbstractPooledConnection<K, V, StatefulRedisConnectionImpl<K, V>> implements
+        StatefulRedisConnection<K, V> {
+
+    // created lazily, most borrowers use a single API.
+    private volatile RedisAsyncCommandsImpl<K, V> async;
+    private volatile RedisCommands<K, V> sync;
+    private volatile RedisReactiveCommands<K, V> reactive;
+
+    PooledStatefulRedisConnection(StatefulRedisConnectionImpl<K, V> connection, Origin<Object> pool) {
+        super(connection, pool);
+    }
+
+    @Override
+    public boolean isMulti() {
+        return getDelegate().isMulti();
+    }
+
+    @Override
+    public RedisCommands<K, V> sync() {
+
+        RedisCommands<K, V> sync = this.sync;
+
+        if (sync == null) {
+            this.sync = sync = new RedisSyncCommandsImpl<>(this, getDelegate().getCodec(), getAsync());
+        }
+
+        return sync;
+    }
+
+    @Override
+    public RedisAsyncCommands<K, V> async() {
+        return getAsync();
+    }
+
+    @Override
+    public RedisReactiveCommands<K, V> reactive() {
+
+        RedisReactiveCommands<K, V> reactive = this.reactive;
+
+        if (reactive == null) {
+            this.reactive = reactive = new RedisReactiveCommandsImpl<>(this, getDelegate().getCodec());
+        }
+
+        return reactive;
+    }
+
+    private RedisAsyncCommandsImpl<K, V> getAsync() {
+
+        RedisAsyncCommandsImpl<K, V> async = this.async;
+
+        if (async == null) {
+            this.async = async = new RedisAsyncCommandsImpl<>(this, getDelegate().getCodec());
+        }
+
+        return async;
+    }
+}
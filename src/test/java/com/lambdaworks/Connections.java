@@ -38,6 +38,10 @@ public class Connections {
 
     public static <K, V> RedisChannelHandler<K, V> getRedisChannelHandler(RedisConnection<K, V> sync) {
 
+        if (!Proxy.isProxyClass(sync.getClass())) {
+            return (RedisChannelHandler<K, V>) ReflectionTestUtils.getField(sync, "connection");
+        }
+
         InvocationHandler invocationHandler = Proxy.getInvocationHandler(sync);
         return (RedisChannelHandler<K, V>) ReflectionTestUtils.getField(invocationHandler, "connection");
     }
@@ -0,0 +1,547 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.apigenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.ModifierSet;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.expr.CastExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.Statement;
+
+/**
+ * Create synchronous API implementations based on the templates. Methods that are implemented in
+ * {@code AbstractRedisAsyncCommands} by a plain {@code dispatch(commandBuilder…)} call the command builder directly and await
+ * the command. All other methods delegate to the asynchronous API.
+ *
+ * @author Mark Paluch
+ */
+public class CreateSyncApiImplementation {
+
+    private static final Pattern TYPE_NAME = Pattern.compile("\\b[A-Z]\\w*\\b");
+    private static final Pattern CONSTANT_ARGUMENT = Pattern.compile("commandBuilder\\.\\w+\\([^;]*\\b[A-Z][A-Z_]+\\b");
+    private static final int LINE_LENGTH = 120;
+
+    private static final String ASYNC_COMMANDS = "com/lambdaworks/redis/AbstractRedisAsyncCommands.java";
+    private static final String CLUSTER_ASYNC_COMMANDS = "com/lambdaworks/redis/cluster/RedisAdvancedClusterAsyncCommandsImpl.java";
+
+    private static final String CLUSTER_COMMANDS = "com/lambdaworks/redis/cluster/api/sync/RedisClusterCommands.java";
+    private static final String[] LEGACY_CONNECTIONS = { "RedisHashesConnection", "RedisKeysConnection",
+            "RedisStringsConnection", "RedisListsConnection", "RedisSetsConnection", "RedisSortedSetsConnection",
+            "RedisScriptingConnection", "RedisServerConnection", "RedisHLLConnection", "RedisGeoConnection",
+            "BaseRedisConnection", "RedisClusterConnection" };
+
+    private static final String ADVANCED_CLUSTER_COMMANDS = "com/lambdaworks/redis/cluster/api/sync/RedisAdvancedClusterCommands.java";
+
+    @Test
+    public void createSyncCommands() throws Exception {
+
+        CompilationUnit asyncCommands = parse(new File(Constants.SOURCES, ASYNC_COMMANDS));
+        Map<String, MethodDeclaration> asyncMethods = methods(asyncCommands);
+
+        StringBuilder body = new StringBuilder();
+        List<String> interfaces = new ArrayList<>();
+
+        for (MethodDeclaration method : apiMethods(CLUSTER_COMMANDS)) {
+
+            MethodDeclaration asyncMethod = asyncMethods.get(signature(method));
+
+            if (asyncMethod != null) {
+                appendMethod(body, method, asyncMethod, builderCall(asyncMethod) != null);
+            }
+        }
+
+        for (String templateName : syncTemplateNames()) {
+            interfaces.add(templateName + "<K, V>");
+        }
+        interfaces.add("RedisClusterCommands<K, V>");
+
+        StringBuilder type = new StringBuilder();
+        type.append("/**\n");
+        type.append(" * Synchronous executed commands. Commands are created through {@link RedisCommandBuilder} and awaited using a\n");
+        type.append(" * {@link SyncCommand}. Commands that require additional handling are delegated to the asynchronous API.\n");
+        type.append(" *\n");
+        type.append(" * @param <K> Key type.\n");
+        type.append(" * @param <V> Value type.\n");
+        type.append(" * @author Mark Paluch\n");
+        type.append(" * @since 4.5\n");
+        type.append(" * @generated by ").append(getClass().getName()).append("\n");
+        type.append(" */\n");
+        type.append("public abstract class AbstractRedisSyncCommands<K, V> implements ").append(String.join(", ", interfaces))
+                .append(" {\n\n");
+        type.append("    protected final StatefulConnection<K, V> connection;\n");
+        type.append("    protected final RedisCodec<K, V> codec;\n");
+        type.append("    protected final RedisCommandBuilder<K, V> commandBuilder;\n");
+        type.append("    protected final AbstractRedisAsyncCommands<K, V> async;\n\n");
+        type.append("    /**\n");
+        type.append("     * Initialize a new instance.\n");
+        type.append("     *\n");
+        type.append("     * @param connection the connection to operate on.\n");
+        type.append("     * @param codec the codec for command encoding.\n");
+        type.append("     * @param async the asynchronous API to delegate commands to that are not created through the command builder.\n");
+        type.append("     */\n");
+        type.append("    public AbstractRedisSyncCommands(StatefulConnection<K, V> connection, RedisCodec<K, V> codec,\n");
+        type.append("            AbstractRedisAsyncCommands<K, V> async) {\n");
+        type.append("        this.connection = connection;\n");
+        type.append("        this.codec = codec;\n");
+        type.append("        this.commandBuilder = new RedisCommandBuilder<>(codec);\n");
+        type.append("        this.async = async;\n");
+        type.append("    }\n\n");
+        type.append("    /**\n");
+        type.append("     * Dispatch a command and await its completion. Returns {@literal null} for commands that are queued within a\n");
+        type.append("     * transaction.\n");
+        type.append("     *\n");
+        type.append("     * @param command the command.\n");
+        type.append("     * @return the command result.\n");
+        type.append("     */\n");
+        type.append("    protected <T> T dispatch(RedisCommand<K, V, T> command) {\n\n");
+        type.append("        SyncCommand<K, V, T> sync = new SyncCommand<>(command);\n");
+        type.append("        connection.dispatch(sync);\n\n");
+        type.append("        if (isTransactionActive() && command.getType() != CommandType.MULTI && command.getType() != CommandType.EXEC) {\n");
+        type.append("            return null;\n");
+        type.append("        }\n\n");
+        type.append("        return sync.await(connection.getTimeout(), connection.getTimeoutUnit());\n");
+        type.append("    }\n\n");
+        type.append("    /**\n");
+        type.append("     * Await completion of a future returned by the asynchronous API. Returns {@literal null} for commands that are\n");
+        type.append("     * queued within a transaction.\n");
+        type.append("     *\n");
+        type.append("     * @param future the future.\n");
+        type.append("     * @return the command result.\n");
+        type.append("     */\n");
+        type.append("    protected <T> T await(RedisFuture<T> future) {\n\n");
+        type.append("        if (isTransactionActive()) {\n");
+        type.append("            return null;\n");
+        type.append("        }\n\n");
+        type.append("        return LettuceFutures.awaitOrCancel(future, connection.getTimeout(), connection.getTimeoutUnit());\n");
+        type.append("    }\n\n");
+        type.append("    @SuppressWarnings(\"unchecked\")\n");
+        type.append("    private boolean isTransactionActive() {\n");
+        type.append("        return connection instanceof StatefulRedisConnection && ((StatefulRedisConnection<K, V>) connection).isMulti();\n");
+        type.append("    }\n");
+        type.append(body);
+        type.append("}\n");
+
+        Set<String> imports = new TreeSet<>(Arrays.asList("com.lambdaworks.redis.api.StatefulConnection",
+                "com.lambdaworks.redis.api.StatefulRedisConnection", "com.lambdaworks.redis.codec.RedisCodec",
+                "com.lambdaworks.redis.protocol.CommandType", "com.lambdaworks.redis.protocol.RedisCommand",
+                "com.lambdaworks.redis.protocol.SyncCommand"));
+        for (String templateName : syncTemplateNames()) {
+            imports.add("com.lambdaworks.redis.api.sync." + templateName);
+        }
+        imports.add("com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands");
+
+        Set<String> staticImports = new TreeSet<>();
+        if (CONSTANT_ARGUMENT.matcher(body).find()) {
+            for (ImportDeclaration importDeclaration : asyncCommands.getImports()) {
+                if (importDeclaration.isStatic()) {
+                    staticImports.add(importDeclaration.getName() + (importDeclaration.isAsterisk() ? ".*" : ""));
+                }
+            }
+        }
+
+        write("com.lambdaworks.redis", "AbstractRedisSyncCommands", staticImports, imports, type.toString());
+    }
+
+    @Test
+    public void createClusterSyncCommands() throws Exception {
+
+        Map<String, MethodDeclaration> asyncMethods = methods(parse(new File(Constants.SOURCES, ASYNC_COMMANDS)));
+        Map<String, MethodDeclaration> clusterAsyncMethods = methods(parse(new File(Constants.SOURCES,
+                CLUSTER_ASYNC_COMMANDS)));
+
+        StringBuilder body = new StringBuilder();
+
+        for (MethodDeclaration method : apiMethods(ADVANCED_CLUSTER_COMMANDS, CLUSTER_COMMANDS)) {
+
+            MethodDeclaration asyncMethod = clusterAsyncMethods.get(signature(method));
+
+            // cluster-only methods (e.g. scanParallel) are not reachable through AbstractRedisAsyncCommands and are
+            // implemented in RedisAdvancedClusterSyncCommandsImpl.
+            if (asyncMethod != null && asyncMethod.getType().toString().startsWith("RedisFuture")
+                    && asyncMethods.containsKey(signature(method))) {
+                appendMethod(body, method, asyncMethod, false);
+            }
+        }
+
+        StringBuilder type = new StringBuilder();
+        type.append("/**\n");
+        type.append(" * Synchronous executed commands for Redis Cluster. Commands that are routed to multiple cluster nodes are delegated\n");
+        type.append(" * to {@link RedisAdvancedClusterAsyncCommandsImpl}.\n");
+        type.append(" *\n");
+        type.append(" * @param <K> Key type.\n");
+        type.append(" * @param <V> Value type.\n");
+        type.append(" * @author Mark Paluch\n");
+        type.append(" * @since 4.5\n");
+        type.append(" * @generated by ").append(getClass().getName()).append("\n");
+        type.append(" */\n");
+        type.append("public abstract class AbstractRedisAdvancedClusterSyncCommands<K, V> extends AbstractRedisSyncCommands<K, V> {\n\n");
+        type.append("    /**\n");
+        type.append("     * Initialize a new instance.\n");
+        type.append("     *\n");
+        type.append("     * @param connection the connection to operate on.\n");
+        type.append("     * @param codec the codec for command encoding.\n");
+        type.append("     * @param async the asynchronous API to delegate commands to that are routed to multiple cluster nodes.\n");
+        type.append("     */\n");
+        type.append("    public AbstractRedisAdvancedClusterSyncCommands(StatefulConnection<K, V> connection, RedisCodec<K, V> codec,\n");
+        type.append("            RedisAdvancedClusterAsyncCommandsImpl<K, V> async) {\n");
+        type.append("        super(connection, codec, async);\n");
+        type.append("    }\n");
+        type.append(body);
+        type.append("}\n");
+
+        Set<String> imports = new TreeSet<>(Arrays.asList("com.lambdaworks.redis.AbstractRedisSyncCommands",
+                "com.lambdaworks.redis.api.StatefulConnection", "com.lambdaworks.redis.codec.RedisCodec"));
+
+        write("com.lambdaworks.redis.cluster", "AbstractRedisAdvancedClusterSyncCommands", Collections.emptySet(), imports,
+                type.toString());
+    }
+
+    private static List<String> syncTemplateNames() {
+        return Arrays.stream(Constants.TEMPLATE_NAMES).filter(name -> !name.contains("RedisSentinel"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Collect API methods from the templates, the given synchronous interfaces and the legacy connection interfaces, in
+     * declaration order.
+     */
+    private static Collection<MethodDeclaration> apiMethods(String... interfaces) throws Exception {
+
+        Map<String, MethodDeclaration> result = new LinkedHashMap<>();
+
+        for (File file : apiFiles(interfaces)) {
+            for (MethodDeclaration method : declaredMethods(parse(file))) {
+                if (!method.isDefault()) {
+                    result.putIfAbsent(signature(method), method);
+                }
+            }
+        }
+
+        return result.values();
+    }
+
+    private static List<File> apiFiles(String... interfaces) {
+
+        List<File> files = new ArrayList<>();
+
+        for (String templateName : syncTemplateNames()) {
+            files.add(new File(Constants.TEMPLATES, "com/lambdaworks/redis/api/" + templateName + ".java"));
+        }
+
+        for (String anInterface : interfaces) {
+            files.add(new File(Constants.SOURCES, anInterface));
+        }
+
+        for (String legacyConnection : LEGACY_CONNECTIONS) {
+            files.add(new File(Constants.SOURCES, "com/lambdaworks/redis/" + legacyConnection + ".java"));
+        }
+
+        return files;
+    }
+
+    private static Map<String, MethodDeclaration> methods(CompilationUnit compilationUnit) {
+
+        Map<String, MethodDeclaration> result = new HashMap<>();
+
+        for (MethodDeclaration method : declaredMethods(compilationUnit)) {
+            if (ModifierSet.isPublic(method.getModifiers())) {
+                result.put(signature(method), method);
+            }
+        }
+
+        return result;
+    }
+
+    private static List<MethodDeclaration> declaredMethods(CompilationUnit compilationUnit) {
+
+        ClassOrInterfaceDeclaration type = (ClassOrInterfaceDeclaration) compilationUnit.getTypes().get(0);
+        List<MethodDeclaration> result = new ArrayList<>();
+
+        for (BodyDeclaration member : type.getMembers()) {
+            if (member instanceof MethodDeclaration) {
+                result.add((MethodDeclaration) member);
+            }
+        }
+
+        return result;
+    }
+
+    private static String signature(MethodDeclaration method) {
+
+        StringBuilder result = new StringBuilder(method.getName()).append('(');
+
+        if (method.getParameters() != null) {
+            for (Parameter parameter : method.getParameters()) {
+                result.append(parameter.getType().toString().replace(" ", "").replaceAll("\\b\\w+\\.(?=[A-Z])", ""));
+                result.append(parameter.isVarArgs() ? "...," : ",");
+            }
+        }
+
+        return result.append(')').toString();
+    }
+
+    /**
+     * @return the command builder call if the method body consists only of {@code return dispatch(commandBuilder.…)}, otherwise
+     *         {@literal null}.
+     */
+    private static Expression builderCall(MethodDeclaration asyncMethod) {
+
+        if (asyncMethod.getBody() == null || asyncMethod.getBody().getStmts() == null
+                || asyncMethod.getBody().getStmts().size() != 1) {
+            return null;
+        }
+
+        Statement statement = asyncMethod.getBody().getStmts().get(0);
+        if (!(statement instanceof ReturnStmt)) {
+            return null;
+        }
+
+        Expression expression = ((ReturnStmt) statement).getExpr();
+        if (expression instanceof CastExpr) {
+            expression = ((CastExpr) expression).getExpr();
+        }
+
+        if (!(expression instanceof MethodCallExpr) || !((MethodCallExpr) expression).getName().equals("dispatch")) {
+            return null;
+        }
+
+        List<Expression> args = ((MethodCallExpr) expression).getArgs();
+        if (args == null || args.size() != 1 || !(args.get(0) instanceof MethodCallExpr)) {
+            return null;
+        }
+
+        MethodCallExpr builderCall = (MethodCallExpr) args.get(0);
+        if (!(builderCall.getScope() instanceof NameExpr)
+                || !((NameExpr) builderCall.getScope()).getName().equals("commandBuilder")) {
+            return null;
+        }
+
+        return builderCall;
+    }
+
+    private static void appendMethod(StringBuilder body, MethodDeclaration apiMethod, MethodDeclaration asyncMethod,
+            boolean builderDispatch) {
+
+        String returnType = apiMethod.getType().toString();
+        List<String> parameters = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+
+        if (asyncMethod.getParameters() != null) {
+            for (int i = 0; i < asyncMethod.getParameters().size(); i++) {
+
+                Parameter apiParameter = apiMethod.getParameters().get(i);
+                String name = asyncMethod.getParameters().get(i).getId().getName();
+
+                parameters.add(apiParameter.getType() + (apiParameter.isVarArgs() ? "... " : " ") + name);
+                arguments.add(name);
+            }
+        }
+
+        body.append("\n    @Override\n    public ");
+
+        if (asyncMethod.getTypeParameters() != null && !asyncMethod.getTypeParameters().isEmpty()) {
+            body.append('<').append(
+                    asyncMethod.getTypeParameters().stream().map(Object::toString).collect(Collectors.joining(", "))).append(
+                    "> ");
+        }
+
+        body.append(returnType).append(' ').append(asyncMethod.getName()).append('(').append(String.join(", ", parameters))
+                .append(") {\n        ");
+
+        String asyncCall = "async." + asyncMethod.getName() + "(" + String.join(", ", arguments) + ")";
+
+        if (builderDispatch) {
+            body.append("return dispatch(").append(builderCall(asyncMethod)).append(");");
+        } else if (asyncMethod.getType().toString().startsWith("RedisFuture")) {
+            body.append("return await(").append(asyncCall).append(");");
+        } else if (returnType.equals("void")) {
+            body.append(asyncCall).append(';');
+        } else {
+            body.append("return ").append(asyncCall).append(';');
+        }
+
+        body.append("\n    }\n");
+    }
+
+    private static CompilationUnit parse(File file) throws Exception {
+        return JavaParser.parse(file);
+    }
+
+    /**
+     * Resolve simple type names used in {@code code} against the imports of the templates and synchronous interfaces.
+     */
+    private static Map<String, String> importCandidates() throws Exception {
+
+        Map<String, String> result = new HashMap<>();
+
+        for (File file : apiFiles(CLUSTER_COMMANDS, ADVANCED_CLUSTER_COMMANDS)) {
+
+            CompilationUnit compilationUnit = parse(file);
+            if (compilationUnit.getImports() == null) {
+                continue;
+            }
+
+            for (ImportDeclaration importDeclaration : compilationUnit.getImports()) {
+
+                String name = importDeclaration.getName().toString();
+
+                if (importDeclaration.isStatic()) {
+                    continue;
+                }
+
+                if (importDeclaration.isAsterisk()) {
+
+                    File packageDirectory = new File(Constants.SOURCES, name.replace('.', '/'));
+                    String[] sources = packageDirectory.list((dir, fileName) -> fileName.endsWith(".java"));
+
+                    if (sources != null) {
+                        for (String source : sources) {
+                            String simpleName = source.substring(0, source.length() - ".java".length());
+                            result.putIfAbsent(simpleName, name + "." + simpleName);
+                        }
+                    }
+                    continue;
+                }
+
+                result.put(name.substring(name.lastIndexOf('.') + 1), name);
+            }
+        }
+
+        return result;
+    }
+
+    private static void write(String targetPackage, String targetName, Set<String> staticImports, Set<String> imports,
+            String type) throws Exception {
+
+        Map<String, String> candidates = importCandidates();
+        Matcher matcher = TYPE_NAME.matcher(type);
+
+        while (matcher.find()) {
+            String fqcn = candidates.get(matcher.group());
+            if (fqcn != null) {
+                imports.add(fqcn);
+            }
+        }
+
+        Set<String> javaImports = new TreeSet<>();
+        Set<String> otherImports = new TreeSet<>();
+
+        for (String anImport : imports) {
+
+            String importPackage = anImport.substring(0, anImport.lastIndexOf('.'));
+            if (importPackage.equals(targetPackage)) {
+                continue;
+            }
+
+            (anImport.startsWith("java.") ? javaImports : otherImports).add(anImport);
+        }
+
+        String template = new String(Files.readAllBytes(new File(Constants.TEMPLATES,
+                "com/lambdaworks/redis/api/RedisStringCommands.java").toPath()), StandardCharsets.UTF_8);
+
+        StringBuilder result = new StringBuilder();
+        result.append(template, 0, template.indexOf("package "));
+        result.append("package ").append(targetPackage).append(";\n\n");
+
+        for (String staticImport : staticImports) {
+            result.append("import static ").append(staticImport).append(";\n");
+        }
+
+        if (!staticImports.isEmpty()) {
+            result.append('\n');
+        }
+
+        for (String anImport : javaImports) {
+            result.append("import ").append(anImport).append(";\n");
+        }
+
+        if (!javaImports.isEmpty()) {
+            result.append('\n');
+        }
+
+        for (String anImport : otherImports) {
+            result.append("import ").append(anImport).append(";\n");
+        }
+
+        result.append('\n');
+
+        for (String line : type.split("\n", -1)) {
+            wrap(result, line);
+        }
+
+        File target = new File(Constants.SOURCES, targetPackage.replace('.', '/') + "/" + targetName + ".java");
+
+        try (FileOutputStream fos = new FileOutputStream(target)) {
+            fos.write(result.substring(0, result.length() - 1).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Append {@code line} and break it after a comma outside of type arguments if it exceeds the line length.
+     */
+    private static void wrap(StringBuilder result, String line) {
+
+        String indent = line.substring(0, line.length() - line.replaceFirst("^ +", "").length());
+        String remainder = line;
+
+        while (remainder.length() > LINE_LENGTH) {
+
+            int depth = 0;
+            int breakAt = -1;
+
+            for (int i = 0; i < LINE_LENGTH; i++) {
+
+                char c = remainder.charAt(i);
+                if (c == '<') {
+                    depth++;
+                } else if (c == '>') {
+                    depth--;
+                } else if (c == ',' && depth == 0 && i > indent.length() + 8) {
+                    breakAt = i + 1;
+                }
+            }
+
+            if (breakAt == -1) {
+                break;
+            }
+
+            result.append(remainder, 0, breakAt).append('\n');
+            remainder = indent + "        " + remainder.substring(breakAt).trim();
+        }
+
+        result.append(remainder).append('\n');
+    }
+}
@@ -25,7 +25,8 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ CreateAsyncApi.class, CreateSyncApi.class, CreateReactiveApi.class,
-        CreateAsyncNodeSelectionClusterApi.class, CreateSyncNodeSelectionClusterApi.class })
+        CreateAsyncNodeSelectionClusterApi.class, CreateSyncNodeSelectionClusterApi.class,
+        CreateSyncApiImplementation.class })
 public class GenerateCommandInterfaces {
 
 }
@@ -17,6 +17,8 @@ package com.lambdaworks.codec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,6 +49,12 @@ public class CRC16Test {
         params(parameters, "AAAAAAAAAAAAAAAAAAAAAA".getBytes(), 0x92cd);
         params(parameters, "Hello, World!".getBytes(), 0x4FD6);
 
+        byte[] sequence = new byte[259];
+        for (int i = 0; i < sequence.length; i++) {
+            sequence[i] = (byte) (i * 31);
+        }
+        params(parameters, sequence, bytewise(sequence));
+
         return parameters;
     }
 
@@ -54,6 +62,19 @@ public class CRC16Test {
         parameters.add(new Object[] { bytes, expectation, "0x" + Integer.toHexString(expectation).toUpperCase() });
     }
 
+    private static int bytewise(byte[] bytes) {
+
+        int crc = 0;
+        for (byte b : bytes) {
+            crc ^= (b & 0xFF) << 8;
+            for (int i = 0; i < 8; i++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+        }
+
+        return crc & 0xFFFF;
+    }
+
     @Test
     public void testCRC16() throws Exception {
 
@@ -61,4 +82,45 @@ public class CRC16Test {
         assertThat(result).describedAs("Expects " + Integer.toHexString(expected)).isEqualTo(expected);
 
     }
+
+    @Test
+    public void testCRC16WithOffset() throws Exception {
+
+        byte[] padded = new byte[bytes.length + 5];
+        System.arraycopy(bytes, 0, padded, 3, bytes.length);
+
+        assertThat(CRC16.crc16(padded, 3, bytes.length)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testCRC16DirectBuffer() throws Exception {
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+        buffer.position(2);
+        buffer.put(bytes);
+        buffer.position(2);
+
+        assertThat(CRC16.crc16(buffer, 2, bytes.length)).isEqualTo(expected);
+        assertThat(buffer.position()).isEqualTo(2);
+        assertThat(CRC16.crc16(buffer)).isEqualTo(expected);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void testCRC16CharSequence() throws Exception {
+
+        String string = new String(bytes, StandardCharsets.UTF_8);
+        byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(CRC16.crc16(string, 0, string.length())).isEqualTo(CRC16.crc16(utf8));
+    }
+
+    @Test
+    public void testCRC16MultiByteCharSequence() throws Exception {
+
+        String string = "k\u00e9y-\u20ac-\ud83d\ude00-" + new String(bytes, StandardCharsets.ISO_8859_1) + "\ud800x";
+
+        assertThat(CRC16.crc16(string, 0, string.length())).isEqualTo(
+                CRC16.crc16(string.getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -87,6 +87,42 @@ public class ClientOptionsTest extends AbstractRedisClientTest {
         connection.close();
     }
 
+    @Test
+    public void coalescedWritesAreFlushedAfterDelay() throws Exception {
+
+        FlushOptions flushOptions = FlushOptions.builder().coalesceWrites(true).maxCommands(1000)
+                .maxDelay(1, TimeUnit.MILLISECONDS).build();
+        client.setOptions(ClientOptions.builder().flushOptions(flushOptions).build());
+
+        RedisAsyncCommands<String, String> connection = client.connect().async();
+
+        RedisFuture<String> set = connection.set(key, value);
+        RedisFuture<String> get = connection.get(key);
+
+        assertThat(set.get(1, TimeUnit.SECONDS)).isEqualTo("OK");
+        assertThat(get.get(1, TimeUnit.SECONDS)).isEqualTo(value);
+
+        connection.close();
+    }
+
+    @Test
+    public void coalescedWritesAreFlushedAfterMaxCommands() throws Exception {
+
+        FlushOptions flushOptions = FlushOptions.builder().coalesceWrites(true).maxCommands(2).maxDelay(1, TimeUnit.MINUTES)
+                .build();
+        client.setOptions(ClientOptions.builder().flushOptions(flushOptions).build());
+
+        RedisAsyncCommands<String, String> connection = client.connect().async();
+
+        RedisFuture<String> ping1 = connection.ping();
+        RedisFuture<String> ping2 = connection.ping();
+
+        assertThat(ping1.get(1, TimeUnit.SECONDS)).isEqualTo("PONG");
+        assertThat(ping2.get(1, TimeUnit.SECONDS)).isEqualTo("PONG");
+
+        connection.close();
+    }
+
     @Test
     public void requestQueueSize() {
 
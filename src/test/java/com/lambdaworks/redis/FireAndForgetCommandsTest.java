@@ -0,0 +1,99 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RecyclableCommand;
+
+/**
+ * @author Mark Paluch
+ */
+public class FireAndForgetCommandsTest extends AbstractRedisClientTest {
+
+    @Test
+    public void basic() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = client.connect();
+        FireAndForgetCommands<String, String> commands = new FireAndForgetCommands<>(connection, StringCodec.UTF8);
+
+        for (int i = 0; i < 1000; i++) {
+            commands.set(key(i), value(i));
+        }
+
+        commands.hset(key, "field", value);
+        commands.incr("counter");
+        commands.incr("counter");
+        commands.del(key(0));
+
+        // replies are processed in order, a synchronous command waits for all previously dispatched commands
+        assertThat(connection.sync().ping()).isEqualTo("PONG");
+
+        assertThat(redis.get(key(0))).isNull();
+        assertThat(redis.get(key(999))).isEqualTo(value(999));
+        assertThat(redis.hget(key, "field")).isEqualTo(value);
+        assertThat(redis.get("counter")).isEqualTo("2");
+
+        connection.close();
+    }
+
+    @Test
+    public void customCommand() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = client.connect();
+        FireAndForgetCommands<String, String> commands = new FireAndForgetCommands<>(connection, StringCodec.UTF8);
+
+        RecyclableCommand<String, String> command = commands.newCommand(CommandType.LPUSH);
+        command.getArgs().addKey(key).addValue("one").addValue("two");
+        commands.dispatch(command);
+
+        assertThat(connection.sync().ping()).isEqualTo("PONG");
+
+        assertThat(redis.lrange(key, 0, -1)).containsExactly("two", "one");
+
+        connection.close();
+    }
+
+    @Test
+    public void followUpCommandShouldReceiveItsOwnReply() throws Exception {
+
+        StatefulRedisConnection<String, String> connection = client.connect();
+        FireAndForgetCommands<String, String> commands = new FireAndForgetCommands<>(connection, StringCodec.UTF8);
+
+        redis.set(key, value);
+
+        commands.incr(key);
+        commands.set(key(1), value(1));
+
+        assertThat(connection.sync().get(key)).isEqualTo(value);
+        assertThat(connection.sync().get(key(1))).isEqualTo(value(1));
+
+        connection.close();
+    }
+
+    protected String key(int i) {
+        return key + "-" + i;
+    }
+
+    protected String value(int i) {
+        return value + "-" + i;
+    }
+}
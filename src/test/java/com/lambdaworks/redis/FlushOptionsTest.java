@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class FlushOptionsTest {
+
+    @Test
+    public void testNew() throws Exception {
+        checkAssertions(FlushOptions.create());
+    }
+
+    @Test
+    public void testBuilder() throws Exception {
+
+        FlushOptions sut = FlushOptions.builder().coalesceWrites(true).maxCommands(10).maxBytes(1024)
+                .maxDelay(1, TimeUnit.MILLISECONDS).build();
+
+        assertThat(sut.isCoalesceWrites()).isTrue();
+        assertThat(sut.getMaxCommands()).isEqualTo(10);
+        assertThat(sut.getMaxBytes()).isEqualTo(1024);
+        assertThat(sut.getMaxDelay()).isEqualTo(1);
+        assertThat(sut.getMaxDelayUnit()).isEqualTo(TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        checkAssertions(FlushOptions.copyOf(FlushOptions.builder().build()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroMaxCommands() throws Exception {
+        FlushOptions.builder().maxCommands(0);
+    }
+
+    protected void checkAssertions(FlushOptions sut) {
+        assertThat(sut.isCoalesceWrites()).isFalse();
+        assertThat(sut.getMaxCommands()).isEqualTo(64);
+        assertThat(sut.getMaxBytes()).isEqualTo(64 * 1024);
+        assertThat(sut.getMaxDelay()).isEqualTo(50);
+        assertThat(sut.getMaxDelayUnit()).isEqualTo(TimeUnit.MICROSECONDS);
+    }
+}
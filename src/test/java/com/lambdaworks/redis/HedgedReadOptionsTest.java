@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class HedgedReadOptionsTest {
+
+    @Test
+    public void testNew() throws Exception {
+        checkAssertions(HedgedReadOptions.create());
+    }
+
+    @Test
+    public void testBuilder() throws Exception {
+
+        HedgedReadOptions sut = HedgedReadOptions.builder().enabled(true).percentile(99)
+                .minDelay(500, TimeUnit.MICROSECONDS).build();
+
+        assertThat(sut.isEnabled()).isTrue();
+        assertThat(sut.getPercentile()).isEqualTo(99.0);
+        assertThat(sut.getMinDelay()).isEqualTo(500);
+        assertThat(sut.getMinDelayUnit()).isEqualTo(TimeUnit.MICROSECONDS);
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        checkAssertions(HedgedReadOptions.copyOf(HedgedReadOptions.builder().build()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidPercentile() throws Exception {
+        HedgedReadOptions.builder().percentile(100);
+    }
+
+    protected void checkAssertions(HedgedReadOptions sut) {
+        assertThat(sut.isEnabled()).isFalse();
+        assertThat(sut.getPercentile()).isEqualTo(95.0);
+        assertThat(sut.getMinDelay()).isEqualTo(1);
+        assertThat(sut.getMinDelayUnit()).isEqualTo(TimeUnit.MILLISECONDS);
+    }
+}
@@ -21,6 +21,8 @@ import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.FlushOptions;
+
 /**
  * @author Mark Paluch
  */
@@ -31,7 +33,8 @@ public class ClusterClientOptionsTest {
 
         ClusterClientOptions options = ClusterClientOptions.builder().closeStaleConnections(true).refreshClusterView(true)
                 .autoReconnect(false).requestQueueSize(100).suspendReconnectOnProtocolFailure(true).maxRedirects(1234)
-                .validateClusterNodeMembership(false).build();
+                .validateClusterNodeMembership(false).flushOptions(FlushOptions.builder().coalesceWrites(true).build())
+                .connectionsPerNode(4).build();
 
         ClusterClientOptions copy = ClusterClientOptions.copyOf(options);
 
@@ -45,6 +48,8 @@ public class ClusterClientOptionsTest {
         assertThat(copy.isCancelCommandsOnReconnectFailure()).isEqualTo(options.isCancelCommandsOnReconnectFailure());
         assertThat(copy.isSuspendReconnectOnProtocolFailure()).isEqualTo(options.isSuspendReconnectOnProtocolFailure());
         assertThat(copy.getMaxRedirects()).isEqualTo(options.getMaxRedirects());
+        assertThat(copy.getConnectionsPerNode()).isEqualTo(4);
+        assertThat(copy.getFlushOptions()).isSameAs(options.getFlushOptions());
     }
 
     @Test
@@ -16,10 +16,27 @@
 package com.lambdaworks.redis.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.RedisChannelHandler;
+import com.lambdaworks.redis.RedisChannelWriter;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.codec.StringCodec;
 import com.lambdaworks.redis.internal.HostAndPort;
+import com.lambdaworks.redis.output.ValueOutput;
+import com.lambdaworks.redis.protocol.*;
+
+import io.netty.buffer.Unpooled;
 
 /**
  * @author Mark Paluch
@@ -61,4 +78,188 @@ public class ClusterDistributionChannelWriterTest {
         assertThat(moveTarget.getHostText()).isEqualTo("1:2:3:4::6");
         assertThat(moveTarget.getPort()).isEqualTo(6381);
     }
+
+    @Test
+    public void shouldParseMovedSlotCorrectly() throws Exception {
+
+        assertThat(ClusterDistributionChannelWriter.getMovedSlot("MOVED 1234 127.0.0.1:6381")).isEqualTo(1234);
+        assertThat(ClusterDistributionChannelWriter.getMovedSlot("MOVED 0 1:2:3:4::6:6381")).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldWriteCommandsGroupedByNode() throws Exception {
+
+        RecordingWriter node1 = new RecordingWriter();
+        RecordingWriter node2 = new RecordingWriter();
+
+        ClusterDistributionChannelWriter<String, String> writer = createWriter(node1, node2);
+
+        List<RedisCommand<String, String, ?>> commands = Arrays.asList(get("a"), get("b"), get("c"));
+        Collection<RedisCommand<String, String, ?>> written = writer.write(commands);
+
+        assertThat(written).hasSize(3).allMatch(ClusterCommand.class::isInstance);
+
+        // slot(b) = 3300, slot(c) = 7365, slot(a) = 15495
+        assertThat(node1.batches).hasSize(1);
+        assertThat(node1.batches.get(0)).hasSize(2);
+        assertThat(node2.batches).hasSize(1);
+        assertThat(node2.batches.get(0)).hasSize(1);
+    }
+
+    @Test
+    public void shouldCompleteBatchExceptionallyOnWriteFailure() throws Exception {
+
+        RecordingWriter node1 = new RecordingWriter() {
+            @Override
+            public Collection<RedisCommand<String, String, ?>> write(
+                    Collection<? extends RedisCommand<String, String, ?>> commands) {
+                throw new IllegalStateException("meh");
+            }
+        };
+
+        ClusterDistributionChannelWriter<String, String> writer = createWriter(node1, new RecordingWriter());
+
+        Command<String, String, String> b = get("b");
+        Command<String, String, String> c = get("c");
+        writer.write(Arrays.asList(b, c));
+
+        assertThat(b.getOutput().getError()).isEqualTo("meh");
+        assertThat(c.getOutput().getError()).isEqualTo("meh");
+    }
+
+    @Test
+    public void shouldFollowMovedRedirectionOfRecyclableCommand() throws Exception {
+
+        RecordingWriter node1 = new RecordingWriter();
+        RecordingWriter node2 = new RecordingWriter();
+
+        ClusterDistributionChannelWriter<String, String> writer = createWriter(node1, node2);
+
+        RecyclableCommand<String, String> command = new RecyclableCommand.Pool<>(StringCodec.UTF8).get(CommandType.SET);
+        command.getArgs().addKey("b").addValue("value");
+
+        RedisCommand<String, String, Void> sent = writer.write((RedisCommand<String, String, Void>) command);
+
+        assertThat(node1.batches).hasSize(1);
+
+        new RedisStateMachine<String, String>().decode(
+                Unpooled.copiedBuffer("-MOVED 3300 127.0.0.1:7380\r\n", LettuceCharsets.ASCII), sent, sent.getOutput());
+        sent.complete();
+
+        assertThat(sent.isDone()).isFalse();
+        assertThat(command.isDone()).isFalse();
+        assertThat(command.getType()).isEqualTo(CommandType.SET);
+        assertThat(command.getOutput().getError()).isNull();
+        assertThat(node2.batches).hasSize(1);
+        assertThat(node2.batches.get(0)).containsExactly(sent);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldSumResponseBuffersOfAllConnections() throws Exception {
+
+        RecordingWriter defaultWriter = new RecordingWriter();
+        defaultWriter.responseBufferCapacity = 1024;
+        defaultWriter.responseBufferOccupancy = 10;
+
+        PooledClusterConnectionProvider<String, String> provider = mock(PooledClusterConnectionProvider.class);
+        when(provider.getResponseBufferCapacity()).thenReturn(2048);
+        when(provider.getResponseBufferOccupancy()).thenReturn(20);
+
+        ClusterDistributionChannelWriter<String, String> writer = new ClusterDistributionChannelWriter<>(
+                ClientOptions.create(), defaultWriter, ClusterEventListener.NO_OP);
+        writer.setClusterConnectionProvider(provider);
+
+        StatefulRedisConnection<String, String> connection = new StatefulRedisConnectionImpl<>(writer, StringCodec.UTF8, 60,
+                TimeUnit.SECONDS);
+
+        assertThat(connection.getResponseBufferCapacity()).isEqualTo(3072);
+        assertThat(connection.getResponseBufferOccupancy()).isEqualTo(30);
+    }
+
+    private static ClusterDistributionChannelWriter<String, String> createWriter(RedisChannelWriter<String, String> node1,
+            RedisChannelWriter<String, String> node2) {
+
+        ClusterDistributionChannelWriter<String, String> writer = new ClusterDistributionChannelWriter<>(
+                ClientOptions.create(), new RecordingWriter(), ClusterEventListener.NO_OP);
+
+        CompletableFuture<StatefulRedisConnection<String, String>> connection1 = CompletableFuture
+                .completedFuture(new StatefulRedisConnectionImpl<>(node1, StringCodec.UTF8, 60, TimeUnit.SECONDS));
+        CompletableFuture<StatefulRedisConnection<String, String>> connection2 = CompletableFuture
+                .completedFuture(new StatefulRedisConnectionImpl<>(node2, StringCodec.UTF8, 60, TimeUnit.SECONDS));
+
+        writer.setClusterConnectionProvider(new PooledClusterConnectionProvider<String, String>(RedisClusterClient
+                .create(RedisURI.create("localhost", 7379)), writer, StringCodec.UTF8) {
+            @Override
+            public CompletableFuture getConnectionAsync(Intent intent, int slot) {
+                return slot < 8192 ? connection1 : connection2;
+            }
+
+            @Override
+            public CompletableFuture<StatefulRedisConnection<String, String>> getConnectionAsync(Intent intent, String host,
+                    int port) {
+                return port == 7380 ? connection2 : connection1;
+            }
+
+            @Override
+            public void updateSlotOwner(int slot, String host, int port) {
+            }
+        });
+
+        return writer;
+    }
+
+    private static Command<String, String, String> get(String key) {
+        return new Command<>(CommandType.GET, new ValueOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey(key));
+    }
+
+    static class RecordingWriter implements RedisChannelWriter<String, String> {
+
+        final List<List<RedisCommand<String, String, ?>>> batches = new ArrayList<>();
+        int responseBufferCapacity;
+        int responseBufferOccupancy;
+
+        @Override
+        public <T, C extends RedisCommand<String, String, T>> C write(C command) {
+            batches.add(Collections.singletonList(command));
+            return command;
+        }
+
+        @Override
+        public Collection<RedisCommand<String, String, ?>> write(Collection<? extends RedisCommand<String, String, ?>> commands) {
+            batches.add(new ArrayList<>(commands));
+            return new ArrayList<>(commands);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void setRedisChannelHandler(RedisChannelHandler<String, String> redisChannelHandler) {
+        }
+
+        @Override
+        public void setAutoFlushCommands(boolean autoFlush) {
+        }
+
+        @Override
+        public void flushCommands() {
+        }
+
+        @Override
+        public int getResponseBufferCapacity() {
+            return responseBufferCapacity;
+        }
+
+        @Override
+        public int getResponseBufferOccupancy() {
+            return responseBufferOccupancy;
+        }
+    }
 }
@@ -33,6 +33,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.FlushOptions;
 import com.lambdaworks.redis.RedisChannelWriter;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
@@ -70,6 +71,7 @@ public class ClusterNodeCommandHandlerTest {
     public void before() {
 
         when(clientOptions.getRequestQueueSize()).thenReturn(Integer.MAX_VALUE);
+        when(clientOptions.getFlushOptions()).thenReturn(FlushOptions.create());
         when(clientResources.commandLatencyCollector()).thenReturn(DefaultCommandLatencyCollector.disabled());
         sut = new ClusterNodeCommandHandler(clientOptions, clientResources, clusterChannelWriter);
 
@@ -111,7 +113,7 @@ public class ClusterNodeCommandHandlerTest {
 
         when(clientOptions.isAutoReconnect()).thenReturn(true);
         queue.add(command);
-        when(clusterChannelWriter.write(any())).thenThrow(new RedisException("meh"));
+        when(clusterChannelWriter.write(any(RedisCommand.class))).thenThrow(new RedisException("meh"));
 
         sut.close();
 
@@ -131,6 +133,7 @@ public class ClusterNodeCommandHandlerTest {
 
         when(clientOptions.isAutoReconnect()).thenReturn(true);
         when(clientOptions.getRequestQueueSize()).thenReturn(1000);
+        when(clientOptions.getFlushOptions()).thenReturn(FlushOptions.create());
         when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
 
         sut = new ClusterNodeCommandHandler(clientOptions, clientResources, clusterChannelWriter);
@@ -147,6 +150,7 @@ public class ClusterNodeCommandHandlerTest {
 
         when(clientOptions.isAutoReconnect()).thenReturn(true);
         when(clientOptions.getRequestQueueSize()).thenReturn(1000);
+        when(clientOptions.getFlushOptions()).thenReturn(FlushOptions.create());
         when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
         sut = new ClusterNodeCommandHandler(clientOptions, clientResources, clusterChannelWriter);
         sut.write(command);
@@ -162,10 +166,11 @@ public class ClusterNodeCommandHandlerTest {
 
         when(clientOptions.isAutoReconnect()).thenReturn(true);
         when(clientOptions.getRequestQueueSize()).thenReturn(1000);
+        when(clientOptions.getFlushOptions()).thenReturn(FlushOptions.create());
         when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
         sut = new ClusterNodeCommandHandler(clientOptions, clientResources, clusterChannelWriter);
         sut.write(command);
-        when(clusterChannelWriter.write(any())).thenThrow(new RedisException(""));
+        when(clusterChannelWriter.write(any(RedisCommand.class))).thenThrow(new RedisException(""));
 
         sut.close();
 
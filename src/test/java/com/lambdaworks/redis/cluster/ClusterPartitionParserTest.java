@@ -19,12 +19,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.junit.Assert.assertThat;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
@@ -112,6 +115,47 @@ public class ClusterPartitionParserTest {
         assertThat(p2.getUri().getPort()).isEqualTo(7380);
     }
 
+    @Test
+    public void shouldParseNodesFromDirectBuffer() throws Exception {
+
+        byte[] bytes = nodes.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+        buffer.put((byte) 'x').put((byte) '\n').put(bytes).flip();
+        buffer.position(2);
+
+        Partitions result = ClusterPartitionParser.parse(buffer);
+
+        assertThat(buffer.position()).isEqualTo(2);
+        assertThat(result.getPartitions()).hasSize(4);
+        assertThat(result.getPartitions()).isEqualTo(ClusterPartitionParser.parse(nodes).getPartitions());
+
+        RedisClusterNode p3 = result.getPartitions().get(2);
+
+        assertThat(p3.getFlags()).containsOnly(RedisClusterNode.NodeFlag.MYSELF, RedisClusterNode.NodeFlag.SLAVE);
+        assertThat(p3.getSlots()).hasSize(8000);
+        assertThat(p3.isConnected()).isTrue();
+    }
+
+    @Test
+    public void shouldParseNodesWithCrLfAndEmptyLines() throws Exception {
+
+        Partitions result = ClusterPartitionParser.parse(nodesWithBusPort.replace("\n", "\r\n\r\n") + "\r\n");
+
+        assertThat(result.getPartitions()).hasSize(4);
+
+        RedisClusterNode p4 = result.getPartitions().get(3);
+
+        assertThat(p4.getNodeId()).isEqualTo("5f4a2236d00008fba7ac0dd24b95762b446767bd");
+        assertThat(p4.getSlaveOf()).isEqualTo("3d005a179da7d8dc1adae6409d47b39c369e992b");
+        assertThat(p4.getConfigEpoch()).isEqualTo(2);
+        assertThat(p4.getSlots()).isEmpty();
+    }
+
+    @Test(expected = RedisException.class)
+    public void shouldRejectIncompleteNodeLine() throws Exception {
+        ClusterPartitionParser.parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master -");
+    }
+
     @Test
     public void getNodeByHashShouldReturnCorrectNode() throws Exception {
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import rx.Observable;
+import rx.observers.TestSubscriber;
+
+import com.lambdaworks.redis.KeyScanCursor;
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.ScanCursor;
+import com.lambdaworks.redis.api.async.RedisKeyAsyncCommands;
+import com.lambdaworks.redis.api.rx.RedisKeyReactiveCommands;
+import com.lambdaworks.redis.output.KeyStreamingChannel;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ClusterScanSupportTest {
+
+    @Mock
+    private RedisKeyAsyncCommands<String, String> node1;
+
+    @Mock
+    private RedisKeyAsyncCommands<String, String> node2;
+
+    @Mock
+    private RedisKeyReactiveCommands<String, String> reactive;
+
+    @Mock
+    private KeyStreamingChannel<String> channel;
+
+    @Test
+    public void shouldScanAllNodes() throws Exception {
+
+        KeyScanCursor<String> page1 = page(false, "a", "b");
+        when(node1.scan(ScanCursor.INITIAL)).thenReturn(completed(page1));
+        when(node1.scan(page1)).thenReturn(completed(page(true, "c")));
+        when(node2.scan(ScanCursor.INITIAL)).thenReturn(completed(page(true, "d")));
+
+        RedisFuture<Long> result = ClusterScanSupport.parallelScan(Arrays.asList("1", "2"),
+                nodeId -> CompletableFuture.completedFuture(nodeId.equals("1") ? node1 : node2), channel, null, 2);
+
+        assertThat(result.get()).isEqualTo(4);
+        verify(channel).onKey("a");
+        verify(channel).onKey("b");
+        verify(channel).onKey("c");
+        verify(channel).onKey("d");
+    }
+
+    @Test
+    public void shouldPrefetchNextPage() throws Exception {
+
+        KeyScanCursor<String> page1 = page(false, "a");
+        CompletableFuture<KeyScanCursor<String>> page2 = new CompletableFuture<>();
+        when(node1.scan(ScanCursor.INITIAL)).thenReturn(completed(page1));
+        when(node1.scan(page1)).thenReturn(new PipelinedRedisFuture<>(page2));
+
+        RedisFuture<Long> result = ClusterScanSupport.parallelScan(Arrays.asList("1"),
+                nodeId -> CompletableFuture.completedFuture(node1), channel, null, 1);
+
+        InOrder inOrder = inOrder(node1, channel);
+        inOrder.verify(node1).scan(page1);
+        inOrder.verify(channel).onKey("a");
+        assertThat(result.isDone()).isFalse();
+
+        page2.complete(page(true, "b"));
+
+        assertThat(result.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldBoundParallelism() throws Exception {
+
+        CompletableFuture<KeyScanCursor<String>> page = new CompletableFuture<>();
+        when(node1.scan(ScanCursor.INITIAL)).thenReturn(new PipelinedRedisFuture<>(page));
+
+        List<String> scanned = new ArrayList<>();
+        ClusterScanSupport.parallelScan(Arrays.asList("1", "2"), nodeId -> {
+            scanned.add(nodeId);
+            return CompletableFuture.completedFuture(nodeId.equals("1") ? node1 : node2);
+        }, channel, null, 1);
+
+        assertThat(scanned).containsOnly("1");
+    }
+
+    @Test
+    public void shouldFailOnNodeError() throws Exception {
+
+        CompletableFuture<KeyScanCursor<String>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RedisException("fail"));
+        when(node1.scan(ScanCursor.INITIAL)).thenReturn(new PipelinedRedisFuture<>(failed));
+
+        RedisFuture<Long> result = ClusterScanSupport.parallelScan(Arrays.asList("1"),
+                nodeId -> CompletableFuture.completedFuture(node1), channel, null, 1);
+
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.toCompletableFuture().isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    public void shouldScanReactiveWithBackpressure() throws Exception {
+
+        KeyScanCursor<String> page1 = page(false, "a", "b");
+        when(reactive.scan(ScanCursor.INITIAL)).thenReturn(Observable.just(page1));
+        when(reactive.scan(page1)).thenReturn(Observable.just(page(true, "c")));
+
+        TestSubscriber<String> subscriber = TestSubscriber.create(1);
+        ClusterScanSupport.reactiveParallelScan(Arrays.asList("1"), nodeId -> Observable.just(reactive), null, 1).subscribe(
+                subscriber);
+
+        subscriber.assertValues("a");
+
+        subscriber.requestMore(10);
+
+        subscriber.assertValues("a", "b", "c");
+        subscriber.assertCompleted();
+    }
+
+    private static RedisFuture<KeyScanCursor<String>> completed(KeyScanCursor<String> cursor) {
+        return new PipelinedRedisFuture<>(CompletableFuture.completedFuture(cursor));
+    }
+
+    private static KeyScanCursor<String> page(boolean finished, String... keys) {
+
+        KeyScanCursor<String> cursor = new KeyScanCursor<>();
+        cursor.setCursor(finished ? "0" : "1");
+        cursor.setFinished(finished);
+        cursor.getKeys().addAll(Arrays.asList(keys));
+        return cursor;
+    }
+}
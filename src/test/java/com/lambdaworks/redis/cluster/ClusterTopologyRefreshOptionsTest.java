@@ -38,6 +38,8 @@ public class ClusterTopologyRefreshOptionsTest {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .incrementalRefresh(true)//
+                .refreshSampleSize(3)//
                 .build();
 
         assertThat(options.getRefreshPeriod()).isEqualTo(10);
@@ -49,6 +51,8 @@ public class ClusterTopologyRefreshOptionsTest {
         assertThat(options.getAdaptiveRefreshTimeoutUnit()).isEqualTo(TimeUnit.MILLISECONDS);
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.isIncrementalRefresh()).isTrue();
+        assertThat(options.getRefreshSampleSize()).isEqualTo(3);
     }
 
     @Test
@@ -61,6 +65,8 @@ public class ClusterTopologyRefreshOptionsTest {
                 .adaptiveRefreshTriggersTimeout(15, TimeUnit.MILLISECONDS)//
                 .closeStaleConnections(false)//
                 .refreshTriggersReconnectAttempts(2)//
+                .incrementalRefresh(true)//
+                .refreshSampleSize(3)//
                 .build();
 
         ClusterTopologyRefreshOptions options = ClusterTopologyRefreshOptions.copyOf(master);
@@ -74,6 +80,8 @@ public class ClusterTopologyRefreshOptionsTest {
         assertThat(options.getAdaptiveRefreshTimeoutUnit()).isEqualTo(TimeUnit.MILLISECONDS);
         assertThat(options.getAdaptiveRefreshTriggers()).containsOnly(RefreshTrigger.MOVED_REDIRECT);
         assertThat(options.getRefreshTriggersReconnectAttempts()).isEqualTo(2);
+        assertThat(options.isIncrementalRefresh()).isTrue();
+        assertThat(options.getRefreshSampleSize()).isEqualTo(3);
     }
 
     @Test
@@ -95,6 +103,9 @@ public class ClusterTopologyRefreshOptionsTest {
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_ADAPTIVE_REFRESH_TRIGGERS);
         assertThat(options.getRefreshTriggersReconnectAttempts())
                 .isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REFRESH_TRIGGERS_RECONNECT_ATTEMPTS);
+        assertThat(options.isIncrementalRefresh()).isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_INCREMENTAL_REFRESH)
+                .isFalse();
+        assertThat(options.getRefreshSampleSize()).isEqualTo(ClusterTopologyRefreshOptions.DEFAULT_REFRESH_SAMPLE_SIZE);
     }
 
     @Test
@@ -15,6 +15,7 @@
  */
 package com.lambdaworks.redis.cluster;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -163,6 +164,17 @@ public class ClusterTopologyRefreshSchedulerTest {
         verify(eventExecutors).submit(any(Runnable.class));
     }
 
+    @Test
+    public void shouldCountRedirections() throws Exception {
+
+        sut.onMovedRedirection();
+        sut.onMovedRedirection();
+        sut.onAskRedirection();
+
+        assertThat(sut.getMovedRedirectionCount()).isEqualTo(2);
+        assertThat(sut.getAskRedirectionCount()).isEqualTo(1);
+    }
+
     @Test
     public void shouldTriggerRefreshOnReconnect() throws Exception {
 
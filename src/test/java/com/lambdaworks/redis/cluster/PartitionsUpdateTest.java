@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+
+/**
+ * @author Mark Paluch
+ */
+public class PartitionsUpdateTest {
+
+    private Partitions partitions = partitions(node("a", 7379, 0, 8192), node("b", 7380, 8192, SlotHash.SLOT_COUNT));
+    private RedisClusterNode a = partitions.getPartitionByNodeId("a");
+    private RedisClusterNode b = partitions.getPartitionByNodeId("b");
+
+    @Test
+    public void shouldNotChangeUnchangedTopology() {
+
+        PartitionsUpdate update = PartitionsUpdate.apply(partitions,
+                partitions(node("a", 7379, 0, 8192), node("b", 7380, 8192, SlotHash.SLOT_COUNT)));
+
+        assertThat(update.isEmpty()).isTrue();
+        assertThat(partitions).containsExactly(a, b);
+    }
+
+    @Test
+    public void shouldReassignMovedSlotsInPlace() {
+
+        PartitionsUpdate update = PartitionsUpdate.apply(partitions,
+                partitions(node("a", 7379, 0, 8190), node("b", 7380, 8190, SlotHash.SLOT_COUNT)));
+
+        assertThat(partitions).containsExactly(a, b);
+        assertThat(partitions.getPartitionBySlot(8190)).isSameAs(b);
+        assertThat(partitions.getPartitionBySlot(8191)).isSameAs(b);
+        assertThat(a.getSlotCount()).isEqualTo(8190);
+        assertThat(b.getSlotCount()).isEqualTo(8194);
+
+        assertThat(update.getSlots().stream().boxed()).containsExactly(8190, 8191);
+        assertThat(update.getRelocatedNodeIds()).isEmpty();
+        assertThat(update.isReadersChanged()).isFalse();
+    }
+
+    @Test
+    public void shouldAddAndRemoveNodes() {
+
+        PartitionsUpdate update = PartitionsUpdate.apply(partitions,
+                partitions(node("a", 7379, 0, 8192), node("c", 7381, 8192, SlotHash.SLOT_COUNT)));
+
+        RedisClusterNode c = partitions.getPartitionByNodeId("c");
+
+        assertThat(partitions).hasSize(2).contains(a, c);
+        assertThat(partitions.getPartitionBySlot(8192)).isSameAs(c);
+        assertThat(c.getSlotCount()).isEqualTo(8192);
+
+        assertThat(update.getSlots().cardinality()).isEqualTo(8192);
+        assertThat(update.getRelocatedNodeIds()).isEmpty();
+        assertThat(update.isReadersChanged()).isTrue();
+    }
+
+    @Test
+    public void shouldRecordRelocatedNode() {
+
+        PartitionsUpdate update = PartitionsUpdate.apply(partitions,
+                partitions(node("a", 7379, 0, 8192), node("b", 7390, 8192, SlotHash.SLOT_COUNT)));
+
+        assertThat(partitions).containsExactly(a, b);
+        assertThat(b.getUri().getPort()).isEqualTo(7390);
+
+        assertThat(update.getRelocatedNodeIds()).containsOnly("b");
+        assertThat(update.getSlots().nextSetBit(0)).isEqualTo(8192);
+        assertThat(update.getSlots().cardinality()).isEqualTo(8192);
+        assertThat(update.isReadersChanged()).isTrue();
+    }
+
+    @Test
+    public void shouldUpdateRoleInPlace() {
+
+        RedisClusterNode replica = node("a", 7379, 0, 0);
+        replica.setFlags(Collections.singleton(RedisClusterNode.NodeFlag.SLAVE));
+        replica.setSlaveOf("b");
+
+        PartitionsUpdate update = PartitionsUpdate.apply(partitions,
+                partitions(replica, node("b", 7380, 0, SlotHash.SLOT_COUNT)));
+
+        assertThat(partitions).containsExactly(a, b);
+        assertThat(a.is(RedisClusterNode.NodeFlag.SLAVE)).isTrue();
+        assertThat(a.getSlaveOf()).isEqualTo("b");
+        assertThat(a.getSlotCount()).isZero();
+
+        assertThat(update.getSlots().cardinality()).isEqualTo(8192);
+        assertThat(update.isReadersChanged()).isTrue();
+    }
+
+    private static Partitions partitions(RedisClusterNode... nodes) {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(nodes));
+        return partitions;
+    }
+
+    private static RedisClusterNode node(String nodeId, int port, int from, int to) {
+
+        List<Integer> slots = IntStream.range(from, to).boxed().collect(Collectors.toList());
+
+        return new RedisClusterNode(RedisURI.create("localhost", port), nodeId, true, null, 0, 0, 0, slots,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+    }
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -36,6 +37,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.Futures;
 import com.lambdaworks.redis.*;
@@ -46,6 +48,8 @@ import com.lambdaworks.redis.cluster.ClusterConnectionProvider.Intent;
 import com.lambdaworks.redis.cluster.models.partitions.Partitions;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.event.EventBus;
+import com.lambdaworks.redis.event.connection.ConnectionWarmUpEvent;
 import com.lambdaworks.redis.protocol.AsyncCommand;
 import com.lambdaworks.redis.protocol.Command;
 import com.lambdaworks.redis.protocol.CommandType;
@@ -73,6 +77,9 @@ public class PooledClusterConnectionProviderTest {
     @Mock
     StatefulRedisConnection<String, String> nodeConnectionMock;
 
+    @Mock
+    StatefulRedisConnection<String, String> otherConnectionMock;
+
     @Mock
     RedisCommands<String, String> commandsMock;
 
@@ -82,6 +89,9 @@ public class PooledClusterConnectionProviderTest {
     @Mock
     ClientResources clientResourcesMock;
 
+    @Mock
+    EventBus eventBusMock;
+
     Partitions partitions = new Partitions();
 
     @Before
@@ -194,6 +204,59 @@ public class PooledClusterConnectionProviderTest {
         verify(clientMock, times(2)).connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any());
     }
 
+    @Test
+    public void shouldStripeConnectionsBySlot() {
+
+        when(clientMock.getClusterClientOptions()).thenReturn(ClusterClientOptions.builder().connectionsPerNode(2).build());
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)),
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(otherConnectionMock)));
+
+        sut = new PooledClusterConnectionProvider<>(clientMock, writerMock, CODEC);
+        sut.setPartitions(partitions);
+
+        StatefulRedisConnection<String, String> even = sut.getConnection(Intent.WRITE, 0);
+        StatefulRedisConnection<String, String> odd = sut.getConnection(Intent.WRITE, 1);
+
+        assertThat(even).isNotSameAs(odd);
+        assertThat(sut.getConnection(Intent.WRITE, 2)).isSameAs(even);
+        assertThat(sut.getConnection(Intent.WRITE, 3)).isSameAs(odd);
+        assertThat(sut.getConnectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldWarmUpMasterAndReadCandidates() {
+
+        when(clientMock.getClusterClientOptions()).thenReturn(
+                ClusterClientOptions.builder().warmUpOptions(WarmUpOptions.builder().enabled(true).build()).build());
+        when(clientMock.getResources()).thenReturn(clientResourcesMock);
+        when(clientResourcesMock.eventBus()).thenReturn(eventBusMock);
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(otherConnectionMock)));
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<String, String, String>(
+                CommandType.READONLY, null, null));
+        async.complete("OK");
+
+        when(asyncCommandsMock.readOnly()).thenReturn(async);
+
+        sut = new PooledClusterConnectionProvider<>(clientMock, writerMock, CODEC);
+        sut.setReadFrom(ReadFrom.SLAVE);
+        sut.setPartitions(partitions);
+
+        ConnectionWarmUpEvent event = sut.warmUp().join();
+
+        assertThat(event.getConnectionCount()).isEqualTo(2);
+        assertThat(event.getFailedCount()).isZero();
+        assertThat(sut.getConnectionCount()).isEqualTo(2);
+        verify(eventBusMock).publish(event);
+
+        assertThat(sut.warmUp().join().getConnectionCount()).isZero();
+        verifyNoMoreInteractions(eventBusMock);
+    }
+
     @Test
     public void shouldSelectSuccessfulConnectionIfOtherNodesFailed() {
 
@@ -256,6 +319,34 @@ public class PooledClusterConnectionProviderTest {
         verify(clientMock).connectToNodeAsync(eq(CODEC), eq("localhost:2"), any(), any());
     }
 
+    @Test
+    public void shouldResetOnlyMovedSlotsOnPartitionsUpdate() {
+
+        when(clientMock.connectToNodeAsync(eq(CODEC), eq("localhost:1"), any(), any())).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+
+        sut.getConnection(Intent.WRITE, 1);
+
+        List<Integer> slots1 = IntStream.range(1, 8192).boxed().collect(Collectors.toList());
+        List<Integer> slots2 = IntStream.range(8192, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList());
+        slots2.add(0);
+
+        Partitions refreshed = new Partitions();
+        refreshed.add(new RedisClusterNode(RedisURI.create("localhost", 1), "1", true, null, 0, 0, 0, slots1, Collections
+                .singleton(RedisClusterNode.NodeFlag.MASTER)));
+        refreshed.add(new RedisClusterNode(RedisURI.create("localhost", 2), "2", true, "1", 0, 0, 0, slots2, Collections
+                .singleton(RedisClusterNode.NodeFlag.SLAVE)));
+
+        sut.updatePartitions(PartitionsUpdate.apply(partitions, refreshed));
+
+        Object[] writers = (Object[]) ReflectionTestUtils.getField(sut, "writers");
+
+        assertThat(writers[0]).isNull();
+        assertThat(writers[1]).isNotNull();
+        assertThat(writers[8191]).isNotNull();
+        verify(nodeConnectionMock, never()).close();
+    }
+
     @Test
     public void shouldCloseConnections() {
 
@@ -81,6 +81,40 @@ public class ReadFromTest {
         assertThat(result).hasSize(3).containsExactly(nearest, master, slave);
     }
 
+    @Test
+    public void lowestLatency() throws Exception {
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes());
+        assertThat(result).hasSize(2).containsExactly(nearest, slave);
+        assertThat(ReadFrom.LOWEST_LATENCY.isLatencyAware()).isTrue();
+        assertThat(ReadFrom.NEAREST.isLatencyAware()).isFalse();
+    }
+
+    @Test
+    public void lowestLatencyFallsBackToMaster() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.addPartition(master);
+
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(new ReadFrom.Nodes() {
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return (List) partitions.getPartitions();
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return getNodes().iterator();
+            }
+        });
+
+        assertThat(result).containsOnly(master);
+    }
+
+    @Test
+    public void valueOfLowestLatency() throws Exception {
+        assertThat(ReadFrom.valueOf("lowestLatency")).isEqualTo(ReadFrom.LOWEST_LATENCY);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void valueOfNull() throws Exception {
         ReadFrom.valueOf(null);
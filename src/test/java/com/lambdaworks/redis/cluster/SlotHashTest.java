@@ -18,9 +18,21 @@ package com.lambdaworks.redis.cluster;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.ByteBufCodec;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
  * @author Mark Paluch
  * @since 3.0
@@ -57,4 +69,85 @@ public class SlotHashTest {
         int result = SlotHash.getSlot((ByteBuffer) ByteBuffer.allocateDirect(TAGGED.length).put(TAGGED).flip());
         assertThat(result).isEqualTo(0x31C3);
     }
+
+    @Test
+    public void shouldPartitionKeysWithPositions() {
+
+        List<String> keys = Arrays.asList("a", "b", "a", "{a}x");
+        int[] slots = new int[keys.size()];
+        int[] positions = new int[keys.size()];
+
+        Map<Integer, List<String>> partitioned = SlotHash.partition(StringCodec.UTF8, keys, slots, positions);
+
+        assertThat(partitioned).hasSize(2);
+        assertThat(slots).containsExactly(15495, 3300, 15495, 15495);
+        assertThat(positions).containsExactly(0, 0, 1, 2);
+        assertThat(partitioned.get(15495)).containsExactly("a", "a", "{a}x");
+
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(partitioned.get(slots[i]).get(positions[i])).isEqualTo(keys.get(i));
+        }
+    }
+
+    @Test
+    public void shouldGetTaggedSlotFromBufferWithPosition() {
+
+        ByteBuffer buffer = ByteBuffer.allocate(TAGGED.length + 8);
+        buffer.position(8);
+        buffer.put(TAGGED).flip().position(8);
+
+        assertThat(SlotHash.getSlot(buffer)).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot(buffer.slice())).isEqualTo(0x31C3);
+        assertThat(buffer.position()).isEqualTo(8);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(TAGGED.length + 8);
+        direct.position(8);
+        direct.put(TAGGED).flip().position(8);
+
+        assertThat(SlotHash.getSlot(direct)).isEqualTo(0x31C3);
+        assertThat(direct.position()).isEqualTo(8);
+    }
+
+    @Test
+    public void shouldGetSlotFromByteBuf() {
+
+        ByteBuf heap = Unpooled.buffer().writeBytes("xx".getBytes()).writeBytes(TAGGED);
+        heap.skipBytes(2);
+
+        ByteBuf direct = Unpooled.directBuffer().writeBytes(TAGGED);
+
+        try {
+            assertThat(SlotHash.getSlot(heap)).isEqualTo(0x31C3);
+            assertThat(SlotHash.getSlot(direct)).isEqualTo(0x31C3);
+            assertThat(SlotHash.getSlot(Unpooled.wrappedBuffer(heap, direct))).isEqualTo(
+                    SlotHash.getSlot("key{123456789}akey{123456789}a".getBytes()));
+            assertThat(heap.readerIndex()).isEqualTo(2);
+        } finally {
+            heap.release();
+            direct.release();
+        }
+    }
+
+    @Test
+    public void shouldGetSlotFromCharSequence() {
+
+        assertThat(SlotHash.getSlot("123456789")).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot(new StringBuilder("key{123456789}a"))).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot("key{}a")).isEqualTo(SlotHash.getSlot("key{}a".getBytes()));
+        assertThat(SlotHash.getSlot("k\u00e9y{\u20ac}")).isEqualTo(SlotHash.getSlot("\u20ac".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void shouldGetSlotForCodecKey() {
+
+        String key = "k\u00e9y-1";
+        int expected = SlotHash.getSlot(key.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(SlotHash.getSlot(StringCodec.UTF8, key)).isEqualTo(expected);
+        assertThat(SlotHash.getSlot(new Utf8StringCodec(), key)).isEqualTo(expected);
+        assertThat(SlotHash.getSlot(StringCodec.ASCII, key)).isEqualTo(SlotHash.getSlot(StringCodec.ASCII.encodeKey(key)));
+        assertThat(SlotHash.getSlot(ByteArrayCodec.INSTANCE, key.getBytes(StandardCharsets.UTF_8))).isEqualTo(expected);
+        assertThat(SlotHash.getSlot(ByteBufCodec.INSTANCE, Unpooled.wrappedBuffer(key.getBytes(StandardCharsets.UTF_8))))
+                .isEqualTo(expected);
+    }
 }
@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.redis.RedisURI;
 
@@ -118,6 +119,88 @@ public class PartitionsTest {
         assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node1);
     }
 
+    @Test
+    public void reassignSlot() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        assertThat(partitions.reassignSlot(2, node2)).isTrue();
+
+        assertThat(partitions.getPartitionBySlot(2)).isEqualTo(node2);
+        assertThat(node1.getSlots()).containsExactly(1, 3);
+        assertThat(node2.getSlots()).containsExactly(2, 4, 5, 6);
+
+        assertThat(partitions.reassignSlot(2, node2)).isFalse();
+    }
+
+    @Test
+    public void reassignSlotToUnownedSlot() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        assertThat(partitions.reassignSlot(100, node1)).isTrue();
+
+        assertThat(partitions.getPartitionBySlot(100)).isEqualTo(node1);
+        assertThat(node1.hasSlot(100)).isTrue();
+    }
+
+    @Test
+    public void reassignSlotShouldUpdateSlotCacheInPlace() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        Object slotCache = ReflectionTestUtils.getField(partitions, "slotCache");
+
+        partitions.reassignSlot(2, node2);
+        partitions.reassignSlot(3, node2);
+
+        assertThat(ReflectionTestUtils.getField(partitions, "slotCache")).isSameAs(slotCache);
+        assertThat(partitions.getPartitionBySlot(3)).isEqualTo(node2);
+        assertThat(node1.getSlots()).containsExactly(1);
+        assertThat(node2.getSlots()).containsExactly(2, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void unassignSlotShouldUpdateSlotCacheInPlace() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+
+        Object slotCache = ReflectionTestUtils.getField(partitions, "slotCache");
+
+        assertThat(partitions.unassignSlot(2)).isTrue();
+        assertThat(partitions.unassignSlot(2)).isFalse();
+
+        assertThat(ReflectionTestUtils.getField(partitions, "slotCache")).isSameAs(slotCache);
+        assertThat(partitions.getPartitionBySlot(2)).isNull();
+        assertThat(node1.getSlots()).containsExactly(1, 3);
+    }
+
+    @Test
+    public void reassignSlotIgnoresUnknownNode() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.add(node1);
+
+        assertThat(partitions.reassignSlot(4, node2)).isFalse();
+        assertThat(partitions.getPartitionBySlot(4)).isNull();
+    }
+
+    @Test
+    public void updateCacheAfterReassignSlotUsesNodeSlots() throws Exception {
+
+        Partitions partitions = new Partitions();
+        partitions.addAll(Arrays.asList(node1, node2));
+        partitions.reassignSlot(1, node2);
+
+        partitions.updateCache();
+
+        assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node2);
+    }
+
     @Test
     public void remove() throws Exception {
 
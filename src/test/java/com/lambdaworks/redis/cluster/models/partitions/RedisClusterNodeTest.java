@@ -17,6 +17,11 @@ package com.lambdaworks.redis.cluster.models.partitions;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.lambdaworks.redis.RedisURI;
@@ -40,4 +45,66 @@ public class RedisClusterNodeTest {
 
         assertThat(node.toString()).contains(RedisClusterNode.class.getSimpleName());
     }
+
+    @Test
+    public void shouldReportSlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(5, 1, 2, 3, 16383));
+
+        assertThat(node.hasSlot(1)).isTrue();
+        assertThat(node.hasSlot(4)).isFalse();
+        assertThat(node.hasSlot(16383)).isTrue();
+        assertThat(node.hasSlot(16384)).isFalse();
+        assertThat(node.getSlotCount()).isEqualTo(5);
+        assertThat(node.getSlots()).containsExactly(1, 2, 3, 5, 16383);
+    }
+
+    @Test
+    public void shouldIterateSlotRanges() throws Exception {
+
+        BitSet slots = new BitSet();
+        slots.set(0, 100);
+        slots.set(200);
+        slots.set(16000, 16384);
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(slots);
+
+        List<int[]> ranges = new ArrayList<>();
+        node.forEachSlotRange((from, to) -> ranges.add(new int[] { from, to }));
+
+        assertThat(ranges).containsExactly(new int[] { 0, 99 }, new int[] { 200, 200 }, new int[] { 16000, 16383 });
+    }
+
+    @Test
+    public void slotViewShouldWriteThrough() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(new ArrayList<>());
+
+        node.getSlots().add(42);
+        node.getSlots().add(42);
+
+        assertThat(node.getSlots()).containsExactly(42);
+        assertThat(node.hasSlot(42)).isTrue();
+
+        node.getSlots().clear();
+
+        assertThat(node.getSlots()).isEmpty();
+    }
+
+    @Test
+    public void copyShouldNotShareSlots() throws Exception {
+
+        RedisClusterNode node = new RedisClusterNode();
+        node.setSlots(Arrays.asList(1, 2));
+
+        RedisClusterNode copy = RedisClusterNode.of("1");
+        copy.setSlots(node.getSlots());
+        node.getSlots().add(3);
+
+        assertThat(copy.getSlots()).containsExactly(1, 2);
+        assertThat(copy.hasSameSlotsAs(node)).isFalse();
+    }
 }
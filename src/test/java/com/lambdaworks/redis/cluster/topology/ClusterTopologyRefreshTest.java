@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -140,10 +142,11 @@ public class ClusterTopologyRefreshTest {
     @Test
     public void getNodeSpecificViewsNode1IsFasterThanNode2() throws Exception {
 
-        Requests requests = createClusterNodesRequests(1, NODE_1_VIEW);
+        Requests<byte[]> requests = createClusterNodesRequests(1, NODE_1_VIEW);
         requests = createClusterNodesRequests(2, NODE_2_VIEW).mergeWith(requests);
 
-        Requests clientRequests = createClientListRequests(1, "c1\nc2\n").mergeWith(createClientListRequests(2, "c1\nc2\n"));
+        Requests<String> clientRequests = createClientListRequests(1, "c1\nc2\n")
+                .mergeWith(createClientListRequests(2, "c1\nc2\n"));
 
         NodeTopologyViews nodeSpecificViews = sut.getNodeSpecificViews(requests, clientRequests, COMMAND_TIMEOUT_NS);
 
@@ -167,8 +170,8 @@ public class ClusterTopologyRefreshTest {
                 + "n5 10.37.110.70:7000 myself,master - 0 0 46 connected 10039-14999\n"
                 + "n6 10.37.110.65:7000 master - 0 1452553663844 45 connected 0-3828 6788-7996 10000-10038 15000-16383";
 
-        Requests clusterNodesRequests = createClusterNodesRequests(1, nodes1);
-        Requests clientRequests = createClientListRequests(1, "c1\nc2\n");
+        Requests<byte[]> clusterNodesRequests = createClusterNodesRequests(1, nodes1);
+        Requests<String> clientRequests = createClientListRequests(1, "c1\nc2\n");
 
         NodeTopologyViews nodeSpecificViews = sut
                 .getNodeSpecificViews(clusterNodesRequests, clientRequests, COMMAND_TIMEOUT_NS);
@@ -191,10 +194,11 @@ public class ClusterTopologyRefreshTest {
     @Test
     public void getNodeSpecificViewsNode2IsFasterThanNode1() throws Exception {
 
-        Requests clusterNodesRequests = createClusterNodesRequests(5, NODE_1_VIEW);
+        Requests<byte[]> clusterNodesRequests = createClusterNodesRequests(5, NODE_1_VIEW);
         clusterNodesRequests = createClusterNodesRequests(1, NODE_2_VIEW).mergeWith(clusterNodesRequests);
 
-        Requests clientRequests = createClientListRequests(5, "c1\nc2\n").mergeWith(createClientListRequests(1, "c1\nc2\n"));
+        Requests<String> clientRequests = createClientListRequests(5, "c1\nc2\n")
+                .mergeWith(createClientListRequests(1, "c1\nc2\n"));
 
         NodeTopologyViews nodeSpecificViews = sut
                 .getNodeSpecificViews(clusterNodesRequests, clientRequests, COMMAND_TIMEOUT_NS);
@@ -293,6 +297,64 @@ public class ClusterTopologyRefreshTest {
         verify(nodeConnectionFactory).connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381)));
     }
 
+    @Test
+    public void shouldCloseConnectionsAfterRefresh() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+
+        sut.loadViews(seed, false);
+
+        verify(connection1).close();
+    }
+
+    @Test
+    public void shouldReuseRefreshConnections() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection2));
+        when(connection1.isOpen()).thenReturn(true);
+        when(connection2.isOpen()).thenReturn(true);
+
+        sut.loadViews(seed, true, true);
+        Map<RedisURI, Partitions> partitionsMap = sut.loadViews(seed, true, true);
+
+        assertThat(partitionsMap).hasSize(2);
+        assertThat(sut.getRetainedConnectionCount()).isEqualTo(2);
+
+        verify(nodeConnectionFactory).connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380)));
+        verify(nodeConnectionFactory).connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7381)));
+        verify(connection1, never()).close();
+
+        sut.close();
+
+        assertThat(sut.getRetainedConnectionCount()).isZero();
+        verify(connection1).close();
+        verify(connection2).close();
+    }
+
+    @Test
+    public void shouldReconnectClosedRefreshConnection() throws Exception {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380));
+
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+        when(connection1.isOpen()).thenReturn(true, false);
+
+        sut.loadViews(seed, false, true);
+        sut.loadViews(seed, false, true);
+
+        verify(nodeConnectionFactory, times(2)).connectToNodeAsync(any(RedisCodec.class),
+                eq(new InetSocketAddress("127.0.0.1", 7380)));
+    }
+
     @Test
     public void undiscoveredAdditionalNodesShouldBeLastUsingClientCount() throws Exception {
 
@@ -369,14 +431,14 @@ public class ClusterTopologyRefreshTest {
                 .containsSequence(RedisURI.create("127.0.0.1", 7381), seed.get(0));
     }
 
-    protected Requests createClusterNodesRequests(int duration, String nodes) {
+    protected Requests<byte[]> createClusterNodesRequests(int duration, String nodes) {
 
         RedisURI redisURI = RedisURI.create("redis://localhost:" + duration);
         Connections connections = new Connections();
         connections.addConnection(redisURI, connection);
 
-        Requests requests = connections.requestTopology();
-        TimedAsyncCommand<String, String, String> command = requests.getRequest(redisURI);
+        Requests<byte[]> requests = connections.requestTopology();
+        TimedAsyncCommand<String, String, byte[]> command = requests.getRequest(redisURI);
 
         command.getOutput().set(ByteBuffer.wrap(nodes.getBytes()));
         command.complete();
@@ -386,13 +448,13 @@ public class ClusterTopologyRefreshTest {
         return requests;
     }
 
-    protected Requests createClientListRequests(int duration, String response) {
+    protected Requests<String> createClientListRequests(int duration, String response) {
 
         RedisURI redisURI = RedisURI.create("redis://localhost:" + duration);
         Connections connections = new Connections();
         connections.addConnection(redisURI, connection);
 
-        Requests requests = connections.requestTopology();
+        Requests<String> requests = connections.requestClients();
         TimedAsyncCommand<String, String, String> command = requests.getRequest(redisURI);
 
         command.getOutput().set(ByteBuffer.wrap(response.getBytes()));
@@ -45,8 +45,8 @@ public class NodeTopologyViewsTest {
                 + "2 127.0.0.2:7000 master,myself - 111 1401258245007 222 connected 7000 12000 12002-16383\n"
                 + "3 127.0.0.3:7000 master - 111 1401258245007 222 connected 7000 12000 12002-16383\n";
 
-        NodeTopologyView localhostView = new NodeTopologyView(localhost, viewByLocalhost, "", 0);
-        NodeTopologyView otherhostView = new NodeTopologyView(otherhost, viewByOtherhost, "", 0);
+        NodeTopologyView localhostView = new NodeTopologyView(localhost, viewByLocalhost.getBytes(), "", 0);
+        NodeTopologyView otherhostView = new NodeTopologyView(otherhost, viewByOtherhost.getBytes(), "", 0);
 
         NodeTopologyViews nodeTopologyViews = new NodeTopologyViews(Arrays.asList(localhostView, otherhostView));
 
@@ -61,6 +61,6 @@ public class NodeTopologyViewsTest {
 
         String viewByLocalhost = "1 127.0.0.1:6479 master - 0 1401258245007 2 connected 8000-11999\n";
 
-        new NodeTopologyView(localhost, viewByLocalhost, "", 0);
+        new NodeTopologyView(localhost, viewByLocalhost.getBytes(), "", 0);
     }
 }
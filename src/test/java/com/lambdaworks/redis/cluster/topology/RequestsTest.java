@@ -24,6 +24,7 @@ import org.junit.Test;
 
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.ByteArrayOutput;
 import com.lambdaworks.redis.output.StatusOutput;
 import com.lambdaworks.redis.protocol.Command;
 import com.lambdaworks.redis.protocol.CommandType;
@@ -38,11 +39,11 @@ public class RequestsTest {
 
         RedisURI redisURI = RedisURI.create("localhost", 6379);
 
-        Requests clusterNodesRequests = new Requests();
+        Requests<byte[]> clusterNodesRequests = new Requests<>();
         String clusterNodesOutput = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 disconnected 8000-11999\n";
-        clusterNodesRequests.addRequest(redisURI, getCommand(clusterNodesOutput));
+        clusterNodesRequests.addRequest(redisURI, getClusterNodesCommand(clusterNodesOutput));
 
-        Requests clientListRequests = new Requests();
+        Requests<String> clientListRequests = new Requests<>();
         String clientListOutput = "id=2 addr=127.0.0.1:58919 fd=6 name= age=3 idle=0 flags=N db=0 sub=0 psub=0 multi=-1 qbuf=0 qbuf-free=32768 obl=0 oll=0 omem=0 events=r cmd=client\n";
         clientListRequests.addRequest(redisURI, getCommand(clientListOutput));
 
@@ -51,7 +52,7 @@ public class RequestsTest {
         assertThat(nodeTopologyView.isAvailable()).isTrue();
         assertThat(nodeTopologyView.getConnectedClients()).isEqualTo(1);
         assertThat(nodeTopologyView.getPartitions()).hasSize(1);
-        assertThat(nodeTopologyView.getClusterNodes()).isEqualTo(clusterNodesOutput);
+        assertThat(nodeTopologyView.getClusterNodes()).isEqualTo(clusterNodesOutput.getBytes());
         assertThat(nodeTopologyView.getClientList()).isEqualTo(clientListOutput);
     }
 
@@ -60,11 +61,11 @@ public class RequestsTest {
 
         RedisURI redisURI = RedisURI.create("localhost", 6379);
 
-        Requests clusterNodesRequests = new Requests();
+        Requests<byte[]> clusterNodesRequests = new Requests<>();
         String clusterNodesOutput = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 disconnected 8000-11999\n";
-        clusterNodesRequests.addRequest(redisURI, getCommand(clusterNodesOutput));
+        clusterNodesRequests.addRequest(redisURI, getClusterNodesCommand(clusterNodesOutput));
 
-        Requests clientListRequests = new Requests();
+        Requests<String> clientListRequests = new Requests<>();
 
         NodeTopologyView nodeTopologyView = NodeTopologyView.from(redisURI, clusterNodesRequests, clientListRequests);
 
@@ -103,6 +104,15 @@ public class RequestsTest {
 
     }
 
+    private TimedAsyncCommand<String, String, byte[]> getClusterNodesCommand(String response) {
+        Command<String, String, byte[]> command = new Command<>(CommandType.TYPE, new ByteArrayOutput<>(new Utf8StringCodec()));
+        TimedAsyncCommand<String, String, byte[]> timedAsyncCommand = new TimedAsyncCommand<>(command);
+
+        command.getOutput().set(ByteBuffer.wrap(response.getBytes()));
+        timedAsyncCommand.complete();
+        return timedAsyncCommand;
+    }
+
     private TimedAsyncCommand getCommand(String response) {
         Command<String, String, String> command = new Command<>(CommandType.TYPE,
                 new StatusOutput<>(new Utf8StringCodec()));
@@ -16,6 +16,7 @@
 package com.lambdaworks.redis.cluster.topology;
 
 import static com.lambdaworks.redis.cluster.topology.TopologyComparators.isChanged;
+import static com.lambdaworks.redis.cluster.topology.TopologyComparators.isChangedInDetail;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Lists.newArrayList;
 
@@ -264,6 +265,56 @@ public class TopologyComparatorsTest {
         assertThat(isChanged(partitions1, partitions2)).isFalse();
     }
 
+    @Test
+    public void isChangedInDetailPortChanged() throws Exception {
+        String nodes1 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7382 master - 0 1401258245007 2 disconnected 8000-11999\n"
+                + "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 111 1401258245007 222 connected 7000 12000 12002-16383\n";
+
+        String nodes2 = "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 111 1401258245007 222 connected 7000 12000 12002-16383\n"
+                + "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 disconnected 8000-11999\n";
+
+        Partitions partitions1 = ClusterPartitionParser.parse(nodes1);
+        Partitions partitions2 = ClusterPartitionParser.parse(nodes2);
+        assertThat(isChangedInDetail(partitions1, partitions2)).isTrue();
+    }
+
+    @Test
+    public void isChangedInDetailIgnoresMyself() throws Exception {
+        String nodes1 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master,myself - 0 1401258245007 2 connected 8000-11999\n"
+                + "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 slave 3d005a179da7d8dc1adae6409d47b39c369e992b 111 1401258245007 222 connected\n";
+
+        String nodes2 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 connected 8000-11999\n"
+                + "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 myself,slave 3d005a179da7d8dc1adae6409d47b39c369e992b 111 1401258245007 222 connected\n";
+
+        Partitions partitions1 = ClusterPartitionParser.parse(nodes1);
+        Partitions partitions2 = ClusterPartitionParser.parse(nodes2);
+        assertThat(isChangedInDetail(partitions1, partitions2)).isFalse();
+    }
+
+    @Test
+    public void isChangedInDetailSlaveOfChanged() throws Exception {
+        String nodes1 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 connected 0-11999\n"
+                + "c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381 master - 0 1401258245007 2 connected 12000-16383\n"
+                + "4213a8dabb94f92eb6a860f4d0729e6a25d43e0c 127.0.0.1:7382 slave 3d005a179da7d8dc1adae6409d47b39c369e992b 0 0 1 connected\n";
+
+        String nodes2 = nodes1.replace("slave 3d005a179da7d8dc1adae6409d47b39c369e992b",
+                "slave c37ab8396be428403d4e55c0d317348be27ed973");
+
+        Partitions partitions1 = ClusterPartitionParser.parse(nodes1);
+        Partitions partitions2 = ClusterPartitionParser.parse(nodes2);
+        assertThat(isChanged(partitions1, partitions2)).isFalse();
+        assertThat(isChangedInDetail(partitions1, partitions2)).isTrue();
+    }
+
+    @Test
+    public void isChangedInDetailFailFlagChanged() throws Exception {
+        String nodes1 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 connected 0-16383\n";
+        String nodes2 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master,fail? - 0 1401258245007 2 connected 0-16383\n";
+
+        assertThat(isChangedInDetail(ClusterPartitionParser.parse(nodes1), ClusterPartitionParser.parse(nodes2))).isTrue();
+        assertThat(isChangedInDetail(ClusterPartitionParser.parse(nodes1), ClusterPartitionParser.parse(nodes1))).isFalse();
+    }
+
     @Test
     public void isChangedSlotsChanged() throws Exception {
         String nodes1 = "3d005a179da7d8dc1adae6409d47b39c369e992b 127.0.0.1:7380 master - 0 1401258245007 2 disconnected 8000-11999\n"
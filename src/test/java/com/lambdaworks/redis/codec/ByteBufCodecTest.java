@@ -0,0 +1,79 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * @author Mark Paluch
+ */
+public class ByteBufCodecTest {
+
+    private ByteBufCodec codec = ByteBufCodec.INSTANCE;
+
+    @Test
+    public void encodeShouldNotConsumeSource() throws Exception {
+
+        ByteBuf source = Unpooled.copiedBuffer("hello", StandardCharsets.US_ASCII);
+        ByteBuf target = Unpooled.buffer(16);
+
+        codec.encodeValue(source, target);
+
+        assertThat(target.toString(StandardCharsets.US_ASCII)).isEqualTo("hello");
+        assertThat(source.readableBytes()).isEqualTo(5);
+        assertThat(codec.estimateSize(source)).isEqualTo(5);
+    }
+
+    @Test
+    public void encodeToByteBuffer() throws Exception {
+
+        ByteBuffer buffer = codec.encodeKey(Unpooled.copiedBuffer("key", StandardCharsets.US_ASCII));
+
+        assertThat(buffer.remaining()).isEqualTo(3);
+        assertThat(codec.encodeKey(null).remaining()).isEqualTo(0);
+    }
+
+    @Test
+    public void decodeByteBufShouldRetainSlice() throws Exception {
+
+        ByteBuf response = Unpooled.copiedBuffer("$5\r\nhello\r\n", StandardCharsets.US_ASCII);
+        ByteBuf slice = response.slice(4, 5);
+
+        ByteBuf value = codec.decodeValue(slice);
+
+        assertThat(value.toString(StandardCharsets.US_ASCII)).isEqualTo("hello");
+        assertThat(response.refCnt()).isEqualTo(2);
+
+        value.release();
+        assertThat(response.refCnt()).isEqualTo(1);
+    }
+
+    @Test
+    public void decodeByteBufferShouldCopy() throws Exception {
+
+        ByteBuf value = codec.decodeValue(ByteBuffer.wrap("hello".getBytes()));
+
+        assertThat(value.toString(StandardCharsets.US_ASCII)).isEqualTo("hello");
+    }
+}
@@ -117,4 +117,20 @@ public class StringCodecTest {
         assertThat(new StringCodec(LettuceCharsets.ASCII).estimateSize(teststring)).isEqualTo(teststring.length());
         assertThat(new StringCodec(StandardCharsets.ISO_8859_1).estimateSize(teststring)).isEqualTo(teststring.length());
     }
+
+    @Test
+    public void decodeFromByteBufRegion() throws Exception {
+
+        ByteBuf buffer = Unpooled.buffer(1234);
+        buffer.writeBytes("$5\r\n".getBytes());
+        buffer.writeBytes(teststring.getBytes(StandardCharsets.UTF_8));
+        buffer.writeBytes("\r\n".getBytes());
+
+        ByteBuf region = buffer.slice(4, buffer.readableBytes() - 6);
+
+        assertThat(new StringCodec(LettuceCharsets.UTF8).decodeKey(region)).isEqualTo(teststring);
+        assertThat(new Utf8StringCodec().decodeValue(region)).isEqualTo(teststring);
+        assertThat(ByteArrayCodec.INSTANCE.decodeValue(region)).isEqualTo(teststring.getBytes(StandardCharsets.UTF_8));
+        assertThat(region.readerIndex()).isZero();
+    }
 }
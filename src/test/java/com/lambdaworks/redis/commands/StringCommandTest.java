@@ -21,6 +21,7 @@ import static com.lambdaworks.redis.SetArgs.Builder.px;
 import static com.lambdaworks.redis.SetArgs.Builder.xx;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +55,19 @@ public class StringCommandTest extends AbstractRedisClientTest {
         assertThat(redis.get(key)).isEqualTo(value);
     }
 
+    @Test
+    public void getStreaming() {
+
+        StringBuilder chunks = new StringBuilder();
+
+        assertThat(redis.get(chunk -> chunks.append(chunk.toString(StandardCharsets.UTF_8)), key)).isNull();
+
+        redis.set(key, value);
+
+        assertThat(redis.get(chunk -> chunks.append(chunk.toString(StandardCharsets.UTF_8)), key)).isEqualTo(value.length());
+        assertThat(chunks.toString()).isEqualTo(value);
+    }
+
     @Test
     public void getbit() {
         assertThat(redis.getbit(key, 0)).isEqualTo(0);
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * @author Mark Paluch
+ */
+public class LatencyTrackerTest {
+
+    private LatencyTracker<String> sut = new LatencyTracker<>(0.5);
+
+    @Test
+    public void shouldAverageResponseTimes() {
+
+        sut.record("a", 100, TimeUnit.MICROSECONDS);
+        assertThat(sut.getResponseTime("a", TimeUnit.MICROSECONDS)).isEqualTo(100);
+
+        sut.record("a", 300, TimeUnit.MICROSECONDS);
+        assertThat(sut.getResponseTime("a", TimeUnit.MICROSECONDS)).isEqualTo(200);
+
+        assertThat(sut.getResponseTime("b", TimeUnit.MICROSECONDS)).isZero();
+    }
+
+    @Test
+    public void shouldTrackInFlightCommands() {
+
+        RedisCommand<String, String, String> first = sut.track("a", command());
+        RedisCommand<String, String, String> second = sut.track("a", command());
+
+        assertThat(sut.getInFlight("a")).isEqualTo(2);
+
+        first.complete();
+        first.complete();
+
+        assertThat(sut.getInFlight("a")).isEqualTo(1);
+        assertThat(sut.getResponseTime("a", TimeUnit.NANOSECONDS)).isPositive();
+
+        second.completeExceptionally(new IllegalStateException());
+
+        assertThat(sut.getInFlight("a")).isZero();
+    }
+
+    @Test
+    public void shouldCompleteDelegate() {
+
+        Command<String, String, String> command = command();
+        RedisCommand<String, String, String> tracked = sut.track("a", command);
+
+        tracked.getOutput().set(StringCodec.UTF8.encodeValue("OK"));
+        tracked.complete();
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(command.get()).isEqualTo("OK");
+    }
+
+    @Test
+    public void shouldSelectFasterCandidate() {
+
+        sut.record("slow", 10, TimeUnit.MILLISECONDS);
+        sut.record("fast", 1, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.select(Arrays.asList("slow", "fast"))).isEqualTo("fast");
+        }
+    }
+
+    @Test
+    public void shouldSelectLessLoadedCandidate() {
+
+        sut.record("a", 1, TimeUnit.MILLISECONDS);
+        sut.record("b", 1, TimeUnit.MILLISECONDS);
+
+        sut.track("a", command());
+        sut.track("a", command());
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.select(Arrays.asList("a", "b"))).isEqualTo("b");
+        }
+    }
+
+    @Test
+    public void shouldSelectSingleCandidate() {
+        assertThat(sut.select(Collections.singletonList("a"))).isEqualTo("a");
+    }
+
+    @Test
+    public void shouldRemoveStatistics() {
+
+        sut.record("a", 1, TimeUnit.MILLISECONDS);
+        sut.remove("a");
+
+        assertThat(sut.getResponseTime("a", TimeUnit.MILLISECONDS)).isZero();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectEmptyCandidates() {
+        sut.select(Collections.emptyList());
+    }
+
+    private static Command<String, String, String> command() {
+        return new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8), null);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class MpscArrayQueueTest {
+
+    @Test
+    public void shouldOfferAndPollInOrder() {
+
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(4);
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.poll()).isNull();
+
+        queue.offer("a");
+        queue.offer("b");
+
+        assertThat(queue).hasSize(2);
+        assertThat(queue.peek()).isEqualTo("a");
+        assertThat(queue.poll()).isEqualTo("a");
+        assertThat(queue.poll()).isEqualTo("b");
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldRejectElementsWhenFull() {
+
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(3);
+
+        assertThat(queue.offer("a")).isTrue();
+        assertThat(queue.offer("b")).isTrue();
+        assertThat(queue.offer("c")).isTrue();
+        assertThat(queue.offer("d")).isFalse();
+
+        assertThat(queue.poll()).isEqualTo("a");
+        assertThat(queue.offer("d")).isTrue();
+        assertThat(queue).hasSize(3);
+    }
+
+    @Test
+    public void shouldWrapAround() {
+
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(2);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(queue.offer(i)).isTrue();
+            assertThat(queue.poll()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void shouldIterateInOrder() {
+
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(2);
+
+        assertThat(queue.iterator().hasNext()).isFalse();
+
+        queue.offer("a");
+        queue.offer("b");
+        queue.poll();
+        queue.offer("c");
+
+        assertThat(queue).containsExactly("b", "c");
+        assertThat(queue.contains("c")).isTrue();
+        assertThat(queue.contains("a")).isFalse();
+    }
+
+    @Test
+    public void iteratorShouldSkipConsumedElements() {
+
+        MpscArrayQueue<String> queue = new MpscArrayQueue<>(4);
+        queue.offer("a");
+        queue.offer("b");
+
+        Iterator<String> iterator = queue.iterator();
+
+        queue.poll();
+        queue.poll();
+
+        assertThat(iterator.next()).isEqualTo("a");
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void shouldRetainOrderPerProducer() throws Exception {
+
+        int producers = 4;
+        int elements = 100000;
+
+        MpscArrayQueue<long[]> queue = new MpscArrayQueue<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < producers; i++) {
+
+            int producer = i;
+            Thread thread = new Thread(() -> {
+
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                for (long j = 0; j < elements; j++) {
+                    long[] element = { producer, j };
+                    while (!queue.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+
+        long[] expected = new long[producers];
+        int received = 0;
+
+        while (received < producers * elements) {
+
+            long[] element = queue.poll();
+            if (element == null) {
+                continue;
+            }
+
+            assertThat(element[1]).isEqualTo(expected[(int) element[0]]);
+            expected[(int) element[0]]++;
+            received++;
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
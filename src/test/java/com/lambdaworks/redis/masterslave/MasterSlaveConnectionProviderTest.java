@@ -18,11 +18,15 @@ package com.lambdaworks.redis.masterslave;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.net.SocketAddress;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -30,12 +34,19 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.lambdaworks.Futures;
+import com.lambdaworks.redis.ReadFrom;
 import com.lambdaworks.redis.RedisClient;
 import com.lambdaworks.redis.RedisURI;
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.api.sync.RedisCommands;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.event.EventBus;
+import com.lambdaworks.redis.event.connection.ConnectionWarmUpEvent;
 import com.lambdaworks.redis.models.role.RedisInstance;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.resource.ClientResources;
 
 /**
  * @author Mark Paluch
@@ -53,9 +64,21 @@ public class MasterSlaveConnectionProviderTest {
     @Mock
     StatefulRedisConnection<String, String> nodeConnectionMock;
 
+    @Mock
+    StatefulRedisConnection<String, String> otherNodeConnectionMock;
+
     @Mock
     RedisCommands<String, String> commandsMock;
 
+    @Mock
+    SocketAddress socketAddressMock;
+
+    @Mock
+    ClientResources clientResourcesMock;
+
+    @Mock
+    EventBus eventBusMock;
+
     @Before
     public void before() {
 
@@ -77,4 +100,64 @@ public class MasterSlaveConnectionProviderTest {
         verify(nodeConnectionMock).close();
     }
 
+    @Test
+    public void shouldReadFromSlaveWithLowestLatency() {
+
+        sut.setKnownNodes(Arrays.asList(
+                new RedisMasterSlaveNode("localhost", 1, RedisURI.create("localhost", 1), RedisInstance.Role.MASTER),
+                new RedisMasterSlaveNode("localhost", 2, RedisURI.create("localhost", 2), RedisInstance.Role.SLAVE),
+                new RedisMasterSlaveNode("localhost", 3, RedisURI.create("localhost", 3), RedisInstance.Role.SLAVE)));
+        sut.setReadFrom(ReadFrom.LOWEST_LATENCY);
+
+        when(clientMock.connect(eq(CODEC), eq(RedisURI.create("localhost", 2)))).thenReturn(nodeConnectionMock);
+        when(clientMock.connect(eq(CODEC), eq(RedisURI.create("localhost", 3)))).thenReturn(otherNodeConnectionMock);
+        when(nodeConnectionMock.isOpen()).thenReturn(true);
+        when(otherNodeConnectionMock.isOpen()).thenReturn(true);
+
+        sut.getLatencyTracker().record(nodeConnectionMock, 10, TimeUnit.MILLISECONDS);
+        sut.getLatencyTracker().record(otherNodeConnectionMock, 1, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.getConnection(MasterSlaveConnectionProvider.Intent.READ)).isSameAs(otherNodeConnectionMock);
+        }
+    }
+
+    @Test
+    public void shouldWarmUpMasterAndReadCandidates() {
+
+        sut.setKnownNodes(Arrays.asList(
+                new RedisMasterSlaveNode("localhost", 1, RedisURI.create("localhost", 1), RedisInstance.Role.MASTER),
+                new RedisMasterSlaveNode("localhost", 2, RedisURI.create("localhost", 2), RedisInstance.Role.SLAVE)));
+        sut.setReadFrom(ReadFrom.SLAVE);
+
+        when(clientMock.getResources()).thenReturn(clientResourcesMock);
+        when(clientResourcesMock.eventBus()).thenReturn(eventBusMock);
+        when(clientMock.connectStandaloneAsync(eq(CODEC), eq(RedisURI.create("localhost", 1)))).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+        when(clientMock.connectStandaloneAsync(eq(CODEC), eq(RedisURI.create("localhost", 2)))).thenReturn(
+                Futures.createConnectionFuture(socketAddressMock, CompletableFuture.completedFuture(otherNodeConnectionMock)));
+        when(otherNodeConnectionMock.isOpen()).thenReturn(true);
+
+        ConnectionWarmUpEvent event = sut.warmUp().join();
+
+        assertThat(event.getConnectionCount()).isEqualTo(2);
+        assertThat(sut.getConnectionCount()).isEqualTo(2);
+        assertThat(sut.getConnection(MasterSlaveConnectionProvider.Intent.READ)).isSameAs(otherNodeConnectionMock);
+        verify(eventBusMock).publish(event);
+        verify(clientMock, never()).connect(eq(CODEC), any());
+    }
+
+    @Test
+    public void shouldTrackReadsOnlyIfLatencyAware() {
+
+        Command<String, String, String> command = new Command<>(CommandType.GET, null);
+
+        assertThat(sut.trackRead(nodeConnectionMock, command)).isSameAs(command);
+
+        sut.setReadFrom(ReadFrom.LOWEST_LATENCY);
+
+        assertThat(sut.trackRead(nodeConnectionMock, command)).isNotSameAs(command).isEqualTo(command);
+        assertThat(sut.getLatencyTracker().getInFlight(nodeConnectionMock)).isEqualTo(1);
+    }
+
 }
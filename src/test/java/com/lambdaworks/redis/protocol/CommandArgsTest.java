@@ -208,4 +208,41 @@ public class CommandArgsTest {
 
         assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo(expected.toString(LettuceCharsets.ASCII));
     }
+
+    @Test
+    public void encodedLengthShouldMatchEncodedBytes() throws Exception {
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes())
+                .addValue(new byte[1024]).add("string").add("chars".toCharArray()).add(0).add(12345).add(-678)
+                .add(Long.MIN_VALUE).add(CommandKeyword.LIMIT).add(CommandType.SET).addValue(null);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.getEncodedLength()).isEqualTo(buffer.readableBytes());
+    }
+
+    @Test
+    public void encodedLengthShouldBeUpperBoundForDoubles() throws Exception {
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).add(1.5).add(-Double.MAX_VALUE).add(Double.MIN_VALUE);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(args.getEncodedLength()).isGreaterThanOrEqualTo(buffer.readableBytes());
+    }
+
+    @Test
+    public void commandEncoderShouldEstimateCommandSize() throws Exception {
+
+        Command<byte[], byte[], String> command = new Command<>(CommandType.SET, null,
+                new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes()).addValue(new byte[100]));
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+
+        assertThat(CommandEncoder.estimateSize(command)).isEqualTo(buffer.readableBytes());
+        assertThat(CommandEncoder.estimateSize(Arrays.asList(command, command))).isEqualTo(2 * buffer.readableBytes());
+    }
 }
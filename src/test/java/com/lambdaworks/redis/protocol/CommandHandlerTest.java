@@ -43,6 +43,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import com.lambdaworks.redis.ClientOptions;
 import com.lambdaworks.redis.ConnectionEvents;
+import com.lambdaworks.redis.FlushOptions;
 import com.lambdaworks.redis.RedisChannelHandler;
 import com.lambdaworks.redis.RedisException;
 import com.lambdaworks.redis.codec.StringCodec;
@@ -55,6 +56,8 @@ import com.lambdaworks.redis.resource.ClientResources;
 import edu.umd.cs.mtc.MultithreadedTestCase;
 import edu.umd.cs.mtc.TestFramework;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
@@ -284,6 +287,114 @@ public class CommandHandlerTest {
         assertThat(disconnectedBuffer).isEmpty();
     }
 
+    @Test
+    public void shouldNotSubmitCommandsDuringActivation() throws Exception {
+
+        Queue<RedisCommand<String, String, ?>> submissionQueue = useSubmissionQueue();
+
+        Command<String, String, String> bufferedCommand = new Command<>(CommandType.GET, new StatusOutput<>(
+                StringCodec.UTF8), null);
+        Command<String, String, String> authCommand = new Command<>(CommandType.AUTH, new StatusOutput<>(
+                StringCodec.UTF8), null);
+
+        disconnectedBuffer.add(bufferedCommand);
+
+        doAnswer(invocation -> {
+
+            sut.write(authCommand);
+            assertThat(submissionQueue).isEmpty();
+            return null;
+        }).when(channelHandler).activated();
+
+        when(promise.isSuccess()).thenReturn(true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.write(command);
+
+        assertThat(stack).containsExactly(authCommand, bufferedCommand);
+        assertThat(submissionQueue).containsExactly(command);
+    }
+
+    @Test
+    public void shouldReplaySubmittedCommandsAfterActivationOnReconnect() throws Exception {
+
+        useSubmissionQueue();
+
+        Command<String, String, String> bufferedCommand = new Command<>(CommandType.GET, new StatusOutput<>(
+                StringCodec.UTF8), null);
+        Command<String, String, String> authCommand = new Command<>(CommandType.AUTH, new StatusOutput<>(
+                StringCodec.UTF8), null);
+
+        when(promise.isSuccess()).thenReturn(true);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        // drain task is not executed by the mocked event loop
+        sut.write(command);
+        assertThat(stack).isEmpty();
+
+        sut.channelInactive(context);
+        sut.write(bufferedCommand);
+
+        doAnswer(invocation -> {
+
+            sut.write(authCommand);
+            return null;
+        }).when(channelHandler).activated();
+
+        sut.channelActive(context);
+
+        assertThat(stack).containsExactly(authCommand, command, bufferedCommand);
+        assertThat(disconnectedBuffer).isEmpty();
+    }
+
+    @Test
+    public void shouldNotWriteSubmissionsAheadOfActivationCommands() throws Exception {
+
+        Queue<RedisCommand<String, String, ?>> submissionQueue = useSubmissionQueue();
+
+        Command<String, String, String> authCommand = new Command<>(CommandType.AUTH, new StatusOutput<>(
+                StringCodec.UTF8), null);
+
+        submissionQueue.offer(command);
+        sut.setState(CommandHandler.LifecycleState.ACTIVATING);
+
+        sut.write(context, authCommand, promise);
+
+        verify(context).write(authCommand, promise);
+        assertThat(submissionQueue).containsExactly(command);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldSubmitCoalescedWritesWithSingleDrainTask() throws Exception {
+
+        sut = new CommandHandler<>(ClientOptions.builder().flushOptions(FlushOptions.builder().coalesceWrites(true).build())
+                .build(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+        Queue<RedisCommand<String, String, ?>> submissionQueue = (Queue) ReflectionTestUtils.getField(sut,
+                "submissionQueue");
+
+        Command<String, String, String> command2 = new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8),
+                null);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+        clearInvocations(eventLoop);
+
+        sut.write(command);
+        sut.write(command2);
+
+        verify(eventLoop).execute(any(Runnable.class));
+        verify(channel, never()).write(any(), any());
+        assertThat(submissionQueue).containsExactly(command, command2);
+        assertThat(stack).isEmpty();
+    }
+
     @Test
     public void testExceptionChannelActive() throws Exception {
         sut.setState(CommandHandler.LifecycleState.ACTIVE);
@@ -550,6 +661,64 @@ public class CommandHandlerTest {
         verify(byteBufMock, never()).release();
     }
 
+    @Test
+    public void shouldReleaseResponseBufferAfterDecode() throws Exception {
+
+        sut.channelRegistered(context);
+        stack.add(command);
+
+        ByteBuf input = Unpooled.copiedBuffer("+OK\r\n", LettuceCharsets.ASCII);
+        sut.channelRead(context, input);
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(input.refCnt()).isZero();
+        assertThat(sut.getResponseBufferCapacity()).isZero();
+        assertThat(sut.getResponseBufferOccupancy()).isZero();
+    }
+
+    @Test
+    public void shouldRetainResponseBufferForPartialResponse() throws Exception {
+
+        when(context.alloc()).thenReturn(ByteBufAllocator.DEFAULT);
+
+        sut.channelRegistered(context);
+        stack.add(command);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("+O", LettuceCharsets.ASCII));
+
+        assertThat(command.isDone()).isFalse();
+        assertThat(sut.getResponseBufferOccupancy()).isEqualTo(2);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("K\r\n", LettuceCharsets.ASCII));
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(command.get()).isEqualTo("OK");
+        assertThat(sut.getResponseBufferCapacity()).isZero();
+    }
+
+    @Test
+    public void shouldDecodeFireAndForgetReplyBeforeNextCommand() throws Exception {
+
+        when(promise.isSuccess()).thenReturn(true);
+
+        sut.channelRegistered(context);
+
+        RecyclableCommand<String, String> fireAndForget = new RecyclableCommand.Pool<>(StringCodec.UTF8)
+                .get(CommandType.INCR);
+        fireAndForget.getArgs().addKey("key");
+
+        sut.write(context, fireAndForget, promise);
+        sut.write(context, command, promise);
+
+        assertThat(stack).hasSize(2);
+
+        sut.channelRead(context, Unpooled.copiedBuffer("-ERR not an integer\r\n+OK\r\n", LettuceCharsets.ASCII));
+
+        assertThat(stack).isEmpty();
+        assertThat(command.getOutput().hasError()).isFalse();
+        assertThat(command.get()).isEqualTo("OK");
+    }
+
     @Test(timeout = 5000)
     public void shouldRebuildHugeQueue() throws Exception {
 
@@ -567,6 +736,17 @@ public class CommandHandlerTest {
         assertThat(disconnectedBuffer).isEmpty();
     }
 
+    @SuppressWarnings("unchecked")
+    private Queue<RedisCommand<String, String, ?>> useSubmissionQueue() {
+
+        sut = new CommandHandler<>(ClientOptions.builder().submissionQueueSize(16).build(), clientResources);
+        sut.setRedisChannelHandler(channelHandler);
+        disconnectedBuffer = (Queue) ReflectionTestUtils.getField(sut, "disconnectedBuffer");
+        stack = (Queue) ReflectionTestUtils.getField(sut, "stack");
+
+        return (Queue) ReflectionTestUtils.getField(sut, "submissionQueue");
+    }
+
     @Test
     public void testMTCConcurrentWriteThenReset() throws Throwable {
         TestFramework.runOnce(new MTCConcurrentWriteThenReset(clientResources, command));
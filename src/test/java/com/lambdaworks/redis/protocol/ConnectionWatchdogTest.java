@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.RedisConnectionException;
+import com.lambdaworks.redis.resource.Delay;
+import com.lambdaworks.redis.resource.ReconnectCoordinator;
+import com.lambdaworks.redis.resource.ReconnectCoordinator.Permit;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConnectionWatchdogTest {
+
+    private static final SocketAddress ENDPOINT = InetSocketAddress.createUnresolved("localhost", 6379);
+
+    @Mock
+    private EventLoopGroup eventLoopGroup;
+
+    @Mock
+    private Timer timer;
+
+    @Mock
+    private EventExecutorGroup reconnectWorkers;
+
+    @Mock
+    private ReconnectionListener reconnectionListener;
+
+    @Mock
+    private ReconnectCoordinator reconnectCoordinator;
+
+    @Mock
+    private Permit permit;
+
+    @Mock
+    private CommandHandler<?, ?> commandHandler;
+
+    private CompletableFuture<Permit> permitFuture = new CompletableFuture<>();
+
+    private ConnectionWatchdog sut;
+
+    @Before
+    public void before() {
+
+        sut = new ConnectionWatchdog(Delay.constant(1, TimeUnit.SECONDS), ClientOptions.create(),
+                new Bootstrap().group(eventLoopGroup), timer, reconnectWorkers, null, reconnectionListener,
+                reconnectCoordinator);
+
+        ReflectionTestUtils.setField(sut, "remoteAddress", ENDPOINT);
+        when(reconnectCoordinator.acquire(ENDPOINT)).thenReturn(permitFuture);
+    }
+
+    @Test
+    public void shouldRescheduleDeferredReconnect() throws Exception {
+
+        sut.run(null);
+
+        verify(timer, never()).newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class));
+
+        permitFuture.completeExceptionally(new RedisConnectionException("deferred"));
+
+        verify(timer).newTimeout(any(TimerTask.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(reconnectWorkers, never()).submit(any(Callable.class));
+        verifyZeroInteractions(reconnectionListener);
+    }
+
+    @Test
+    public void shouldNotScheduleReconnectWhileAwaitingPermit() throws Exception {
+
+        when(timer.newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class))).thenReturn(mock(Timeout.class));
+
+        sut.run(null);
+        sut.scheduleReconnect();
+        sut.scheduleReconnect();
+
+        verify(timer, never()).newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class));
+
+        permitFuture.completeExceptionally(new RedisConnectionException("deferred"));
+        sut.scheduleReconnect();
+
+        verify(timer).newTimeout(any(TimerTask.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void shouldCancelPermitIfCommandHandlerIsClosed() throws Exception {
+
+        ReflectionTestUtils.setField(sut, "commandHandler", commandHandler);
+        when(commandHandler.isClosed()).thenReturn(false, true);
+        when(reconnectWorkers.submit(any(Callable.class))).thenAnswer(invocation -> {
+            ((Callable<?>) invocation.getArguments()[0]).call();
+            return null;
+        });
+
+        sut.run(null);
+        permitFuture.complete(permit);
+
+        verify(permit).cancel();
+        verifyNoMoreInteractions(permit);
+        verifyZeroInteractions(reconnectionListener);
+    }
+
+    @Test
+    public void shouldCancelPermitIfReconnectWorkersRejectReconnect() throws Exception {
+
+        when(reconnectWorkers.submit(any(Callable.class))).thenThrow(new RejectedExecutionException());
+
+        sut.run(null);
+        permitFuture.complete(permit);
+
+        verify(permit).cancel();
+        verifyNoMoreInteractions(permit);
+        verifyZeroInteractions(reconnectionListener);
+    }
+}
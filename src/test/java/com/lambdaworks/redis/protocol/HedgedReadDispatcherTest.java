@@ -0,0 +1,252 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.lambdaworks.redis.HedgedReadOptions;
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class HedgedReadDispatcherTest {
+
+    @Mock
+    private EventExecutorGroup executor;
+
+    @Mock
+    private ScheduledFuture<?> timeout;
+
+    private HedgedReadDispatcher sut;
+
+    private List<RedisCommand<String, String, String>> primary = new ArrayList<>();
+    private List<RedisCommand<String, String, String>> alternate = new ArrayList<>();
+
+    @Before
+    public void before() throws Exception {
+
+        sut = new HedgedReadDispatcher(HedgedReadOptions.builder().enabled(true).minDelay(1, TimeUnit.MILLISECONDS).build(),
+                executor);
+    }
+
+    @Test
+    public void shouldNotHedgeWithoutResponseTimes() throws Exception {
+
+        Command<String, String, String> command = command();
+        dispatch(command);
+
+        assertThat(sut.getDelay(TimeUnit.MILLISECONDS)).isEqualTo(-1);
+        verifyZeroInteractions(executor);
+
+        reply(primary.get(0), "OK");
+
+        assertThat(command.get()).isEqualTo("OK");
+    }
+
+    @Test
+    public void shouldApplyMinDelay() throws Exception {
+
+        warmUp(TimeUnit.MICROSECONDS.toNanos(10));
+
+        assertThat(sut.getDelay(TimeUnit.MILLISECONDS)).isEqualTo(1);
+
+        warmUp(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(sut.getDelay(TimeUnit.MILLISECONDS)).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldPassThroughPrimaryReply() throws Exception {
+
+        enableHedging();
+
+        Command<String, String, String> command = command();
+        dispatch(command);
+
+        primary.get(0).getOutput().set(StringCodec.UTF8.encodeValue("OK"));
+
+        assertThat(command.getOutput().get()).isEqualTo("OK");
+
+        primary.get(0).complete();
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(command.get()).isEqualTo("OK");
+        verify(timeout).cancel(false);
+    }
+
+    @Test
+    public void shouldNotHedgeOncePrimaryStartedToReply() throws Exception {
+
+        enableHedging();
+
+        Command<String, String, String> command = command();
+        dispatch(command);
+
+        primary.get(0).getOutput().set(StringCodec.UTF8.encodeValue("OK"));
+        fireHedge();
+
+        assertThat(alternate).isEmpty();
+        assertThat(sut.getHedgedReadCount()).isZero();
+
+        primary.get(0).complete();
+
+        assertThat(command.get()).isEqualTo("OK");
+    }
+
+    @Test
+    public void shouldNotHedgeCursorCommands() throws Exception {
+
+        warmUp(100);
+
+        Command<String, String, String> scan = new Command<>(CommandType.SCAN, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).add(0));
+
+        dispatch(scan);
+
+        assertThat(HedgedReadDispatcher.isHedgeable(scan)).isFalse();
+        assertThat(HedgedReadDispatcher.isHedgeable(command())).isTrue();
+        assertThat(primary).containsExactly(scan);
+        verifyZeroInteractions(executor);
+    }
+
+    @Test
+    public void shouldCompleteWithHedgedReply() throws Exception {
+
+        enableHedging();
+
+        Command<String, String, String> command = command();
+        dispatch(command);
+        fireHedge();
+
+        assertThat(alternate).hasSize(1);
+        assertThat(sut.getHedgedReadCount()).isEqualTo(1);
+
+        reply(alternate.get(0), "alternate");
+        reply(primary.get(0), "primary");
+
+        assertThat(command.get()).isEqualTo("alternate");
+    }
+
+    @Test
+    public void shouldAwaitPendingAttemptOnError() throws Exception {
+
+        enableHedging();
+
+        Command<String, String, String> command = command();
+        dispatch(command);
+        fireHedge();
+
+        primary.get(0).getOutput().setError("LOADING");
+        primary.get(0).complete();
+
+        assertThat(command.isDone()).isFalse();
+
+        reply(alternate.get(0), "OK");
+
+        assertThat(command.get()).isEqualTo("OK");
+        assertThat(command.getOutput().hasError()).isFalse();
+    }
+
+    @Test
+    public void shouldReportPrimaryErrorIfAllAttemptsFail() throws Exception {
+
+        enableHedging();
+
+        Command<String, String, String> command = command();
+        dispatch(command);
+        fireHedge();
+
+        alternate.get(0).getOutput().setError("ERR alternate");
+        alternate.get(0).complete();
+
+        primary.get(0).getOutput().setError("ERR primary");
+        primary.get(0).complete();
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(command.getError()).isEqualTo("ERR primary");
+    }
+
+    @Test
+    public void shouldNotHedgeWithoutAlternate() throws Exception {
+
+        enableHedging();
+
+        Command<String, String, String> command = command();
+        sut.dispatch(command, primary::add, () -> null);
+        fireHedge();
+
+        assertThat(sut.getHedgedReadCount()).isZero();
+
+        reply(primary.get(0), "OK");
+
+        assertThat(command.get()).isEqualTo("OK");
+    }
+
+    private void dispatch(Command<String, String, String> command) {
+        sut.dispatch(command, primary::add, () -> alternate::add);
+    }
+
+    private void fireHedge() {
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(captor.capture(), anyLong(), any(TimeUnit.class));
+        captor.getValue().run();
+    }
+
+    private void enableHedging() {
+
+        warmUp(100);
+        doReturn(timeout).when(executor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private void warmUp(long nanos) {
+
+        for (int i = 0; i < 1024; i++) {
+            sut.record(nanos);
+        }
+    }
+
+    private static void reply(RedisCommand<String, String, String> attempt, String value) {
+
+        attempt.getOutput().set(StringCodec.UTF8.encodeValue(value));
+        attempt.complete();
+    }
+
+    private static Command<String, String, String> command() {
+        return new Command<>(CommandType.GET, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).addKey("key"));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.codec.StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * @author Mark Paluch
+ */
+public class RecyclableCommandTest {
+
+    private RecyclableCommand.Pool<String, String> pool = new RecyclableCommand.Pool<>(StringCodec.UTF8);
+
+    @Test
+    public void shouldEncodeCommand() throws Exception {
+
+        RecyclableCommand<String, String> command = pool.get(CommandType.SET);
+        command.getArgs().addKey("key").addValue("value");
+
+        ByteBuf buffer = Unpooled.buffer();
+        command.encode(buffer);
+
+        assertThat(buffer.toString(LettuceCharsets.ASCII)).isEqualTo("*3\r\n$3\r\nSET\r\n$3\r\nkey\r\n$5\r\nvalue\r\n");
+        assertThat(command.isDone()).isFalse();
+    }
+
+    @Test
+    public void shouldDiscardReplies() throws Exception {
+
+        RecyclableCommand<String, String> command = pool.get(CommandType.INCR);
+
+        command.getOutput().set(1);
+
+        assertThat(command.getOutput()).isNotSameAs(pool.get(CommandType.SET).getOutput());
+        assertThat(command.getOutput().hasError()).isFalse();
+        assertThat(command.getOutput().get()).isNull();
+    }
+
+    @Test
+    public void shouldRetainAndResetError() throws Exception {
+
+        RecyclableCommand<String, String> command = pool.get(CommandType.INCR);
+        command.getOutput().setError("ERR");
+        command.complete();
+
+        assertThat(command.getOutput().getError()).isEqualTo("ERR");
+        assertThat(RecyclableCommand.getRecyclable(command)).isSameAs(command);
+
+        RecyclableCommand.recycle(command);
+
+        assertThat(command.getOutput().hasError()).isFalse();
+    }
+
+    @Test
+    public void shouldNotRecycleRedirectedCommand() throws Exception {
+
+        RecyclableCommand<String, String> moved = pool.get(CommandType.SET);
+        moved.getOutput().setError("MOVED 1234 127.0.0.1:6381");
+
+        RecyclableCommand<String, String> ask = pool.get(CommandType.SET);
+        ask.getOutput().setError("ASK 1234 127.0.0.1:6381");
+
+        assertThat(RecyclableCommand.getRecyclable(new LatencyMeteredCommand<>(moved))).isNull();
+        assertThat(RecyclableCommand.getRecyclable(ask)).isNull();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRejectOutputOfCompletedCommand() throws Exception {
+
+        RecyclableCommand<String, String> command = pool.get(CommandType.SET);
+        command.complete();
+
+        command.setOutput(new StatusOutput<>(StringCodec.UTF8));
+    }
+
+    @Test
+    public void shouldResetRecycledCommand() throws Exception {
+
+        RecyclableCommand<String, String> command = pool.get(CommandType.SET);
+        command.getArgs().addKey("key").addValue("value");
+        command.complete();
+
+        RecyclableCommand.recycle(new LatencyMeteredCommand<>(command));
+
+        assertThat(command.getType()).isNull();
+        assertThat(command.getArgs().count()).isZero();
+        assertThat(command.getArgs().getEncodedLength()).isZero();
+    }
+
+    @Test
+    public void shouldReuseRecycledCommands() throws Exception {
+
+        Set<RecyclableCommand<String, String>> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (int i = 0; i < 100; i++) {
+
+            RecyclableCommand<String, String> command = pool.get(CommandType.DEL);
+            assertThat(command.isDone()).isFalse();
+            assertThat(command.getArgs().count()).isZero();
+
+            command.getArgs().addKey("key");
+            command.complete();
+
+            instances.add(command);
+            RecyclableCommand.recycle(command);
+        }
+
+        assertThat(instances.size()).isLessThan(100);
+    }
+
+    @Test
+    public void shouldNotRecycleTransactionalCommand() throws Exception {
+
+        RecyclableCommand<String, String> command = pool.get(CommandType.SET);
+        command.getArgs().addKey("key");
+
+        RecyclableCommand.recycle(new TransactionalCommand<>(command));
+
+        assertThat(command.getType()).isEqualTo(CommandType.SET);
+        assertThat(command.getArgs().count()).isEqualTo(1);
+    }
+}
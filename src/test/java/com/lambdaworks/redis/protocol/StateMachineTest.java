@@ -33,6 +33,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.codec.ByteBufCodec;
 import com.lambdaworks.redis.codec.RedisCodec;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 import com.lambdaworks.redis.output.*;
@@ -108,6 +109,57 @@ public class StateMachineTest {
         assertThat(output.get()).isEqualTo("foo");
     }
 
+    @Test
+    public void bulkAsRetainedSlice() throws Exception {
+
+        RedisStateMachine<ByteBuf, ByteBuf> rsm = new RedisStateMachine<>();
+        CommandOutput<ByteBuf, ByteBuf, List<ByteBuf>> output = new ValueListOutput<>(ByteBufCodec.INSTANCE);
+        ByteBuf buffer = buffer("*2\r\n$-1\r\n$3\r\nfoo\r\n");
+
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get().get(0)).isNull();
+        assertThat(output.get().get(1).toString(charset)).isEqualTo("foo");
+        assertThat(buffer.refCnt()).isEqualTo(2);
+
+        output.get().get(1).release();
+        assertThat(buffer.refCnt()).isEqualTo(1);
+        rsm.close();
+    }
+
+    @Test
+    public void bulkInChunks() throws Exception {
+
+        StringBuilder chunks = new StringBuilder();
+        BulkChunkStreamingOutput<String, String> output = new BulkChunkStreamingOutput<>(codec,
+                chunk -> chunks.append(chunk.toString(charset)).append('|'));
+
+        ByteBuf buffer = buffer("$10\r\nfoo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(buffer.isReadable()).isFalse();
+
+        buffer.writeBytes("barbaz".getBytes());
+        assertThat(rsm.decode(buffer, output)).isFalse();
+
+        buffer.writeBytes("x\r".getBytes());
+        assertThat(rsm.decode(buffer, output)).isFalse();
+
+        buffer.writeBytes("\n".getBytes());
+        assertThat(rsm.decode(buffer, output)).isTrue();
+
+        assertThat(chunks.toString()).isEqualTo("foo|barbaz|x|");
+        assertThat(output.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void nullBulkInChunks() throws Exception {
+
+        BulkChunkStreamingOutput<String, String> output = new BulkChunkStreamingOutput<>(codec, chunk -> {
+        });
+
+        assertThat(rsm.decode(buffer("$-1\r\n"), output)).isTrue();
+        assertThat(output.get()).isNull();
+    }
+
     @Test
     public void multi() throws Exception {
         CommandOutput<String, String, List<String>> output = new ValueListOutput<>(codec);
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import static com.lambdaworks.redis.protocol.LettuceCharsets.buffer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lambdaworks.redis.RedisCommandExecutionException;
+import com.lambdaworks.redis.RedisCommandTimeoutException;
+import com.lambdaworks.redis.RedisException;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+/**
+ * @author Mark Paluch
+ */
+public class SyncCommandTest {
+
+    private Command<String, String, String> internal;
+    private SyncCommand<String, String, String> sut;
+
+    @Before
+    public void before() throws Exception {
+        internal = new Command<>(CommandType.INFO, new StatusOutput<>(new Utf8StringCodec()), null);
+        sut = new SyncCommand<>(internal);
+    }
+
+    @Test
+    public void awaitCompleted() throws Exception {
+
+        sut.getOutput().set(buffer("one"));
+        sut.complete();
+
+        assertThat(sut.await(1, TimeUnit.SECONDS)).isEqualTo("one");
+        assertThat(sut.isDone()).isTrue();
+    }
+
+    @Test
+    public void awaitCompletedByOtherThread() throws Exception {
+
+        Thread thread = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sut.getOutput().set(buffer("one"));
+            sut.complete();
+        });
+        thread.start();
+
+        assertThat(sut.await(5, TimeUnit.SECONDS)).isEqualTo("one");
+        thread.join();
+    }
+
+    @Test
+    public void awaitNotifiesOnCompleteConsumers() throws Exception {
+
+        StringBuilder result = new StringBuilder();
+        sut.onComplete(result::append);
+
+        sut.getOutput().set(buffer("one"));
+        sut.complete();
+
+        sut.await(1, TimeUnit.SECONDS);
+        assertThat(result.toString()).isEqualTo("one");
+    }
+
+    @Test
+    public void awaitNotCompleted() throws Exception {
+
+        try {
+            sut.await(0, TimeUnit.NANOSECONDS);
+            fail("Missing RedisCommandTimeoutException");
+        } catch (RedisCommandTimeoutException e) {
+            assertThat(internal.isCancelled()).isTrue();
+        }
+    }
+
+    @Test(expected = RedisCommandExecutionException.class)
+    public void awaitWithErrorResponse() throws Exception {
+
+        sut.getOutput().setError("ERR error");
+        sut.complete();
+
+        sut.await(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void awaitWithExecutionException() throws Exception {
+
+        sut.completeExceptionally(new RedisCommandExecutionException("error"));
+
+        try {
+            sut.await(1, TimeUnit.SECONDS);
+            fail("Missing RedisCommandExecutionException");
+        } catch (RedisCommandExecutionException e) {
+            assertThat(e).hasMessage("error");
+        }
+    }
+
+    @Test
+    public void awaitWithException() throws Exception {
+
+        IllegalStateException cause = new IllegalStateException("test");
+        sut.completeExceptionally(cause);
+
+        try {
+            sut.await(1, TimeUnit.SECONDS);
+            fail("Missing RedisException");
+        } catch (RedisException e) {
+            assertThat(e).hasCause(cause);
+        }
+    }
+
+    @Test(expected = CancellationException.class)
+    public void awaitWithCancelledCommand() throws Exception {
+
+        sut.cancel();
+        sut.await(1, TimeUnit.SECONDS);
+    }
+}
@@ -386,6 +386,10 @@ public class AtLeastOnceTest extends AbstractRedisClientTest {
 
     private <K, V> RedisChannelHandler<K, V> getRedisChannelHandler(RedisConnection<K, V> sync) {
 
+        if (!Proxy.isProxyClass(sync.getClass())) {
+            return (RedisChannelHandler<K, V>) ReflectionTestUtils.getField(sync, "connection");
+        }
+
         InvocationHandler invocationHandler = Proxy.getInvocationHandler(sync);
         return (RedisChannelHandler<K, V>) ReflectionTestUtils.getField(invocationHandler, "connection");
     }
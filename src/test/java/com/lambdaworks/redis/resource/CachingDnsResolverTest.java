@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class CachingDnsResolverTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final StandInDnsResolver delegate = new StandInDnsResolver();
+
+    private CachingDnsResolver sut = new CachingDnsResolver(delegate, refreshes::add, 10, 2, 60, TimeUnit.SECONDS,
+            clock::get);
+
+    @Test
+    public void shouldCacheUntilTtlExpires() throws Exception {
+
+        delegate.register("redis", "10.0.0.1");
+
+        assertThat(sut.resolve("redis")).containsExactly(address("10.0.0.1"));
+        assertThat(sut.resolve("redis")).containsExactly(address("10.0.0.1"));
+        assertThat(delegate.lookups.get()).isEqualTo(1);
+
+        advance(9);
+        sut.resolve("redis");
+
+        assertThat(delegate.lookups.get()).isEqualTo(1);
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    public void shouldCacheNegativeLookups() throws Exception {
+
+        expectUnknownHost("unknown");
+        expectUnknownHost("unknown");
+        assertThat(delegate.lookups.get()).isEqualTo(1);
+
+        delegate.register("unknown", "10.0.0.2");
+        advance(2);
+
+        assertThat(sut.resolve("unknown")).containsExactly(address("10.0.0.2"));
+        assertThat(delegate.lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldServeStaleAndRefreshInBackground() throws Exception {
+
+        delegate.register("redis", "10.0.0.1");
+        sut.resolve("redis");
+
+        delegate.register("redis", "10.0.0.3");
+        advance(10);
+
+        assertThat(sut.resolve("redis")).containsExactly(address("10.0.0.1"));
+        assertThat(sut.resolve("redis")).containsExactly(address("10.0.0.1"));
+        assertThat(delegate.lookups.get()).isEqualTo(1);
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.remove(0).run();
+
+        assertThat(sut.resolve("redis")).containsExactly(address("10.0.0.3"));
+        assertThat(delegate.lookups.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldKeepStaleRecordIfRefreshFails() throws Exception {
+
+        delegate.register("redis", "10.0.0.1");
+        sut.resolve("redis");
+
+        delegate.unregister("redis");
+        advance(10);
+
+        sut.resolve("redis");
+        refreshes.remove(0).run();
+
+        assertThat(sut.resolve("redis")).containsExactly(address("10.0.0.1"));
+        assertThat(refreshes).isEmpty();
+
+        advance(2);
+        sut.resolve("redis");
+
+        assertThat(refreshes).hasSize(1);
+    }
+
+    @Test
+    public void shouldResolveSynchronouslyAfterMaxStale() throws Exception {
+
+        delegate.register("redis", "10.0.0.1");
+        sut.resolve("redis");
+
+        delegate.register("redis", "10.0.0.3");
+        advance(70);
+
+        assertThat(sut.resolve("redis")).containsExactly(address("10.0.0.3"));
+        assertThat(refreshes).isEmpty();
+    }
+
+    private void expectUnknownHost(String host) {
+
+        try {
+            sut.resolve(host);
+            fail("Missing UnknownHostException");
+        } catch (UnknownHostException e) {
+            assertThat(e).hasMessageContaining(host);
+        }
+    }
+
+    private void advance(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private static InetAddress address(String address) throws UnknownHostException {
+        return InetAddress.getByName(address);
+    }
+
+    /**
+     * Local stand-in for a DNS server.
+     */
+    static class StandInDnsResolver implements DnsResolver {
+
+        final Map<String, InetAddress> records = new HashMap<>();
+        final AtomicInteger lookups = new AtomicInteger();
+
+        void register(String host, String address) throws UnknownHostException {
+            records.put(host, address(address));
+        }
+
+        void unregister(String host) {
+            records.remove(host);
+        }
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+
+            lookups.incrementAndGet();
+
+            InetAddress address = records.get(host);
+            if (address == null) {
+                throw new UnknownHostException(host);
+            }
+
+            return new InetAddress[] { address };
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.resource.ReconnectCoordinator.Permit;
+
+import io.netty.util.Timer;
+
+/**
+ * @author Mark Paluch
+ */
+public class DefaultReconnectCoordinatorTest {
+
+    private static final SocketAddress ENDPOINT = InetSocketAddress.createUnresolved("localhost", 6379);
+
+    private DefaultReconnectCoordinator sut = new DefaultReconnectCoordinator(mock(Timer.class), 2, 0, TimeUnit.MILLISECONDS);
+
+    @Test
+    public void shouldProbeWithSingleAttempt() {
+
+        CompletableFuture<Permit> probe = acquire();
+        CompletableFuture<Permit> waiter = acquire();
+
+        assertThat(probe).isCompleted();
+        assertThat(waiter).isNotDone();
+
+        probe.join().success();
+
+        assertThat(waiter).isCompleted();
+        assertThat(sut.getAttempts(ENDPOINT)).isEqualTo(1);
+        assertThat(sut.getSuccesses(ENDPOINT)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldDeferWaitersIfProbeFails() {
+
+        CompletableFuture<Permit> probe = acquire();
+        CompletableFuture<Permit> waiter = acquire();
+
+        probe.join().failure();
+
+        assertThat(waiter).isCompletedExceptionally();
+        assertThat(acquire()).isCompleted();
+        assertThat(sut.getAttempts(ENDPOINT)).isEqualTo(1);
+        assertThat(sut.getSuccesses(ENDPOINT)).isZero();
+    }
+
+    @Test
+    public void shouldBoundConcurrencyOnceAvailable() {
+
+        CompletableFuture<Permit> probe = acquire();
+        CompletableFuture<Permit> first = acquire();
+
+        probe.join().success();
+
+        CompletableFuture<Permit> second = acquire();
+        CompletableFuture<Permit> third = acquire();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(third).isNotDone();
+
+        first.join().success();
+
+        assertThat(third).isCompleted();
+        assertThat(sut.getAttempts(ENDPOINT)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldEvictIdleAvailableEndpoint() {
+
+        acquire().join().success();
+
+        CompletableFuture<Permit> probe = acquire();
+        CompletableFuture<Permit> waiter = acquire();
+
+        assertThat(probe).isCompleted();
+        assertThat(waiter).isNotDone();
+    }
+
+    @Test
+    public void shouldRetainCountsAfterReconnectWave() {
+
+        CompletableFuture<Permit> probe = acquire();
+        CompletableFuture<Permit> first = acquire();
+        CompletableFuture<Permit> second = acquire();
+
+        probe.join().success();
+        first.join().success();
+        second.join().failure();
+
+        acquire().join().success();
+
+        assertThat(sut.getAttempts(ENDPOINT)).isEqualTo(4);
+        assertThat(sut.getSuccesses(ENDPOINT)).isEqualTo(3);
+
+        acquire().join().success();
+
+        assertThat(sut.getAttempts(ENDPOINT)).isEqualTo(5);
+        assertThat(sut.getSuccesses(ENDPOINT)).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldNotEvictUnavailableEndpoint() {
+
+        acquire().join().failure();
+
+        assertThat(sut.getAttempts(ENDPOINT)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldHandOverProbeOnCancel() {
+
+        CompletableFuture<Permit> probe = acquire();
+        CompletableFuture<Permit> waiter = acquire();
+
+        probe.join().cancel();
+        probe.join().failure();
+
+        assertThat(waiter).isCompleted();
+        assertThat(sut.getAttempts(ENDPOINT)).isZero();
+    }
+
+    private CompletableFuture<Permit> acquire() {
+        return sut.acquire(ENDPOINT).toCompletableFuture();
+    }
+}
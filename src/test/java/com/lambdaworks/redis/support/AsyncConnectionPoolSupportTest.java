@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+
+/**
+ * @author Mark Paluch
+ */
+public class AsyncConnectionPoolSupportTest {
+
+    @SuppressWarnings("unchecked")
+    private final StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+
+    @Test
+    public void cancelledAcquireShouldNotTakeReleasedConnection() {
+
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                () -> CompletableFuture.completedFuture(connection), BoundedPoolConfig.builder().maxTotal(1).build());
+
+        StatefulRedisConnection<String, String> borrowed = pool.acquire().join();
+        CompletableFuture<StatefulRedisConnection<String, String>> waiter = pool.acquire();
+
+        waiter.cancel(false);
+        pool.release(borrowed).join();
+
+        assertThat(pool.getWaiters()).isZero();
+        assertThat(pool.getIdle()).isEqualTo(1);
+    }
+
+    @Test
+    public void cancelledAcquireShouldReturnConnectionCreatedLater() {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> connect = new CompletableFuture<>();
+        BoundedAsyncPool<StatefulRedisConnection<String, String>> pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                () -> connect, BoundedPoolConfig.builder().maxTotal(1).build());
+
+        CompletableFuture<StatefulRedisConnection<String, String>> acquire = pool.acquire();
+
+        acquire.cancel(false);
+        connect.complete(connection);
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+}
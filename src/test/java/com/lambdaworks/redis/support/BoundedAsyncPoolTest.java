@@ -0,0 +1,261 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Paluch
+ */
+public class BoundedAsyncPoolTest {
+
+    private final StringFactory factory = new StringFactory();
+
+    @Test
+    public void shouldReuseReleasedObject() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.create());
+
+        String object = pool.acquire().join();
+        pool.release(object).join();
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.acquire().join()).isEqualTo(object);
+        assertThat(factory.created).hasSize(1);
+    }
+
+    @Test
+    public void shouldRejectReleaseOfIdleObject() throws Exception {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.create());
+
+        String object = pool.acquire().join();
+        pool.release(object).join();
+
+        CompletableFuture<Void> release = pool.release(object);
+
+        assertThat(cause(release)).isInstanceOf(IllegalStateException.class);
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.acquire().join()).isEqualTo(object);
+        assertThat(pool.acquire().join()).isNotEqualTo(object);
+    }
+
+    @Test
+    public void shouldRejectReleaseOfObjectNeverBorrowed() throws Exception {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().minIdle(1).build());
+
+        pool.createIdle().join();
+        String object = factory.created.get(0);
+
+        assertThat(cause(pool.release(object))).isInstanceOf(IllegalStateException.class);
+        assertThat(pool.getIdle()).isEqualTo(1);
+
+        assertThat(pool.acquire().join()).isEqualTo(object);
+        pool.release(object).join();
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCompleteWaiterOnRelease() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().maxTotal(1).build());
+
+        String object = pool.acquire().join();
+        CompletableFuture<String> waiter = pool.acquire();
+
+        assertThat(waiter).isNotDone();
+        assertThat(pool.getWaiters()).isEqualTo(1);
+
+        pool.release(object).join();
+
+        assertThat(waiter.join()).isEqualTo(object);
+        assertThat(pool.getWaiters()).isZero();
+        assertThat(pool.getIdle()).isZero();
+    }
+
+    @Test
+    public void shouldServeWaitersReleasingOnCompletion() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWaiters(100000).build());
+
+        String object = pool.acquire().join();
+        AtomicInteger completed = new AtomicInteger();
+
+        for (int i = 0; i < 100000; i++) {
+            pool.acquire().thenAccept(it -> {
+                completed.incrementAndGet();
+                pool.release(it);
+            });
+        }
+
+        pool.release(object).join();
+
+        assertThat(completed).hasValue(100000);
+        assertThat(pool.getWaiters()).isZero();
+        assertThat(pool.getIdle()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFailAcquireIfWaitersExhausted() throws Exception {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().maxTotal(1).maxWaiters(1)
+                .build());
+
+        pool.acquire().join();
+        pool.acquire();
+        CompletableFuture<String> exhausted = pool.acquire();
+
+        assertThat(exhausted).isCompletedExceptionally();
+        assertThat(cause(exhausted)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void shouldCreateIdleObjects() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().minIdle(2).build());
+
+        pool.createIdle().join();
+
+        assertThat(pool.getIdle()).isEqualTo(2);
+        assertThat(pool.getObjectCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldEvictIdleObjectsKeepingMinIdle() throws Exception {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().minIdle(1)
+                .idleTimeout(1, TimeUnit.NANOSECONDS).build());
+
+        String first = pool.acquire().join();
+        String second = pool.acquire().join();
+        pool.release(first).join();
+        pool.release(second).join();
+
+        Thread.sleep(1);
+        pool.evictIdle();
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(factory.destroyed).containsOnly(first);
+    }
+
+    @Test
+    public void shouldDestroyInvalidObjectOnAcquire() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().testOnAcquire(true)
+                .build());
+
+        String object = pool.acquire().join();
+        pool.release(object).join();
+
+        factory.valid = false;
+        String next = pool.acquire().join();
+
+        assertThat(next).isNotEqualTo(object);
+        assertThat(factory.destroyed).containsOnly(object);
+    }
+
+    @Test
+    public void shouldFailCreationAndServeNextAcquire() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().maxTotal(1).build());
+
+        factory.fail = true;
+        assertThat(pool.acquire()).isCompletedExceptionally();
+
+        factory.fail = false;
+        assertThat(pool.acquire().join()).isNotNull();
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void closeShouldFailWaitersAndDestroyObjects() throws Exception {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().maxTotal(1).build());
+
+        String inUse = pool.acquire().join();
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.close();
+
+        assertThat(cause(waiter)).isInstanceOf(IllegalStateException.class);
+        assertThat(pool.acquire()).isCompletedExceptionally();
+
+        pool.release(inUse).join();
+
+        assertThat(factory.destroyed).containsOnly(inUse);
+        assertThat(pool.getObjectCount()).isZero();
+    }
+
+    private static Throwable cause(CompletableFuture<?> future) throws InterruptedException {
+
+        try {
+            future.get();
+            throw new AssertionError("Expected exceptional completion");
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    static class StringFactory implements AsyncObjectFactory<String> {
+
+        final AtomicInteger counter = new AtomicInteger();
+        final List<String> created = new ArrayList<>();
+        final List<String> destroyed = new ArrayList<>();
+        volatile boolean valid = true;
+        volatile boolean fail = false;
+
+        @Override
+        public CompletableFuture<String> create() {
+
+            CompletableFuture<String> future = new CompletableFuture<>();
+
+            if (fail) {
+                future.completeExceptionally(new IllegalStateException("Cannot create"));
+                return future;
+            }
+
+            String object = "object-" + counter.incrementAndGet();
+            created.add(object);
+            future.complete(object);
+            return future;
+        }
+
+        @Override
+        public CompletableFuture<Void> destroy(String object) {
+
+            destroyed.add(object);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> validate(String object) {
+            return CompletableFuture.completedFuture(valid);
+        }
+    }
+}
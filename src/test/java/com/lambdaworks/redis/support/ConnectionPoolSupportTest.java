@@ -37,8 +37,6 @@ import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.api.async.RedisAsyncCommands;
 import com.lambdaworks.redis.api.rx.RedisReactiveCommands;
 import com.lambdaworks.redis.api.sync.RedisCommands;
-import com.lambdaworks.redis.cluster.RedisAdvancedClusterAsyncCommandsImpl;
-import com.lambdaworks.redis.cluster.RedisAdvancedClusterReactiveCommandsImpl;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
 import com.lambdaworks.redis.cluster.StatefulRedisClusterConnectionImpl;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
@@ -185,14 +183,14 @@ public class ConnectionPoolSupportTest extends AbstractTest {
         StatefulRedisConnection<String, String> connection = pool.borrowObject();
         RedisCommands<String, String> sync = connection.sync();
 
-        assertThat(connection).isInstanceOf(StatefulRedisConnection.class).isNotInstanceOf(
-                StatefulRedisClusterConnectionImpl.class);
-        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+        assertThat(connection).isInstanceOf(PooledStatefulRedisConnection.class);
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
 
         assertThat(sync).isInstanceOf(RedisCommands.class);
-        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class).isNotInstanceOf(RedisAsyncCommandsImpl.class);
-        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class).isNotInstanceOf(
-                RedisReactiveCommandsImpl.class);
+        assertThat(connection.async()).isInstanceOf(RedisAsyncCommands.class);
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.reactive()).isInstanceOf(RedisReactiveCommands.class);
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
         assertThat(sync.getStatefulConnection()).isInstanceOf(StatefulRedisConnection.class)
                 .isNotInstanceOf(StatefulRedisConnectionImpl.class).isSameAs(connection);
 
@@ -236,15 +234,14 @@ public class ConnectionPoolSupportTest extends AbstractTest {
         StatefulRedisClusterConnection<String, String> connection = pool.borrowObject();
         RedisAdvancedClusterCommands<String, String> sync = connection.sync();
 
-        assertThat(connection).isInstanceOf(StatefulRedisClusterConnection.class).isNotInstanceOf(
-                StatefulRedisClusterConnectionImpl.class);
-        assertThat(Proxy.isProxyClass(connection.getClass())).isTrue();
+        assertThat(connection).isInstanceOf(PooledStatefulRedisClusterConnection.class);
+        assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
 
         assertThat(sync).isInstanceOf(RedisAdvancedClusterCommands.class);
-        assertThat(connection.async()).isInstanceOf(RedisAdvancedClusterAsyncCommands.class).isNotInstanceOf(
-                RedisAdvancedClusterAsyncCommandsImpl.class);
-        assertThat(connection.reactive()).isInstanceOf(RedisAdvancedClusterReactiveCommands.class).isNotInstanceOf(
-                RedisAdvancedClusterReactiveCommandsImpl.class);
+        assertThat(connection.async()).isInstanceOf(RedisAdvancedClusterAsyncCommands.class);
+        assertThat(connection.async().getStatefulConnection()).isSameAs(connection);
+        assertThat(connection.reactive()).isInstanceOf(RedisAdvancedClusterReactiveCommands.class);
+        assertThat(connection.reactive().getStatefulConnection()).isSameAs(connection);
         assertThat(sync.getStatefulConnection()).isInstanceOf(StatefulRedisClusterConnection.class)
                 .isNotInstanceOf(StatefulRedisClusterConnectionImpl.class).isSameAs(connection);
 
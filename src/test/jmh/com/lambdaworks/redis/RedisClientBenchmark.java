@@ -23,6 +23,10 @@ import rx.Observable;
 
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.ByteBufCodec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 /**
  * @author Mark Paluch
@@ -33,9 +37,13 @@ public class RedisClientBenchmark {
     private final static int BATCH_SIZE = 20;
     private final static byte[] KEY = "benchmark".getBytes();
     private final static byte[] FOO = "foo".getBytes();
+    private final static byte[] LARGE_KEY = "benchmark-1mb".getBytes();
+    private final static ByteBuf LARGE_KEY_BUF = Unpooled.wrappedBuffer(LARGE_KEY);
 
     private RedisClient redisClient;
     private StatefulRedisConnection<byte[], byte[]> connection;
+    private StatefulRedisConnection<ByteBuf, ByteBuf> byteBufConnection;
+    private StatefulRedisConnection<byte[], byte[]> coalescingConnection;
     private RedisFuture commands[];
     private Observable observables[];
 
@@ -44,6 +52,12 @@ public class RedisClientBenchmark {
 
         redisClient = RedisClient.create(RedisURI.create(TestSettings.host(), TestSettings.port()));
         connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        byteBufConnection = redisClient.connect(ByteBufCodec.INSTANCE);
+        connection.sync().set(LARGE_KEY, new byte[1024 * 1024]);
+
+        redisClient.setOptions(ClientOptions.builder().flushOptions(FlushOptions.builder().coalesceWrites(true).build())
+                .build());
+        coalescingConnection = redisClient.connect(ByteArrayCodec.INSTANCE);
         commands = new RedisFuture[BATCH_SIZE];
         observables = new Observable[BATCH_SIZE];
     }
@@ -52,6 +66,8 @@ public class RedisClientBenchmark {
     public void tearDown() {
 
         connection.close();
+        byteBufConnection.close();
+        coalescingConnection.close();
         redisClient.shutdown(0, 0, TimeUnit.SECONDS);
     }
 
@@ -91,11 +107,38 @@ public class RedisClientBenchmark {
         }
     }
 
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void asyncSetBatchCoalesced() throws Exception {
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            commands[i] = coalescingConnection.async().set(KEY, KEY);
+        }
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            commands[i].get();
+        }
+    }
+
     @Benchmark
     public void syncSet() {
         connection.sync().set(KEY, KEY);
     }
 
+    @Benchmark
+    public byte[] syncGet1MbByteArray() {
+        return connection.sync().get(LARGE_KEY);
+    }
+
+    @Benchmark
+    public int syncGet1MbByteBuf() {
+
+        ByteBuf value = byteBufConnection.sync().get(LARGE_KEY_BUF);
+        int length = value.readableBytes();
+        value.release();
+        return length;
+    }
+
     @Benchmark
     public void syncList() {
         connection.async().del(FOO);
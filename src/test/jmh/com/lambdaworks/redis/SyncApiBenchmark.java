@@ -0,0 +1,78 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.api.sync.RedisCommands;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Benchmark for the synchronous API invocation overhead without a Redis server. Commands are completed immediately by the
+ * channel writer. Test cases:
+ * <ul>
+ * <li>proxy-based synchronous API using {@link FutureSyncInvocationHandler}</li>
+ * <li>{@link RedisSyncCommandsImpl}</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Thread)
+public class SyncApiBenchmark {
+
+    private final static byte[] KEY = "key".getBytes();
+    private final static ByteBuffer OK = ByteBuffer.wrap("OK".getBytes());
+
+    private RedisCommands<byte[], byte[]> proxy;
+    private RedisCommands<byte[], byte[]> sync;
+
+    @Setup
+    public void setup() {
+
+        StatefulRedisConnectionImpl<byte[], byte[]> connection = new StatefulRedisConnectionImpl<>(new CompletingWriter(),
+                ByteArrayCodec.INSTANCE, 1, TimeUnit.MINUTES);
+
+        proxy = connection.syncHandler(connection.async(), RedisCommands.class, RedisClusterCommands.class);
+        sync = connection.sync();
+    }
+
+    @Benchmark
+    public String proxySet() {
+        return proxy.set(KEY, KEY);
+    }
+
+    @Benchmark
+    public String syncSet() {
+        return sync.set(KEY, KEY);
+    }
+
+    private static class CompletingWriter extends EmptyRedisChannelWriter {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RedisCommand write(RedisCommand command) {
+
+            command.getOutput().set(OK.duplicate());
+            command.complete();
+            return command;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.*;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+import com.lambdaworks.redis.output.ValueListOutput;
+import com.lambdaworks.redis.protocol.Command;
+import com.lambdaworks.redis.protocol.CommandArgs;
+import com.lambdaworks.redis.protocol.CommandType;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Benchmark for cross-slot multi-key commands: partitioning keys by slot, writing the per-slot commands and restoring the key
+ * order of {@code MGET} results.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterMultiKeyBenchmark {
+
+    private final static Utf8StringCodec CODEC = new Utf8StringCodec();
+
+    @Param({ "10", "1000", "10000" })
+    int keyCount;
+
+    /**
+     * Use hash tags to place keys into few slots.
+     */
+    @Param({ "false", "true" })
+    boolean hashTags;
+
+    private List<String> keys;
+    private ClusterDistributionChannelWriter<String, String> writer;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+
+        keys = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            keys.add(hashTags ? "{tag-" + (i % 8) + "}:key-" + i : "key-" + i);
+        }
+
+        EmptyRedisChannelWriter emptyWriter = EmptyRedisChannelWriter.INSTANCE;
+        writer = new ClusterDistributionChannelWriter<>(ClientOptions.create(), emptyWriter, ClusterEventListener.NO_OP);
+
+        List<CompletableFuture<StatefulRedisConnection<String, String>>> connections = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            connections.add(CompletableFuture.completedFuture(new StatefulRedisConnectionImpl<String, String>(emptyWriter,
+                    CODEC, 60, TimeUnit.SECONDS)));
+        }
+
+        writer.setClusterConnectionProvider(new PooledClusterConnectionProvider<String, String>(new EmptyRedisClusterClient(
+                RedisURI.create("localhost", 7379)), emptyWriter, CODEC) {
+            @Override
+            public CompletableFuture getConnectionAsync(Intent intent, int slot) {
+                return connections.get(slot * connections.size() / SlotHash.SLOT_COUNT);
+            }
+        });
+    }
+
+    @Benchmark
+    public List<String> mgetIndexOf() {
+
+        Map<Integer, List<String>> partitioned = SlotHash.partition(CODEC, keys);
+        Map<String, Integer> slots = SlotHash.getSlots(partitioned);
+
+        for (List<String> slotKeys : partitioned.values()) {
+            writer.write(mget(slotKeys));
+        }
+
+        List<String> result = new ArrayList<>();
+        for (String key : keys) {
+            int slot = slots.get(key);
+            int position = partitioned.get(slot).indexOf(key);
+            result.add(partitioned.get(slot).get(position));
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public List<String> mgetPositions() {
+
+        int[] slots = new int[keys.size()];
+        int[] positions = new int[keys.size()];
+        Map<Integer, List<String>> partitioned = SlotHash.partition(CODEC, keys, slots, positions);
+
+        List<RedisCommand<String, String, ?>> commands = new ArrayList<>(partitioned.size());
+        for (List<String> slotKeys : partitioned.values()) {
+            commands.add(mget(slotKeys));
+        }
+
+        writer.write(commands);
+
+        List<String> result = new ArrayList<>(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            result.add(partitioned.get(slots[i]).get(positions[i]));
+        }
+
+        return result;
+    }
+
+    private static Command<String, String, List<String>> mget(List<String> keys) {
+        return new Command<>(CommandType.MGET, new ValueListOutput<>(CODEC), new CommandArgs<>(CODEC).addKeys(keys));
+    }
+}
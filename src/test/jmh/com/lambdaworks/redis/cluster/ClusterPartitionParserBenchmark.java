@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.LettuceStrings;
+import com.lambdaworks.redis.RedisURI;
+import com.lambdaworks.redis.cluster.models.partitions.ClusterPartitionParser;
+import com.lambdaworks.redis.cluster.models.partitions.Partitions;
+import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
+import com.lambdaworks.redis.internal.HostAndPort;
+import com.lambdaworks.redis.internal.LettuceLists;
+
+/**
+ * Benchmark for parsing {@code CLUSTER NODES} output of synthetic cluster topologies. Half of the nodes are masters owning an
+ * equal share of the slots, the other half are replicas.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterPartitionParserBenchmark {
+
+    @Param({ "100", "500", "1000" })
+    int nodeCount;
+
+    private String nodes;
+    private ByteBuffer heap;
+    private ByteBuffer direct;
+
+    @Setup
+    public void setup() {
+
+        nodes = createNodes(nodeCount);
+
+        byte[] bytes = nodes.getBytes(StandardCharsets.UTF_8);
+        heap = ByteBuffer.wrap(bytes);
+        direct = (ByteBuffer) ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
+    @Benchmark
+    public Partitions measureParseString() {
+        return ClusterPartitionParser.parse(nodes);
+    }
+
+    @Benchmark
+    public Partitions measureParseHeapBuffer() {
+        return ClusterPartitionParser.parse(heap);
+    }
+
+    @Benchmark
+    public Partitions measureParseDirectBuffer() {
+        return ClusterPartitionParser.parse(direct);
+    }
+
+    @Benchmark
+    public Partitions measureParseStringLegacy() {
+        return LegacyClusterPartitionParser.parse(nodes);
+    }
+
+    static String createNodes(int nodeCount) {
+
+        int masters = Math.max(1, nodeCount / 2);
+        int slotsPerMaster = SlotHash.SLOT_COUNT / masters;
+        StringBuilder builder = new StringBuilder(nodeCount * 160);
+
+        for (int i = 0; i < nodeCount; i++) {
+
+            boolean master = i < masters;
+
+            builder.append(nodeId(i)).append(" 10.0.").append(i / 250).append('.').append(i % 250).append(":6379@16379 ");
+            builder.append(i == 0 ? "myself," : "").append(master ? "master - " : "slave ");
+
+            if (!master) {
+                builder.append(nodeId(i % masters)).append(' ');
+            }
+
+            builder.append("0 1496239451436 ").append(i + 1).append(" connected");
+
+            if (master) {
+
+                int from = i * slotsPerMaster;
+                int to = i == masters - 1 ? SlotHash.SLOT_COUNT - 1 : from + slotsPerMaster - 1;
+
+                builder.append(' ').append(from);
+                if (to != from) {
+                    builder.append('-').append(to);
+                }
+            }
+
+            builder.append('\n');
+        }
+
+        return builder.toString();
+    }
+
+    private static String nodeId(int index) {
+        return String.format("%040x", index + 1);
+    }
+
+    /**
+     * Regex-based parser as implemented before 4.5 for comparison.
+     */
+    static class LegacyClusterPartitionParser {
+
+        private static final Pattern TOKEN_PATTERN = Pattern.compile("\n");
+        private static final Pattern SPACE_PATTERN = Pattern.compile(" ");
+        private static final Pattern DASH_PATTERN = Pattern.compile("\\-");
+        private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
+
+        static {
+            Map<String, RedisClusterNode.NodeFlag> map = new HashMap<>();
+
+            map.put("noflags", RedisClusterNode.NodeFlag.NOFLAGS);
+            map.put("myself", RedisClusterNode.NodeFlag.MYSELF);
+            map.put("master", RedisClusterNode.NodeFlag.MASTER);
+            map.put("slave", RedisClusterNode.NodeFlag.SLAVE);
+            map.put("fail?", RedisClusterNode.NodeFlag.EVENTUAL_FAIL);
+            map.put("fail", RedisClusterNode.NodeFlag.FAIL);
+            map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
+            map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
+            FLAG_MAPPING = Collections.unmodifiableMap(map);
+        }
+
+        static Partitions parse(String nodes) {
+
+            Partitions result = new Partitions();
+            List<RedisClusterNode> mappedNodes = TOKEN_PATTERN.splitAsStream(nodes).filter(s -> !s.isEmpty())
+                    .map(LegacyClusterPartitionParser::parseNode).collect(Collectors.toList());
+            result.addAll(mappedNodes);
+
+            return result;
+        }
+
+        private static RedisClusterNode parseNode(String nodeInformation) {
+
+            Iterator<String> iterator = SPACE_PATTERN.splitAsStream(nodeInformation).iterator();
+
+            String nodeId = iterator.next();
+            RedisURI uri = null;
+
+            String hostAndPortPart = iterator.next();
+            if (hostAndPortPart.contains("@")) {
+                hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
+            }
+
+            HostAndPort hostAndPort = HostAndPort.parseCompat(hostAndPortPart);
+
+            if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
+                uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
+            }
+
+            Set<RedisClusterNode.NodeFlag> flags = new HashSet<>();
+            for (String flagString : LettuceLists.newList(iterator.next().split("\\,"))) {
+                if (FLAG_MAPPING.containsKey(flagString)) {
+                    flags.add(FLAG_MAPPING.get(flagString));
+                }
+            }
+
+            String slaveOfString = iterator.next();
+            String slaveOf = "-".equals(slaveOfString) ? null : slaveOfString;
+
+            long pingSentTs = Long.parseLong(iterator.next());
+            long pongReceivedTs = Long.parseLong(iterator.next());
+            long configEpoch = Long.parseLong(iterator.next());
+
+            boolean connected = ClusterPartitionParser.CONNECTED.equals(iterator.next());
+
+            BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
+            for (String slotString : LettuceLists.newList(iterator)) {
+
+                if (slotString.startsWith("[")) {
+                    continue;
+                }
+
+                if (slotString.contains("-")) {
+                    Iterator<String> it = DASH_PATTERN.splitAsStream(slotString).iterator();
+                    slots.set(Integer.parseInt(it.next()), Integer.parseInt(it.next()) + 1);
+                    continue;
+                }
+
+                slots.set(Integer.parseInt(slotString));
+            }
+
+            RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, slaveOf, pingSentTs, pongReceivedTs,
+                    configEpoch, Collections.emptyList(), Collections.unmodifiableSet(flags));
+            partition.setSlots(slots);
+
+            return partition;
+        }
+    }
+}
@@ -22,6 +22,9 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
 /**
  * @author Mark Paluch
  */
@@ -36,6 +39,10 @@ public class SlotHashBenchmark {
     private final static ByteBuffer heapTagged = (ByteBuffer) ByteBuffer.allocate(tagged.length).put(tagged).flip();
     private final static ByteBuffer directTagged = (ByteBuffer) ByteBuffer.allocateDirect(tagged.length).put(tagged).flip();
 
+    private final static String string = "user:1000:session:2f9c2f6e-bd76-4f6b-9a3e-0a5f2b0c6d11";
+    private final static byte[] bytes = string.getBytes();
+    private final static Utf8StringCodec stringCodec = new Utf8StringCodec();
+
     @Benchmark
     public void measureSlotHashHeap(Blackhole blackhole) {
         blackhole.consume(SlotHash.getSlot(heap));
@@ -55,4 +62,106 @@ public class SlotHashBenchmark {
     public void measureSlotHashTaggedDirect(Blackhole blackhole) {
         blackhole.consume(SlotHash.getSlot(directTagged));
     }
+
+    @Benchmark
+    public void measureStringKey(Blackhole blackhole) {
+        blackhole.consume(SlotHash.getSlot(string));
+    }
+
+    @Benchmark
+    public void measureStringKeyLegacy(Blackhole blackhole) {
+        blackhole.consume(LegacySlotHash.getSlot(string));
+    }
+
+    @Benchmark
+    public void measureByteArrayKey(Blackhole blackhole) {
+        blackhole.consume(SlotHash.getSlot(bytes));
+    }
+
+    @Benchmark
+    public void measureByteArrayKeyLegacy(Blackhole blackhole) {
+        blackhole.consume(LegacySlotHash.getSlot(bytes));
+    }
+
+    @Benchmark
+    public void measureStringCodecRouting(Blackhole blackhole) {
+        blackhole.consume(SlotHash.getSlot(stringCodec, string));
+    }
+
+    @Benchmark
+    public void measureStringCodecRoutingLegacy(Blackhole blackhole) {
+        blackhole.consume(LegacySlotHash.getSlot(stringCodec.encodeKey(string)));
+    }
+
+    @Benchmark
+    public void measureByteArrayCodecRouting(Blackhole blackhole) {
+        blackhole.consume(SlotHash.getSlot(ByteArrayCodec.INSTANCE, bytes));
+    }
+
+    @Benchmark
+    public void measureByteArrayCodecRoutingLegacy(Blackhole blackhole) {
+        blackhole.consume(LegacySlotHash.getSlot(ByteArrayCodec.INSTANCE.encodeKey(bytes)));
+    }
+
+    /**
+     * Byte-wise slot hashing as implemented before 4.5 for comparison.
+     */
+    static class LegacySlotHash {
+
+        static int getSlot(String key) {
+            return getSlot(key.getBytes());
+        }
+
+        static int getSlot(byte[] key) {
+            return getSlot(ByteBuffer.wrap(key));
+        }
+
+        static int getSlot(ByteBuffer key) {
+
+            int limit = key.limit();
+            int position = key.position();
+
+            int start = indexOf(key, position, SlotHash.SUBKEY_START);
+            if (start != -1) {
+                int end = indexOf(key, start + 1, SlotHash.SUBKEY_END);
+                if (end != -1 && end != start + 1) {
+                    key.position(start + 1).limit(end);
+                }
+            }
+
+            try {
+                int crc = 0;
+                while (key.hasRemaining()) {
+                    crc = ((crc << 8) ^ TABLE[((crc >>> 8) ^ (key.get() & 0xFF)) & 0xFF]);
+                }
+                return (crc & 0xFFFF) % SlotHash.SLOT_COUNT;
+            } finally {
+                key.position(position).limit(limit);
+            }
+        }
+
+        private static int indexOf(ByteBuffer haystack, int start, byte needle) {
+
+            for (int i = start; i < haystack.remaining(); i++) {
+
+                if (haystack.get(i) == needle) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private static final int[] TABLE = new int[256];
+
+        static {
+            for (int b = 0; b < 256; b++) {
+                int crc = b << 8;
+                for (int i = 0; i < 8; i++) {
+                    crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+                }
+                TABLE[b] = crc & 0xFFFF;
+            }
+        }
+    }
 }
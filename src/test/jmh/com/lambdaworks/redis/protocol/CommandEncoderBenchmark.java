@@ -0,0 +1,100 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link CommandEncoder} buffer allocation. Compares encoding into a default-sized buffer that expands while
+ * encoding with a buffer pre-sized from {@link CommandArgs#getEncodedLength()}. Test cases:
+ * <ul>
+ * <li>Small {@code SET}</li>
+ * <li>{@code HMSET} with 100 fields</li>
+ * <li>{@code SET} with a 1MB value</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandEncoderBenchmark {
+
+    private final static ByteArrayCodec CODEC = ByteArrayCodec.INSTANCE;
+    private final static ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+    @Param({ "SET", "HMSET_100", "SET_1MB" })
+    private String command;
+
+    private Command<byte[], byte[], String> redisCommand;
+
+    @Setup
+    public void setup() {
+
+        byte[] key = "key".getBytes();
+
+        switch (command) {
+            case "SET":
+                redisCommand = newCommand(CommandType.SET, new CommandArgs<>(CODEC).addKey(key).addValue("value".getBytes()));
+                break;
+            case "HMSET_100":
+
+                Map<byte[], byte[]> map = new LinkedHashMap<>();
+                for (int i = 0; i < 100; i++) {
+                    map.put(("field-" + i).getBytes(), ("value-" + i).getBytes());
+                }
+
+                redisCommand = newCommand(CommandType.HMSET, new CommandArgs<>(CODEC).addKey(key).add(map));
+                break;
+            case "SET_1MB":
+                redisCommand = newCommand(CommandType.SET, new CommandArgs<>(CODEC).addKey(key).addValue(new byte[1024 * 1024]));
+                break;
+            default:
+                throw new IllegalArgumentException(command);
+        }
+    }
+
+    @Benchmark
+    public int encodeDefaultCapacity() {
+        return encode(ALLOCATOR.ioBuffer());
+    }
+
+    @Benchmark
+    public int encodePreSized() {
+        return encode(ALLOCATOR.ioBuffer(CommandEncoder.estimateSize(redisCommand)));
+    }
+
+    private int encode(ByteBuf buffer) {
+
+        try {
+            redisCommand.encode(buffer);
+            return buffer.capacity();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static Command<byte[], byte[], String> newCommand(CommandType type, CommandArgs<byte[], byte[]> args) {
+        return new Command<>(type, null, args);
+    }
+}
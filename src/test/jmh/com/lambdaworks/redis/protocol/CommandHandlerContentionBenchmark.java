@@ -0,0 +1,132 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.ClientOptions;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.*;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Benchmark for concurrent {@link CommandHandler#write(RedisCommand) command writes} from 1, 8 and 64 threads sharing a
+ * single connection. Commands are written to a local channel that discards all data. Test cases:
+ * <ul>
+ * <li>direct writes (submission queue disabled)</li>
+ * <li>writes through the submission queue</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class CommandHandlerContentionBenchmark {
+
+    private final static ByteArrayCodec CODEC = new ByteArrayCodec();
+    private final static byte[] KEY = "key".getBytes();
+    private final static int SYNC_INTERVAL = 256;
+
+    @Param({ "0", "4096" })
+    private int submissionQueueSize;
+
+    private EventLoopGroup group;
+    private Channel server;
+    private Channel client;
+    private CommandHandler<byte[], byte[]> commandHandler;
+
+    @Setup
+    public void setup() throws Exception {
+
+        LocalAddress address = new LocalAddress(getClass().getSimpleName());
+        group = new DefaultEventLoopGroup(2);
+
+        server = new ServerBootstrap().group(group).channel(LocalServerChannel.class)
+                .childHandler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                        ReferenceCountUtil.release(msg);
+                    }
+                }).bind(address).sync().channel();
+
+        commandHandler = new CommandHandler<>(ClientOptions.builder().submissionQueueSize(submissionQueueSize).build(),
+                EmptyClientResources.INSTANCE);
+
+        client = new Bootstrap().group(group).channel(LocalChannel.class).handler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel channel) {
+                channel.pipeline().addLast(new CommandEncoder(), commandHandler);
+            }
+        }).connect(address).sync().channel();
+
+        commandHandler.setState(CommandHandler.LifecycleState.CONNECTED);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+
+        client.close().sync();
+        server.close().sync();
+        group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void write1Thread(WriterState writer) throws Exception {
+        write(writer);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void write8Threads(WriterState writer) throws Exception {
+        write(writer);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void write64Threads(WriterState writer) throws Exception {
+        write(writer);
+    }
+
+    private void write(WriterState writer) throws Exception {
+
+        commandHandler.write(newCommand());
+
+        // apply backpressure so writers cannot outpace the event loop and exhaust the heap
+        if (++writer.writes % SYNC_INTERVAL == 0) {
+            client.eventLoop().submit(() -> {
+            }).sync();
+        }
+    }
+
+    private static Command<byte[], byte[], Void> newCommand() {
+
+        // fire&forget commands complete on write and are not retained in the stack
+        return new Command<>(CommandType.SET, null, new CommandArgs<>(CODEC).addKey(KEY).addValue(KEY));
+    }
+
+    @State(Scope.Thread)
+    public static class WriterState {
+        long writes;
+    }
+}
@@ -99,6 +99,11 @@ public class EmptyClientResources implements ClientResources {
         return null;
     }
 
+    @Override
+    public ReconnectCoordinator reconnectCoordinator() {
+        return null;
+    }
+
     @Override
     public NettyCustomizer nettyCustomizer() {
         return null;
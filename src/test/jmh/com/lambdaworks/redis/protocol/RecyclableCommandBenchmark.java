@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import java.nio.ByteBuffer;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.StatusOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Benchmark for the allocation per operation of a command lifecycle (create, encode, complete). Run with {@code -prof gc} to
+ * report allocations. Test cases:
+ * <ul>
+ * <li>{@link AsyncCommand} with {@link Command}, {@link CommandArgs} and output</li>
+ * <li>fire-and-forget {@link Command} without output</li>
+ * <li>pooled {@link RecyclableCommand}</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Thread)
+public class RecyclableCommandBenchmark {
+
+    private final static ByteArrayCodec CODEC = ByteArrayCodec.INSTANCE;
+    private final static byte[] KEY = "key".getBytes();
+    private final static byte[] VALUE = "value".getBytes();
+    private final static ByteBuffer OK = ByteBuffer.wrap("OK".getBytes());
+
+    private final RecyclableCommand.Pool<byte[], byte[]> pool = new RecyclableCommand.Pool<>(CODEC);
+    private final ByteBuf buffer = Unpooled.directBuffer(256);
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public Object asyncCommand() {
+
+        AsyncCommand<byte[], byte[], String> command = new AsyncCommand<>(new Command<>(CommandType.SET,
+                new StatusOutput<>(CODEC), new CommandArgs<>(CODEC).addKey(KEY).addValue(VALUE)));
+
+        encode(command);
+
+        command.getOutput().set(OK.duplicate());
+        command.complete();
+        return command;
+    }
+
+    @Benchmark
+    public Object fireAndForgetCommand() {
+
+        Command<byte[], byte[], Void> command = new Command<>(CommandType.SET, null,
+                new CommandArgs<>(CODEC).addKey(KEY).addValue(VALUE));
+
+        encode(command);
+
+        command.complete();
+        return command;
+    }
+
+    @Benchmark
+    public void recyclableCommand() {
+
+        RecyclableCommand<byte[], byte[]> command = pool.get(CommandType.SET);
+        command.getArgs().addKey(KEY).addValue(VALUE);
+
+        encode(command);
+
+        command.complete();
+        RecyclableCommand.recycle(command);
+    }
+
+    private void encode(RedisCommand<?, ?, ?> command) {
+
+        buffer.clear();
+        command.encode(buffer);
+    }
+}
@@ -21,7 +21,9 @@ import java.util.List;
 import org.openjdk.jmh.annotations.*;
 
 import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.codec.ByteBufCodec;
 import com.lambdaworks.redis.output.ArrayOutput;
+import com.lambdaworks.redis.output.ValueOutput;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
@@ -56,9 +58,17 @@ public class RedisStateMachineBenchmark {
                 }
             }, new CommandArgs(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
 
+    private final static Command<byte[], byte[], byte[]> byteArrayGetCommand = new Command<>(CommandType.GET,
+            new ValueOutput<>(BYTE_ARRAY_CODEC), new CommandArgs<>(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
+
+    private final static Command<ByteBuf, ByteBuf, ByteBuf> byteBufGetCommand = new Command<>(CommandType.GET,
+            new ValueOutput<>(ByteBufCodec.INSTANCE));
+
     private ByteBuf masterBuffer;
+    private ByteBuf largeBulkBuffer;
 
     private final RedisStateMachine<byte[], byte[]> stateMachine = new RedisStateMachine<>();
+    private final RedisStateMachine<ByteBuf, ByteBuf> byteBufStateMachine = new RedisStateMachine<>();
     private final byte[] payload = ("*3\r\n" + //
             "$4\r\n" + //
             "LLEN\r\n" + //
@@ -71,11 +81,20 @@ public class RedisStateMachineBenchmark {
     public void setup() {
         masterBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(32);
         masterBuffer.writeBytes(payload);
+
+        int size = 1024 * 1024;
+        largeBulkBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(size + 16);
+        largeBulkBuffer.writeBytes(("$" + size + "\r\n").getBytes());
+        largeBulkBuffer.writeZero(size);
+        largeBulkBuffer.writeBytes("\r\n".getBytes());
     }
 
     @TearDown
     public void tearDown() {
         masterBuffer.release();
+        largeBulkBuffer.release();
+        stateMachine.close();
+        byteBufStateMachine.close();
     }
 
     @Benchmark
@@ -84,6 +103,26 @@ public class RedisStateMachineBenchmark {
         masterBuffer.readerIndex(0);
     }
 
+    @Benchmark
+    public byte[] measureDecode1MbBulkUsingByteArrayCodec() {
+
+        stateMachine.decode(largeBulkBuffer, byteArrayGetCommand, byteArrayGetCommand.getOutput());
+        largeBulkBuffer.readerIndex(0);
+        return byteArrayGetCommand.getOutput().get();
+    }
+
+    @Benchmark
+    public int measureDecode1MbBulkUsingByteBufCodec() {
+
+        byteBufStateMachine.decode(largeBulkBuffer, byteBufGetCommand, byteBufGetCommand.getOutput());
+        largeBulkBuffer.readerIndex(0);
+
+        ByteBuf value = byteBufGetCommand.getOutput().get();
+        int length = value.readableBytes();
+        value.release();
+        return length;
+    }
+
     public static void main(String[] args) {
 
         RedisStateMachineBenchmark b = new RedisStateMachineBenchmark();
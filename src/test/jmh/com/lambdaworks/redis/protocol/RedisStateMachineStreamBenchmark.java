@@ -0,0 +1,123 @@
+/*
+ * Copyright 2011-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.protocol;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.output.CommandOutput;
+import com.lambdaworks.redis.output.IntegerOutput;
+import com.lambdaworks.redis.output.NestedMultiOutput;
+import com.lambdaworks.redis.output.ValueListOutput;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Benchmark for {@link RedisStateMachine} decoding recorded RESP streams.
+ * Test cases:
+ * <ul>
+ * <li>100 pipelined integer replies</li>
+ * <li>{@code MGET} reply with 100 bulk strings</li>
+ * <li>{@code EXEC} reply with nested arrays, integers and status replies</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class RedisStateMachineStreamBenchmark {
+
+    private final static ByteArrayCodec CODEC = ByteArrayCodec.INSTANCE;
+
+    private RedisStateMachine<byte[], byte[]> stateMachine;
+    private ByteBuf integers;
+    private ByteBuf mget;
+    private ByteBuf exec;
+
+    @Setup
+    public void setup() {
+
+        stateMachine = new RedisStateMachine<>();
+
+        StringBuilder integerStream = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            integerStream.append(':').append(i * 7919L).append("\r\n");
+        }
+
+        StringBuilder mgetStream = new StringBuilder("*100\r\n");
+        for (int i = 0; i < 100; i++) {
+            mgetStream.append("$10\r\n").append(String.format("value-%04d", i)).append("\r\n");
+        }
+
+        StringBuilder execStream = new StringBuilder("*40\r\n");
+        for (int i = 0; i < 10; i++) {
+            execStream.append("+OK\r\n");
+            execStream.append(':').append(i * 1000003L).append("\r\n");
+            execStream.append("*3\r\n$3\r\nfoo\r\n:42\r\n*1\r\n$-1\r\n");
+            execStream.append("$5\r\nvalue\r\n");
+        }
+
+        integers = toBuffer(integerStream);
+        mget = toBuffer(mgetStream);
+        exec = toBuffer(execStream);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        integers.release();
+        mget.release();
+        exec.release();
+        stateMachine.close();
+    }
+
+    @Benchmark
+    public Long decodePipelinedIntegers() {
+
+        IntegerOutput<byte[], byte[]> output = new IntegerOutput<>(CODEC);
+
+        integers.readerIndex(0);
+        while (integers.isReadable()) {
+            stateMachine.decode(integers, output);
+        }
+
+        return output.get();
+    }
+
+    @Benchmark
+    public Object decodeMget() {
+        return decode(mget, new ValueListOutput<>(CODEC));
+    }
+
+    @Benchmark
+    public Object decodeNestedExec() {
+        return decode(exec, new NestedMultiOutput<>(CODEC));
+    }
+
+    private Object decode(ByteBuf buffer, CommandOutput<byte[], byte[], ?> output) {
+
+        buffer.readerIndex(0);
+        stateMachine.decode(buffer, output);
+        return output.get();
+    }
+
+    private static ByteBuf toBuffer(CharSequence content) {
+
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.ioBuffer(content.length());
+        buffer.writeBytes(content.toString().getBytes());
+        return buffer;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.lambdaworks.redis.support;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openjdk.jmh.annotations.*;
+
+import com.lambdaworks.redis.EmptyRedisChannelWriter;
+import com.lambdaworks.redis.StatefulRedisConnectionImpl;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.codec.ByteArrayCodec;
+import com.lambdaworks.redis.protocol.RedisCommand;
+
+/**
+ * Benchmark for borrowing a pooled connection, executing a command and returning the connection without a Redis server.
+ * Commands are completed immediately by the channel writer. Test cases:
+ * <ul>
+ * <li>proxy-based connection wrappers (used for connection types without a dedicated wrapper)</li>
+ * <li>{@link PooledStatefulRedisConnection}</li>
+ * <li>{@link BoundedAsyncPool} using {@link PooledStatefulRedisConnection}</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Thread)
+public class ConnectionPoolBenchmark {
+
+    private final static byte[] KEY = "key".getBytes();
+    private final static ByteBuffer OK = ByteBuffer.wrap("OK".getBytes());
+
+    private GenericObjectPool<StatefulRedisConnection<byte[], byte[]>> proxyPool;
+    private GenericObjectPool<StatefulRedisConnection<byte[], byte[]>> wrapperPool;
+    private BoundedAsyncPool<StatefulRedisConnection<byte[], byte[]>> asyncPool;
+
+    @Setup
+    public void setup() {
+
+        // subclasses of StatefulRedisConnectionImpl are wrapped with a proxy
+        proxyPool = ConnectionPoolSupport.createGenericObjectPool(
+                () -> new StatefulRedisConnectionImpl<byte[], byte[]>(new CompletingWriter(), ByteArrayCodec.INSTANCE, 1,
+                        TimeUnit.MINUTES) {
+                }, new GenericObjectPoolConfig());
+
+        wrapperPool = ConnectionPoolSupport.createGenericObjectPool(this::newConnection, new GenericObjectPoolConfig());
+
+        asyncPool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                () -> CompletableFuture.completedFuture(newConnection()), BoundedPoolConfig.create());
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        proxyPool.close();
+        wrapperPool.close();
+        asyncPool.close();
+    }
+
+    @Benchmark
+    public String proxySet() throws Exception {
+
+        try (StatefulRedisConnection<byte[], byte[]> connection = proxyPool.borrowObject()) {
+            return connection.sync().set(KEY, KEY);
+        }
+    }
+
+    @Benchmark
+    public String wrapperSet() throws Exception {
+
+        try (StatefulRedisConnection<byte[], byte[]> connection = wrapperPool.borrowObject()) {
+            return connection.sync().set(KEY, KEY);
+        }
+    }
+
+    @Benchmark
+    public String asyncPoolSet() {
+
+        StatefulRedisConnection<byte[], byte[]> connection = asyncPool.acquire().join();
+
+        try {
+            return connection.sync().set(KEY, KEY);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private StatefulRedisConnection<byte[], byte[]> newConnection() {
+        return new StatefulRedisConnectionImpl<>(new CompletingWriter(), ByteArrayCodec.INSTANCE, 1, TimeUnit.MINUTES);
+    }
+
+    private static class CompletingWriter extends EmptyRedisChannelWriter {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RedisCommand write(RedisCommand command) {
+
+            command.getOutput().set(OK.duplicate());
+            command.complete();
+            return command;
+        }
+    }
+}